@@ -19,6 +19,7 @@ import static io.lettuce.core.protocol.CommandType.*;
 
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -111,6 +112,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.bitfield(key, bitFieldArgs));
     }
 
+    @Override
+    public RedisFuture<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        return dispatch(commandBuilder.bitfieldArray(key, bitFieldArgs));
+    }
+
     @Override
     public RedisFuture<Long> bitopAnd(K destination, K... keys) {
         return dispatch(commandBuilder.bitopAnd(destination, keys));
@@ -196,6 +202,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.clientSetname(name));
     }
 
+    @Override
+    public RedisFuture<String> clientTracking(TrackingArgs args) {
+        return dispatch(commandBuilder.clientTracking(args));
+    }
+
     @Override
     public RedisFuture<Long> clientUnblock(long id, UnblockType type) {
         return dispatch(commandBuilder.clientUnblock(id, type));
@@ -604,6 +615,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.geopos(key, members));
     }
 
+    @Override
+    public RedisFuture<GeoCoordinatesArray> geoposArray(K key, V... members) {
+        return dispatch(commandBuilder.geoposArray(key, members));
+    }
+
     @Override
     public RedisFuture<Set<V>> georadius(K key, double longitude, double latitude, double distance, GeoArgs.Unit unit) {
         return dispatch(commandBuilder.georadius(GEORADIUS, key, longitude, latitude, distance, unit.name()));
@@ -1189,6 +1205,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.scriptExists(digests));
     }
 
+    @Override
+    public RedisFuture<BitSet> scriptExistsBitSet(String... digests) {
+        return dispatch(commandBuilder.scriptExistsBitSet(digests));
+    }
+
     @Override
     public RedisFuture<String> scriptFlush() {
         return dispatch(commandBuilder.scriptFlush());
@@ -1786,6 +1807,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public RedisFuture<ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public RedisFuture<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return dispatch(commandBuilder.zrangeWithScores(channel, key, start, stop));
@@ -1993,6 +2019,11 @@ public abstract class AbstractRedisAsyncCommands<K, V> implements RedisHashAsync
         return dispatch(commandBuilder.zrevrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public RedisFuture<ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop) {
+        return dispatch(commandBuilder.zrevrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public RedisFuture<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return dispatch(commandBuilder.zrevrangeWithScores(channel, key, start, stop));
@@ -172,7 +172,7 @@ public abstract class AbstractRedisClient {
         connectionBuilder.bootstrap().group(getEventLoopGroup(connectionPoint));
 
         if (connectionPoint.getSocket() != null) {
-            NativeTransports.assertAvailable();
+            NativeTransports.assertDomainSocketAvailable();
             connectionBuilder.bootstrap().channel(NativeTransports.domainSocketChannelClass());
         } else {
             connectionBuilder.bootstrap().channel(Transports.socketChannelClass());
@@ -188,11 +188,11 @@ public abstract class AbstractRedisClient {
 
         if (connectionPoint.getSocket() != null) {
 
-            NativeTransports.assertAvailable();
+            NativeTransports.assertDomainSocketAvailable();
 
-            Class<? extends EventLoopGroup> eventLoopGroupClass = NativeTransports.eventLoopGroupClass();
+            Class<? extends EventLoopGroup> eventLoopGroupClass = NativeTransports.domainSocketEventLoopGroupClass();
 
-            if (!eventLoopGroups.containsKey(NativeTransports.eventLoopGroupClass())) {
+            if (!eventLoopGroups.containsKey(eventLoopGroupClass)) {
                 eventLoopGroups.put(eventLoopGroupClass,
                         clientResources.eventLoopGroupProvider().allocate(eventLoopGroupClass));
             }
@@ -203,8 +203,8 @@ public abstract class AbstractRedisClient {
         }
 
         if (connectionPoint.getSocket() != null) {
-            NativeTransports.assertAvailable();
-            return eventLoopGroups.get(NativeTransports.eventLoopGroupClass());
+            NativeTransports.assertDomainSocketAvailable();
+            return eventLoopGroups.get(NativeTransports.domainSocketEventLoopGroupClass());
         }
 
         throw new IllegalStateException("This should not have happened in a binary decision. Please file a bug.");
@@ -19,6 +19,7 @@ import static io.lettuce.core.protocol.CommandType.*;
 
 import java.nio.charset.Charset;
 import java.time.Duration;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -134,6 +135,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.bitfieldValue(key, args));
     }
 
+    @Override
+    public Mono<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        return createMono(() -> commandBuilder.bitfieldArray(key, bitFieldArgs));
+    }
+
     @Override
     public Mono<Long> bitopAnd(K destination, K... keys) {
         return createMono(() -> commandBuilder.bitopAnd(destination, keys));
@@ -219,6 +225,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createMono(() -> commandBuilder.clientSetname(name));
     }
 
+    @Override
+    public Mono<String> clientTracking(TrackingArgs args) {
+        return createMono(() -> commandBuilder.clientTracking(args));
+    }
+
     @Override
     public Mono<Long> clientUnblock(long id, UnblockType type) {
         return createMono(() -> commandBuilder.clientUnblock(id, type));
@@ -667,6 +678,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.geoposValues(key, members));
     }
 
+    @Override
+    public Mono<GeoCoordinatesArray> geoposArray(K key, V... members) {
+        return createMono(() -> commandBuilder.geoposArray(key, members));
+    }
+
     @Override
     public Flux<V> georadius(K key, double longitude, double latitude, double distance, Unit unit) {
         return createDissolvingFlux(() -> commandBuilder.georadius(GEORADIUS, key, longitude, latitude, distance, unit.name()));
@@ -1271,6 +1287,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.scriptExists(digests));
     }
 
+    @Override
+    public Mono<BitSet> scriptExistsBitSet(String... digests) {
+        return createMono(() -> commandBuilder.scriptExistsBitSet(digests));
+    }
+
     @Override
     public Mono<String> scriptFlush() {
         return createMono(commandBuilder::scriptFlush);
@@ -1866,6 +1887,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public Mono<ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop) {
+        return createMono(() -> commandBuilder.zrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public Mono<Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return createMono(() -> commandBuilder.zrangeWithScores(channel, key, start, stop));
@@ -2069,6 +2095,11 @@ public abstract class AbstractRedisReactiveCommands<K, V> implements RedisHashRe
         return createDissolvingFlux(() -> commandBuilder.zrevrangeWithScores(key, start, stop));
     }
 
+    @Override
+    public Mono<ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop) {
+        return createMono(() -> commandBuilder.zrevrangeWithScoresArray(key, start, stop));
+    }
+
     @Override
     public Mono<Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         return createMono(() -> commandBuilder.zrevrangeWithScores(channel, key, start, stop));
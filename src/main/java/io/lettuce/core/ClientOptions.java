@@ -45,6 +45,9 @@ public class ClientOptions implements Serializable {
     public static final SslOptions DEFAULT_SSL_OPTIONS = SslOptions.create();
     public static final TimeoutOptions DEFAULT_TIMEOUT_OPTIONS = TimeoutOptions.create();
     public static final int DEFAULT_BUFFER_USAGE_RATIO = 3;
+    public static final boolean DEFAULT_ZERO_COPY_DECODING = false;
+    public static final FlushConsolidationOptions DEFAULT_FLUSH_CONSOLIDATION_OPTIONS = FlushConsolidationOptions.create();
+    public static final PubSubDispatchOptions DEFAULT_PUB_SUB_DISPATCH_OPTIONS = PubSubDispatchOptions.create();
 
     private final boolean pingBeforeActivateConnection;
     private final ProtocolVersion protocolVersion;
@@ -59,6 +62,9 @@ public class ClientOptions implements Serializable {
     private final SslOptions sslOptions;
     private final TimeoutOptions timeoutOptions;
     private final int bufferUsageRatio;
+    private final boolean zeroCopyDecoding;
+    private final FlushConsolidationOptions flushConsolidationOptions;
+    private final PubSubDispatchOptions pubSubDispatchOptions;
 
     protected ClientOptions(Builder builder) {
         this.pingBeforeActivateConnection = builder.pingBeforeActivateConnection;
@@ -74,6 +80,9 @@ public class ClientOptions implements Serializable {
         this.sslOptions = builder.sslOptions;
         this.timeoutOptions = builder.timeoutOptions;
         this.bufferUsageRatio = builder.bufferUsageRatio;
+        this.zeroCopyDecoding = builder.zeroCopyDecoding;
+        this.flushConsolidationOptions = builder.flushConsolidationOptions;
+        this.pubSubDispatchOptions = builder.pubSubDispatchOptions;
     }
 
     protected ClientOptions(ClientOptions original) {
@@ -90,6 +99,9 @@ public class ClientOptions implements Serializable {
         this.sslOptions = original.getSslOptions();
         this.timeoutOptions = original.getTimeoutOptions();
         this.bufferUsageRatio = original.getBufferUsageRatio();
+        this.zeroCopyDecoding = original.isZeroCopyDecoding();
+        this.flushConsolidationOptions = original.getFlushConsolidationOptions();
+        this.pubSubDispatchOptions = original.getPubSubDispatchOptions();
     }
 
     /**
@@ -138,6 +150,9 @@ public class ClientOptions implements Serializable {
         private SslOptions sslOptions = DEFAULT_SSL_OPTIONS;
         private TimeoutOptions timeoutOptions = DEFAULT_TIMEOUT_OPTIONS;
         private int bufferUsageRatio = DEFAULT_BUFFER_USAGE_RATIO;
+        private boolean zeroCopyDecoding = DEFAULT_ZERO_COPY_DECODING;
+        private FlushConsolidationOptions flushConsolidationOptions = DEFAULT_FLUSH_CONSOLIDATION_OPTIONS;
+        private PubSubDispatchOptions pubSubDispatchOptions = DEFAULT_PUB_SUB_DISPATCH_OPTIONS;
 
         protected Builder() {
         }
@@ -330,6 +345,52 @@ public class ClientOptions implements Serializable {
             return this;
         }
 
+        /**
+         * Enables or disables zero-copy decoding of bulk strings. When enabled, bulk strings are handed to
+         * {@link io.lettuce.core.output.CommandOutput#setByteBuf(io.netty.buffer.ByteBuf)} as a slice of the inbound buffer
+         * instead of being copied into an intermediate buffer first. Codecs implementing
+         * {@link io.lettuce.core.codec.FromByteBufDecoder} decode directly from the inbound buffer. Defaults to
+         * {@literal false}. See {@link #DEFAULT_ZERO_COPY_DECODING}.
+         *
+         * @param zeroCopyDecoding true/false
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder zeroCopyDecoding(boolean zeroCopyDecoding) {
+            this.zeroCopyDecoding = zeroCopyDecoding;
+            return this;
+        }
+
+        /**
+         * Sets the {@link FlushConsolidationOptions} to consolidate flushes of concurrently written commands. See
+         * {@link #DEFAULT_FLUSH_CONSOLIDATION_OPTIONS}.
+         *
+         * @param flushConsolidationOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder flushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+
+            LettuceAssert.notNull(flushConsolidationOptions, "FlushConsolidationOptions must not be null");
+            this.flushConsolidationOptions = flushConsolidationOptions;
+            return this;
+        }
+
+        /**
+         * Sets the {@link PubSubDispatchOptions} to control how Pub/Sub messages are dispatched to listeners. See
+         * {@link #DEFAULT_PUB_SUB_DISPATCH_OPTIONS}.
+         *
+         * @param pubSubDispatchOptions must not be {@literal null}.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+
+            LettuceAssert.notNull(pubSubDispatchOptions, "PubSubDispatchOptions must not be null");
+            this.pubSubDispatchOptions = pubSubDispatchOptions;
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClientOptions}.
          *
@@ -358,7 +419,9 @@ public class ClientOptions implements Serializable {
                 .publishOnScheduler(isPublishOnScheduler()).pingBeforeActivateConnection(isPingBeforeActivateConnection())
                 .protocolVersion(getConfiguredProtocolVersion()).requestQueueSize(getRequestQueueSize())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
-                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions());
+                .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .zeroCopyDecoding(isZeroCopyDecoding()).flushConsolidationOptions(getFlushConsolidationOptions())
+                .pubSubDispatchOptions(getPubSubDispatchOptions());
 
         return builder;
     }
@@ -516,6 +579,37 @@ public class ClientOptions implements Serializable {
         return bufferUsageRatio;
     }
 
+    /**
+     * Zero-copy decoding of bulk strings. If {@literal true}, bulk strings are decoded from a slice of the inbound buffer
+     * without copying them into an intermediate buffer. Defaults to {@literal false}.
+     *
+     * @return {@literal true} if zero-copy decoding is enabled.
+     * @since 6.0
+     */
+    public boolean isZeroCopyDecoding() {
+        return zeroCopyDecoding;
+    }
+
+    /**
+     * Returns the {@link FlushConsolidationOptions}.
+     *
+     * @return the {@link FlushConsolidationOptions}.
+     * @since 6.0
+     */
+    public FlushConsolidationOptions getFlushConsolidationOptions() {
+        return flushConsolidationOptions;
+    }
+
+    /**
+     * Returns the {@link PubSubDispatchOptions}.
+     *
+     * @return the {@link PubSubDispatchOptions}.
+     * @since 6.0
+     */
+    public PubSubDispatchOptions getPubSubDispatchOptions() {
+        return pubSubDispatchOptions;
+    }
+
     /**
      * Behavior of connections in disconnected state.
      */
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for flush consolidation. Flush consolidation collects commands that are written concurrently (typically by many
+ * application threads sharing a connection) and writes them to the transport using a single flush instead of flushing each
+ * command individually. Consolidated commands are flushed once per event loop iteration, after {@link #getMaxBatchSize()}
+ * commands, or after an optional {@link #getMaxDelay() delay}.
+ * <p>
+ * Flush consolidation applies only if auto-flushing is enabled. Commands written with
+ * {@link io.lettuce.core.api.StatefulConnection#setAutoFlushCommands(boolean) auto-flush disabled} are flushed as a batch
+ * already.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+@SuppressWarnings("serial")
+public class FlushConsolidationOptions implements Serializable {
+
+    public static final boolean DEFAULT_ENABLED = false;
+
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ZERO;
+
+    private final boolean enabled;
+
+    private final int maxBatchSize;
+
+    private final Duration maxDelay;
+
+    private FlushConsolidationOptions(boolean enabled, int maxBatchSize, Duration maxDelay) {
+
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * Returns a new {@link FlushConsolidationOptions.Builder} to construct {@link FlushConsolidationOptions}.
+     *
+     * @return a new {@link FlushConsolidationOptions.Builder} to construct {@link FlushConsolidationOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link FlushConsolidationOptions} with default settings (flush consolidation disabled).
+     *
+     * @return a new instance of {@link FlushConsolidationOptions} with default settings.
+     */
+    public static FlushConsolidationOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link FlushConsolidationOptions} with enabled flush consolidation that flushes once per event
+     * loop iteration.
+     *
+     * @return a new instance of {@link FlushConsolidationOptions} with enabled flush consolidation.
+     */
+    public static FlushConsolidationOptions enabled() {
+        return builder().enabled().build();
+    }
+
+    /**
+     * Builder for {@link FlushConsolidationOptions}.
+     */
+    public static class Builder {
+
+        private boolean enabled = DEFAULT_ENABLED;
+
+        private int maxBatchSize = DEFAULT_MAX_BATCH_SIZE;
+
+        private Duration maxDelay = DEFAULT_MAX_DELAY;
+
+        /**
+         * Enable flush consolidation. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @return {@code this}
+         */
+        public Builder enabled() {
+            return enabled(true);
+        }
+
+        /**
+         * Configure whether to consolidate flushes. Disabled by default, see {@link #DEFAULT_ENABLED}.
+         *
+         * @param enabled {@literal true} to enable flush consolidation; {@literal false} to flush each command.
+         * @return {@code this}
+         */
+        public Builder enabled(boolean enabled) {
+
+            this.enabled = enabled;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of commands written before flushing. Defaults to {@literal 256}, see
+         * {@link #DEFAULT_MAX_BATCH_SIZE}.
+         *
+         * @param maxBatchSize the maximum number of commands per flush, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxBatchSize(int maxBatchSize) {
+
+            LettuceAssert.isTrue(maxBatchSize > 0, "Max batch size must be greater 0");
+
+            this.maxBatchSize = maxBatchSize;
+            return this;
+        }
+
+        /**
+         * Set the maximum delay to wait for further commands before writing consolidated commands. A delay increases the
+         * number of commands per flush at the cost of latency. {@link Duration#ZERO} writes commands within the next event loop
+         * iteration. Defaults to {@link Duration#ZERO}, see {@link #DEFAULT_MAX_DELAY}.
+         *
+         * @param maxDelay the delay, must not be {@literal null} or negative.
+         * @return {@code this}
+         */
+        public Builder maxDelay(Duration maxDelay) {
+
+            LettuceAssert.notNull(maxDelay, "Max delay must not be null");
+            LettuceAssert.isTrue(!maxDelay.isNegative(), "Max delay must not be negative");
+
+            this.maxDelay = maxDelay;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link FlushConsolidationOptions}.
+         *
+         * @return new instance of {@link FlushConsolidationOptions}
+         */
+        public FlushConsolidationOptions build() {
+            return new FlushConsolidationOptions(enabled, maxBatchSize, maxDelay);
+        }
+
+    }
+
+    /**
+     * @return {@literal true} if flush consolidation is enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the maximum number of commands written before flushing.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * @return the maximum delay to wait for further commands. {@link Duration#ZERO} if commands are written within the next
+     *         event loop iteration.
+     */
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+}
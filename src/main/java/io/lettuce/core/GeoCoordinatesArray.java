@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.Arrays;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Geo coordinates backed by primitive {@code double[]} arrays for longitude and latitude. Missing members are represented
+ * with {@link Double#NaN} coordinates, check with {@link #isPresent(int)}. Coordinates are stored unboxed and are not wrapped
+ * into {@link GeoCoordinates} objects.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class GeoCoordinatesArray {
+
+    private final double[] x;
+
+    private final double[] y;
+
+    /**
+     * Create a new {@link GeoCoordinatesArray}.
+     *
+     * @param x the longitudes, must not be {@literal null}.
+     * @param y the latitudes, must not be {@literal null} and must have the same length as {@code x}.
+     */
+    public GeoCoordinatesArray(double[] x, double[] y) {
+
+        LettuceAssert.notNull(x, "X must not be null");
+        LettuceAssert.notNull(y, "Y must not be null");
+        LettuceAssert.isTrue(x.length == y.length, "X and Y must have the same length");
+
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * @return the number of coordinates.
+     */
+    public int size() {
+        return x.length;
+    }
+
+    /**
+     * @param index the index.
+     * @return {@literal true} if coordinates are present at {@code index}; {@literal false} if the member does not exist.
+     */
+    public boolean isPresent(int index) {
+        return !Double.isNaN(x[index]);
+    }
+
+    /**
+     * @param index the index.
+     * @return the longitude at {@code index} or {@link Double#NaN} if the member does not exist.
+     */
+    public double getX(int index) {
+        return x[index];
+    }
+
+    /**
+     * @param index the index.
+     * @return the latitude at {@code index} or {@link Double#NaN} if the member does not exist.
+     */
+    public double getY(int index) {
+        return y[index];
+    }
+
+    /**
+     * @param index the index.
+     * @return the {@link GeoCoordinates} at {@code index} or {@literal null} if the member does not exist.
+     */
+    public GeoCoordinates getCoordinates(int index) {
+        return isPresent(index) ? new GeoCoordinates(x[index], y[index]) : null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof GeoCoordinatesArray)) {
+            return false;
+        }
+
+        GeoCoordinatesArray that = (GeoCoordinatesArray) o;
+
+        return Arrays.equals(x, that.x) && Arrays.equals(y, that.y);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(x) + Arrays.hashCode(y);
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder(getClass().getSimpleName()).append('[');
+
+        for (int i = 0; i < x.length; i++) {
+
+            if (i > 0) {
+                sb.append(", ");
+            }
+
+            sb.append(isPresent(i) ? "(" + x[i] + ", " + y[i] + ")" : "null");
+        }
+
+        return sb.append(']').toString();
+    }
+}
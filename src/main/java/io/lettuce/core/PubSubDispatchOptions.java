@@ -0,0 +1,201 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Serializable;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for the dispatch of Pub/Sub messages to {@link io.lettuce.core.pubsub.RedisPubSubListener listeners}. By default,
+ * listeners are notified synchronously on the I/O thread that decodes the message. Asynchronous dispatch hands messages off
+ * to {@link io.lettuce.core.resource.ClientResources#eventExecutorGroup() computation threads}. Messages are dispatched
+ * serially per channel (and per pattern for pattern subscriptions), so listeners observe messages of a channel in the order
+ * in which they were received while different channels are dispatched concurrently.
+ * <p>
+ * Each channel buffers up to {@link #getQueueCapacity()} pending messages. The {@link OverflowPolicy} determines the behavior
+ * once a channel buffer is full.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+@SuppressWarnings("serial")
+public class PubSubDispatchOptions implements Serializable {
+
+    public static final boolean DEFAULT_ASYNC_DISPATCH = false;
+
+    public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+    public static final OverflowPolicy DEFAULT_OVERFLOW_POLICY = OverflowPolicy.BLOCK;
+
+    private final boolean asyncDispatch;
+
+    private final int queueCapacity;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private PubSubDispatchOptions(boolean asyncDispatch, int queueCapacity, OverflowPolicy overflowPolicy) {
+
+        this.asyncDispatch = asyncDispatch;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Returns a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     *
+     * @return a new {@link PubSubDispatchOptions.Builder} to construct {@link PubSubDispatchOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link PubSubDispatchOptions} with default settings (synchronous dispatch).
+     *
+     * @return a new instance of {@link PubSubDispatchOptions} with default settings.
+     */
+    public static PubSubDispatchOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Create a new instance of {@link PubSubDispatchOptions} with asynchronous dispatch and default queue settings.
+     *
+     * @return a new instance of {@link PubSubDispatchOptions} with asynchronous dispatch.
+     */
+    public static PubSubDispatchOptions async() {
+        return builder().asyncDispatch().build();
+    }
+
+    /**
+     * Builder for {@link PubSubDispatchOptions}.
+     */
+    public static class Builder {
+
+        private boolean asyncDispatch = DEFAULT_ASYNC_DISPATCH;
+
+        private int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        private OverflowPolicy overflowPolicy = DEFAULT_OVERFLOW_POLICY;
+
+        /**
+         * Enable asynchronous dispatch. Disabled by default, see {@link #DEFAULT_ASYNC_DISPATCH}.
+         *
+         * @return {@code this}
+         */
+        public Builder asyncDispatch() {
+            return asyncDispatch(true);
+        }
+
+        /**
+         * Configure whether to dispatch messages asynchronously. Disabled by default, see {@link #DEFAULT_ASYNC_DISPATCH}.
+         *
+         * @param asyncDispatch {@literal true} to dispatch messages on computation threads; {@literal false} to notify
+         *        listeners on the I/O thread.
+         * @return {@code this}
+         */
+        public Builder asyncDispatch(boolean asyncDispatch) {
+
+            this.asyncDispatch = asyncDispatch;
+            return this;
+        }
+
+        /**
+         * Set the maximum number of pending messages per channel. Defaults to {@literal 1024}, see
+         * {@link #DEFAULT_QUEUE_CAPACITY}.
+         *
+         * @param queueCapacity the maximum number of pending messages per channel, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder queueCapacity(int queueCapacity) {
+
+            LettuceAssert.isTrue(queueCapacity > 0, "Queue capacity must be greater 0");
+
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Set the {@link OverflowPolicy} applied once the queue of a channel is full. Defaults to
+         * {@link OverflowPolicy#BLOCK}, see {@link #DEFAULT_OVERFLOW_POLICY}.
+         *
+         * @param overflowPolicy the overflow policy, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder overflowPolicy(OverflowPolicy overflowPolicy) {
+
+            LettuceAssert.notNull(overflowPolicy, "OverflowPolicy must not be null");
+
+            this.overflowPolicy = overflowPolicy;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link PubSubDispatchOptions}.
+         *
+         * @return new instance of {@link PubSubDispatchOptions}
+         */
+        public PubSubDispatchOptions build() {
+            return new PubSubDispatchOptions(asyncDispatch, queueCapacity, overflowPolicy);
+        }
+
+    }
+
+    /**
+     * @return {@literal true} if messages are dispatched asynchronously.
+     */
+    public boolean isAsyncDispatch() {
+        return asyncDispatch;
+    }
+
+    /**
+     * @return the maximum number of pending messages per channel.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * @return the {@link OverflowPolicy} applied once the queue of a channel is full.
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Behavior once the queue of a channel is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * Discard the oldest pending message of the channel to make room for the new message.
+         */
+        DROP_OLDEST,
+
+        /**
+         * Block the I/O thread until the channel queue has capacity. Blocking applies backpressure to the connection and
+         * retains all messages.
+         */
+        BLOCK,
+
+        /**
+         * Discard the new message and report the overflow as error.
+         */
+        FAIL;
+    }
+
+}
@@ -74,6 +74,15 @@ public abstract class ReadFrom {
      */
     public static final ReadFrom NEAREST = new ReadFromImpl.ReadFromNearest();
 
+    /**
+     * Setting to read from the replica with the lowest observed latency and load and fall back to master if no replica is
+     * available. Latencies are tracked continuously per connection. Replicas whose response times spike are excluded from
+     * reads for a short period of time.
+     *
+     * @since 6.0
+     */
+    public static final ReadFrom LOWEST_LATENCY = new ReadFromImpl.ReadFromLowestLatency();
+
     /**
      * Setting to read from any node.
      *
@@ -133,6 +142,10 @@ public abstract class ReadFrom {
             return NEAREST;
         }
 
+        if (name.equalsIgnoreCase("lowestLatency")) {
+            return LOWEST_LATENCY;
+        }
+
         if (name.equalsIgnoreCase("any")) {
             return ANY;
         }
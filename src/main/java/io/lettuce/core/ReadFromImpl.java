@@ -110,6 +110,37 @@ class ReadFromImpl {
         }
     }
 
+    /**
+     * Read from replicas and fall back to the master if no replica is available. Selection among the replicas is left to the
+     * connection provider that weighs nodes by their observed latency and load.
+     *
+     * @since 6.0
+     */
+    static final class ReadFromLowestLatency extends ReadFrom {
+
+        @Override
+        public List<RedisNodeDescription> select(Nodes nodes) {
+
+            List<RedisNodeDescription> result = new ArrayList<>(nodes.getNodes().size());
+            RedisNodeDescription master = null;
+
+            for (RedisNodeDescription node : nodes) {
+
+                if (IS_REPLICA.test(node)) {
+                    result.add(node);
+                } else if (master == null && IS_MASTER.test(node)) {
+                    master = node;
+                }
+            }
+
+            if (result.isEmpty() && master != null) {
+                result.add(master);
+            }
+
+            return result;
+        }
+    }
+
     /**
      * {@link Predicate}-based {@link ReadFrom} implementation.
      *
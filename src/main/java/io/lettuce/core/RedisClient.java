@@ -39,6 +39,7 @@ import io.lettuce.core.protocol.CommandExpiryWriter;
 import io.lettuce.core.protocol.CommandHandler;
 import io.lettuce.core.protocol.DefaultEndpoint;
 import io.lettuce.core.protocol.Endpoint;
+import io.lettuce.core.protocol.PushHandler;
 import io.lettuce.core.pubsub.PubSubCommandHandler;
 import io.lettuce.core.pubsub.PubSubEndpoint;
 import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
@@ -257,6 +258,94 @@ public class RedisClient extends AbstractRedisClient {
         return transformAsyncConnectionException(connectStandaloneAsync(codec, redisURI, redisURI.getTimeout()));
     }
 
+    /**
+     * Open a new connection to a Redis server using the supplied {@link RedisURI} and the supplied {@link RedisCodec codec} to
+     * encode/decode keys. The connection distributes commands across {@code channels} underlying connections that are
+     * served by different event loops. Commands for the same key retain their order while other commands are distributed
+     * round-robin. Transactions are bound to a single underlying connection.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param channels number of underlying connections, must be greater than zero.
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return A new connection
+     * @since 6.0
+     */
+    public <K, V> StatefulRedisConnection<K, V> connectSharded(RedisCodec<K, V> codec, RedisURI redisURI, int channels) {
+
+        assertNotNull(redisURI);
+
+        return getConnection(connectShardedAsync(codec, redisURI, redisURI.getTimeout(), channels));
+    }
+
+    /**
+     * Open asynchronously a new connection to a Redis server using the supplied {@link RedisURI} and the supplied
+     * {@link RedisCodec codec} to encode/decode keys. The connection distributes commands across {@code channels} underlying
+     * connections that are served by different event loops.
+     *
+     * @param codec Use this codec to encode/decode keys and values, must not be {@literal null}
+     * @param redisURI the Redis server to connect to, must not be {@literal null}
+     * @param channels number of underlying connections, must be greater than zero.
+     * @param <K> Key type
+     * @param <V> Value type
+     * @return {@link ConnectionFuture} to indicate success or failure to connect.
+     * @since 6.0
+     * @see #connectSharded(RedisCodec, RedisURI, int)
+     */
+    public <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectShardedAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI, int channels) {
+
+        assertNotNull(redisURI);
+
+        return transformAsyncConnectionException(connectShardedAsync(codec, redisURI, redisURI.getTimeout(), channels));
+    }
+
+    private <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectShardedAsync(RedisCodec<K, V> codec,
+            RedisURI redisURI, Duration timeout, int channels) {
+
+        assertNotNull(codec);
+        checkValidRedisURI(redisURI);
+        LettuceAssert.isTrue(channels > 0, "Number of channels must be greater than zero");
+
+        logger.debug("Trying to get a sharded Redis connection with " + channels + " channels for: " + redisURI);
+
+        DefaultEndpoint[] endpoints = new DefaultEndpoint[channels];
+        for (int i = 0; i < channels; i++) {
+            endpoints[i] = new DefaultEndpoint(clientOptions, clientResources);
+        }
+
+        ShardedChannelWriter shardedWriter = new ShardedChannelWriter(endpoints);
+        RedisChannelWriter writer = shardedWriter;
+
+        if (CommandExpiryWriter.isSupported(clientOptions)) {
+            writer = new CommandExpiryWriter(writer, clientOptions, clientResources);
+        }
+
+        StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(writer, shardedWriter, codec, timeout);
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[channels - 1];
+        for (int i = 1; i < channels; i++) {
+
+            DefaultEndpoint endpoint = endpoints[i];
+            futures[i - 1] = connectStatefulAsync(connection, endpoint, redisURI,
+                    () -> new CommandHandler(clientOptions, clientResources, endpoint)).toCompletableFuture();
+        }
+
+        ConnectionFuture<StatefulRedisConnection<K, V>> future = this.<K, V, StatefulRedisConnection<K, V>> connectStatefulAsync(
+                connection, endpoints[0], redisURI, () -> new CommandHandler(clientOptions, clientResources, endpoints[0]))
+                .thenCompose(c -> CompletableFuture.allOf(futures).thenApply(v -> c));
+
+        future.whenComplete((channelHandler, throwable) -> {
+
+            if (throwable != null) {
+                connection.close();
+            }
+        });
+
+        return future;
+    }
+
     private <K, V> ConnectionFuture<StatefulRedisConnection<K, V>> connectStandaloneAsync(RedisCodec<K, V> codec,
             RedisURI redisURI, Duration timeout) {
 
@@ -272,7 +361,7 @@ public class RedisClient extends AbstractRedisClient {
             writer = new CommandExpiryWriter(writer, clientOptions, clientResources);
         }
 
-        StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(writer, codec, timeout);
+        StatefulRedisConnectionImpl<K, V> connection = newStatefulRedisConnection(writer, endpoint, codec, timeout);
         ConnectionFuture<StatefulRedisConnection<K, V>> future = connectStatefulAsync(connection, endpoint, redisURI,
                 () -> new CommandHandler(clientOptions, clientResources, endpoint));
 
@@ -656,6 +745,25 @@ public class RedisClient extends AbstractRedisClient {
         return new StatefulRedisConnectionImpl<>(channelWriter, codec, timeout);
     }
 
+    /**
+     * Create a new instance of {@link StatefulRedisConnectionImpl} or a subclass.
+     * <p>
+     * Subclasses of {@link RedisClient} may override that method.
+     *
+     * @param channelWriter the channel writer
+     * @param pushHandler the handler for push messages
+     * @param codec codec
+     * @param timeout default timeout
+     * @param <K> Key-Type
+     * @param <V> Value Type
+     * @return new instance of StatefulRedisConnectionImpl
+     * @since 6.0
+     */
+    protected <K, V> StatefulRedisConnectionImpl<K, V> newStatefulRedisConnection(RedisChannelWriter channelWriter,
+            PushHandler pushHandler, RedisCodec<K, V> codec, Duration timeout) {
+        return new StatefulRedisConnectionImpl<>(channelWriter, pushHandler, codec, timeout);
+    }
+
     /**
      * Get a {@link Mono} that resolves {@link RedisURI} to a {@link SocketAddress}. Resolution is performed either using Redis
      * Sentinel (if the {@link RedisURI} is configured with Sentinels) or via DNS resolution.
@@ -128,6 +128,18 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(BITFIELD, (CommandOutput) new ValueValueListOutput<>(codec), args);
     }
 
+    Command<K, V, long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs) {
+        notNullKey(key);
+        LettuceAssert.notNull(bitFieldArgs, "BitFieldArgs must not be null");
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key);
+
+        bitFieldArgs.build(args);
+
+        return createCommand(BITFIELD, new LongArrayOutput<>(codec), args);
+    }
+
     Command<K, V, Long> bitopAnd(K destination, K... keys) {
         LettuceAssert.notNull(destination, "Destination " + MUST_NOT_BE_NULL);
         notEmpty(keys);
@@ -254,6 +266,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(CLIENT, new StatusOutput<>(codec), args);
     }
 
+    Command<K, V, String> clientTracking(TrackingArgs trackingArgs) {
+        LettuceAssert.notNull(trackingArgs, "TrackingArgs " + MUST_NOT_BE_NULL);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).add(TRACKING);
+        trackingArgs.build(args);
+        return createCommand(CLIENT, new StatusOutput<>(codec), args);
+    }
+
     Command<K, V, Long> clientUnblock(long id, UnblockType type) {
         LettuceAssert.notNull(type, "UnblockType " + MUST_NOT_BE_NULL);
 
@@ -728,6 +748,15 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(GEOPOS, new GeoCoordinatesListOutput<>(codec), args);
     }
 
+    Command<K, V, GeoCoordinatesArray> geoposArray(K key, V[] members) {
+        notNullKey(key);
+        LettuceAssert.notNull(members, "Members " + MUST_NOT_BE_NULL);
+        LettuceAssert.notEmpty(members, "Members " + MUST_NOT_BE_EMPTY);
+        CommandArgs<K, V> args = new CommandArgs<>(codec).addKey(key).addValues(members);
+
+        return createCommand(GEOPOS, new GeoCoordinatesArrayOutput<>(codec), args);
+    }
+
     Command<K, V, List<Value<GeoCoordinates>>> geoposValues(K key, V[] members) {
         notNullKey(key);
         LettuceAssert.notNull(members, "Members " + MUST_NOT_BE_NULL);
@@ -1663,6 +1692,18 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(SCRIPT, new BooleanListOutput<>(codec), args);
     }
 
+    Command<K, V, BitSet> scriptExistsBitSet(String... digests) {
+        LettuceAssert.notNull(digests, "Digests " + MUST_NOT_BE_NULL);
+        LettuceAssert.notEmpty(digests, "Digests " + MUST_NOT_BE_EMPTY);
+        LettuceAssert.noNullElements(digests, "Digests " + MUST_NOT_CONTAIN_NULL_ELEMENTS);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec).add(EXISTS);
+        for (String sha : digests) {
+            args.add(sha);
+        }
+        return createCommand(SCRIPT, new BitSetOutput<>(codec), args);
+    }
+
     Command<K, V, String> scriptFlush() {
         CommandArgs<K, V> args = new CommandArgs<>(codec).add(FLUSH);
         return createCommand(SCRIPT, new StatusOutput<>(codec), args);
@@ -2606,6 +2647,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZRANGE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop) {
+        notNullKey(key);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key).add(start).add(stop).add(WITHSCORES);
+        return createCommand(ZRANGE, new ScoredValueArrayOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         notNullKey(key);
         notNull(channel);
@@ -2881,6 +2930,14 @@ class RedisCommandBuilder<K, V> extends BaseRedisCommandBuilder<K, V> {
         return createCommand(ZREVRANGE, new ScoredValueListOutput<>(codec), args);
     }
 
+    Command<K, V, ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop) {
+        notNullKey(key);
+
+        CommandArgs<K, V> args = new CommandArgs<>(codec);
+        args.addKey(key).add(start).add(stop).add(WITHSCORES);
+        return createCommand(ZREVRANGE, new ScoredValueArrayOutput<>(codec), args);
+    }
+
     Command<K, V, Long> zrevrangeWithScores(ScoredValueStreamingChannel<V> channel, K key, long start, long stop) {
         notNullKey(key);
         LettuceAssert.notNull(channel, "ValueStreamingChannel " + MUST_NOT_BE_NULL);
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Values and their associated scores backed by a {@link List} of values and a primitive {@code double[]} of scores. Scores are
+ * stored unboxed and values are not wrapped into {@link ScoredValue} objects which reduces allocations for large sorted set
+ * replies. The score of the value at index {@code i} is {@link #getScore(int) getScore(i)}.
+ *
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ScoredValueArray<V> {
+
+    private static final ScoredValueArray<Object> EMPTY = new ScoredValueArray<>(Collections.emptyList(), new double[0]);
+
+    private final List<V> values;
+
+    private final double[] scores;
+
+    /**
+     * Create a new {@link ScoredValueArray}.
+     *
+     * @param values the values, must not be {@literal null}.
+     * @param scores the scores, must not be {@literal null} and must have the same size as {@code values}.
+     */
+    public ScoredValueArray(List<V> values, double[] scores) {
+
+        LettuceAssert.notNull(values, "Values must not be null");
+        LettuceAssert.notNull(scores, "Scores must not be null");
+        LettuceAssert.isTrue(values.size() == scores.length, "Values and scores must have the same size");
+
+        this.values = values;
+        this.scores = scores;
+    }
+
+    /**
+     * Returns an empty {@link ScoredValueArray}.
+     *
+     * @param <V> Value type.
+     * @return an empty {@link ScoredValueArray}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ScoredValueArray<V> empty() {
+        return (ScoredValueArray<V>) EMPTY;
+    }
+
+    /**
+     * @return the number of values.
+     */
+    public int size() {
+        return scores.length;
+    }
+
+    /**
+     * @return {@literal true} if this {@link ScoredValueArray} contains no values.
+     */
+    public boolean isEmpty() {
+        return scores.length == 0;
+    }
+
+    /**
+     * @param index the index.
+     * @return the value at {@code index}.
+     */
+    public V getValue(int index) {
+        return values.get(index);
+    }
+
+    /**
+     * @param index the index.
+     * @return the score at {@code index}.
+     */
+    public double getScore(int index) {
+        return scores[index];
+    }
+
+    /**
+     * @return an unmodifiable view of the values.
+     */
+    public List<V> getValues() {
+        return Collections.unmodifiableList(values);
+    }
+
+    /**
+     * Returns the backing scores array. Changes to the array are reflected in this {@link ScoredValueArray}.
+     *
+     * @return the scores.
+     */
+    public double[] getScores() {
+        return scores;
+    }
+
+    /**
+     * Returns a {@link List} view that materializes {@link ScoredValue} objects on access.
+     *
+     * @return a {@link List} view of {@link ScoredValue}s.
+     */
+    public List<ScoredValue<V>> asList() {
+
+        return new AbstractList<ScoredValue<V>>() {
+
+            @Override
+            public ScoredValue<V> get(int index) {
+                return ScoredValue.fromNullable(scores[index], values.get(index));
+            }
+
+            @Override
+            public int size() {
+                return scores.length;
+            }
+        };
+    }
+
+    /**
+     * @return a new {@link List} of {@link ScoredValue}s.
+     */
+    public List<ScoredValue<V>> toList() {
+        return new ArrayList<>(asList());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof ScoredValueArray)) {
+            return false;
+        }
+
+        ScoredValueArray<?> that = (ScoredValueArray<?>) o;
+
+        return values.equals(that.values) && Arrays.equals(scores, that.scores);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * values.hashCode() + Arrays.hashCode(scores);
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + asList();
+    }
+}
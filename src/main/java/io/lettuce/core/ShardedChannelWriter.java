@@ -0,0 +1,425 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.cluster.SlotHash;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.protocol.*;
+import io.lettuce.core.resource.ClientResources;
+
+/**
+ * {@link RedisChannelWriter} that distributes commands of a single connection across multiple {@link DefaultEndpoint
+ * endpoints}. Each endpoint is bound to its own channel and therefore to its own event loop.
+ * <p>
+ * Commands are routed as follows:
+ * <ul>
+ * <li>Commands with a key are routed by the {@link SlotHash slot} of their first key. Commands for the same key (or hash tag)
+ * are always written to the same endpoint and retain their order.</li>
+ * <li>Transactional commands ({@literal MULTI}, {@literal EXEC}, {@literal DISCARD}, {@literal WATCH}, {@literal UNWATCH}
+ * and commands queued within a transaction) are written to the first endpoint. Batches starting with {@literal MULTI} are
+ * written to the first endpoint as a whole.</li>
+ * <li>Commands changing the connection state ({@literal AUTH}, {@literal HELLO}, {@literal SELECT}, {@literal READONLY},
+ * {@literal READWRITE}, {@literal CLIENT SETNAME} and {@literal CLIENT TRACKING}) are written to the first endpoint and
+ * replicated to all other endpoints. The command completes with the response of the first endpoint once all replicas have
+ * completed and completes exceptionally if one of the replicas fails.</li>
+ * <li>All other commands are distributed round-robin.</li>
+ * </ul>
+ * Ordering is guaranteed only for commands routed to the same endpoint.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class ShardedChannelWriter implements RedisChannelWriter, PushHandler {
+
+    private static final int BROADCAST = -1;
+
+    private final DefaultEndpoint[] endpoints;
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private int activeEndpoints;
+
+    /**
+     * Create a new {@link ShardedChannelWriter}.
+     *
+     * @param endpoints the endpoints to write to, must not be empty.
+     */
+    ShardedChannelWriter(DefaultEndpoint... endpoints) {
+
+        LettuceAssert.notEmpty(endpoints, "Endpoints must not be empty");
+
+        this.endpoints = endpoints;
+    }
+
+    @Override
+    public <K, V, T> RedisCommand<K, V, T> write(RedisCommand<K, V, T> command) {
+
+        LettuceAssert.notNull(command, "Command must not be null");
+
+        int index = getEndpointIndex(command);
+
+        if (index == BROADCAST) {
+
+            CompletableFuture<?>[] replicas = new CompletableFuture<?>[endpoints.length - 1];
+
+            for (int i = 1; i < endpoints.length; i++) {
+
+                AsyncCommand<K, V, ?> replica = copy(command);
+                replicas[i - 1] = replica;
+                endpoints[i].write(replica);
+            }
+
+            endpoints[0].write(new BroadcastCommand<>(command, CompletableFuture.allOf(replicas)));
+
+            return command;
+        }
+
+        return endpoints[index].write(command);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Collection<RedisCommand<K, V, ?>> write(Collection<? extends RedisCommand<K, V, ?>> commands) {
+
+        LettuceAssert.notNull(commands, "Commands must not be null");
+
+        if (endpoints.length == 1 || isTransactionBatch(commands)) {
+            return endpoints[0].write(commands);
+        }
+
+        List<RedisCommand<K, V, ?>>[] batches = (List<RedisCommand<K, V, ?>>[]) new List<?>[endpoints.length];
+
+        for (RedisCommand<K, V, ?> command : commands) {
+
+            int index = getEndpointIndex(command);
+
+            if (index == BROADCAST) {
+
+                CompletableFuture<?>[] replicas = new CompletableFuture<?>[endpoints.length - 1];
+
+                for (int i = 1; i < endpoints.length; i++) {
+
+                    AsyncCommand<K, V, ?> replica = copy(command);
+                    replicas[i - 1] = replica;
+                    getBatch(batches, i, commands.size()).add(replica);
+                }
+
+                getBatch(batches, 0, commands.size()).add(new BroadcastCommand<>(command, CompletableFuture.allOf(replicas)));
+                continue;
+            }
+
+            getBatch(batches, index, commands.size()).add(command);
+        }
+
+        for (int i = 0; i < batches.length; i++) {
+            if (batches[i] != null) {
+                endpoints[i].write(batches[i]);
+            }
+        }
+
+        return (Collection<RedisCommand<K, V, ?>>) commands;
+    }
+
+    private static boolean isTransactionBatch(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+        return !commands.isEmpty() && commands.iterator().next().getType() == CommandType.MULTI;
+    }
+
+    private static <K, V> List<RedisCommand<K, V, ?>> getBatch(List<RedisCommand<K, V, ?>>[] batches, int index, int size) {
+
+        if (batches[index] == null) {
+            batches[index] = new ArrayList<>(size);
+        }
+
+        return batches[index];
+    }
+
+    /**
+     * Determine the endpoint index for {@code command}.
+     *
+     * @param command the command.
+     * @return the endpoint index or {@link #BROADCAST} to write the command to all endpoints.
+     */
+    int getEndpointIndex(RedisCommand<?, ?, ?> command) {
+
+        if (endpoints.length == 1 || command instanceof TransactionalCommand) {
+            return 0;
+        }
+
+        ProtocolKeyword type = command.getType();
+
+        if (type instanceof CommandType) {
+
+            switch ((CommandType) type) {
+                case MULTI:
+                case EXEC:
+                case DISCARD:
+                case WATCH:
+                case UNWATCH:
+                    return 0;
+                default:
+            }
+        }
+
+        if (isConnectionStateCommand(command)) {
+            return BROADCAST;
+        }
+
+        CommandArgs<?, ?> args = command.getArgs();
+        ByteBuffer encodedKey = args != null ? args.getFirstEncodedKey() : null;
+
+        if (encodedKey != null) {
+            return SlotHash.getSlot(encodedKey) % endpoints.length;
+        }
+
+        return (counter.getAndIncrement() & Integer.MAX_VALUE) % endpoints.length;
+    }
+
+    /**
+     * Check whether {@code command} changes the connection state ({@literal AUTH}, {@literal HELLO}, {@literal SELECT},
+     * {@literal READONLY}, {@literal READWRITE}, {@literal CLIENT SETNAME} and {@literal CLIENT TRACKING}).
+     *
+     * @param command the command.
+     * @return {@literal true} if the command changes the connection state.
+     */
+    static boolean isConnectionStateCommand(RedisCommand<?, ?, ?> command) {
+
+        ProtocolKeyword type = command.getType();
+
+        if (!(type instanceof CommandType)) {
+            return false;
+        }
+
+        switch ((CommandType) type) {
+            case AUTH:
+            case HELLO:
+            case SELECT:
+            case READONLY:
+            case READWRITE:
+                return true;
+            case CLIENT:
+                return isSubcommand(command.getArgs(), CommandKeyword.SETNAME)
+                        || isSubcommand(command.getArgs(), CommandKeyword.TRACKING);
+            default:
+                return false;
+        }
+    }
+
+    private static boolean isSubcommand(CommandArgs<?, ?> args, CommandKeyword subcommand) {
+        return args != null && args.toCommandString().regionMatches(true, 0, subcommand.name(), 0, subcommand.name().length());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static <K, V> AsyncCommand<K, V, ?> copy(RedisCommand<K, V, ?> command) {
+        return new AsyncCommand(new Command(command.getType(), new ReplicaOutput(), command.getArgs()));
+    }
+
+    @Override
+    public void close() {
+
+        for (DefaultEndpoint endpoint : endpoints) {
+            endpoint.close();
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> closeAsync() {
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[endpoints.length];
+
+        for (int i = 0; i < endpoints.length; i++) {
+            futures[i] = endpoints[i].closeAsync();
+        }
+
+        return CompletableFuture.allOf(futures);
+    }
+
+    @Override
+    @Deprecated
+    public void reset() {
+
+        for (DefaultEndpoint endpoint : endpoints) {
+            endpoint.reset();
+        }
+    }
+
+    @Override
+    public void setConnectionFacade(ConnectionFacade connection) {
+
+        for (DefaultEndpoint endpoint : endpoints) {
+            endpoint.setConnectionFacade(new EndpointConnectionFacade(connection));
+        }
+    }
+
+    @Override
+    public void setAutoFlushCommands(boolean autoFlush) {
+
+        for (DefaultEndpoint endpoint : endpoints) {
+            endpoint.setAutoFlushCommands(autoFlush);
+        }
+    }
+
+    @Override
+    public void flushCommands() {
+
+        for (DefaultEndpoint endpoint : endpoints) {
+            endpoint.flushCommands();
+        }
+    }
+
+    @Override
+    public ClientResources getClientResources() {
+        return endpoints[0].getClientResources();
+    }
+
+    @Override
+    public void addListener(PushListener listener) {
+
+        for (DefaultEndpoint endpoint : endpoints) {
+            endpoint.addListener(listener);
+        }
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+
+        for (DefaultEndpoint endpoint : endpoints) {
+            endpoint.removeListener(listener);
+        }
+    }
+
+    @Override
+    public List<PushListener> getPushListeners() {
+        return endpoints[0].getPushListeners();
+    }
+
+    /**
+     * Command written to the first endpoint for a replicated command. Completion is deferred until all replicas have completed.
+     * The command completes exceptionally if one of the replicas has failed.
+     */
+    static class BroadcastCommand<K, V, T> extends CommandWrapper<K, V, T> {
+
+        private final CompletableFuture<Void> replicas;
+
+        BroadcastCommand(RedisCommand<K, V, T> command, CompletableFuture<Void> replicas) {
+            super(command);
+            this.replicas = replicas;
+        }
+
+        @Override
+        public void complete() {
+
+            replicas.whenComplete((ignore, throwable) -> {
+
+                if (throwable != null) {
+                    completeExceptionally(throwable instanceof CompletionException ? throwable.getCause() : throwable);
+                } else {
+                    super.complete();
+                }
+            });
+        }
+    }
+
+    /**
+     * Output for replicated commands that retains only errors.
+     */
+    static class ReplicaOutput extends CommandOutput<String, String, String> {
+
+        ReplicaOutput() {
+            super(StringCodec.UTF8, null);
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+        }
+
+        @Override
+        public void set(long integer) {
+        }
+
+        @Override
+        public void set(double number) {
+        }
+
+        @Override
+        public void set(boolean value) {
+        }
+    }
+
+    /**
+     * {@link ConnectionFacade} for a single endpoint. The connection is activated once all endpoints are active and deactivated
+     * as soon as one endpoint becomes inactive.
+     */
+    class EndpointConnectionFacade implements ConnectionFacade {
+
+        private final ConnectionFacade delegate;
+
+        private boolean active;
+
+        EndpointConnectionFacade(ConnectionFacade delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void activated() {
+
+            synchronized (ShardedChannelWriter.this) {
+
+                if (active) {
+                    return;
+                }
+
+                active = true;
+
+                if (++activeEndpoints == endpoints.length) {
+                    delegate.activated();
+                }
+            }
+        }
+
+        @Override
+        public void deactivated() {
+
+            synchronized (ShardedChannelWriter.this) {
+
+                if (!active) {
+                    return;
+                }
+
+                active = false;
+
+                if (activeEndpoints-- == endpoints.length) {
+                    delegate.deactivated();
+                }
+            }
+        }
+
+        @Override
+        public void reset() {
+            delegate.reset();
+        }
+    }
+}
@@ -25,6 +25,7 @@ import java.util.function.Consumer;
 
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.cluster.api.sync.RedisClusterCommands;
@@ -51,6 +52,7 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
     protected final RedisAsyncCommandsImpl<K, V> async;
     protected final RedisReactiveCommandsImpl<K, V> reactive;
     private final ConnectionState state = new ConnectionState();
+    private final PushHandler pushHandler;
 
     protected MultiOutput<K, V> multi;
 
@@ -62,15 +64,55 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
      * @param timeout Maximum time to wait for a response.
      */
     public StatefulRedisConnectionImpl(RedisChannelWriter writer, RedisCodec<K, V> codec, Duration timeout) {
+        this(writer, getPushHandler(writer), codec, timeout);
+    }
+
+    /**
+     * Initialize a new connection.
+     *
+     * @param writer the channel writer.
+     * @param pushHandler the handler for push messages.
+     * @param codec Codec used to encode/decode keys and values.
+     * @param timeout Maximum time to wait for a response.
+     * @since 6.0
+     */
+    public StatefulRedisConnectionImpl(RedisChannelWriter writer, PushHandler pushHandler, RedisCodec<K, V> codec,
+            Duration timeout) {
 
         super(writer, timeout);
 
+        this.pushHandler = pushHandler;
         this.codec = codec;
         this.async = newRedisAsyncCommandsImpl();
         this.sync = newRedisSyncCommandsImpl();
         this.reactive = newRedisReactiveCommandsImpl();
     }
 
+    /**
+     * Resolve the {@link PushHandler} of {@code writer} by unwrapping {@link CommandExpiryWriter} decorators.
+     *
+     * @param writer the channel writer.
+     * @return the {@link PushHandler} or {@link NoOpPushHandler} if the writer does not dispatch push messages.
+     */
+    private static PushHandler getPushHandler(RedisChannelWriter writer) {
+
+        while (writer instanceof CommandExpiryWriter) {
+            writer = ((CommandExpiryWriter) writer).getDelegate();
+        }
+
+        return writer instanceof PushHandler ? (PushHandler) writer : NoOpPushHandler.INSTANCE;
+    }
+
+    @Override
+    public void addListener(PushListener listener) {
+        pushHandler.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+        pushHandler.removeListener(listener);
+    }
+
     @Override
     public RedisAsyncCommands<K, V> async() {
         return async;
@@ -135,6 +177,10 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
     @Override
     public Collection<RedisCommand<K, V, ?>> dispatch(Collection<? extends RedisCommand<K, V, ?>> commands) {
 
+        if (isTransactionBatch(commands)) {
+            return super.dispatch(commands);
+        }
+
         List<RedisCommand<K, V, ?>> sentCommands = new ArrayList<>(commands.size());
 
         commands.forEach(o -> {
@@ -149,6 +195,24 @@ public class StatefulRedisConnectionImpl<K, V> extends RedisChannelHandler<K, V>
         return super.dispatch(sentCommands);
     }
 
+    @Override
+    public TransactionBuilder<K, V> transaction() {
+        return new TransactionBuilder<>(this, codec);
+    }
+
+    /**
+     * Check whether {@code commands} is a batch built by {@link TransactionBuilder}. Such batches contain
+     * {@literal MULTI}/{@literal EXEC} framing already and bypass transaction tracking.
+     */
+    private static boolean isTransactionBatch(Collection<? extends RedisCommand<?, ?, ?>> commands) {
+
+        if (commands.isEmpty()) {
+            return false;
+        }
+
+        return CommandWrapper.unwrap(commands.iterator().next(), TransactionBuilder.MultiCommand.class) != null;
+    }
+
     protected <T> RedisCommand<K, V, T> preProcessCommand(RedisCommand<K, V, T> command) {
 
         RedisCommand<K, V, T> local = command;
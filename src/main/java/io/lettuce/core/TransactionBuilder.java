@@ -0,0 +1,264 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.MultiOutput;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.AsyncCommand;
+import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Builder for a {@literal MULTI}/{@literal EXEC} transaction that collects commands client-side. Commands are recorded through
+ * {@link #commands()} and are not sent to Redis until {@link #execute()} is called. {@link #execute()} writes
+ * {@literal MULTI}, all recorded commands and {@literal EXEC} with a single write and flush. {@literal QUEUED} replies are
+ * consumed without completing the futures of the recorded commands; each future completes once the {@literal EXEC} reply
+ * for the command was decoded.
+ * <p>
+ * Recorded futures complete exceptionally if the transaction fails. Commands that were rejected while queueing complete with
+ * their queueing error, all other commands complete with the {@literal EXEC} error. Commands of a discarded transaction
+ * (conditional transaction using {@literal WATCH}) complete with {@literal null}.
+ * <p>
+ * Transaction control commands ({@literal MULTI}, {@literal EXEC}, {@literal DISCARD}, {@literal WATCH} and
+ * {@literal UNWATCH}) and commands changing the connection state (such as {@literal AUTH} or {@literal SELECT}) cannot be
+ * recorded as the batch bypasses connection state tracking.
+ * <p>
+ * A {@link TransactionBuilder} is not thread-safe and can be executed only once.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class TransactionBuilder<K, V> {
+
+    private final StatefulRedisConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final RedisAsyncCommands<K, V> commands;
+
+    private final List<AsyncCommand<K, V, ?>> recorded = new ArrayList<>();
+
+    private boolean executed;
+
+    /**
+     * Create a new {@link TransactionBuilder}.
+     *
+     * @param connection the connection to execute the transaction on.
+     * @param codec the codec for command encoding.
+     */
+    TransactionBuilder(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+
+        this.connection = connection;
+        this.codec = codec;
+        this.commands = new RecordingAsyncCommands(connection, codec);
+    }
+
+    /**
+     * Returns the {@link RedisAsyncCommands} API to record commands for this transaction. Commands invoked through the
+     * returned API are not sent until {@link #execute()} is called. Transaction control commands ({@literal MULTI},
+     * {@literal EXEC}, {@literal DISCARD}, {@literal WATCH} and {@literal UNWATCH}) cannot be recorded.
+     *
+     * @return the recording API.
+     */
+    public RedisAsyncCommands<K, V> commands() {
+        return commands;
+    }
+
+    /**
+     * @return the number of recorded commands.
+     */
+    public int size() {
+        return recorded.size();
+    }
+
+    /**
+     * Execute the transaction by writing {@literal MULTI}, all recorded commands and {@literal EXEC} to the connection.
+     *
+     * @return future that completes with the {@link TransactionResult} once {@literal EXEC} completes.
+     * @throws IllegalStateException if the transaction was already executed or the connection is within a transaction.
+     */
+    public RedisFuture<TransactionResult> execute() {
+
+        LettuceAssert.assertState(!executed, "Transaction was already executed");
+        LettuceAssert.assertState(!connection.isMulti(), "Connection is already within a transaction");
+
+        executed = true;
+
+        List<RedisCommand<K, V, ?>> batch = new ArrayList<>(recorded.size() + 2);
+        QueuedOutput<K, V> queued = new QueuedOutput<>(codec, recorded.size());
+        ExecOutput<K, V> multiOutput = new ExecOutput<>(codec);
+
+        batch.add(new MultiCommand<>(codec));
+
+        for (AsyncCommand<K, V, ?> command : recorded) {
+            batch.add(new Command<>(command.getType(), queued, command.getArgs()));
+            multiOutput.add(command);
+        }
+
+        AsyncCommand<K, V, TransactionResult> exec = new AsyncCommand<>(new Command<>(CommandType.EXEC, multiOutput));
+        batch.add(exec);
+
+        exec.whenComplete((result, throwable) -> {
+
+            if (throwable == null && !result.wasDiscarded()) {
+                return;
+            }
+
+            for (int i = 0; i < recorded.size(); i++) {
+
+                AsyncCommand<K, V, ?> command = recorded.get(i);
+
+                if (command.isDone()) {
+                    continue;
+                }
+
+                if (throwable == null) {
+                    command.complete();
+                    continue;
+                }
+
+                String error = queued.getError(i);
+                command.completeExceptionally(error != null ? ExceptionFactory.createExecutionException(error) : throwable);
+            }
+        });
+
+        connection.dispatch(batch);
+
+        return exec;
+    }
+
+    /**
+     * Marker for the {@literal MULTI} command of a batch built by {@link TransactionBuilder}. Batches starting with this
+     * command are written as-is without transaction tracking of the connection.
+     */
+    static class MultiCommand<K, V> extends Command<K, V, String> {
+
+        MultiCommand(RedisCodec<K, V> codec) {
+            super(CommandType.MULTI, new StatusOutput<>(codec));
+        }
+
+    }
+
+    /**
+     * {@link MultiOutput} that leaves queued commands incomplete if {@literal EXEC} fails so these can be completed with their
+     * queueing error.
+     */
+    static class ExecOutput<K, V> extends MultiOutput<K, V> {
+
+        ExecOutput(RedisCodec<K, V> codec) {
+            super(codec);
+        }
+
+        @Override
+        public void complete(int depth) {
+
+            if (depth == 0 && hasError()) {
+                return;
+            }
+
+            super.complete(depth);
+        }
+
+    }
+
+    /**
+     * Output shared by all commands queued within the transaction. Consumes {@literal QUEUED} replies in order and retains
+     * queueing errors by command index.
+     */
+    static class QueuedOutput<K, V> extends CommandOutput<K, V, String> {
+
+        private final String[] errors;
+
+        private int index;
+
+        QueuedOutput(RedisCodec<K, V> codec, int size) {
+            super(codec, null);
+            this.errors = new String[size];
+        }
+
+        @Override
+        public void set(ByteBuffer bytes) {
+        }
+
+        @Override
+        public void setError(ByteBuffer error) {
+
+            if (index < errors.length) {
+                errors[index] = decodeAscii(error);
+            }
+        }
+
+        @Override
+        public void complete(int depth) {
+
+            if (depth == 0) {
+                index++;
+            }
+        }
+
+        String getError(int index) {
+            return errors[index];
+        }
+
+    }
+
+    /**
+     * {@link RedisAsyncCommands} implementation recording commands instead of dispatching these.
+     */
+    class RecordingAsyncCommands extends RedisAsyncCommandsImpl<K, V> {
+
+        RecordingAsyncCommands(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec) {
+            super(connection, codec);
+        }
+
+        @Override
+        public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
+
+            LettuceAssert.assertState(!executed, "Transaction was already executed");
+            LettuceAssert.isTrue(!isTransactionControl(cmd.getType()),
+                    () -> String.format("Cannot record %s within a transaction", cmd.getType()));
+            LettuceAssert.isTrue(!ShardedChannelWriter.isConnectionStateCommand(cmd),
+                    () -> String.format("Cannot record connection state command %s within a transaction", cmd.getType()));
+
+            AsyncCommand<K, V, T> command = cmd instanceof AsyncCommand ? (AsyncCommand<K, V, T>) cmd : new AsyncCommand<>(cmd);
+            recorded.add(command);
+            return command;
+        }
+
+        private boolean isTransactionControl(ProtocolKeyword type) {
+            return type == CommandType.MULTI || type == CommandType.EXEC || type == CommandType.DISCARD
+                    || type == CommandType.WATCH || type == CommandType.UNWATCH;
+        }
+
+    }
+
+}
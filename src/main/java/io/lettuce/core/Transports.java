@@ -18,6 +18,7 @@ package io.lettuce.core;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.resource.EpollProvider;
 import io.lettuce.core.resource.EventLoopResources;
+import io.lettuce.core.resource.IOUringProvider;
 import io.lettuce.core.resource.KqueueProvider;
 import io.netty.channel.Channel;
 import io.netty.channel.EventLoopGroup;
@@ -58,17 +59,28 @@ class Transports {
     }
 
     /**
-     * Native transport support.
+     * Native transport support. Socket (network/TCP) transport prefers io_uring and falls back to kqueue or epoll. Unix domain
+     * sockets are not supported by io_uring and therefore use kqueue or epoll.
      */
     static class NativeTransports {
 
-        static EventLoopResources RESOURCES = KqueueProvider.isAvailable() ? KqueueProvider.getResources()
+        static EventLoopResources RESOURCES = IOUringProvider.isAvailable() ? IOUringProvider.getResources()
+                : KqueueProvider.isAvailable() ? KqueueProvider.getResources() : EpollProvider.getResources();
+
+        static EventLoopResources DOMAIN_SOCKET_RESOURCES = KqueueProvider.isAvailable() ? KqueueProvider.getResources()
                 : EpollProvider.getResources();
 
         /**
          * @return {@literal true} if a native transport is available.
          */
         static boolean isSocketSupported() {
+            return IOUringProvider.isAvailable() || EpollProvider.isAvailable() || KqueueProvider.isAvailable();
+        }
+
+        /**
+         * @return {@literal true} if a native transport for unix domain sockets is available.
+         */
+        static boolean isDomainSocketSupported() {
             return EpollProvider.isAvailable() || KqueueProvider.isAvailable();
         }
 
@@ -83,7 +95,7 @@ class Transports {
          * @return the native transport domain socket {@link Channel} class.
          */
         static Class<? extends Channel> domainSocketChannelClass() {
-            return RESOURCES.domainSocketChannelClass();
+            return DOMAIN_SOCKET_RESOURCES.domainSocketChannelClass();
         }
 
         /**
@@ -93,9 +105,16 @@ class Transports {
             return RESOURCES.eventLoopGroupClass();
         }
 
-        static void assertAvailable() {
+        /**
+         * @return the native transport {@link EventLoopGroup} class for unix domain sockets.
+         */
+        static Class<? extends EventLoopGroup> domainSocketEventLoopGroupClass() {
+            return DOMAIN_SOCKET_RESOURCES.eventLoopGroupClass();
+        }
+
+        static void assertDomainSocketAvailable() {
 
-            LettuceAssert.assertState(NativeTransports.isSocketSupported(),
+            LettuceAssert.assertState(NativeTransports.isDomainSocketSupported(),
                     "A unix domain socket connections requires epoll or kqueue and neither is available");
         }
     }
@@ -15,7 +15,9 @@
  */
 package io.lettuce.core.api;
 
+import io.lettuce.core.TransactionBuilder;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.protocol.ConnectionWatchdog;
@@ -59,4 +61,29 @@ public interface StatefulRedisConnection<K, V> extends StatefulConnection<K, V>
      * @return the reactive API for the underlying connection.
      */
     RedisReactiveCommands<K, V> reactive();
+
+    /**
+     * Create a new {@link TransactionBuilder} to collect commands client-side and execute these within a
+     * {@literal MULTI}/{@literal EXEC} transaction using a single write.
+     *
+     * @return a new {@link TransactionBuilder}.
+     * @since 6.0
+     */
+    TransactionBuilder<K, V> transaction();
+
+    /**
+     * Add a new {@link PushListener listener} to consume push messages (RESP3 only).
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @since 6.0
+     */
+    void addListener(PushListener listener);
+
+    /**
+     * Remove an existing {@link PushListener listener}.
+     *
+     * @param listener the listener, must not be {@literal null}.
+     * @since 6.0
+     */
+    void removeListener(PushListener listener);
 }
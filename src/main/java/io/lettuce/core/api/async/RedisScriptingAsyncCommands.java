@@ -15,6 +15,7 @@
  */
 package io.lettuce.core.api.async;
 
+import java.util.BitSet;
 import java.util.List;
 
 import io.lettuce.core.RedisFuture;
@@ -113,6 +114,16 @@ public interface RedisScriptingAsyncCommands<K, V> {
      */
     RedisFuture<List<Boolean>> scriptExists(String... digests);
 
+    /**
+     * Check existence of scripts in the script cache.
+     *
+     * @param digests script digests
+     * @return BitSet array-reply a {@link BitSet} that corresponds to the specified SHA1 digest arguments. For every
+     *         corresponding SHA1 digest of a script that actually exists in the script cache, the bit is set.
+     * @since 6.0
+     */
+    RedisFuture<BitSet> scriptExistsBitSet(String... digests);
+
     /**
      * Remove all the scripts from the script cache.
      *
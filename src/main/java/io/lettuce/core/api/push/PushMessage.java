@@ -0,0 +1,45 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.api.push;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Interface representing a push message received from Redis. Push messages are sent by the server using the RESP3
+ * {@literal >} type and are not associated with a command, e.g. {@literal invalidate} messages of client-side caching.
+ * <p>
+ * Push message content is kept in its raw form: bulk strings are represented as read-only {@link ByteBuffer}, integers as
+ * {@link Long} and nested aggregates as {@link List}.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public interface PushMessage {
+
+    /**
+     * @return the push message type, e.g. {@literal invalidate}.
+     */
+    String getType();
+
+    /**
+     * Returns the push message content. The first element is the push message type.
+     *
+     * @return the push message content.
+     */
+    List<Object> getContent();
+
+}
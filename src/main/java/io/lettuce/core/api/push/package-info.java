@@ -0,0 +1,5 @@
+/**
+ * RESP3 push message API. Push messages are out-of-band messages sent by the server, for example client-side caching
+ * invalidations.
+ */
+package io.lettuce.core.api.push;
@@ -15,6 +15,8 @@
  */
 package io.lettuce.core.api.reactive;
 
+import java.util.BitSet;
+
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.ScriptOutputType;
@@ -112,6 +114,16 @@ public interface RedisScriptingReactiveCommands<K, V> {
      */
     Flux<Boolean> scriptExists(String... digests);
 
+    /**
+     * Check existence of scripts in the script cache.
+     *
+     * @param digests script digests
+     * @return BitSet array-reply a {@link BitSet} that corresponds to the specified SHA1 digest arguments. For every
+     *         corresponding SHA1 digest of a script that actually exists in the script cache, the bit is set.
+     * @since 6.0
+     */
+    Mono<BitSet> scriptExistsBitSet(String... digests);
+
     /**
      * Remove all the scripts from the script cache.
      *
@@ -21,6 +21,7 @@ import java.util.Map;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import io.lettuce.core.KillArgs;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.UnblockType;
 import io.lettuce.core.protocol.CommandType;
 
@@ -80,6 +81,16 @@ public interface RedisServerReactiveCommands<K, V> {
      */
     Mono<Long> clientKill(KillArgs killArgs);
 
+    /**
+     * Enables the tracking feature of the Redis server, that is used for server assisted client side caching. Tracking messages
+     * are either sent when using the RESP3 protocol or to a different connection in case redirection is enabled.
+     *
+     * @param args for the CLIENT TRACKING operation.
+     * @return String simple-string-reply {@code OK}.
+     * @since 6.0
+     */
+    Mono<String> clientTracking(TrackingArgs args);
+
     /**
      * Unblock the specified blocked client.
      *
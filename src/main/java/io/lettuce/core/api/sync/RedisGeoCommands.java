@@ -146,6 +146,18 @@ public interface RedisGeoCommands<K, V> {
      */
     List<GeoCoordinates> geopos(K key, V... members);
 
+    /**
+     * Get geo coordinates for the {@code members}. Coordinates are collected into primitive arrays without boxing.
+     *
+     * @param key the key of the geo set
+     * @param members the members
+     *
+     * @return {@link GeoCoordinatesArray} representing the x,y position of each element specified in the arguments. For
+     *         missing elements {@link Double#NaN} coordinates are returned.
+     * @since 6.0
+     */
+    GeoCoordinatesArray geoposArray(K key, V... members);
+
     /**
      * Retrieve distance between points {@code from} and {@code to}. If one or more elements are missing {@literal null} is
      * returned. Default in meters by, otherwise according to {@code unit}
@@ -19,6 +19,8 @@ import java.nio.charset.Charset;
 import java.time.Duration;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.FlushConsolidationOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.SocketOptions;
 import io.lettuce.core.SslOptions;
 import io.lettuce.core.TimeoutOptions;
@@ -39,9 +41,11 @@ public class ClusterClientOptions extends ClientOptions {
     public static final boolean DEFAULT_CLOSE_STALE_CONNECTIONS = true;
     public static final boolean DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP = true;
     public static final int DEFAULT_MAX_REDIRECTS = 5;
+    public static final boolean DEFAULT_SHARDED_PUB_SUB = false;
 
     private final boolean validateClusterNodeMembership;
     private final int maxRedirects;
+    private final boolean shardedPubSub;
     private final ClusterTopologyRefreshOptions topologyRefreshOptions;
 
     protected ClusterClientOptions(Builder builder) {
@@ -50,6 +54,7 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = builder.validateClusterNodeMembership;
         this.maxRedirects = builder.maxRedirects;
+        this.shardedPubSub = builder.shardedPubSub;
 
         ClusterTopologyRefreshOptions refreshOptions = builder.topologyRefreshOptions;
 
@@ -70,6 +75,7 @@ public class ClusterClientOptions extends ClientOptions {
 
         this.validateClusterNodeMembership = original.validateClusterNodeMembership;
         this.maxRedirects = original.maxRedirects;
+        this.shardedPubSub = original.shardedPubSub;
         this.topologyRefreshOptions = original.topologyRefreshOptions;
     }
 
@@ -116,7 +122,9 @@ public class ClusterClientOptions extends ClientOptions {
                 .requestQueueSize(clientOptions.getRequestQueueSize()).socketOptions(clientOptions.getSocketOptions())
                 .sslOptions(clientOptions.getSslOptions())
                 .suspendReconnectOnProtocolFailure(clientOptions.isSuspendReconnectOnProtocolFailure())
-                .timeoutOptions(clientOptions.getTimeoutOptions());
+                .timeoutOptions(clientOptions.getTimeoutOptions()).zeroCopyDecoding(clientOptions.isZeroCopyDecoding())
+                .flushConsolidationOptions(clientOptions.getFlushConsolidationOptions())
+                .pubSubDispatchOptions(clientOptions.getPubSubDispatchOptions());
 
         return builder;
     }
@@ -138,6 +146,7 @@ public class ClusterClientOptions extends ClientOptions {
         private boolean closeStaleConnections = DEFAULT_CLOSE_STALE_CONNECTIONS;
         private boolean validateClusterNodeMembership = DEFAULT_VALIDATE_CLUSTER_MEMBERSHIP;
         private int maxRedirects = DEFAULT_MAX_REDIRECTS;
+        private boolean shardedPubSub = DEFAULT_SHARDED_PUB_SUB;
         private ClusterTopologyRefreshOptions topologyRefreshOptions = null;
 
         protected Builder() {
@@ -167,6 +176,21 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        /**
+         * Distribute Pub/Sub subscriptions of {@link io.lettuce.core.cluster.pubsub.StatefulRedisClusterPubSubConnection}s
+         * across the cluster nodes. Channels and patterns are assigned to the master owning the {@link SlotHash slot} of the
+         * channel (or pattern) name and re-subscribed when the topology changes. Defaults to {@literal false}. See
+         * {@link ClusterClientOptions#DEFAULT_SHARDED_PUB_SUB}.
+         *
+         * @param shardedPubSub {@literal true} to distribute subscriptions across cluster nodes.
+         * @return {@code this}
+         * @since 6.0
+         */
+        public Builder shardedPubSub(boolean shardedPubSub) {
+            this.shardedPubSub = shardedPubSub;
+            return this;
+        }
+
         /**
          * Sets the {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
          *
@@ -256,6 +280,24 @@ public class ClusterClientOptions extends ClientOptions {
             return this;
         }
 
+        @Override
+        public Builder zeroCopyDecoding(boolean zeroCopyDecoding) {
+            super.zeroCopyDecoding(zeroCopyDecoding);
+            return this;
+        }
+
+        @Override
+        public Builder flushConsolidationOptions(FlushConsolidationOptions flushConsolidationOptions) {
+            super.flushConsolidationOptions(flushConsolidationOptions);
+            return this;
+        }
+
+        @Override
+        public Builder pubSubDispatchOptions(PubSubDispatchOptions pubSubDispatchOptions) {
+            super.pubSubDispatchOptions(pubSubDispatchOptions);
+            return this;
+        }
+
         /**
          * Create a new instance of {@link ClusterClientOptions}
          *
@@ -286,8 +328,10 @@ public class ClusterClientOptions extends ClientOptions {
                 .protocolVersion(getConfiguredProtocolVersion()).requestQueueSize(getRequestQueueSize())
                 .socketOptions(getSocketOptions()).sslOptions(getSslOptions())
                 .suspendReconnectOnProtocolFailure(isSuspendReconnectOnProtocolFailure()).timeoutOptions(getTimeoutOptions())
+                .zeroCopyDecoding(isZeroCopyDecoding()).flushConsolidationOptions(getFlushConsolidationOptions())
+                .pubSubDispatchOptions(getPubSubDispatchOptions())
                 .validateClusterNodeMembership(isValidateClusterNodeMembership()).maxRedirects(getMaxRedirects())
-                .topologyRefreshOptions(getTopologyRefreshOptions());
+                .shardedPubSub(isShardedPubSub()).topologyRefreshOptions(getTopologyRefreshOptions());
 
         return builder;
     }
@@ -343,6 +387,17 @@ public class ClusterClientOptions extends ClientOptions {
         return maxRedirects;
     }
 
+    /**
+     * Flag, whether Pub/Sub subscriptions are distributed across cluster nodes. Defaults to {@literal false}. See
+     * {@link ClusterClientOptions#DEFAULT_SHARDED_PUB_SUB}.
+     *
+     * @return {@literal true} if subscriptions are distributed across cluster nodes.
+     * @since 6.0
+     */
+    public boolean isShardedPubSub() {
+        return shardedPubSub;
+    }
+
     /**
      * The {@link ClusterTopologyRefreshOptions} for detailed control of topology updates.
      *
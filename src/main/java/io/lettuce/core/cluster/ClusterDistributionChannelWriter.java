@@ -190,7 +190,20 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
         }
     }
 
-    private static <K, V> void writeCommands(Collection<RedisCommand<K, V, ?>> commands, RedisChannelWriter writer) {
+    @SuppressWarnings("unchecked")
+    private static <K, V> void writeCommands(Collection<? extends RedisCommand<K, V, ?>> commands,
+            StatefulRedisConnection<K, V> connection, Throwable throwable) {
+
+        if (throwable != null) {
+            commands.forEach(command -> command.completeExceptionally(throwable));
+            return;
+        }
+
+        writeCommands(commands, ((RedisChannelHandler<K, V>) connection).getChannelWriter());
+    }
+
+    private static <K, V> void writeCommands(Collection<? extends RedisCommand<K, V, ?>> commands,
+            RedisChannelWriter writer) {
 
         try {
             getWriterToUse(writer).write(commands);
@@ -252,23 +265,32 @@ class ClusterDistributionChannelWriter implements RedisChannelWriter {
             commandPartition.add(new ClusterCommand<>(cmd, this, executionLimit));
         }
 
+        // group slots by their target node so that each node receives a single write (and flush)
+        Map<RedisChannelWriter, List<ClusterCommand<K, V, ?>>> nodeWrites = new LinkedHashMap<>();
+
         for (Map.Entry<SlotIntent, List<ClusterCommand<K, V, ?>>> entry : partitions.entrySet()) {
 
             SlotIntent slotIntent = entry.getKey();
-            RedisChannelHandler<K, V> connection = (RedisChannelHandler<K, V>) clusterConnectionProvider
-                    .getConnection(slotIntent.intent, slotIntent.slotHash);
+            List<ClusterCommand<K, V, ?>> slotCommands = entry.getValue();
+            CompletableFuture<StatefulRedisConnection<K, V>> connectFuture = asyncClusterConnectionProvider
+                    .getConnectionAsync(slotIntent.intent, slotIntent.slotHash);
 
-            RedisChannelWriter channelWriter = connection.getChannelWriter();
-            if (channelWriter instanceof ClusterDistributionChannelWriter) {
-                ClusterDistributionChannelWriter writer = (ClusterDistributionChannelWriter) channelWriter;
-                channelWriter = writer.defaultWriter;
+            if (!isSuccessfullyCompleted(connectFuture)) {
+                connectFuture
+                        .whenComplete((connection, throwable) -> writeCommands(slotCommands, connection, throwable));
+                continue;
             }
 
+            RedisChannelWriter channelWriter = getWriterToUse(
+                    ((RedisChannelHandler<K, V>) connectFuture.join()).getChannelWriter());
+
             if (channelWriter != null && channelWriter != this && channelWriter != defaultWriter) {
-                channelWriter.write(entry.getValue());
+                nodeWrites.computeIfAbsent(channelWriter, it -> new ArrayList<>()).addAll(slotCommands);
             }
         }
 
+        nodeWrites.forEach((writer, nodeCommands) -> writeCommands(nodeCommands, writer));
+
         clusterCommands.forEach(this::write);
         defaultCommands.forEach(defaultWriter::write);
 
@@ -16,6 +16,7 @@
 package io.lettuce.core.cluster;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -232,12 +233,25 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
         public void run() {
 
             if (unique.compareAndSet(false, true)) {
+
+                CompletionStage<Void> refresh;
                 try {
-                    doRun();
-                } finally {
+                    refresh = doRun();
+                } catch (Exception e) {
                     unique.set(false);
+                    logger.warn("Cannot refresh Redis Cluster topology", e);
+                    return;
                 }
 
+                refresh.whenComplete((ignore, throwable) -> {
+
+                    unique.set(false);
+
+                    if (throwable != null) {
+                        logger.warn("Cannot refresh Redis Cluster topology", throwable);
+                    }
+                });
+
                 return;
             }
 
@@ -246,17 +260,14 @@ class ClusterTopologyRefreshScheduler implements Runnable, ClusterEventListener
             }
         }
 
-        void doRun() {
+        CompletionStage<Void> doRun() {
 
             if (logger.isDebugEnabled()) {
                 logger.debug("ClusterTopologyRefreshTask requesting partitions from {}",
                         redisClusterClient.getTopologyRefreshSource());
             }
-            try {
-                redisClusterClient.reloadPartitions();
-            } catch (Exception e) {
-                logger.warn("Cannot refresh Redis Cluster topology", e);
-            }
+
+            return redisClusterClient.refreshPartitionsAsync();
         }
     }
 }
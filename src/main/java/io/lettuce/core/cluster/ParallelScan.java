@@ -0,0 +1,253 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.api.async.RedisKeyAsyncCommands;
+import io.lettuce.core.api.reactive.RedisKeyReactiveCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.output.KeyStreamingChannel;
+
+/**
+ * Cluster-wide {@code SCAN} that iterates the keyspace of multiple nodes concurrently.
+ * <p>
+ * {@link io.lettuce.core.ScanStream} and the cluster {@code SCAN} commands scan one node after another. {@link ParallelScan}
+ * maintains an independent cursor per node instead and scans up to {@link ParallelScanOptions#getParallelism()} nodes
+ * concurrently. Nodes are selected the same way as for the cluster {@code SCAN} commands, considering the configured
+ * {@link io.lettuce.core.ReadFrom} setting. The {@literal COUNT} hint of each node is tuned based on the reply latency of that
+ * node, see {@link ParallelScanOptions}.
+ * <p>
+ * Keys are emitted in no particular order. Keys of different nodes are interleaved.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public abstract class ParallelScan {
+
+    private ParallelScan() {
+    }
+
+    /**
+     * Iterate over keys of all nodes using default {@link ParallelScanOptions}. Subsequent {@code SCAN} commands of a node
+     * are only issued if the subscriber signals demand.
+     *
+     * @param connection the cluster connection, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(StatefulRedisClusterConnection<K, V> connection) {
+        return scan(connection, ParallelScanOptions.create());
+    }
+
+    /**
+     * Iterate over keys of all nodes. Subsequent {@code SCAN} commands of a node are only issued if the subscriber signals
+     * demand.
+     *
+     * @param connection the cluster connection, must not be {@literal null}.
+     * @param options the scan options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a new {@link Flux}.
+     */
+    public static <K, V> Flux<K> scan(StatefulRedisClusterConnection<K, V> connection, ParallelScanOptions options) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(options, "ParallelScanOptions must not be null");
+
+        return Flux.defer(() -> Flux.fromIterable(ClusterScanSupport.getNodeIds(connection)))
+                .flatMap(nodeId -> scanNode(connection, nodeId, options), options.getParallelism());
+    }
+
+    private static <K, V> Flux<K> scanNode(StatefulRedisClusterConnection<K, V> connection, String nodeId,
+            ParallelScanOptions options) {
+
+        return Mono.fromCompletionStage(() -> connection.getConnectionAsync(nodeId)).flatMapMany(nodeConnection -> {
+
+            RedisKeyReactiveCommands<K, V> commands = nodeConnection.reactive();
+            ScanCountTuner tuner = new ScanCountTuner(options);
+
+            return scan(commands, ScanCursor.INITIAL, tuner, options)
+                    .expand(cursor -> cursor.isFinished() ? Mono.empty() : scan(commands, cursor, tuner, options))
+                    .flatMapIterable(KeyScanCursor::getKeys, 1);
+        });
+    }
+
+    private static <K, V> Mono<KeyScanCursor<K>> scan(RedisKeyReactiveCommands<K, V> commands, ScanCursor cursor,
+            ScanCountTuner tuner, ParallelScanOptions options) {
+
+        return Mono.defer(() -> {
+
+            long start = System.nanoTime();
+            return commands.scan(cursor, options.toScanArgs(tuner.getCount()))
+                    .doOnNext(it -> tuner.record(System.nanoTime() - start));
+        });
+    }
+
+    /**
+     * Iterate over keys of all nodes using default {@link ParallelScanOptions} and emit keys to {@link KeyStreamingChannel}.
+     * The {@code channel} is notified concurrently from the I/O threads of the scanned nodes.
+     *
+     * @param connection the cluster connection, must not be {@literal null}.
+     * @param channel the streaming channel, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a {@link CompletableFuture} that completes with the number of emitted keys once all nodes are scanned.
+     */
+    public static <K, V> CompletableFuture<Long> scanAsync(StatefulRedisClusterConnection<K, V> connection,
+            KeyStreamingChannel<K> channel) {
+        return scanAsync(connection, channel, ParallelScanOptions.create());
+    }
+
+    /**
+     * Iterate over keys of all nodes and emit keys to {@link KeyStreamingChannel}. The {@code channel} is notified
+     * concurrently from the I/O threads of the scanned nodes.
+     *
+     * @param connection the cluster connection, must not be {@literal null}.
+     * @param channel the streaming channel, must not be {@literal null}.
+     * @param options the scan options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return a {@link CompletableFuture} that completes with the number of emitted keys once all nodes are scanned.
+     */
+    public static <K, V> CompletableFuture<Long> scanAsync(StatefulRedisClusterConnection<K, V> connection,
+            KeyStreamingChannel<K> channel, ParallelScanOptions options) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(channel, "KeyStreamingChannel must not be null");
+        LettuceAssert.notNull(options, "ParallelScanOptions must not be null");
+
+        CompletableFuture<Long> result = new CompletableFuture<>();
+
+        try {
+            new AsyncScan<>(connection, channel, options, result).start();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+
+        return result;
+    }
+
+    /**
+     * State of an asynchronous parallel scan. Each worker scans one node at a time and picks the next pending node once the
+     * cursor of its node is exhausted.
+     */
+    private static class AsyncScan<K, V> {
+
+        private final StatefulRedisClusterConnection<K, V> connection;
+
+        private final KeyStreamingChannel<K> channel;
+
+        private final ParallelScanOptions options;
+
+        private final CompletableFuture<Long> result;
+
+        private final Queue<String> pendingNodes = new ConcurrentLinkedQueue<>();
+
+        private final AtomicInteger activeWorkers = new AtomicInteger();
+
+        private final AtomicLong count = new AtomicLong();
+
+        AsyncScan(StatefulRedisClusterConnection<K, V> connection, KeyStreamingChannel<K> channel, ParallelScanOptions options,
+                CompletableFuture<Long> result) {
+
+            this.connection = connection;
+            this.channel = channel;
+            this.options = options;
+            this.result = result;
+        }
+
+        void start() {
+
+            List<String> nodeIds = ClusterScanSupport.getNodeIds(connection);
+
+            if (nodeIds.isEmpty()) {
+                result.complete(0L);
+                return;
+            }
+
+            int workers = Math.min(options.getParallelism(), nodeIds.size());
+
+            pendingNodes.addAll(nodeIds);
+            activeWorkers.set(workers);
+
+            for (int i = 0; i < workers; i++) {
+                scanNextNode();
+            }
+        }
+
+        private void scanNextNode() {
+
+            String nodeId = pendingNodes.poll();
+
+            if (nodeId == null) {
+                if (activeWorkers.decrementAndGet() == 0) {
+                    result.complete(count.get());
+                }
+                return;
+            }
+
+            connection.getConnectionAsync(nodeId).whenComplete((nodeConnection, throwable) -> {
+
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+
+                scan(nodeConnection.async(), ScanCursor.INITIAL, new ScanCountTuner(options));
+            });
+        }
+
+        private void scan(RedisKeyAsyncCommands<K, V> commands, ScanCursor cursor, ScanCountTuner tuner) {
+
+            if (result.isDone()) {
+                return;
+            }
+
+            long start = System.nanoTime();
+
+            commands.scan(channel, cursor, options.toScanArgs(tuner.getCount())).whenComplete((next, throwable) -> {
+
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                    return;
+                }
+
+                tuner.record(System.nanoTime() - start);
+                count.addAndGet(next.getCount());
+
+                if (next.isFinished()) {
+                    scanNextNode();
+                } else {
+                    scan(commands, next, tuner);
+                }
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.time.Duration;
+
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options for a {@link ParallelScan parallel cluster-wide SCAN}. The options configure the number of nodes that are scanned
+ * concurrently, the {@literal MATCH} filter and the {@literal COUNT} hint for each {@literal SCAN} invocation.
+ * <p>
+ * {@literal COUNT} tuning adjusts the hint per node based on the observed reply latency: The count is doubled while replies
+ * complete within half of the {@link #getTargetLatency() target latency} and halved once replies exceed the target latency.
+ * The count stays within {@literal 1} and {@link #getMaxCount()}.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ParallelScanOptions {
+
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    public static final long DEFAULT_COUNT = 10;
+
+    public static final long DEFAULT_MAX_COUNT = 10000;
+
+    public static final Duration DEFAULT_TARGET_LATENCY = Duration.ofMillis(5);
+
+    private final int parallelism;
+
+    private final String match;
+
+    private final long count;
+
+    private final long maxCount;
+
+    private final Duration targetLatency;
+
+    private ParallelScanOptions(int parallelism, String match, long count, long maxCount, Duration targetLatency) {
+
+        this.parallelism = parallelism;
+        this.match = match;
+        this.count = count;
+        this.maxCount = maxCount;
+        this.targetLatency = targetLatency;
+    }
+
+    /**
+     * Returns a new {@link ParallelScanOptions.Builder} to construct {@link ParallelScanOptions}.
+     *
+     * @return a new {@link ParallelScanOptions.Builder} to construct {@link ParallelScanOptions}.
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Create a new instance of {@link ParallelScanOptions} with default settings.
+     *
+     * @return a new instance of {@link ParallelScanOptions} with default settings.
+     */
+    public static ParallelScanOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link ParallelScanOptions}.
+     */
+    public static class Builder {
+
+        private int parallelism = DEFAULT_PARALLELISM;
+
+        private String match;
+
+        private long count = DEFAULT_COUNT;
+
+        private long maxCount = DEFAULT_MAX_COUNT;
+
+        private Duration targetLatency = DEFAULT_TARGET_LATENCY;
+
+        /**
+         * Set the maximum number of nodes that are scanned concurrently. Defaults to {@literal 4}, see
+         * {@link #DEFAULT_PARALLELISM}.
+         *
+         * @param parallelism the maximum number of concurrently scanned nodes, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder parallelism(int parallelism) {
+
+            LettuceAssert.isTrue(parallelism > 0, "Parallelism must be greater 0");
+
+            this.parallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Set the {@literal MATCH} filter.
+         *
+         * @param match the filter, must not be {@literal null}.
+         * @return {@code this}
+         * @see ScanArgs#match(String)
+         */
+        public Builder match(String match) {
+
+            LettuceAssert.notNull(match, "Match must not be null");
+
+            this.match = match;
+            return this;
+        }
+
+        /**
+         * Set the initial {@literal COUNT} hint. Defaults to {@literal 10}, see {@link #DEFAULT_COUNT}.
+         *
+         * @param count the initial count hint, must be greater {@literal 0}.
+         * @return {@code this}
+         * @see ScanArgs#limit(long)
+         */
+        public Builder count(long count) {
+
+            LettuceAssert.isTrue(count > 0, "Count must be greater 0");
+
+            this.count = count;
+            return this;
+        }
+
+        /**
+         * Set the upper bound for {@literal COUNT} tuning. Defaults to {@literal 10000}, see {@link #DEFAULT_MAX_COUNT}.
+         *
+         * @param maxCount the maximum count hint, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxCount(long maxCount) {
+
+            LettuceAssert.isTrue(maxCount > 0, "Max count must be greater 0");
+
+            this.maxCount = maxCount;
+            return this;
+        }
+
+        /**
+         * Set the reply latency that {@literal COUNT} tuning aims for. Defaults to {@literal 5 milliseconds}, see
+         * {@link #DEFAULT_TARGET_LATENCY}.
+         *
+         * @param targetLatency the target latency, must not be {@literal null} or negative.
+         * @return {@code this}
+         */
+        public Builder targetLatency(Duration targetLatency) {
+
+            LettuceAssert.notNull(targetLatency, "Target latency must not be null");
+            LettuceAssert.isTrue(!targetLatency.isNegative(), "Target latency must not be negative");
+
+            this.targetLatency = targetLatency;
+            return this;
+        }
+
+        /**
+         * Disable {@literal COUNT} tuning and use the {@link #count(long) initial count} for all {@literal SCAN} invocations.
+         *
+         * @return {@code this}
+         */
+        public Builder disableCountTuning() {
+            return targetLatency(Duration.ZERO);
+        }
+
+        /**
+         * Create a new instance of {@link ParallelScanOptions}.
+         *
+         * @return new instance of {@link ParallelScanOptions}
+         */
+        public ParallelScanOptions build() {
+            return new ParallelScanOptions(parallelism, match, count, Math.max(count, maxCount), targetLatency);
+        }
+
+    }
+
+    /**
+     * @return the maximum number of concurrently scanned nodes.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return the {@literal MATCH} filter, can be {@literal null}.
+     */
+    public String getMatch() {
+        return match;
+    }
+
+    /**
+     * @return the initial {@literal COUNT} hint.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the upper bound for {@literal COUNT} tuning.
+     */
+    public long getMaxCount() {
+        return maxCount;
+    }
+
+    /**
+     * @return the reply latency that {@literal COUNT} tuning aims for. {@link Duration#ZERO} if tuning is disabled.
+     */
+    public Duration getTargetLatency() {
+        return targetLatency;
+    }
+
+    /**
+     * @return {@literal true} if the {@literal COUNT} hint is tuned based on the reply latency.
+     */
+    public boolean isCountTuningEnabled() {
+        return !targetLatency.isZero();
+    }
+
+    /**
+     * Create {@link ScanArgs} for a single {@literal SCAN} invocation.
+     *
+     * @param count the count hint.
+     * @return the {@link ScanArgs}.
+     */
+    ScanArgs toScanArgs(long count) {
+
+        ScanArgs scanArgs = ScanArgs.Builder.limit(count);
+
+        if (match != null) {
+            scanArgs.match(match);
+        }
+
+        return scanArgs;
+    }
+
+}
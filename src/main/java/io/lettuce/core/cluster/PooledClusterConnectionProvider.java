@@ -16,13 +16,17 @@
 package io.lettuce.core.cluster;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -39,6 +43,9 @@ import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.models.role.RedisInstance;
 import io.lettuce.core.models.role.RedisNodeDescription;
+import io.lettuce.core.protocol.CommandExpiryWriter;
+import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.LatencyTracker;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -53,13 +60,36 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
 @SuppressWarnings({ "unchecked", "rawtypes" })
 class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider, AsyncClusterConnectionProvider {
 
+    /**
+     * Factor by which the latency percentile of a read candidate must exceed the best candidate to be ejected.
+     */
+    private static final double OUTLIER_FACTOR = 3;
+
+    /**
+     * Minimum number of samples before a read candidate is considered for ejection.
+     */
+    private static final long OUTLIER_MIN_SAMPLES = 100;
+
+    /**
+     * Duration for which an outlier is excluded from reads.
+     */
+    private static final long EJECTION_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /**
+     * Duration after which a read candidate without samples is probed again regardless of its statistics.
+     */
+    private static final long STALE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private static final double UNAVAILABLE = -1;
+
+    private static final double EJECTED = -2;
+
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(PooledClusterConnectionProvider.class);
 
     // Contains NodeId-identified and HostAndPort-identified connections.
     private final Object stateLock = new Object();
     private final boolean debugEnabled = logger.isDebugEnabled();
-    private final CompletableFuture<StatefulRedisConnection<K, V>> writers[] = new CompletableFuture[SlotHash.SLOT_COUNT];
-    private final CompletableFuture<StatefulRedisConnection<K, V>> readers[][] = new CompletableFuture[SlotHash.SLOT_COUNT][];
+    private volatile RoutingTable<K, V> routingTable = new RoutingTable<>();
     private final RedisClusterClient redisClusterClient;
     private final ClusterNodeConnectionFactory<K, V> connectionFactory;
     private final RedisChannelWriter clusterWriter;
@@ -115,10 +145,10 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getWriteConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> writer;// avoid races when reconfiguring partitions.
-        synchronized (stateLock) {
-            writer = writers[slot];
-        }
+        // avoid races when reconfiguring partitions: entries are only ever published to the table that was current when the
+        // lookup started.
+        RoutingTable<K, V> table = this.routingTable;
+        CompletableFuture<StatefulRedisConnection<K, V>> writer = table.writers.get(slot);
 
         if (writer == null) {
             RedisClusterNode partition = partitions.getPartitionBySlot(slot);
@@ -137,11 +167,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
             return future.thenApply(connection -> {
 
-                synchronized (stateLock) {
-                    if (writers[slot] == null) {
-                        writers[slot] = CompletableFuture.completedFuture(connection);
-                    }
-                }
+                table.writers.compareAndSet(slot, null, CompletableFuture.completedFuture(connection));
 
                 return connection;
             }).toCompletableFuture();
@@ -152,14 +178,11 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private CompletableFuture<StatefulRedisConnection<K, V>> getReadConnection(int slot) {
 
-        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[];// avoid races when reconfiguring partitions.
+        RoutingTable<K, V> table = this.routingTable;
+        CompletableFuture<StatefulRedisConnection<K, V>> readerCandidates[] = table.readers.get(slot);
 
         boolean cached = true;
 
-        synchronized (stateLock) {
-            readerCandidates = readers[slot];
-        }
-
         if (readerCandidates == null) {
 
             RedisClusterNode master = partitions.getPartitionBySlot(slot);
@@ -197,6 +220,13 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
         if (cached) {
 
+            // cached candidates are completed futures, select without composing futures
+            CompletableFuture<StatefulRedisConnection<K, V>> selected = selectCachedReader(selectedReaderCandidates);
+
+            if (selected != null) {
+                return selected;
+            }
+
             return CompletableFuture.allOf(readerCandidates).thenCompose(
                     v -> {
 
@@ -253,8 +283,12 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                     for (int i = 0; i < toCache.length; i++) {
                         toCache[i] = CompletableFuture.completedFuture(statefulRedisConnections[i]);
                     }
-                    synchronized (stateLock) {
-                        readers[slot] = toCache;
+                    table.readers.compareAndSet(slot, null, toCache);
+
+                    if (isLatencyAware()) {
+                        for (StatefulRedisConnection<K, V> connection : statefulRedisConnections) {
+                            enableLatencyTracking(connection);
+                        }
                     }
 
                     if (!orderSensitive) {
@@ -277,6 +311,192 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
                 });
     }
 
+    private CompletableFuture<StatefulRedisConnection<K, V>> selectCachedReader(
+            CompletableFuture<StatefulRedisConnection<K, V>>[] candidates) {
+
+        if (isLatencyAware() && candidates.length > 1) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> candidate = selectLowestLatency(candidates);
+
+            if (candidate != null) {
+                return candidate;
+            }
+        }
+
+        if (!isOrderSensitive(candidates)) {
+
+            CompletableFuture<StatefulRedisConnection<K, V>> candidate = findRandomActiveConnection(candidates,
+                    Function.identity());
+
+            if (candidate != null) {
+                return candidate;
+            }
+        }
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : candidates) {
+
+            if (!candidate.isDone() || candidate.isCompletedExceptionally()) {
+                return null;
+            }
+
+            if (candidate.join().isOpen()) {
+                return candidate;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Select a read candidate using the power of two choices: Pick two random candidates and use the one with the lower
+     * latency-weighted load. Candidates whose 99th latency percentile exceeds the best candidate by {@link #OUTLIER_FACTOR}
+     * are ejected for {@link #EJECTION_NANOS} as long as at least half of the candidates remain available.
+     *
+     * @param candidates the cached read candidates.
+     * @return the selected candidate or {@literal null} if no candidate is available.
+     */
+    private CompletableFuture<StatefulRedisConnection<K, V>> selectLowestLatency(
+            CompletableFuture<StatefulRedisConnection<K, V>>[] candidates) {
+
+        long now = System.nanoTime();
+        double baseline = Double.MAX_VALUE;
+        int ejected = 0;
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : candidates) {
+
+            LatencyTracker tracker = getLatencyTracker(candidate);
+
+            if (tracker == null) {
+                continue;
+            }
+
+            if (tracker.isEjected(now)) {
+                ejected++;
+            } else if (tracker.getSamples() >= OUTLIER_MIN_SAMPLES) {
+                baseline = Math.min(baseline, tracker.getP99());
+            }
+        }
+
+        int length = candidates.length;
+        int first = ThreadLocalRandom.current().nextInt(length);
+        int second = (first + 1 + ThreadLocalRandom.current().nextInt(length - 1)) % length;
+
+        double firstCost = getCost(candidates[first], now, baseline, ejected, length);
+        if (firstCost == EJECTED) {
+            ejected++;
+        }
+
+        double secondCost = getCost(candidates[second], now, baseline, ejected, length);
+
+        if (firstCost >= 0 && (secondCost < 0 || firstCost <= secondCost)) {
+            return candidates[first];
+        }
+
+        if (secondCost >= 0) {
+            return candidates[second];
+        }
+
+        CompletableFuture<StatefulRedisConnection<K, V>> selected = null;
+        double selectedCost = Double.MAX_VALUE;
+
+        for (CompletableFuture<StatefulRedisConnection<K, V>> candidate : candidates) {
+
+            double cost = getCost(candidate, now, Double.MAX_VALUE, ejected, length);
+
+            if (cost >= 0 && cost < selectedCost) {
+                selected = candidate;
+                selectedCost = cost;
+            }
+        }
+
+        return selected;
+    }
+
+    /**
+     * Compute the latency-weighted load of a read candidate and eject outliers.
+     *
+     * @return the cost, {@link #UNAVAILABLE} if the candidate is not available or {@link #EJECTED} if the candidate was
+     *         ejected.
+     */
+    private static double getCost(CompletableFuture<? extends StatefulConnection<?, ?>> candidate, long now,
+            double baseline, int ejected, int candidates) {
+
+        if (!candidate.isDone() || candidate.isCompletedExceptionally() || !candidate.join().isOpen()) {
+            return UNAVAILABLE;
+        }
+
+        LatencyTracker tracker = getLatencyTracker(candidate);
+
+        if (tracker == null) {
+            return 0;
+        }
+
+        if (tracker.isEjected(now)) {
+            return UNAVAILABLE;
+        }
+
+        long samples = tracker.getSamples();
+
+        if (samples == 0 || now - tracker.getLastUpdate() > STALE_NANOS) {
+            return 0;
+        }
+
+        if (samples >= OUTLIER_MIN_SAMPLES && tracker.getP99() > baseline * OUTLIER_FACTOR && (ejected + 1) * 2 <= candidates) {
+
+            tracker.eject(now + EJECTION_NANOS);
+            return EJECTED;
+        }
+
+        return tracker.getAverage() * (tracker.getQueueDepth() + 1);
+    }
+
+    private boolean isLatencyAware() {
+        return readFrom == ReadFrom.LOWEST_LATENCY;
+    }
+
+    private static LatencyTracker getLatencyTracker(CompletableFuture<? extends StatefulConnection<?, ?>> candidate) {
+
+        if (!candidate.isDone() || candidate.isCompletedExceptionally()) {
+            return null;
+        }
+
+        DefaultEndpoint endpoint = getEndpoint(candidate.join());
+        return endpoint != null ? endpoint.getLatencyTracker() : null;
+    }
+
+    private static void enableLatencyTracking(StatefulConnection<?, ?> connection) {
+
+        DefaultEndpoint endpoint = getEndpoint(connection);
+
+        if (endpoint != null && endpoint.getLatencyTracker() == null) {
+            endpoint.setLatencyTracker(new LatencyTracker());
+        }
+    }
+
+    private static void disableLatencyTracking(StatefulConnection<?, ?> connection) {
+
+        DefaultEndpoint endpoint = getEndpoint(connection);
+
+        if (endpoint != null) {
+            endpoint.setLatencyTracker(null);
+        }
+    }
+
+    private static DefaultEndpoint getEndpoint(StatefulConnection<?, ?> connection) {
+
+        if (!(connection instanceof RedisChannelHandler)) {
+            return null;
+        }
+
+        RedisChannelWriter writer = ((RedisChannelHandler<?, ?>) connection).getChannelWriter();
+
+        if (writer instanceof CommandExpiryWriter) {
+            writer = ((CommandExpiryWriter) writer).getDelegate();
+        }
+
+        return writer instanceof DefaultEndpoint ? (DefaultEndpoint) writer : null;
+    }
+
     private boolean isOrderSensitive(Object[] connections) {
         return OrderingReadFromAccessor.isOrderSensitive(readFrom) || connections.length == 1;
     }
@@ -497,7 +717,7 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
 
     private void reconfigurePartitions() {
 
-        resetFastConnectionCache();
+        this.routingTable = createRoutingTable();
 
         if (redisClusterClient.expireStaleConnections()) {
             closeStaleConnections();
@@ -559,8 +779,13 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
     public void setReadFrom(ReadFrom readFrom) {
 
         synchronized (stateLock) {
+
+            if (this.readFrom == ReadFrom.LOWEST_LATENCY && readFrom != ReadFrom.LOWEST_LATENCY) {
+                connectionProvider.forEachEstablished((key, connection) -> disableLatencyTracking(connection));
+            }
+
             this.readFrom = readFrom;
-            Arrays.fill(readers, null);
+            this.routingTable = this.routingTable.withoutReaders();
         }
     }
 
@@ -569,6 +794,42 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         return this.readFrom;
     }
 
+    /**
+     * Apply {@code action} to all established node connections that can be shared to retrieve the cluster topology.
+     * Connections are not shared while auto-flushing is disabled because commands would remain buffered.
+     *
+     * @param action the action accepting the node endpoint and its connection.
+     */
+    void forEachSharedConnection(BiConsumer<HostAndPort, StatefulRedisConnection<K, V>> action) {
+
+        Partitions partitions;
+        synchronized (stateLock) {
+
+            if (!this.autoFlushCommands) {
+                return;
+            }
+
+            partitions = this.partitions;
+        }
+
+        connectionProvider.forEachEstablished((key, connection) -> {
+
+            if (!connection.isOpen()) {
+                return;
+            }
+
+            if (key.host != null) {
+                action.accept(HostAndPort.of(key.host, key.port), connection);
+                return;
+            }
+
+            RedisClusterNode node = partitions != null ? partitions.getPartitionByNodeId(key.nodeId) : null;
+            if (node != null && node.getUri() != null) {
+                action.accept(HostAndPort.of(node.getUri().getHost(), node.getUri().getPort()), connection);
+            }
+        });
+    }
+
     /**
      *
      * @return number of connections.
@@ -581,14 +842,51 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
      * Reset the internal connection cache. This is necessary because the {@link Partitions} have no reference to the connection
      * cache.
      *
-     * Synchronize on {@code stateLock} to initiate a happens-before relation and clear the thread caches of other threads.
+     * Installs a new, empty {@link RoutingTable}.
      */
     private void resetFastConnectionCache() {
+        this.routingTable = new RoutingTable<>();
+    }
 
-        synchronized (stateLock) {
-            Arrays.fill(writers, null);
-            Arrays.fill(readers, null);
+    /**
+     * Create a {@link RoutingTable} for the current {@link Partitions}. Slots served by a master with an already established
+     * connection are routed upfront so that commands do not need to resolve the connection after a topology change.
+     *
+     * @return the routing table.
+     */
+    private RoutingTable<K, V> createRoutingTable() {
+
+        RoutingTable<K, V> table = new RoutingTable<>();
+        Partitions partitions = this.partitions;
+
+        if (partitions == null) {
+            return table;
+        }
+
+        Map<HostAndPort, CompletableFuture<StatefulRedisConnection<K, V>>> established = new HashMap<>();
+
+        connectionProvider.forEach((key, connection) -> {
+            if (key.intent == Intent.WRITE && key.host != null && connection.isOpen()) {
+                established.put(HostAndPort.of(key.host, key.port), CompletableFuture.completedFuture(connection));
+            }
+        });
+
+        if (established.isEmpty()) {
+            return table;
         }
+
+        for (RedisClusterNode partition : partitions) {
+
+            RedisURI uri = partition.getUri();
+            CompletableFuture<StatefulRedisConnection<K, V>> connection = established
+                    .get(HostAndPort.of(uri.getHost(), uri.getPort()));
+
+            if (connection != null && partition.is(RedisClusterNode.NodeFlag.MASTER)) {
+                partition.forEachSlot(slot -> table.writers.lazySet(slot, connection));
+            }
+        }
+
+        return table;
     }
 
     private static RuntimeException connectionAttemptRejected(String message) {
@@ -664,6 +962,34 @@ class PooledClusterConnectionProvider<K, V> implements ClusterConnectionProvider
         }
     }
 
+    /**
+     * Slot to connection routing table. Each slot maps to the master connection and the {@link ReadFrom read candidates}
+     * through a single array read. Tables are never cleared but replaced as a whole when the topology or {@link ReadFrom}
+     * setting changes; entries of slots that were not routed upfront are populated on first use.
+     */
+    static class RoutingTable<K, V> {
+
+        final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers;
+
+        final AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>[]> readers;
+
+        RoutingTable() {
+            this(new AtomicReferenceArray<>(SlotHash.SLOT_COUNT));
+        }
+
+        private RoutingTable(AtomicReferenceArray<CompletableFuture<StatefulRedisConnection<K, V>>> writers) {
+            this.writers = writers;
+            this.readers = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+        }
+
+        /**
+         * @return a new {@link RoutingTable} retaining master routes and dropping all read routes.
+         */
+        RoutingTable<K, V> withoutReaders() {
+            return new RoutingTable<>(writers);
+        }
+    }
+
     static class DefaultClusterNodeConnectionFactory<K, V> extends AbstractClusterNodeConnectionFactory<K, V> {
 
         private final RedisClusterClient redisClusterClient;
@@ -37,6 +37,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
 
     private volatile boolean nodeMessagePropagation = false;
     private volatile RedisClusterNode clusterNode;
+    private volatile ShardedPubSubSubscriptions<K, V> shardedSubscriptions;
 
     /**
      * Initialize a new instance that handles commands from the supplied queue.
@@ -78,6 +79,22 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         this.clusterNode = clusterNode;
     }
 
+    void setShardedSubscriptions(ShardedPubSubSubscriptions<K, V> shardedSubscriptions) {
+        this.shardedSubscriptions = shardedSubscriptions;
+    }
+
+    private boolean isShardedChannel(RedisClusterNode node, K channel) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = this.shardedSubscriptions;
+        return subscriptions != null && subscriptions.isSubscribed(node, channel);
+    }
+
+    private boolean isShardedPattern(RedisClusterNode node, K pattern) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = this.shardedSubscriptions;
+        return subscriptions != null && subscriptions.isPatternSubscribed(node, pattern);
+    }
+
     protected void notifyListeners(PubSubOutput<K, V, V> output) {
         // update listeners
         switch (output.type()) {
@@ -109,7 +126,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void message(RedisClusterNode node, K channel, V message) {
 
-            if (nodeMessagePropagation) {
+            if (nodeMessagePropagation || isShardedChannel(node, channel)) {
                 super.message(node, channel, message);
             }
         }
@@ -117,7 +134,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void message(RedisClusterNode node, K pattern, K channel, V message) {
 
-            if (nodeMessagePropagation) {
+            if (nodeMessagePropagation || isShardedPattern(node, pattern)) {
                 super.message(node, pattern, channel, message);
             }
         }
@@ -125,7 +142,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void subscribed(RedisClusterNode node, K channel, long count) {
 
-            if (nodeMessagePropagation) {
+            if (nodeMessagePropagation || isShardedChannel(node, channel)) {
                 super.subscribed(node, channel, count);
             }
         }
@@ -133,7 +150,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void psubscribed(RedisClusterNode node, K pattern, long count) {
 
-            if (nodeMessagePropagation) {
+            if (nodeMessagePropagation || isShardedPattern(node, pattern)) {
                 super.psubscribed(node, pattern, count);
             }
         }
@@ -141,7 +158,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void unsubscribed(RedisClusterNode node, K channel, long count) {
 
-            if (nodeMessagePropagation) {
+            if (nodeMessagePropagation || isShardedChannel(node, channel)) {
                 super.unsubscribed(node, channel, count);
             }
         }
@@ -149,7 +166,7 @@ public class PubSubClusterEndpoint<K, V> extends PubSubEndpoint<K, V> {
         @Override
         public void punsubscribed(RedisClusterNode node, K pattern, long count) {
 
-            if (nodeMessagePropagation) {
+            if (nodeMessagePropagation || isShardedPattern(node, pattern)) {
                 super.punsubscribed(node, pattern, count);
             }
         }
@@ -30,6 +30,7 @@ import java.util.function.Function;
 import java.util.function.Predicate;
 
 import io.lettuce.core.*;
+import io.lettuce.core.api.StatefulConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
 import io.lettuce.core.api.async.RedisKeyAsyncCommands;
@@ -51,6 +52,7 @@ import io.lettuce.core.output.KeyValueStreamingChannel;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
 
 /**
  * An advanced asynchronous and thread-safe API for a Redis Cluster connection.
@@ -66,6 +68,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
 
     private final RedisCodec<K, V> codec;
 
+    private final SlotCommandFactory<K, V> slotCommands;
+
     /**
      * Initialize a new connection.
      *
@@ -77,6 +81,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnectionImpl<K, V> connection, RedisCodec<K, V> codec) {
         super(connection, codec);
         this.codec = codec;
+        this.slotCommands = new SlotCommandFactory<>(connection, codec);
     }
 
     /**
@@ -88,6 +93,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
     public RedisAdvancedClusterAsyncCommandsImpl(StatefulRedisClusterConnection<K, V> connection, RedisCodec<K, V> codec) {
         super(connection, codec);
         this.codec = codec;
+        this.slotCommands = new SlotCommandFactory<>(connection, codec);
     }
 
     @Override
@@ -170,12 +176,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.del(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.del(entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPipelined(partitioned, slotCommands::del);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -193,12 +194,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.exists(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> exists = super.exists(entry.getValue());
-            executions.put(entry.getKey(), exists);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPipelined(partitioned, slotCommands::exists);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -290,20 +286,19 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         }
 
         Map<K, Integer> slots = SlotHash.getSlots(partitioned);
-        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<List<KeyValue<K, V>>> mget = super.mget(entry.getValue());
-            executions.put(entry.getKey(), mget);
-        }
+        Map<Integer, RedisFuture<List<KeyValue<K, V>>>> executions = dispatchPipelined(partitioned, slotCommands::mget);
 
         // restore order of key
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
-            List<KeyValue<K, V>> result = new ArrayList<>();
+
+            List<KeyValue<K, V>> result = new ArrayList<>(slots.size());
+            Map<Integer, Integer> positions = new HashMap<>(executions.size());
+
             for (K opKey : keys) {
+
                 int slot = slots.get(opKey);
+                int position = positions.merge(slot, 1, Integer::sum) - 1;
 
-                int position = partitioned.get(slot).indexOf(opKey);
                 RedisFuture<List<KeyValue<K, V>>> listRedisFuture = executions.get(slot);
                 result.add(MultiNodeExecution.execute(() -> listRedisFuture.get().get(position)));
             }
@@ -325,12 +320,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.mget(channel, keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> del = super.mget(channel, entry.getValue());
-            executions.put(entry.getKey(), del);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPipelined(partitioned,
+                slotKeys -> slotCommands.mget(channel, slotKeys));
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -344,16 +335,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.mset(map);
         }
 
-        Map<Integer, RedisFuture<String>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<String> mset = super.mset(op);
-            executions.put(entry.getKey(), mset);
-        }
+        Map<Integer, RedisFuture<String>> executions = dispatchPipelined(partitioned,
+                slotKeys -> slotCommands.mset(subMap(map, slotKeys)));
 
         return MultiNodeExecution.firstOfAsync(executions);
     }
@@ -367,16 +350,8 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.msetnx(map);
         }
 
-        Map<Integer, RedisFuture<Boolean>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-
-            Map<K, V> op = new HashMap<>();
-            entry.getValue().forEach(k -> op.put(k, map.get(k)));
-
-            RedisFuture<Boolean> msetnx = super.msetnx(op);
-            executions.put(entry.getKey(), msetnx);
-        }
+        Map<Integer, RedisFuture<Boolean>> executions = dispatchPipelined(partitioned,
+                slotKeys -> slotCommands.msetnx(subMap(map, slotKeys)));
 
         return new PipelinedRedisFuture<>(executions, objectPipelinedRedisFuture -> {
 
@@ -453,12 +428,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.touch(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> touch = super.touch(entry.getValue());
-            executions.put(entry.getKey(), touch);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPipelined(partitioned, slotCommands::touch);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -477,12 +447,7 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
             return super.unlink(keys);
         }
 
-        Map<Integer, RedisFuture<Long>> executions = new HashMap<>();
-
-        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
-            RedisFuture<Long> unlink = super.unlink(entry.getValue());
-            executions.put(entry.getKey(), unlink);
-        }
+        Map<Integer, RedisFuture<Long>> executions = dispatchPipelined(partitioned, slotCommands::unlink);
 
         return MultiNodeExecution.aggregateAsync(executions);
     }
@@ -640,6 +605,41 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         return executions;
     }
 
+    /**
+     * Create one command per slot and dispatch all commands as a single batch. Commands targeting the same node are
+     * written to that node using a single write and flush.
+     *
+     * @param partitioned keys partitioned by slot.
+     * @param commandFactory function creating the command for the keys of a slot using {@link #slotCommands}.
+     * @param <T> result type.
+     * @return map of slot to command future.
+     */
+    private <T> Map<Integer, RedisFuture<T>> dispatchPipelined(Map<Integer, List<K>> partitioned,
+            Function<List<K>, RedisFuture<T>> commandFactory) {
+
+        Map<Integer, RedisFuture<T>> executions = new HashMap<>(partitioned.size() * 2);
+        List<RedisCommand<K, V, ?>> commands = new ArrayList<>(partitioned.size());
+
+        for (Map.Entry<Integer, List<K>> entry : partitioned.entrySet()) {
+
+            AsyncCommand<K, V, T> command = (AsyncCommand<K, V, T>) commandFactory.apply(entry.getValue());
+
+            executions.put(entry.getKey(), command);
+            commands.add(command);
+        }
+
+        getStatefulConnection().dispatch(commands);
+
+        return executions;
+    }
+
+    private static <K, V> Map<K, V> subMap(Map<K, V> map, List<K> keys) {
+
+        Map<K, V> result = new LinkedHashMap<>(keys.size() * 2);
+        keys.forEach(k -> result.put(k, map.get(k)));
+        return result;
+    }
+
     private RedisClusterAsyncCommands<K, V> findConnectionBySlot(int slot) {
         RedisClusterNode node = getStatefulConnection().getPartitions().getPartitionBySlot(slot);
         if (node != null) {
@@ -678,4 +678,21 @@ public class RedisAdvancedClusterAsyncCommandsImpl<K, V> extends AbstractRedisAs
         RedisFuture<T> scanCursor = scanFunction.apply(connection.getConnection(currentNodeId).async(), continuationCursor);
         return mapper.map(nodeIds, currentNodeId, scanCursor);
     }
+
+    /**
+     * Creates commands through the command builder without dispatching these. Used to create per-slot commands that are
+     * dispatched as a single batch.
+     */
+    static class SlotCommandFactory<K, V> extends AbstractRedisAsyncCommands<K, V> {
+
+        SlotCommandFactory(StatefulConnection<K, V> connection, RedisCodec<K, V> codec) {
+            super(connection, codec);
+        }
+
+        @Override
+        public <T> AsyncCommand<K, V, T> dispatch(RedisCommand<K, V, T> cmd) {
+            return new AsyncCommand<>(cmd);
+        }
+
+    }
 }
@@ -20,9 +20,12 @@ import java.net.SocketAddress;
 import java.net.URI;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -46,6 +49,7 @@ import io.lettuce.core.cluster.topology.TopologyComparators;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.Futures;
+import io.lettuce.core.internal.HostAndPort;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceLists;
 import io.lettuce.core.models.command.CommandDetailParser;
@@ -142,9 +146,15 @@ public class RedisClusterClient extends AbstractRedisClient {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(RedisClusterClient.class);
 
+    private static final int MIN_TOPOLOGY_REFRESH_SAMPLE_SIZE = 3;
+
+    private static final int FULL_TOPOLOGY_REFRESH_INTERVAL = 10;
+
     protected final AtomicBoolean clusterTopologyRefreshActivated = new AtomicBoolean(false);
     protected final AtomicReference<ScheduledFuture<?>> clusterTopologyRefreshFuture = new AtomicReference<>();
 
+    private final AtomicInteger unchangedTopologyRefreshes = new AtomicInteger();
+
     private final ClusterTopologyRefresh refresh = new ClusterTopologyRefresh(new NodeConnectionFactoryImpl(), getResources());
     private final ClusterTopologyRefreshScheduler clusterTopologyRefreshScheduler = new ClusterTopologyRefreshScheduler(this,
             getResources());
@@ -495,7 +505,8 @@ public class RedisClusterClient extends AbstractRedisClient {
             writer = new CommandExpiryWriter(writer, clientOptions, clientResources);
         }
 
-        StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<>(writer, codec, timeout);
+        StatefulRedisConnectionImpl<K, V> connection = new StatefulRedisConnectionImpl<>(writer, endpoint, codec,
+                timeout);
 
         ConnectionFuture<StatefulRedisConnection<K, V>> connectionFuture = connectStatefulAsync(connection, endpoint,
                 getFirstUri(), socketAddressSupplier, () -> new CommandHandler(clientOptions, clientResources, endpoint));
@@ -671,6 +682,10 @@ public class RedisClusterClient extends AbstractRedisClient {
         clusterWriter.setClusterConnectionProvider(pooledClusterConnectionProvider);
         connection.setPartitions(partitions);
 
+        if (getClusterClientOptions() != null && getClusterClientOptions().isShardedPubSub()) {
+            connection.enableShardedSubscriptions();
+        }
+
         Supplier<CommandHandler> commandHandlerSupplier = () -> new PubSubCommandHandler<>(clientOptions, clientResources,
                 codec, endpoint);
 
@@ -787,6 +802,108 @@ public class RedisClusterClient extends AbstractRedisClient {
         updatePartitionsInConnections();
     }
 
+    /**
+     * Refresh partitions asynchronously and apply changes to the current topology view without blocking the calling thread.
+     * The refresh reuses node connections that are already open instead of connecting to each node. Once a refresh did not
+     * detect a topology change, subsequent refreshes query only a sample of the nodes and every
+     * {@value #FULL_TOPOLOGY_REFRESH_INTERVAL}th refresh queries all nodes again. Changes are applied as difference to the
+     * current {@link Partitions} so unchanged nodes retain their instance and connections are updated only if the topology view
+     * was modified.
+     *
+     * @return a {@link CompletionStage} that completes once the refreshed topology is applied.
+     * @since 6.0
+     */
+    public CompletionStage<Void> refreshPartitionsAsync() {
+
+        Map<HostAndPort, StatefulRedisConnection<?, ?>> sharedConnections = getSharedNodeConnections();
+        Iterable<RedisURI> topologyRefreshSource = getTopologyRefreshSource();
+        boolean sampled = isSampledTopologyRefresh();
+
+        if (sampled) {
+            topologyRefreshSource = sampleTopologyRefreshSource(topologyRefreshSource, sharedConnections);
+        }
+
+        return loadPartitionsAsync(topologyRefreshSource, !sampled && useDynamicRefreshSources(), sharedConnections)
+                .thenAccept(loadedPartitions -> applyPartitions(loadedPartitions, sampled));
+    }
+
+    private boolean isSampledTopologyRefresh() {
+
+        int unchangedRefreshes = unchangedTopologyRefreshes.get();
+
+        return partitions != null && useDynamicRefreshSources() && unchangedRefreshes > 0
+                && unchangedRefreshes % FULL_TOPOLOGY_REFRESH_INTERVAL != 0;
+    }
+
+    /*
+     * Select a sample of the refresh source. Nodes with an open connection are preferred.
+     */
+    private static List<RedisURI> sampleTopologyRefreshSource(Iterable<RedisURI> topologyRefreshSource,
+            Map<HostAndPort, StatefulRedisConnection<?, ?>> sharedConnections) {
+
+        List<RedisURI> candidates = LettuceLists.newList(topologyRefreshSource);
+        int sampleSize = Math.max(MIN_TOPOLOGY_REFRESH_SAMPLE_SIZE, (int) Math.ceil(Math.sqrt(candidates.size())));
+
+        if (candidates.size() <= sampleSize) {
+            return candidates;
+        }
+
+        Collections.shuffle(candidates, ThreadLocalRandom.current());
+        candidates.sort(Comparator.comparing(uri -> !sharedConnections.containsKey(HostAndPort.of(uri.getHost(), uri.getPort()))));
+
+        return new ArrayList<>(candidates.subList(0, sampleSize));
+    }
+
+    private void applyPartitions(Partitions loadedPartitions, boolean sampled) {
+
+        if (partitions == null) {
+
+            this.partitions = loadedPartitions;
+            this.partitions.updateCache();
+            updatePartitionsInConnections();
+            return;
+        }
+
+        if (TopologyComparators.isChanged(getPartitions(), loadedPartitions)) {
+
+            logger.debug("Using a new cluster topology");
+
+            List<RedisClusterNode> before = new ArrayList<>(getPartitions());
+            List<RedisClusterNode> after = new ArrayList<>(loadedPartitions);
+
+            getResources().eventBus().publish(new ClusterTopologyChangedEvent(before, after));
+            unchangedTopologyRefreshes.set(0);
+        } else {
+            unchangedTopologyRefreshes.incrementAndGet();
+        }
+
+        // sampled views carry latencies only for a subset of nodes so we retain the current order
+        if (this.partitions.update(loadedPartitions.getPartitions(), sampled)) {
+            updatePartitionsInConnections();
+        }
+    }
+
+    /*
+     * Collect established node connections of all cluster connections. Pub/Sub connections are excluded as subscribed
+     * connections cannot issue regular commands.
+     */
+    private Map<HostAndPort, StatefulRedisConnection<?, ?>> getSharedNodeConnections() {
+
+        Map<HostAndPort, StatefulRedisConnection<?, ?>> sharedConnections = new HashMap<>();
+
+        forEachClusterConnection(connection -> {
+
+            ClusterConnectionProvider provider = connection.getClusterDistributionChannelWriter()
+                    .getClusterConnectionProvider();
+
+            if (provider instanceof PooledClusterConnectionProvider) {
+                ((PooledClusterConnectionProvider<?, ?>) provider).forEachSharedConnection(sharedConnections::putIfAbsent);
+            }
+        });
+
+        return sharedConnections;
+    }
+
     protected void updatePartitionsInConnections() {
 
         forEachClusterConnection(input -> {
@@ -854,6 +971,70 @@ public class RedisClusterClient extends AbstractRedisClient {
         Map<RedisURI, Partitions> partitions = refresh.loadViews(topologyRefreshSource,
                 getClusterClientOptions().getSocketOptions().getConnectTimeout(), useDynamicRefreshSources());
 
+        return toPartitions(topologyRefreshSource, partitions);
+    }
+
+    /**
+     * Retrieve partitions asynchronously. Nodes within {@link Partitions} are ordered by latency. Lower latency nodes come
+     * first.
+     *
+     * @return {@link CompletionStage} emitting the {@link Partitions}.
+     */
+    private CompletionStage<Partitions> loadPartitionsAsync(Iterable<RedisURI> topologyRefreshSource, boolean discovery,
+            Map<HostAndPort, StatefulRedisConnection<?, ?>> sharedConnections) {
+
+        CompletableFuture<Partitions> result = new CompletableFuture<>();
+
+        doLoadPartitionsAsync(topologyRefreshSource, discovery, sharedConnections).whenComplete((partitions, throwable) -> {
+
+            if (throwable == null) {
+                result.complete(partitions);
+                return;
+            }
+
+            Throwable cause = unwrap(throwable);
+
+            // Attempt recovery using initial seed nodes
+            if (useDynamicRefreshSources() && topologyRefreshSource != initialUris) {
+
+                doLoadPartitionsAsync(initialUris, true, sharedConnections).whenComplete((recovered, recoveryThrowable) -> {
+
+                    if (recoveryThrowable == null) {
+                        result.complete(recovered);
+                        return;
+                    }
+
+                    RedisException exception = new RedisException(getTopologyRefreshErrorMessage(initialUris),
+                            unwrap(recoveryThrowable));
+                    exception.addSuppressed(cause);
+
+                    result.completeExceptionally(exception);
+                });
+
+                return;
+            }
+
+            if (cause.getClass().equals(RedisException.class)) {
+                result.completeExceptionally(cause);
+            } else {
+                result.completeExceptionally(new RedisException(getTopologyRefreshErrorMessage(topologyRefreshSource), cause));
+            }
+        });
+
+        return result;
+    }
+
+    private CompletionStage<Partitions> doLoadPartitionsAsync(Iterable<RedisURI> topologyRefreshSource, boolean discovery,
+            Map<HostAndPort, StatefulRedisConnection<?, ?>> sharedConnections) {
+
+        return refresh
+                .loadViewsAsync(topologyRefreshSource, getClusterClientOptions().getSocketOptions().getConnectTimeout(),
+                        discovery, uri -> sharedConnections.get(HostAndPort.of(uri.getHost(), uri.getPort())))
+                .thenApply(partitions -> toPartitions(topologyRefreshSource, partitions));
+    }
+
+    private Partitions toPartitions(Iterable<RedisURI> topologyRefreshSource, Map<RedisURI, Partitions> partitions) {
+
         if (partitions.isEmpty()) {
             throw new RedisException(getTopologyRefreshErrorMessage(topologyRefreshSource));
         }
@@ -877,6 +1058,15 @@ public class RedisClusterClient extends AbstractRedisClient {
         return "Cannot retrieve initial cluster partitions from initial URIs " + topologyRefreshSource;
     }
 
+    private static Throwable unwrap(Throwable throwable) {
+
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+
+        return throwable;
+    }
+
     /**
      * Determines a {@link Partitions topology view} based on the current and the obtain topology views.
      *
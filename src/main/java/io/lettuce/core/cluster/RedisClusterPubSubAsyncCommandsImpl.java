@@ -103,6 +103,34 @@ public class RedisClusterPubSubAsyncCommandsImpl<K, V> extends RedisPubSubAsyncC
         return super.georadiusbymember(key, member, distance, unit, geoArgs);
     }
 
+    @Override
+    public RedisFuture<Void> psubscribe(K... patterns) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? subscriptions.psubscribe(patterns) : super.psubscribe(patterns);
+    }
+
+    @Override
+    public RedisFuture<Void> punsubscribe(K... patterns) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? subscriptions.punsubscribe(patterns) : super.punsubscribe(patterns);
+    }
+
+    @Override
+    public RedisFuture<Void> subscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? subscriptions.subscribe(channels) : super.subscribe(channels);
+    }
+
+    @Override
+    public RedisFuture<Void> unsubscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? subscriptions.unsubscribe(channels) : super.unsubscribe(channels);
+    }
+
     @Override
     public StatefulRedisClusterPubSubConnectionImpl<K, V> getStatefulConnection() {
         return (StatefulRedisClusterPubSubConnectionImpl<K, V>) super.getStatefulConnection();
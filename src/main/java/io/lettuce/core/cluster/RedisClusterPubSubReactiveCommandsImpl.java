@@ -24,6 +24,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import io.lettuce.core.GeoArgs;
 import io.lettuce.core.GeoWithin;
 import io.lettuce.core.RedisURI;
@@ -101,6 +102,38 @@ public class RedisClusterPubSubReactiveCommandsImpl<K, V> extends RedisPubSubRea
         return super.georadiusbymember(key, member, distance, unit, geoArgs);
     }
 
+    @Override
+    public Mono<Void> psubscribe(K... patterns) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? Mono.defer(() -> Mono.fromCompletionStage(subscriptions.psubscribe(patterns)))
+                : super.psubscribe(patterns);
+    }
+
+    @Override
+    public Mono<Void> punsubscribe(K... patterns) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? Mono.defer(() -> Mono.fromCompletionStage(subscriptions.punsubscribe(patterns)))
+                : super.punsubscribe(patterns);
+    }
+
+    @Override
+    public Mono<Void> subscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? Mono.defer(() -> Mono.fromCompletionStage(subscriptions.subscribe(channels)))
+                : super.subscribe(channels);
+    }
+
+    @Override
+    public Mono<Void> unsubscribe(K... channels) {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = getStatefulConnection().getShardedSubscriptions();
+        return subscriptions != null ? Mono.defer(() -> Mono.fromCompletionStage(subscriptions.unsubscribe(channels)))
+                : super.unsubscribe(channels);
+    }
+
     @Override
     public StatefulRedisClusterPubSubConnectionImpl<K, V> getStatefulConnection() {
         return (StatefulRedisClusterPubSubConnectionImpl<K, V>) super.getStatefulConnection();
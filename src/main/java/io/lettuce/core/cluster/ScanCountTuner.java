@@ -0,0 +1,66 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+/**
+ * Adjusts the {@literal COUNT} hint of a per-node {@literal SCAN} based on the observed reply latency. The count is doubled while
+ * replies complete within half of the target latency and halved once a reply exceeds the target latency. Instances are used
+ * for a single node cursor and are not thread-safe.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class ScanCountTuner {
+
+    private final long targetLatency;
+
+    private final long maxCount;
+
+    private long count;
+
+    ScanCountTuner(ParallelScanOptions options) {
+
+        this.targetLatency = options.getTargetLatency().toNanos();
+        this.maxCount = options.getMaxCount();
+        this.count = options.getCount();
+    }
+
+    /**
+     * @return the count hint for the next {@literal SCAN} invocation.
+     */
+    long getCount() {
+        return count;
+    }
+
+    /**
+     * Record the latency of a {@literal SCAN} reply.
+     *
+     * @param latency reply latency in {@link java.util.concurrent.TimeUnit#NANOSECONDS}.
+     */
+    void record(long latency) {
+
+        if (targetLatency == 0) {
+            return;
+        }
+
+        if (latency > targetLatency) {
+            count = Math.max(1, count / 2);
+        } else if (latency < targetLatency / 2) {
+            count = Math.min(maxCount, count * 2);
+        }
+    }
+
+}
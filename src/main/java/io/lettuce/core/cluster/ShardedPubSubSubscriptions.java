@@ -0,0 +1,316 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import io.lettuce.core.RedisException;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.Futures;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Distributes channel and pattern subscriptions of a cluster Pub/Sub connection across the node connections. Each channel
+ * (pattern) is subscribed on the master that owns the {@link SlotHash slot} of the channel (pattern) name so that inbound
+ * messages are spread across cluster nodes instead of being received by a single node.
+ * <p>
+ * Subscriptions are moved to their new owner after a {@link #setPartitions(Partitions) topology change}. A subscription is
+ * re-established on the new node before it is removed from the previous node. Notifications are propagated only from the
+ * node a subscription is currently assigned to.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class ShardedPubSubSubscriptions<K, V> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ShardedPubSubSubscriptions.class);
+
+    private final RedisCodec<K, V> codec;
+
+    private final Function<String, CompletableFuture<StatefulRedisPubSubConnection<K, V>>> connectionProvider;
+
+    private final Kind channels = new Kind(RedisPubSubAsyncCommands::subscribe, RedisPubSubAsyncCommands::unsubscribe);
+
+    private final Kind patterns = new Kind(RedisPubSubAsyncCommands::psubscribe, RedisPubSubAsyncCommands::punsubscribe);
+
+    private volatile Partitions partitions;
+
+    /**
+     * Create a new {@link ShardedPubSubSubscriptions}.
+     *
+     * @param codec the codec to encode channel names.
+     * @param connectionProvider function to obtain a node connection by {@literal nodeId}.
+     */
+    ShardedPubSubSubscriptions(RedisCodec<K, V> codec,
+            Function<String, CompletableFuture<StatefulRedisPubSubConnection<K, V>>> connectionProvider) {
+
+        this.codec = codec;
+        this.connectionProvider = connectionProvider;
+    }
+
+    RedisFuture<Void> subscribe(K[] names) {
+        return channels.subscribe(names);
+    }
+
+    RedisFuture<Void> unsubscribe(K[] names) {
+        return channels.unsubscribe(names);
+    }
+
+    RedisFuture<Void> psubscribe(K[] names) {
+        return patterns.subscribe(names);
+    }
+
+    RedisFuture<Void> punsubscribe(K[] names) {
+        return patterns.unsubscribe(names);
+    }
+
+    /**
+     * @param node the node that received a notification.
+     * @param channel the channel name.
+     * @return {@literal true} if {@code channel} is subscribed through {@code node}.
+     */
+    boolean isSubscribed(RedisClusterNode node, K channel) {
+        return channels.isAssigned(node, channel);
+    }
+
+    /**
+     * @param node the node that received a notification.
+     * @param pattern the pattern.
+     * @return {@literal true} if {@code pattern} is subscribed through {@code node}.
+     */
+    boolean isPatternSubscribed(RedisClusterNode node, K pattern) {
+        return patterns.isAssigned(node, pattern);
+    }
+
+    /**
+     * Update the topology and move subscriptions whose slot owner has changed.
+     *
+     * @param partitions the new topology.
+     */
+    void setPartitions(Partitions partitions) {
+
+        this.partitions = partitions;
+
+        channels.rebalance();
+        patterns.rebalance();
+    }
+
+    private String getNodeId(ByteBuffer encoded) {
+
+        Partitions partitions = this.partitions;
+        RedisClusterNode node = partitions != null ? partitions.getPartitionBySlot(SlotHash.getSlot(encoded)) : null;
+
+        return node != null ? node.getNodeId() : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T[] toArray(Collection<T> c) {
+        Class<T> cls = (Class<T>) c.iterator().next().getClass();
+        T[] array = (T[]) Array.newInstance(cls, c.size());
+        return c.toArray(array);
+    }
+
+    private static RedisFuture<Void> allOf(Map<String, CompletableFuture<Void>> executions) {
+        return new PipelinedRedisFuture<>(executions, it -> null);
+    }
+
+    /**
+     * Assignment of subscribed names (either channels or patterns) to nodes.
+     */
+    class Kind {
+
+        private final BiFunction<RedisPubSubAsyncCommands<K, V>, K[], RedisFuture<Void>> subscribe;
+
+        private final BiFunction<RedisPubSubAsyncCommands<K, V>, K[], RedisFuture<Void>> unsubscribe;
+
+        private final Map<ByteBuffer, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+        Kind(BiFunction<RedisPubSubAsyncCommands<K, V>, K[], RedisFuture<Void>> subscribe,
+                BiFunction<RedisPubSubAsyncCommands<K, V>, K[], RedisFuture<Void>> unsubscribe) {
+            this.subscribe = subscribe;
+            this.unsubscribe = unsubscribe;
+        }
+
+        synchronized RedisFuture<Void> subscribe(K[] names) {
+
+            ByteBuffer[] keys = new ByteBuffer[names.length];
+            String[] nodeIds = new String[names.length];
+
+            for (int i = 0; i < names.length; i++) {
+
+                keys[i] = codec.encodeKey(names[i]);
+                nodeIds[i] = getNodeId(keys[i]);
+
+                if (nodeIds[i] == null) {
+                    return new PipelinedRedisFuture<>(
+                            Futures.failed(new RedisException("Cannot determine a partition for " + names[i])));
+                }
+            }
+
+            Map<String, List<K>> byNode = new LinkedHashMap<>();
+
+            for (int i = 0; i < names.length; i++) {
+
+                K name = names[i];
+                subscriptions.computeIfAbsent(keys[i], it -> new Subscription(name)).nodeId = nodeIds[i];
+                byNode.computeIfAbsent(nodeIds[i], it -> new ArrayList<>()).add(name);
+            }
+
+            Map<String, CompletableFuture<Void>> executions = new LinkedHashMap<>();
+            byNode.forEach((nodeId, nodeNames) -> executions.put(nodeId, execute(nodeId, nodeNames, subscribe)));
+
+            return allOf(executions);
+        }
+
+        synchronized RedisFuture<Void> unsubscribe(K[] names) {
+
+            Map<String, List<K>> byNode = new LinkedHashMap<>();
+            List<ByteBuffer> keys = new ArrayList<>();
+
+            if (names.length == 0) {
+                subscriptions.forEach((key, subscription) -> {
+                    keys.add(key);
+                    byNode.computeIfAbsent(subscription.nodeId, it -> new ArrayList<>()).add(subscription.name);
+                });
+            } else {
+                for (K name : names) {
+
+                    ByteBuffer encoded = codec.encodeKey(name);
+                    Subscription subscription = subscriptions.get(encoded);
+
+                    if (subscription != null) {
+                        keys.add(encoded);
+                        byNode.computeIfAbsent(subscription.nodeId, it -> new ArrayList<>()).add(name);
+                    }
+                }
+            }
+
+            Map<String, CompletableFuture<Void>> executions = new LinkedHashMap<>();
+            byNode.forEach((nodeId, nodeNames) -> executions.put(nodeId, execute(nodeId, nodeNames, unsubscribe)));
+
+            RedisFuture<Void> result = allOf(executions);
+
+            // retain subscriptions until the node confirmed the unsubscribe to propagate the notification
+            result.whenComplete((v, t) -> keys.forEach(subscriptions::remove));
+
+            return result;
+        }
+
+        boolean isAssigned(RedisClusterNode node, K name) {
+
+            if (node == null || subscriptions.isEmpty()) {
+                return false;
+            }
+
+            Subscription subscription = subscriptions.get(codec.encodeKey(name));
+            return subscription != null && node.getNodeId().equals(subscription.nodeId);
+        }
+
+        synchronized void rebalance() {
+
+            Map<String, List<Subscription>> moves = new LinkedHashMap<>();
+
+            subscriptions.forEach((key, subscription) -> {
+
+                String nodeId = getNodeId(key);
+
+                if (nodeId != null && !nodeId.equals(subscription.nodeId)) {
+                    moves.computeIfAbsent(nodeId, it -> new ArrayList<>()).add(subscription);
+                }
+            });
+
+            moves.forEach(this::move);
+        }
+
+        private void move(String target, List<Subscription> moved) {
+
+            List<K> names = new ArrayList<>(moved.size());
+            for (Subscription subscription : moved) {
+                names.add(subscription.name);
+            }
+
+            logger.debug("Moving subscriptions {} to node {}", names, target);
+
+            execute(target, names, subscribe).whenComplete((v, t) -> {
+
+                if (t != null) {
+                    logger.warn("Cannot move subscriptions to node " + target, t);
+                    return;
+                }
+
+                Map<String, List<K>> previous = new LinkedHashMap<>();
+
+                synchronized (this) {
+                    for (Subscription subscription : moved) {
+
+                        if (subscription.nodeId != null) {
+                            previous.computeIfAbsent(subscription.nodeId, it -> new ArrayList<>()).add(subscription.name);
+                        }
+
+                        subscription.nodeId = target;
+                    }
+                }
+
+                Partitions partitions = ShardedPubSubSubscriptions.this.partitions;
+                previous.forEach((nodeId, nodeNames) -> {
+
+                    // a node that left the cluster takes its subscriptions with its connection
+                    if (partitions.getPartitionByNodeId(nodeId) != null) {
+                        execute(nodeId, nodeNames, unsubscribe);
+                    }
+                });
+            });
+        }
+
+        private CompletableFuture<Void> execute(String nodeId, List<K> names,
+                BiFunction<RedisPubSubAsyncCommands<K, V>, K[], RedisFuture<Void>> action) {
+
+            K[] array = toArray(names);
+
+            try {
+                return connectionProvider.apply(nodeId).thenCompose(it -> action.apply(it.async(), array));
+            } catch (RuntimeException e) {
+                return Futures.failed(e);
+            }
+        }
+    }
+
+    /**
+     * A subscribed name and the node it is assigned to.
+     */
+    class Subscription {
+
+        final K name;
+
+        volatile String nodeId;
+
+        Subscription(K name) {
+            this.name = name;
+        }
+    }
+}
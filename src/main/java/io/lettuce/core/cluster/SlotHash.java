@@ -20,6 +20,10 @@ import java.util.*;
 
 import io.lettuce.core.codec.CRC16;
 import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 /**
  * Utility to calculate the slot from a key.
@@ -76,6 +80,10 @@ public class SlotHash {
      */
     public static int getSlot(ByteBuffer key) {
 
+        if (key.hasArray()) {
+            return getSlot(key.array(), key.arrayOffset() + key.position(), key.remaining());
+        }
+
         int limit = key.limit();
         int position = key.position();
 
@@ -88,22 +96,89 @@ public class SlotHash {
         }
 
         try {
-            if (key.hasArray()) {
-                return CRC16.crc16(key.array(), key.position(), key.limit() - key.position()) % SLOT_COUNT;
-            }
             return CRC16.crc16(key) % SLOT_COUNT;
         } finally {
             key.position(position).limit(limit);
         }
     }
 
+    /**
+     * Calculate the slots for multiple keys. Uses the same hashing as {@link #getSlot(ByteBuffer)} but avoids per-key
+     * allocations so it is suitable for bulk operations over many keys.
+     *
+     * @param keys the encoded keys, must not be {@literal null}.
+     * @return the slots in the order of {@code keys}.
+     * @since 6.0
+     */
+    public static int[] getSlots(ByteBuffer... keys) {
+
+        LettuceAssert.notNull(keys, "Keys must not be null");
+
+        int[] slots = new int[keys.length];
+        getSlots(keys, slots);
+        return slots;
+    }
+
+    /**
+     * Calculate the slots for multiple keys and write the slots into {@code slots}. Uses the same hashing as
+     * {@link #getSlot(ByteBuffer)} but avoids per-key allocations so it is suitable for bulk operations over many keys.
+     *
+     * @param keys the encoded keys, must not be {@literal null}.
+     * @param slots target array, must not be {@literal null} and provide space for a slot per key.
+     * @since 6.0
+     */
+    public static void getSlots(ByteBuffer[] keys, int[] slots) {
+
+        LettuceAssert.notNull(keys, "Keys must not be null");
+        LettuceAssert.notNull(slots, "Slots must not be null");
+        LettuceAssert.isTrue(slots.length >= keys.length, "Slots array must provide space for all keys");
+
+        for (int i = 0; i < keys.length; i++) {
+            slots[i] = getSlot(keys[i]);
+        }
+    }
+
+    /**
+     * Calculate the slot from a key contained in {@code bytes} starting at {@code offset}.
+     *
+     * @param bytes the key bytes.
+     * @param offset start offset of the key.
+     * @param length length of the key.
+     * @return slot
+     */
+    private static int getSlot(byte[] bytes, int offset, int length) {
+
+        int end = offset + length;
+
+        for (int start = offset; start < end; start++) {
+
+            if (bytes[start] != SUBKEY_START) {
+                continue;
+            }
+
+            for (int tagEnd = start + 1; tagEnd < end; tagEnd++) {
+
+                if (bytes[tagEnd] == SUBKEY_END) {
+
+                    if (tagEnd != start + 1) {
+                        return CRC16.crc16(bytes, start + 1, tagEnd - start - 1) % SLOT_COUNT;
+                    }
+                    break;
+                }
+            }
+            break;
+        }
+
+        return CRC16.crc16(bytes, offset, length) % SLOT_COUNT;
+    }
+
     private static int indexOf(ByteBuffer haystack, byte needle) {
         return indexOf(haystack, haystack.position(), needle);
     }
 
     private static int indexOf(ByteBuffer haystack, int start, byte needle) {
 
-        for (int i = start; i < haystack.remaining(); i++) {
+        for (int i = start; i < haystack.limit(); i++) {
 
             if (haystack.get(i) == needle) {
                 return i;
@@ -123,16 +198,36 @@ public class SlotHash {
      * @result map between slot-hash and an ordered list of keys.
      *
      */
+    @SuppressWarnings("unchecked")
     static <K, V> Map<Integer, List<K>> partition(RedisCodec<K, V> codec, Iterable<K> keys) {
 
         Map<Integer, List<K>> partitioned = new HashMap<>();
+
+        if (codec instanceof ToByteBufEncoder) {
+
+            // encode all keys into a single reusable buffer instead of allocating a ByteBuffer per key
+            ToByteBufEncoder<K, V> encoder = (ToByteBufEncoder<K, V>) codec;
+            ByteBuf buffer = Unpooled.buffer();
+
+            try {
+                for (K key : keys) {
+
+                    buffer.clear();
+                    encoder.encodeKey(key, buffer);
+
+                    int slot = getSlot(buffer.array(), buffer.arrayOffset() + buffer.readerIndex(), buffer.readableBytes());
+                    partitioned.computeIfAbsent(slot, it -> new ArrayList<>()).add(key);
+                }
+            } finally {
+                buffer.release();
+            }
+
+            return partitioned;
+        }
+
         for (K key : keys) {
             int slot = getSlot(codec.encodeKey(key));
-            if (!partitioned.containsKey(slot)) {
-                partitioned.put(slot, new ArrayList<>());
-            }
-            Collection<K> list = partitioned.get(slot);
-            list.add(key);
+            partitioned.computeIfAbsent(slot, it -> new ArrayList<>()).add(key);
         }
         return partitioned;
     }
@@ -50,6 +50,7 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
     private final PubSubClusterEndpoint<K, V> endpoint;
     private volatile Partitions partitions;
     private volatile CommandSet commandSet;
+    private volatile ShardedPubSubSubscriptions<K, V> shardedSubscriptions;
 
     /**
      * Initialize a new connection.
@@ -112,6 +113,28 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
         this.commandSet = commandSet;
     }
 
+    /**
+     * Distribute subscriptions across the node connections instead of subscribing through the default connection.
+     */
+    void enableShardedSubscriptions() {
+
+        ShardedPubSubSubscriptions<K, V> subscriptions = new ShardedPubSubSubscriptions<>(codec, this::getConnectionAsync);
+
+        if (partitions != null) {
+            subscriptions.setPartitions(partitions);
+        }
+
+        this.shardedSubscriptions = subscriptions;
+        this.endpoint.setShardedSubscriptions(subscriptions);
+    }
+
+    /**
+     * @return the {@link ShardedPubSubSubscriptions} or {@literal null} if subscriptions are not sharded.
+     */
+    ShardedPubSubSubscriptions<K, V> getShardedSubscriptions() {
+        return shardedSubscriptions;
+    }
+
     @Override
     public void activated() {
         super.activated();
@@ -166,6 +189,10 @@ class StatefulRedisClusterPubSubConnectionImpl<K, V> extends StatefulRedisPubSub
     public void setPartitions(Partitions partitions) {
         this.partitions = partitions;
         getClusterDistributionChannelWriter().setPartitions(partitions);
+
+        if (shardedSubscriptions != null) {
+            shardedSubscriptions.setPartitions(partitions);
+        }
     }
 
     public Partitions getPartitions() {
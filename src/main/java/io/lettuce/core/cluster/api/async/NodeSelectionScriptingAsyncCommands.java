@@ -15,6 +15,7 @@
  */
 package io.lettuce.core.cluster.api.async;
 
+import java.util.BitSet;
 import java.util.List;
 
 import io.lettuce.core.ScriptOutputType;
@@ -112,6 +113,16 @@ public interface NodeSelectionScriptingAsyncCommands<K, V> {
      */
     AsyncExecutions<List<Boolean>> scriptExists(String... digests);
 
+    /**
+     * Check existence of scripts in the script cache.
+     *
+     * @param digests script digests
+     * @return BitSet array-reply a {@link BitSet} that corresponds to the specified SHA1 digest arguments. For every
+     *         corresponding SHA1 digest of a script that actually exists in the script cache, the bit is set.
+     * @since 6.0
+     */
+    AsyncExecutions<BitSet> scriptExistsBitSet(String... digests);
+
     /**
      * Remove all the scripts from the script cache.
      *
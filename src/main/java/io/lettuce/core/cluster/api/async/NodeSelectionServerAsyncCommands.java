@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import io.lettuce.core.KillArgs;
+import io.lettuce.core.TrackingArgs;
 import io.lettuce.core.UnblockType;
 import io.lettuce.core.protocol.CommandType;
 
@@ -79,6 +80,16 @@ public interface NodeSelectionServerAsyncCommands<K, V> {
      */
     AsyncExecutions<Long> clientKill(KillArgs killArgs);
 
+    /**
+     * Enables the tracking feature of the Redis server, that is used for server assisted client side caching. Tracking messages
+     * are either sent when using the RESP3 protocol or to a different connection in case redirection is enabled.
+     *
+     * @param args for the CLIENT TRACKING operation.
+     * @return String simple-string-reply {@code OK}.
+     * @since 6.0
+     */
+    AsyncExecutions<String> clientTracking(TrackingArgs args);
+
     /**
      * Unblock the specified blocked client.
      *
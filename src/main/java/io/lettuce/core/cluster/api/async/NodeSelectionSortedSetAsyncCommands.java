@@ -319,6 +319,18 @@ public interface NodeSelectionSortedSetAsyncCommands<K, V> {
      */
     AsyncExecutions<List<ScoredValue<V>>> zrangeWithScores(K key, long start, long stop);
 
+    /**
+     * Return a range of members with scores in a sorted set, by index. Scores are collected into a primitive array without
+     * boxing.
+     *
+     * @param key the key
+     * @param start the start
+     * @param stop the stop
+     * @return ScoredValueArray&lt;V&gt; array-reply elements in the specified range along with their scores.
+     * @since 6.0
+     */
+    AsyncExecutions<ScoredValueArray<V>> zrangeWithScoresArray(K key, long start, long stop);
+
     /**
      * Stream over a range of members with scores in a sorted set, by index.
      *
@@ -799,6 +811,18 @@ public interface NodeSelectionSortedSetAsyncCommands<K, V> {
      */
     AsyncExecutions<List<ScoredValue<V>>> zrevrangeWithScores(K key, long start, long stop);
 
+    /**
+     * Return a range of members with scores in a sorted set, by index, with scores ordered from high to low. Scores are
+     * collected into a primitive array without boxing.
+     *
+     * @param key the key
+     * @param start the start
+     * @param stop the stop
+     * @return ScoredValueArray&lt;V&gt; array-reply elements in the specified range along with their scores.
+     * @since 6.0
+     */
+    AsyncExecutions<ScoredValueArray<V>> zrevrangeWithScoresArray(K key, long start, long stop);
+
     /**
      * Stream over a range of members with scores in a sorted set, by index, with scores ordered from high to low.
      *
@@ -73,6 +73,17 @@ public interface NodeSelectionStringAsyncCommands<K, V> {
      */
     AsyncExecutions<List<Long>> bitfield(K key, BitFieldArgs bitFieldArgs);
 
+    /**
+     * Execute {@code BITFIELD} with its subcommands. Results are collected into a primitive array without boxing.
+     *
+     * @param key the key
+     * @param bitFieldArgs the args containing subcommands, must not be {@literal null}.
+     *
+     * @return long[] bulk-reply the results from the bitfield commands. {@literal null} results are skipped.
+     * @since 6.0
+     */
+    AsyncExecutions<long[]> bitfieldArray(K key, BitFieldArgs bitFieldArgs);
+
     /**
      * Find first bit set or clear in a string.
      *
@@ -15,6 +15,8 @@
  */
 package io.lettuce.core.cluster.models.partitions;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import io.lettuce.core.LettuceStrings;
@@ -22,10 +24,10 @@ import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.internal.HostAndPort;
-import io.lettuce.core.internal.LettuceLists;
 
 /**
- * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}.
+ * Parser for node information output of {@code CLUSTER NODES} and {@code CLUSTER SLAVES}. The parser operates on the raw bytes
+ * of the reply and reads node details and slot ranges without splitting the reply into intermediate {@link String}s.
  *
  * @author Mark Paluch
  * @since 3.0
@@ -34,12 +36,19 @@ public class ClusterPartitionParser {
 
     public static final String CONNECTED = "connected";
 
-    private static final String TOKEN_SLOT_IN_TRANSITION = "[";
-    private static final char TOKEN_NODE_SEPARATOR = '\n';
-    private static final Map<String, RedisClusterNode.NodeFlag> FLAG_MAPPING;
+    private static final byte TOKEN_SLOT_IN_TRANSITION = '[';
+    private static final byte TOKEN_NODE_SEPARATOR = '\n';
+    private static final byte TOKEN_FIELD_SEPARATOR = ' ';
+    private static final byte TOKEN_FLAG_SEPARATOR = ',';
+    private static final byte TOKEN_SLOT_RANGE = '-';
+    private static final byte TOKEN_BUS_PORT = '@';
+    private static final byte[] CONNECTED_BYTES = CONNECTED.getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NO_MASTER = "-".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[][] FLAG_NAMES;
+    private static final RedisClusterNode.NodeFlag[] FLAGS;
 
     static {
-        Map<String, RedisClusterNode.NodeFlag> map = new HashMap<>();
+        Map<String, RedisClusterNode.NodeFlag> map = new LinkedHashMap<>();
 
         map.put("noflags", RedisClusterNode.NodeFlag.NOFLAGS);
         map.put("myself", RedisClusterNode.NodeFlag.MYSELF);
@@ -50,7 +59,15 @@ public class ClusterPartitionParser {
         map.put("fail", RedisClusterNode.NodeFlag.FAIL);
         map.put("handshake", RedisClusterNode.NodeFlag.HANDSHAKE);
         map.put("noaddr", RedisClusterNode.NodeFlag.NOADDR);
-        FLAG_MAPPING = Collections.unmodifiableMap(map);
+
+        FLAG_NAMES = new byte[map.size()][];
+        FLAGS = new RedisClusterNode.NodeFlag[map.size()];
+
+        int index = 0;
+        for (Map.Entry<String, RedisClusterNode.NodeFlag> entry : map.entrySet()) {
+            FLAG_NAMES[index] = entry.getKey().getBytes(StandardCharsets.US_ASCII);
+            FLAGS[index++] = entry.getValue();
+        }
     }
 
     /**
@@ -67,83 +84,110 @@ public class ClusterPartitionParser {
      * @return the partitions object.
      */
     public static Partitions parse(String nodes) {
-        Partitions result = new Partitions();
 
         try {
+            return doParse(ByteBuffer.wrap(nodes.getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception e) {
+            throw new RedisException("Cannot parse " + nodes, e);
+        }
+    }
 
-            String[] lines = nodes.split(Character.toString(TOKEN_NODE_SEPARATOR));
-            List<RedisClusterNode> mappedNodes = new ArrayList<>(lines.length);
+    /**
+     * Parse partition lines from the raw reply into Partitions object. The position of {@code nodes} remains unchanged.
+     *
+     * @param nodes raw output of CLUSTER NODES
+     * @return the partitions object.
+     * @since 6.0
+     */
+    public static Partitions parse(ByteBuffer nodes) {
 
-            for (String line : lines) {
+        try {
+            return doParse(nodes);
+        } catch (Exception e) {
+            throw new RedisException("Cannot parse " + StandardCharsets.UTF_8.decode(nodes.duplicate()), e);
+        }
+    }
 
-                if (line.isEmpty()) {
-                    continue;
+    private static Partitions doParse(ByteBuffer buffer) {
 
-                }
-                mappedNodes.add(ClusterPartitionParser.parseNode(line));
+        Partitions result = new Partitions();
+        List<RedisClusterNode> mappedNodes = new ArrayList<>();
+        Tokenizer tokenizer = new Tokenizer(buffer);
+
+        int position = buffer.position();
+        int limit = buffer.limit();
+
+        while (position < limit) {
+
+            int lineEnd = indexOf(buffer, position, limit, TOKEN_NODE_SEPARATOR);
+            int end = lineEnd;
+
+            if (end > position && buffer.get(end - 1) == '\r') {
+                end--;
             }
-            result.addAll(mappedNodes);
-        } catch (Exception e) {
-            throw new RedisException("Cannot parse " + nodes, e);
+
+            if (end > position) {
+                tokenizer.reset(position, end);
+                mappedNodes.add(parseNode(tokenizer));
+            }
+
+            position = lineEnd + 1;
         }
 
+        result.addAll(mappedNodes);
+
         return result;
     }
 
-    private static RedisClusterNode parseNode(String nodeInformation) {
-
-        Iterator<String> iterator = Arrays.asList(nodeInformation.split(" ")).iterator();
+    private static RedisClusterNode parseNode(Tokenizer tokenizer) {
 
-        String nodeId = iterator.next();
-        boolean connected = false;
+        String nodeId = tokenizer.nextString();
         RedisURI uri = null;
 
-        String hostAndPortPart = iterator.next();
-        if (hostAndPortPart.contains("@")) {
-            hostAndPortPart = hostAndPortPart.substring(0, hostAndPortPart.indexOf('@'));
-        }
-
-        HostAndPort hostAndPort = HostAndPort.parseCompat(hostAndPortPart);
+        tokenizer.nextRequired();
+        int hostAndPortEnd = indexOf(tokenizer.buffer, tokenizer.start, tokenizer.end, TOKEN_BUS_PORT);
+        HostAndPort hostAndPort = HostAndPort.parseCompat(string(tokenizer.buffer, tokenizer.start, hostAndPortEnd));
 
         if (LettuceStrings.isNotEmpty(hostAndPort.getHostText())) {
             uri = RedisURI.Builder.redis(hostAndPort.getHostText(), hostAndPort.getPort()).build();
         }
 
-        String flags = iterator.next();
-        List<String> flagStrings = LettuceLists.newList(flags.split("\\,"));
+        tokenizer.nextRequired();
+        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(tokenizer.buffer, tokenizer.start, tokenizer.end);
 
-        Set<RedisClusterNode.NodeFlag> nodeFlags = readFlags(flagStrings);
+        tokenizer.nextRequired(); // (nodeId or -)
+        String replicaOf = tokenizer.matches(NO_MASTER) ? null : tokenizer.string();
 
-        String replicaOfString = iterator.next(); // (nodeId or -)
-        String replicaOf = "-".equals(replicaOfString) ? null : replicaOfString;
+        long pingSentTs = tokenizer.next() ? tokenizer.longValue() : 0;
+        long pongReceivedTs = tokenizer.next() ? tokenizer.longValue() : 0;
+        long configEpoch = tokenizer.next() ? tokenizer.longValue() : 0;
 
-        long pingSentTs = getLongFromIterator(iterator, 0);
-        long pongReceivedTs = getLongFromIterator(iterator, 0);
-        long configEpoch = getLongFromIterator(iterator, 0);
+        tokenizer.nextRequired(); // "connected" : "disconnected"
+        boolean connected = tokenizer.matches(CONNECTED_BYTES);
 
-        String connectedFlags = iterator.next(); // "connected" : "disconnected"
+        BitSet slots = readSlots(tokenizer); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
 
-        if (CONNECTED.equals(connectedFlags)) {
-            connected = true;
-        }
+        return new RedisClusterNode(uri, nodeId, connected, replicaOf, pingSentTs, pongReceivedTs, configEpoch, slots,
+                nodeFlags);
+    }
 
-        List<String> slotStrings = LettuceLists.newList(iterator); // slot, from-to [slot->-nodeID] [slot-<-nodeID]
-        BitSet slots = readSlots(slotStrings);
+    private static Set<RedisClusterNode.NodeFlag> readFlags(ByteBuffer buffer, int start, int end) {
 
-        RedisClusterNode partition = new RedisClusterNode(uri, nodeId, connected, replicaOf, pingSentTs, pongReceivedTs,
-                configEpoch, slots, nodeFlags);
+        Set<RedisClusterNode.NodeFlag> flags = EnumSet.noneOf(RedisClusterNode.NodeFlag.class);
 
-        return partition;
+        int position = start;
+        while (position <= end) {
 
-    }
+            int flagEnd = indexOf(buffer, position, end, TOKEN_FLAG_SEPARATOR);
 
-    private static Set<RedisClusterNode.NodeFlag> readFlags(List<String> flagStrings) {
-
-        Set<RedisClusterNode.NodeFlag> flags = new HashSet<>();
-        for (String flagString : flagStrings) {
-            if (FLAG_MAPPING.containsKey(flagString)) {
-                flags.add(FLAG_MAPPING.get(flagString));
+            for (int i = 0; i < FLAG_NAMES.length; i++) {
+                if (regionMatches(buffer, position, flagEnd, FLAG_NAMES[i])) {
+                    flags.add(FLAGS[i]);
+                    break;
+                }
             }
+
+            position = flagEnd + 1;
         }
 
         if (flags.contains(RedisClusterNode.NodeFlag.SLAVE)) {
@@ -153,44 +197,179 @@ public class ClusterPartitionParser {
         return Collections.unmodifiableSet(flags);
     }
 
-    private static BitSet readSlots(List<String> slotStrings) {
+    private static BitSet readSlots(Tokenizer tokenizer) {
 
-        BitSet slots = new BitSet(SlotHash.SLOT_COUNT);
-        for (String slotString : slotStrings) {
+        BitSet slots = null;
 
-            if (slotString.startsWith(TOKEN_SLOT_IN_TRANSITION)) {
+        while (tokenizer.next()) {
+
+            if (tokenizer.buffer.get(tokenizer.start) == TOKEN_SLOT_IN_TRANSITION) {
                 // not interesting
                 continue;
+            }
 
+            if (slots == null) {
+                slots = new BitSet(SlotHash.SLOT_COUNT);
             }
 
-            if (slotString.contains("-")) {
-                // slot range
-                Iterator<String> it = Arrays.asList(slotString.split("\\-")).iterator();
-                int from = Integer.parseInt(it.next());
-                int to = Integer.parseInt(it.next());
+            int rangeSeparator = indexOf(tokenizer.buffer, tokenizer.start, tokenizer.end, TOKEN_SLOT_RANGE);
+            int from = (int) parseLong(tokenizer.buffer, tokenizer.start, rangeSeparator);
 
-                for (int slot = from; slot <= to; slot++) {
-                    slots.set(slot);
+            if (rangeSeparator != tokenizer.end) {
+                // slot range
+                int to = (int) parseLong(tokenizer.buffer, rangeSeparator + 1, tokenizer.end);
 
+                if (to >= from) {
+                    slots.set(from, to + 1);
                 }
-                continue;
+            } else {
+                slots.set(from);
             }
+        }
+
+        return slots != null ? slots : new BitSet(0);
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, int to, byte value) {
+
+        for (int i = from; i < to; i++) {
+            if (buffer.get(i) == value) {
+                return i;
+            }
+        }
+
+        return to;
+    }
+
+    private static boolean regionMatches(ByteBuffer buffer, int start, int end, byte[] value) {
+
+        if (end - start != value.length) {
+            return false;
+        }
 
-            slots.set(Integer.parseInt(slotString));
+        for (int i = 0; i < value.length; i++) {
+            if (buffer.get(start + i) != value[i]) {
+                return false;
+            }
         }
 
-        return slots;
+        return true;
     }
 
-    private static long getLongFromIterator(Iterator<?> iterator, long defaultValue) {
-        if (iterator.hasNext()) {
-            Object object = iterator.next();
-            if (object instanceof String) {
-                return Long.parseLong((String) object);
+    private static long parseLong(ByteBuffer buffer, int start, int end) {
+
+        if (start >= end) {
+            throw new NumberFormatException("Empty number");
+        }
+
+        boolean negative = buffer.get(start) == '-';
+        int position = negative ? start + 1 : start;
+
+        if (position == end) {
+            throw new NumberFormatException("Not a number: " + string(buffer, start, end));
+        }
+
+        long result = 0;
+        for (; position < end; position++) {
+
+            int digit = buffer.get(position) - '0';
+
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("Not a number: " + string(buffer, start, end));
             }
+
+            result = result * 10 + digit;
         }
-        return defaultValue;
+
+        return negative ? -result : result;
     }
 
+    private static String string(ByteBuffer buffer, int start, int end) {
+
+        int length = end - start;
+
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + start, length, StandardCharsets.UTF_8);
+        }
+
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buffer.get(start + i);
+        }
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Space-separated token reader over a single line.
+     */
+    private static class Tokenizer {
+
+        final ByteBuffer buffer;
+
+        int position;
+
+        int limit;
+
+        int start;
+
+        int end;
+
+        Tokenizer(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        void reset(int position, int limit) {
+            this.position = position;
+            this.limit = limit;
+        }
+
+        /**
+         * Advance to the next token.
+         *
+         * @return {@literal true} if a token is available.
+         */
+        boolean next() {
+
+            while (position < limit && buffer.get(position) == TOKEN_FIELD_SEPARATOR) {
+                position++;
+            }
+
+            if (position >= limit) {
+                start = end = limit;
+                return false;
+            }
+
+            start = position;
+            end = indexOf(buffer, position, limit, TOKEN_FIELD_SEPARATOR);
+            position = end;
+
+            return true;
+        }
+
+        void nextRequired() {
+
+            if (!next()) {
+                throw new NoSuchElementException();
+            }
+        }
+
+        String nextString() {
+
+            nextRequired();
+            return string();
+        }
+
+        String string() {
+            return ClusterPartitionParser.string(buffer, start, end);
+        }
+
+        long longValue() {
+            return parseLong(buffer, start, end);
+        }
+
+        boolean matches(byte[] value) {
+            return regionMatches(buffer, start, end, value);
+        }
+    }
 }
@@ -17,6 +17,7 @@ package io.lettuce.core.cluster.models.partitions;
 
 import java.util.*;
 
+import io.lettuce.core.LettuceStrings;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.cluster.SlotHash;
 import io.lettuce.core.internal.LettuceAssert;
@@ -239,6 +240,87 @@ public class Partitions implements Collection<RedisClusterNode> {
         }
     }
 
+    /**
+     * Update partitions by applying the difference to {@code partitions}. Nodes that did not change retain their instance,
+     * changed nodes are replaced, new nodes are added and nodes that are no longer contained in {@code partitions} are removed.
+     * The read view and slot cache are rebuilt only if the nodes or their order changed.
+     *
+     * @param partitions list of new partitions
+     * @param retainOrder {@literal true} to retain the order of existing nodes and append new nodes, {@literal false} to
+     *        apply the order of {@code partitions}.
+     * @return {@literal true} if the read view was updated.
+     * @since 6.0
+     */
+    public boolean update(List<RedisClusterNode> partitions, boolean retainOrder) {
+
+        LettuceAssert.noNullElements(partitions, "Partitions must not contain null elements");
+
+        synchronized (this.partitions) {
+
+            Map<String, RedisClusterNode> current = new HashMap<>(this.partitions.size());
+            for (RedisClusterNode node : this.partitions) {
+                current.put(node.getNodeId(), node);
+            }
+
+            Map<String, RedisClusterNode> updates = new LinkedHashMap<>(partitions.size());
+            for (RedisClusterNode node : partitions) {
+
+                RedisClusterNode existing = current.get(node.getNodeId());
+                updates.put(node.getNodeId(), existing != null && isUnchanged(existing, node) ? existing : node);
+            }
+
+            List<RedisClusterNode> result = new ArrayList<>(updates.size());
+
+            if (retainOrder) {
+
+                for (RedisClusterNode node : this.partitions) {
+
+                    RedisClusterNode update = updates.remove(node.getNodeId());
+                    if (update != null) {
+                        result.add(update);
+                    }
+                }
+            }
+
+            result.addAll(updates.values());
+
+            if (result.size() == this.partitions.size()) {
+
+                boolean identical = true;
+                for (int i = 0; i < result.size(); i++) {
+                    if (result.get(i) != this.partitions.get(i)) {
+                        identical = false;
+                        break;
+                    }
+                }
+
+                if (identical) {
+                    return false;
+                }
+            }
+
+            this.partitions.clear();
+            this.partitions.addAll(result);
+            updateCache();
+            return true;
+        }
+    }
+
+    private static boolean isUnchanged(RedisClusterNode existing, RedisClusterNode update) {
+
+        RedisURI existingUri = existing.getUri();
+        RedisURI updateUri = update.getUri();
+
+        if (existingUri == null || updateUri == null || LettuceStrings.isEmpty(existingUri.getHost())
+                || existingUri.getPort() != updateUri.getPort() || !existingUri.getHost().equals(updateUri.getHost())) {
+            return false;
+        }
+
+        return existing.isConnected() == update.isConnected() && existing.getConfigEpoch() == update.getConfigEpoch()
+                && Objects.equals(existing.getSlaveOf(), update.getSlaveOf()) && existing.getFlags().equals(update.getFlags())
+                && existing.hasSameSlotsAs(update);
+    }
+
     /**
      * Returns {@literal true} if this {@link Partitions} contains no elements using the read-view.
      *
@@ -71,6 +71,9 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         setFlags(flags);
     }
 
+    /*
+     * Takes ownership of the slots BitSet.
+     */
     RedisClusterNode(RedisURI uri, String nodeId, boolean connected, String slaveOf, long pingSentTimestamp,
             long pongReceivedTimestamp, long configEpoch, BitSet slots, Set<NodeFlag> flags) {
 
@@ -82,8 +85,7 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
         this.pongReceivedTimestamp = pongReceivedTimestamp;
         this.configEpoch = configEpoch;
 
-        this.slots = new BitSet(slots.length());
-        this.slots.or(slots);
+        this.slots = slots;
 
         setFlags(flags);
     }
@@ -267,11 +269,8 @@ public class RedisClusterNode implements Serializable, RedisNodeDescription {
             return;
         }
 
-        for (int i = 0; i < this.slots.length(); i++) {
-
-            if (this.slots.get(i)) {
-                consumer.accept(i);
-            }
+        for (int i = this.slots.nextSetBit(0); i >= 0; i = this.slots.nextSetBit(i + 1)) {
+            consumer.accept(i);
         }
     }
 
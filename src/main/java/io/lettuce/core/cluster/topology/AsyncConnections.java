@@ -24,6 +24,7 @@ import java.util.concurrent.TimeUnit;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
+import io.netty.util.Timer;
 
 /**
  * @author Mark Paluch
@@ -33,6 +34,8 @@ class AsyncConnections {
     private final Map<RedisURI, CompletableFuture<StatefulRedisConnection<String, String>>> futures = new TreeMap<>(
             TopologyComparators.RedisURIComparator.INSTANCE);
 
+    private final Set<RedisURI> sharedConnections = new TreeSet<>(TopologyComparators.RedisURIComparator.INSTANCE);
+
     public AsyncConnections() {
     }
 
@@ -46,6 +49,19 @@ class AsyncConnections {
         futures.put(redisURI, connection);
     }
 
+    /**
+     * Add an already established connection for a {@link RedisURI} that is owned by a different component. The connection is
+     * not closed by {@link Connections#close()}.
+     *
+     * @param redisURI
+     * @param connection
+     * @since 6.0
+     */
+    public void addSharedConnection(RedisURI redisURI, StatefulRedisConnection<String, String> connection) {
+        futures.put(redisURI, CompletableFuture.completedFuture(connection));
+        sharedConnections.add(redisURI);
+    }
+
     /**
      * @return a set of {@link RedisURI} for which {@link Connections} has a connection.
      */
@@ -72,7 +88,7 @@ class AsyncConnections {
                 if (throwable != null) {
                     exceptions.add(throwable);
                 } else {
-                    connections.addConnection(entry.getKey(), connection);
+                    addConnection(connections, entry.getKey(), connection);
                 }
             }));
         }
@@ -80,22 +96,47 @@ class AsyncConnections {
         RefreshFutures.awaitAll(timeout, timeUnit, sync);
 
         if (connections.isEmpty() && !sync.isEmpty() && !exceptions.isEmpty()) {
+            throw connectionFailed(exceptions);
+        }
+
+        return connections;
+    }
+
+    /**
+     * Obtain the {@link Connections} without blocking the calling thread.
+     *
+     * @return a {@link CompletableFuture} emitting the {@link Connections} or completed exceptionally with
+     *         {@link RedisConnectionException} if no connection could be established.
+     * @since 6.0
+     */
+    public CompletableFuture<Connections> getAsync(long timeout, TimeUnit timeUnit, Timer timer) {
+
+        Connections connections = new Connections();
+        List<Throwable> exceptions = new CopyOnWriteArrayList<>();
+        List<CompletableFuture<?>> sync = new ArrayList<>(this.futures.size());
 
-            RedisConnectionException collector = null;
+        for (Map.Entry<RedisURI, CompletableFuture<StatefulRedisConnection<String, String>>> entry : this.futures.entrySet()) {
+
+            CompletableFuture<StatefulRedisConnection<String, String>> future = entry.getValue();
 
-            for (Throwable exception : exceptions) {
-                if (collector == null) {
-                    collector = new RedisConnectionException("Unable to establish a connection to Redis Cluster at "
-                            + this.futures.keySet(), exception);
+            sync.add(future.whenComplete((connection, throwable) -> {
+
+                if (throwable != null) {
+                    exceptions.add(throwable);
                 } else {
-                    collector.addSuppressed(exception);
+                    addConnection(connections, entry.getKey(), connection);
                 }
-            }
-
-            throw collector;
+            }));
         }
 
-        return connections;
+        return RefreshFutures.awaitAllAsync(timeout, timeUnit, sync, timer).thenApply(ignore -> {
+
+            if (connections.isEmpty() && !sync.isEmpty() && !exceptions.isEmpty()) {
+                throw connectionFailed(exceptions);
+            }
+
+            return connections;
+        });
     }
 
     /**
@@ -111,7 +152,7 @@ class AsyncConnections {
             CompletableFuture<StatefulRedisConnection<String, String>> future = entry.getValue();
 
             sync.add(future.thenAccept((connection) -> {
-                connections.addConnection(entry.getKey(), connection);
+                addConnection(connections, entry.getKey(), connection);
             }));
         }
 
@@ -119,4 +160,52 @@ class AsyncConnections {
 
         return connections;
     }
+
+    /**
+     * Obtain the {@link Connections} without blocking the calling thread. Failed connection attempts are ignored.
+     *
+     * @return a {@link CompletableFuture} emitting the {@link Connections}.
+     * @since 6.0
+     */
+    public CompletableFuture<Connections> optionalGetAsync(long timeout, TimeUnit timeUnit, Timer timer) {
+
+        Connections connections = new Connections();
+        List<CompletableFuture<?>> sync = new ArrayList<>(this.futures.size());
+
+        for (Map.Entry<RedisURI, CompletableFuture<StatefulRedisConnection<String, String>>> entry : this.futures.entrySet()) {
+
+            CompletableFuture<StatefulRedisConnection<String, String>> future = entry.getValue();
+
+            sync.add(future.thenAccept((connection) -> {
+                addConnection(connections, entry.getKey(), connection);
+            }));
+        }
+
+        return RefreshFutures.awaitAllAsync(timeout, timeUnit, sync, timer).thenApply(ignore -> connections);
+    }
+
+    private void addConnection(Connections connections, RedisURI redisURI, StatefulRedisConnection<String, String> connection) {
+
+        if (sharedConnections.contains(redisURI)) {
+            connections.addSharedConnection(redisURI, connection);
+        } else {
+            connections.addConnection(redisURI, connection);
+        }
+    }
+
+    private RedisConnectionException connectionFailed(List<Throwable> exceptions) {
+
+        RedisConnectionException collector = null;
+
+        for (Throwable exception : exceptions) {
+            if (collector == null) {
+                collector = new RedisConnectionException("Unable to establish a connection to Redis Cluster at "
+                        + this.futures.keySet(), exception);
+            } else {
+                collector.addSuppressed(exception);
+            }
+        }
+
+        return collector;
+    }
 }
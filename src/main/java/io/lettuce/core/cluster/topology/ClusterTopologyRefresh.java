@@ -21,8 +21,10 @@ import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -32,6 +34,7 @@ import io.lettuce.core.cluster.models.partitions.Partitions;
 import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
 import io.lettuce.core.cluster.topology.TopologyComparators.SortAction;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.internal.Futures;
 import io.lettuce.core.resource.ClientResources;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.internal.logging.InternalLogger;
@@ -79,8 +82,8 @@ public class ClusterTopologyRefresh {
                 return Collections.emptyMap();
             }
 
-            Requests requestedTopology = connections.requestTopology();
-            Requests requestedClients = connections.requestClients();
+            Requests<byte[]> requestedTopology = connections.requestTopology();
+            Requests<String> requestedClients = connections.requestClients();
 
             NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients, commandTimeoutNs);
 
@@ -129,13 +132,138 @@ public class ClusterTopologyRefresh {
         }
     }
 
-    private void tryFail(Requests requestedTopology, Iterable<RedisURI> seed) {
+    /**
+     * Load partition views asynchronously from a collection of {@link RedisURI}s and return the view per {@link RedisURI}.
+     * Partitions contain an ordered list of {@link RedisClusterNode}s. The sort key is latency. Nodes with lower latency come
+     * first. This method does not block the calling thread.
+     * <p>
+     * Connections returned by {@code sharedConnections} are used to retrieve the topology instead of connecting to the node.
+     * Shared connections remain open after the refresh and must not be in a transaction.
+     *
+     * @param seed collection of {@link RedisURI}s
+     * @param connectTimeout connect timeout
+     * @param discovery {@literal true} to discover additional nodes
+     * @param sharedConnections lookup function for already established node connections. Returns {@literal null} if there is
+     *        no connection to the given {@link RedisURI}.
+     * @return {@link CompletionStage} emitting the mapping between {@link RedisURI} and {@link Partitions}
+     * @since 6.0
+     */
+    public CompletionStage<Map<RedisURI, Partitions>> loadViewsAsync(Iterable<RedisURI> seed, Duration connectTimeout,
+            boolean discovery, Function<RedisURI, StatefulRedisConnection<?, ?>> sharedConnections) {
+
+        if (!isEventLoopActive()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        long commandTimeoutNs = getCommandTimeoutNs(seed);
+
+        return getConnections(seed, sharedConnections)
+                .getAsync(commandTimeoutNs + connectTimeout.toNanos(), TimeUnit.NANOSECONDS, clientResources.timer())
+                .thenCompose(connections -> {
+
+                    CompletableFuture<Map<RedisURI, Partitions>> views;
+                    try {
+                        views = loadViewsAsync(connections, seed, discovery, sharedConnections, commandTimeoutNs);
+                    } catch (RuntimeException e) {
+                        views = Futures.failed(e);
+                    }
+
+                    return views.whenComplete((ignore, throwable) -> closeAsync(connections));
+                });
+    }
+
+    private CompletableFuture<Map<RedisURI, Partitions>> loadViewsAsync(Connections connections, Iterable<RedisURI> seed,
+            boolean discovery, Function<RedisURI, StatefulRedisConnection<?, ?>> sharedConnections, long commandTimeoutNs) {
+
+        if (!isEventLoopActive()) {
+            return CompletableFuture.completedFuture(Collections.emptyMap());
+        }
+
+        Requests<byte[]> requestedTopology = connections.requestTopology();
+        Requests<String> requestedClients = connections.requestClients();
+
+        return awaitAsync(requestedTopology, requestedClients, commandTimeoutNs).thenCompose(ignore -> {
+
+            NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients);
+
+            if (discovery && isEventLoopActive()) {
+
+                Set<RedisURI> allKnownUris = nodeSpecificViews.getClusterNodes();
+                Set<RedisURI> discoveredNodes = difference(allKnownUris, toSet(seed));
+
+                if (!discoveredNodes.isEmpty()) {
+                    return getConnections(discoveredNodes, sharedConnections)
+                            .optionalGetAsync(commandTimeoutNs, TimeUnit.NANOSECONDS, clientResources.timer())
+                            .thenCompose(discoveredConnections -> {
+
+                                if (!isEventLoopActive()) {
+                                    return CompletableFuture.completedFuture(nodeSpecificViews.toMap());
+                                }
+
+                                Requests<byte[]> mergedTopology = requestedTopology
+                                        .mergeWith(discoveredConnections.requestTopology());
+                                Requests<String> mergedClients = requestedClients
+                                        .mergeWith(discoveredConnections.requestClients());
+
+                                return awaitAsync(mergedTopology, mergedClients, commandTimeoutNs)
+                                        .thenApply(it -> getViewsOrFail(mergedTopology, mergedClients, seed))
+                                        .whenComplete((it, throwable) -> closeAsync(discoveredConnections));
+                            });
+                }
+            }
+
+            if (nodeSpecificViews.isEmpty()) {
+                tryFail(requestedTopology, seed);
+            }
+
+            return CompletableFuture.completedFuture(nodeSpecificViews.toMap());
+        });
+    }
+
+    /*
+     * Await completion of the topology requests without blocking. Completion is signalled on the event executor group to not
+     * occupy I/O or timer threads with topology parsing.
+     */
+    private CompletableFuture<Void> awaitAsync(Requests<byte[]> requestedTopology, Requests<String> requestedClients,
+            long commandTimeoutNs) {
+
+        CompletableFuture<Void> topology = requestedTopology.awaitAsync(commandTimeoutNs, TimeUnit.NANOSECONDS,
+                clientResources.timer());
+        CompletableFuture<Void> clients = requestedClients.awaitAsync(commandTimeoutNs, TimeUnit.NANOSECONDS,
+                clientResources.timer());
+
+        return CompletableFuture.allOf(topology, clients).thenRunAsync(() -> {
+        }, clientResources.eventExecutorGroup());
+    }
+
+    private Map<RedisURI, Partitions> getViewsOrFail(Requests<byte[]> requestedTopology, Requests<String> requestedClients,
+            Iterable<RedisURI> seed) {
+
+        NodeTopologyViews nodeSpecificViews = getNodeSpecificViews(requestedTopology, requestedClients);
+
+        if (nodeSpecificViews.isEmpty()) {
+            tryFail(requestedTopology, seed);
+        }
+
+        return nodeSpecificViews.toMap();
+    }
+
+    private static void closeAsync(Connections connections) {
+
+        connections.closeAsync().whenComplete((ignore, throwable) -> {
+            if (throwable != null) {
+                logger.debug("Cannot close ClusterTopologyRefresh connections", throwable);
+            }
+        });
+    }
+
+    private void tryFail(Requests<byte[]> requestedTopology, Iterable<RedisURI> seed) {
 
         RedisException exception = null;
 
         for (RedisURI node : requestedTopology.nodes()) {
 
-            TimedAsyncCommand<String, String, String> request = requestedTopology.getRequest(node);
+            TimedAsyncCommand<String, String, byte[]> request = requestedTopology.getRequest(node);
             if (request != null && request.isCompletedExceptionally()) {
 
                 Throwable cause = RefreshFutures.getException(request);
@@ -157,17 +285,25 @@ public class ClusterTopologyRefresh {
         return StreamSupport.stream(seed.spliterator(), false).collect(Collectors.toCollection(HashSet::new));
     }
 
-    NodeTopologyViews getNodeSpecificViews(Requests requestedTopology, Requests requestedClients, long commandTimeoutNs)
-            throws InterruptedException {
+    NodeTopologyViews getNodeSpecificViews(Requests<byte[]> requestedTopology, Requests<String> requestedClients,
+            long commandTimeoutNs) throws InterruptedException {
+
+        long waitTime = requestedTopology.await(commandTimeoutNs, TimeUnit.NANOSECONDS);
+        requestedClients.await(commandTimeoutNs - waitTime, TimeUnit.NANOSECONDS);
+
+        return getNodeSpecificViews(requestedTopology, requestedClients);
+    }
+
+    /*
+     * Create the node views from the requests. Requests that are not completed yet are considered unavailable.
+     */
+    NodeTopologyViews getNodeSpecificViews(Requests<byte[]> requestedTopology, Requests<String> requestedClients) {
 
         List<RedisClusterNodeSnapshot> allNodes = new ArrayList<>();
 
         Map<String, Long> latencies = new HashMap<>();
         Map<String, Integer> clientCountByNodeId = new HashMap<>();
 
-        long waitTime = requestedTopology.await(commandTimeoutNs, TimeUnit.NANOSECONDS);
-        requestedClients.await(commandTimeoutNs - waitTime, TimeUnit.NANOSECONDS);
-
         Set<RedisURI> nodes = requestedTopology.nodes();
 
         List<NodeTopologyView> views = new ArrayList<>();
@@ -214,6 +350,10 @@ public class ClusterTopologyRefresh {
                 views.add(nodeTopologyView);
             } catch (ExecutionException e) {
                 logger.warn(String.format("Cannot retrieve partition view from %s, error: %s", nodeUri, e));
+            } catch (InterruptedException e) {
+
+                Thread.currentThread().interrupt();
+                throw new RedisCommandInterruptedException(e);
             }
         }
 
@@ -250,6 +390,15 @@ public class ClusterTopologyRefresh {
      * Open connections where an address can be resolved.
      */
     private AsyncConnections getConnections(Iterable<RedisURI> redisURIs) {
+        return getConnections(redisURIs, redisURI -> null);
+    }
+
+    /*
+     * Open connections where an address can be resolved and reuse shared connections if available.
+     */
+    @SuppressWarnings("unchecked")
+    private AsyncConnections getConnections(Iterable<RedisURI> redisURIs,
+            Function<RedisURI, StatefulRedisConnection<?, ?>> sharedConnections) {
 
         AsyncConnections connections = new AsyncConnections();
 
@@ -258,6 +407,15 @@ public class ClusterTopologyRefresh {
                 continue;
             }
 
+            StatefulRedisConnection<?, ?> sharedConnection = sharedConnections.apply(redisURI);
+
+            if (sharedConnection != null && sharedConnection.isOpen() && !sharedConnection.isMulti()) {
+
+                // topology commands carry their own codec so the connection codec does not matter
+                connections.addSharedConnection(redisURI, (StatefulRedisConnection<String, String>) sharedConnection);
+                continue;
+            }
+
             try {
                 SocketAddress socketAddress = clientResources.socketAddressResolver().resolve(redisURI);
 
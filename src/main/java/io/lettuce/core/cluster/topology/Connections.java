@@ -22,6 +22,7 @@ import io.lettuce.core.RedisURI;
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.Futures;
+import io.lettuce.core.output.ByteArrayOutput;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandArgs;
@@ -36,14 +37,17 @@ import io.lettuce.core.protocol.CommandType;
 class Connections {
 
     private final Map<RedisURI, StatefulRedisConnection<String, String>> connections;
+    private final Set<RedisURI> sharedConnections;
     private volatile boolean closed = false;
 
     public Connections() {
         connections = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
+        sharedConnections = new TreeSet<>(TopologyComparators.RedisURIComparator.INSTANCE);
     }
 
-    private Connections(Map<RedisURI, StatefulRedisConnection<String, String>> connections) {
+    private Connections(Map<RedisURI, StatefulRedisConnection<String, String>> connections, Set<RedisURI> sharedConnections) {
         this.connections = connections;
+        this.sharedConnections = sharedConnections;
     }
 
     /**
@@ -70,6 +74,27 @@ class Connections {
         }
     }
 
+    /**
+     * Add a shared connection for a {@link RedisURI}. Shared connections are owned by a different component and are not closed
+     * by {@link #close()}.
+     *
+     * @param redisURI
+     * @param connection
+     * @since 6.0
+     */
+    public void addSharedConnection(RedisURI redisURI, StatefulRedisConnection<String, String> connection) {
+
+        synchronized (this.connections) {
+
+            if (this.closed) {
+                return;
+            }
+
+            this.connections.put(redisURI, connection);
+            this.sharedConnections.add(redisURI);
+        }
+    }
+
     /**
      * @return {@literal true} if no connections present.
      */
@@ -84,17 +109,17 @@ class Connections {
      *
      * @return the {@link Requests}.
      */
-    public Requests requestTopology() {
+    public Requests<byte[]> requestTopology() {
 
-        Requests requests = new Requests();
+        Requests<byte[]> requests = new Requests<>();
 
         synchronized (this.connections) {
             for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : this.connections.entrySet()) {
 
                 CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.NODES);
-                Command<String, String, String> command = new Command<>(CommandType.CLUSTER,
-                        new StatusOutput<>(StringCodec.UTF8), args);
-                TimedAsyncCommand<String, String, String> timedCommand = new TimedAsyncCommand<>(command);
+                Command<String, String, byte[]> command = new Command<>(CommandType.CLUSTER,
+                        new ByteArrayOutput<>(StringCodec.UTF8), args);
+                TimedAsyncCommand<String, String, byte[]> timedCommand = new TimedAsyncCommand<>(command);
 
                 entry.getValue().dispatch(timedCommand);
                 requests.addRequest(entry.getKey(), timedCommand);
@@ -109,9 +134,9 @@ class Connections {
      *
      * @return the {@link Requests}.
      */
-    public Requests requestClients() {
+    public Requests<String> requestClients() {
 
-        Requests requests = new Requests();
+        Requests<String> requests = new Requests<>();
 
         synchronized (this.connections) {
             for (Map.Entry<RedisURI, StatefulRedisConnection<String, String>> entry : this.connections.entrySet()) {
@@ -132,6 +157,16 @@ class Connections {
      * Close all connections.
      */
     public void close() {
+        closeAsync().join();
+    }
+
+    /**
+     * Close all connections asynchronously. Shared connections remain open.
+     *
+     * @return a {@link CompletableFuture} that completes once all connections are closed.
+     * @since 6.0
+     */
+    public CompletableFuture<Void> closeAsync() {
 
         this.closed = true;
 
@@ -142,7 +177,7 @@ class Connections {
             }
         }
 
-        Futures.allOf(closeFutures).join();
+        return Futures.allOf(closeFutures);
     }
 
     private boolean hasConnections() {
@@ -162,6 +197,9 @@ class Connections {
             drainedConnections.forEach((k, v) -> {
                 this.connections.remove(k);
             });
+
+            drainedConnections.keySet().removeIf(this.sharedConnections::contains);
+            this.sharedConnections.clear();
         }
 
         return drainedConnections.values();
@@ -178,6 +216,7 @@ class Connections {
 
         Map<RedisURI, StatefulRedisConnection<String, String>> result = new TreeMap<>(
                 TopologyComparators.RedisURIComparator.INSTANCE);
+        Set<RedisURI> shared = new TreeSet<>(TopologyComparators.RedisURIComparator.INSTANCE);
 
         this.closed = true;
         discoveredConnections.closed = true;
@@ -187,9 +226,11 @@ class Connections {
 
                 result.putAll(this.connections);
                 result.putAll(discoveredConnections.connections);
+                shared.addAll(this.sharedConnections);
+                shared.addAll(discoveredConnections.sharedConnections);
             }
         }
 
-        return new Connections(result);
+        return new Connections(result, shared);
     }
 }
@@ -15,6 +15,8 @@
  */
 package io.lettuce.core.cluster.topology;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ExecutionException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -39,7 +41,7 @@ class NodeTopologyView {
     private final int connectedClients;
 
     private final long latency;
-    private final String clusterNodes;
+    private final byte[] clusterNodes;
 
     private final String clientList;
 
@@ -55,21 +57,25 @@ class NodeTopologyView {
     }
 
     NodeTopologyView(RedisURI redisURI, String clusterNodes, String clientList, long latency) {
+        this(redisURI, clusterNodes.getBytes(StandardCharsets.UTF_8), clientList, latency);
+    }
+
+    NodeTopologyView(RedisURI redisURI, byte[] clusterNodes, String clientList, long latency) {
 
         this.available = true;
         this.redisURI = redisURI;
 
-        this.partitions = ClusterPartitionParser.parse(clusterNodes);
+        this.partitions = ClusterPartitionParser.parse(ByteBuffer.wrap(clusterNodes));
         this.connectedClients = clientList != null ? getClients(clientList) : 0;
         this.clusterNodes = clusterNodes;
         this.clientList = clientList;
         this.latency = latency;
     }
 
-    static NodeTopologyView from(RedisURI redisURI, Requests clusterNodesRequests, Requests clientListRequests)
+    static NodeTopologyView from(RedisURI redisURI, Requests<byte[]> clusterNodesRequests, Requests<String> clientListRequests)
             throws ExecutionException, InterruptedException {
 
-        TimedAsyncCommand<String, String, String> nodes = clusterNodesRequests.getRequest(redisURI);
+        TimedAsyncCommand<String, String, byte[]> nodes = clusterNodesRequests.getRequest(redisURI);
         TimedAsyncCommand<String, String, String> clients = clientListRequests.getRequest(redisURI);
 
         if (resultAvailable(nodes) && resultAvailable(clients)) {
@@ -151,7 +157,7 @@ class NodeTopologyView {
     }
 
     String getClusterNodes() {
-        return clusterNodes;
+        return clusterNodes != null ? new String(clusterNodes, StandardCharsets.UTF_8) : null;
     }
 
     void setPartitions(Partitions partitions) {
@@ -16,11 +16,15 @@
 package io.lettuce.core.cluster.topology;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 
 import io.lettuce.core.RedisCommandInterruptedException;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 
 /**
  * @author Mark Paluch
@@ -65,6 +69,44 @@ class RefreshFutures {
         return waitTime;
     }
 
+    /**
+     * Return a {@link CompletableFuture} that completes once either all {@code futures} are completed or the timeout is
+     * reached. Successful/exceptional future completion is not substantial. This method does not block the calling thread.
+     *
+     * @param timeout the timeout value.
+     * @param timeUnit timeout unit.
+     * @param futures {@link Collection} of {@link CompletionStage}s.
+     * @param timer the {@link Timer} to schedule the timeout.
+     * @return the {@link CompletableFuture} that completes without a value.
+     * @since 6.0
+     */
+    static CompletableFuture<Void> awaitAllAsync(long timeout, TimeUnit timeUnit,
+            Collection<? extends CompletionStage<?>> futures, Timer timer) {
+
+        CompletableFuture<Void> result = new CompletableFuture<>();
+
+        if (futures.isEmpty()) {
+            result.complete(null);
+            return result;
+        }
+
+        CompletableFuture<?>[] settled = new CompletableFuture<?>[futures.size()];
+
+        int index = 0;
+        for (CompletionStage<?> future : futures) {
+            settled[index++] = future.handle((v, t) -> null).toCompletableFuture();
+        }
+
+        Timeout timeoutHandle = timer.newTimeout(it -> result.complete(null), timeout, timeUnit);
+
+        CompletableFuture.allOf(settled).whenComplete((v, t) -> {
+            timeoutHandle.cancel();
+            result.complete(null);
+        });
+
+        return result;
+    }
+
     /**
      * Retrieve the exception from a {@link Future}.
      *
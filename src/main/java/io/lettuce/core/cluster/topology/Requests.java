@@ -18,28 +18,31 @@ package io.lettuce.core.cluster.topology;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import io.lettuce.core.RedisURI;
+import io.netty.util.Timer;
 
 /**
  * Encapsulates asynchronously executed commands to multiple {@link RedisURI nodes}.
  *
+ * @param <T> command result type.
  * @author Mark Paluch
  */
-class Requests {
+class Requests<T> {
 
-    private final Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews;
+    private final Map<RedisURI, TimedAsyncCommand<String, String, T>> rawViews;
 
     protected Requests() {
         rawViews = new TreeMap<>(TopologyComparators.RedisURIComparator.INSTANCE);
     }
 
-    private Requests(Map<RedisURI, TimedAsyncCommand<String, String, String>> rawViews) {
+    private Requests(Map<RedisURI, TimedAsyncCommand<String, String, T>> rawViews) {
         this.rawViews = rawViews;
     }
 
-    protected void addRequest(RedisURI redisURI, TimedAsyncCommand<String, String, String> command) {
+    protected void addRequest(RedisURI redisURI, TimedAsyncCommand<String, String, T> command) {
         rawViews.put(redisURI, command);
     }
 
@@ -47,21 +50,25 @@ class Requests {
         return RefreshFutures.awaitAll(timeout, timeUnit, rawViews.values());
     }
 
+    protected CompletableFuture<Void> awaitAsync(long timeout, TimeUnit timeUnit, Timer timer) {
+        return RefreshFutures.awaitAllAsync(timeout, timeUnit, rawViews.values(), timer);
+    }
+
     protected Set<RedisURI> nodes() {
         return rawViews.keySet();
     }
 
-    protected TimedAsyncCommand<String, String, String> getRequest(RedisURI redisURI) {
+    protected TimedAsyncCommand<String, String, T> getRequest(RedisURI redisURI) {
         return rawViews.get(redisURI);
     }
 
-    protected Requests mergeWith(Requests requests) {
+    protected Requests<T> mergeWith(Requests<T> requests) {
 
-        Map<RedisURI, TimedAsyncCommand<String, String, String>> result = new TreeMap<>(
+        Map<RedisURI, TimedAsyncCommand<String, String, T>> result = new TreeMap<>(
                 TopologyComparators.RedisURIComparator.INSTANCE);
         result.putAll(this.rawViews);
         result.putAll(requests.rawViews);
 
-        return new Requests(result);
+        return new Requests<>(result);
     }
 }
@@ -52,6 +52,40 @@ public class CRC16 {
             0x5C64, 0x4C45, 0x3CA2, 0x2C83, 0x1CE0, 0x0CC1, 0xEF1F, 0xFF3E, 0xCF5D, 0xDF7C, 0xAF9B, 0xBFBA, 0x8FD9, 0x9FF8,
             0x6E17, 0x7E36, 0x4E55, 0x5E74, 0x2E93, 0x3EB2, 0x0ED1, 0x1EF0 };
 
+    /**
+     * Slicing-by-8 lookup tables. {@code SLICING_TABLES[k]} contains the CRC of each byte value followed by {@code k} zero
+     * bytes so eight input bytes are folded into the checksum with eight independent table lookups.
+     */
+    private static final int[][] SLICING_TABLES = new int[8][256];
+
+    static {
+
+        SLICING_TABLES[0] = LOOKUP_TABLE;
+
+        for (int k = 1; k < SLICING_TABLES.length; k++) {
+            for (int b = 0; b < 256; b++) {
+                int previous = SLICING_TABLES[k - 1][b];
+                SLICING_TABLES[k][b] = ((previous << 8) ^ LOOKUP_TABLE[(previous >>> 8) & 0xFF]) & 0xFFFF;
+            }
+        }
+    }
+
+    private static final int[] T0 = SLICING_TABLES[0];
+
+    private static final int[] T1 = SLICING_TABLES[1];
+
+    private static final int[] T2 = SLICING_TABLES[2];
+
+    private static final int[] T3 = SLICING_TABLES[3];
+
+    private static final int[] T4 = SLICING_TABLES[4];
+
+    private static final int[] T5 = SLICING_TABLES[5];
+
+    private static final int[] T6 = SLICING_TABLES[6];
+
+    private static final int[] T7 = SLICING_TABLES[7];
+
     /**
      * Utility constructor.
      */
@@ -79,8 +113,15 @@ public class CRC16 {
 
         int crc = 0x0000;
         int end = off + len;
+        int i = off;
+
+        for (; i <= end - 8; i += 8) {
+            crc = T7[((crc >>> 8) ^ bytes[i]) & 0xFF] ^ T6[(crc ^ bytes[i + 1]) & 0xFF] ^ T5[bytes[i + 2] & 0xFF]
+                    ^ T4[bytes[i + 3] & 0xFF] ^ T3[bytes[i + 4] & 0xFF] ^ T2[bytes[i + 5] & 0xFF] ^ T1[bytes[i + 6] & 0xFF]
+                    ^ T0[bytes[i + 7] & 0xFF];
+        }
 
-        for (int i = off; i < end; i++) {
+        for (; i < end; i++) {
             crc = doCrc(bytes[i], crc);
         }
 
@@ -96,12 +137,29 @@ public class CRC16 {
      */
     public static int crc16(ByteBuffer bytes) {
 
+        if (bytes.hasArray()) {
+
+            int crc = crc16(bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining());
+            bytes.position(bytes.limit());
+            return crc;
+        }
+
         int crc = 0x0000;
+        int end = bytes.limit();
+        int i = bytes.position();
 
-        while (bytes.hasRemaining()) {
-            crc = doCrc(bytes.get(), crc);
+        for (; i <= end - 8; i += 8) {
+            crc = T7[((crc >>> 8) ^ bytes.get(i)) & 0xFF] ^ T6[(crc ^ bytes.get(i + 1)) & 0xFF] ^ T5[bytes.get(i + 2) & 0xFF]
+                    ^ T4[bytes.get(i + 3) & 0xFF] ^ T3[bytes.get(i + 4) & 0xFF] ^ T2[bytes.get(i + 5) & 0xFF]
+                    ^ T1[bytes.get(i + 6) & 0xFF] ^ T0[bytes.get(i + 7) & 0xFF];
         }
 
+        for (; i < end; i++) {
+            crc = doCrc(bytes.get(i), crc);
+        }
+
+        bytes.position(end);
+
         return crc & 0xFFFF;
     }
 
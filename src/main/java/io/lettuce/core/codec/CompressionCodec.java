@@ -15,31 +15,68 @@
  */
 package io.lettuce.core.codec;
 
-import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 import java.nio.ByteBuffer;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
-import java.util.zip.InflaterInputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import com.github.luben.zstd.Zstd;
 
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.internal.LettuceClassUtils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import net.jpountz.lz4.LZ4Factory;
 
 /**
- * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using GZIP
- * or Deflate. See {@link io.lettuce.core.codec.CompressionCodec.CompressionType} for supported compression types.
+ * A compressing/decompressing {@link RedisCodec} that wraps a typed {@link RedisCodec codec} and compresses values using GZIP,
+ * Deflate, LZ4 or Zstandard. See {@link io.lettuce.core.codec.CompressionCodec.CompressionType} for supported compression
+ * types. LZ4 and Zstandard require {@code org.lz4:lz4-java} respectively {@code com.github.luben:zstd-jni} on the class path.
+ * <p>
+ * Compressor and decompressor instances as well as intermediate buffers are pooled per codec instance. Workspaces exceeding
+ * the pool capacity are discarded and their zlib compressors {@link Deflater#end() ended} to release native memory. The codec
+ * implements {@link ToByteBufEncoder} so compressed values are written directly into the outbound buffer.
+ * <p>
+ * Values compressed with GZIP or Deflate using {@link #valueCompressor(RedisCodec, CompressionType)} consist of the plain
+ * compressed stream. All other configurations use a framed format: a marker byte indicates whether the value is stored
+ * uncompressed ({@code 0}) or compressed ({@code 1}). Compressed values continue with the uncompressed length (4 bytes, big
+ * endian) followed by the compressed data. Values smaller than the configured threshold or values that do not shrink are
+ * stored uncompressed.
  *
  * @author Mark Paluch
  */
 public abstract class CompressionCodec {
 
+    private static final byte UNCOMPRESSED = 0;
+
+    private static final byte COMPRESSED = 1;
+
+    private static final int FRAME_HEADER_LENGTH = 5;
+
+    /**
+     * Buffers exceeding this size are not retained for reuse.
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Maximum number of idle {@link Workspace workspaces} retained per codec instance.
+     */
+    private static final int MAX_POOLED_WORKSPACES = Runtime.getRuntime().availableProcessors();
+
     private CompressionCodec() {
     }
 
     /**
-     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec}.
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec}. GZIP and Deflate compressed values are
+     * stored as plain compressed streams, LZ4 and Zstandard compressed values use the framed format.
      *
      * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
      * @param compressionType the compression type, must not be {@literal null}.
@@ -47,21 +84,73 @@ public abstract class CompressionCodec {
      * @param <V> Value type.
      * @return Value-compressing codec.
      */
-    @SuppressWarnings({ "rawtypes", "unchecked" })
     public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType) {
+
+        LettuceAssert.notNull(compressionType, "CompressionType must not be null");
+
+        return valueCompressor(delegate, compressionType, !compressionType.isFramed(), 0);
+    }
+
+    /**
+     * A {@link RedisCodec} that compresses values from a delegating {@link RedisCodec} using the framed format. Values whose
+     * encoded size is smaller than {@code minCompressionSize} are stored uncompressed.
+     *
+     * @param delegate codec used for key-value encoding/decoding, must not be {@literal null}.
+     * @param compressionType the compression type, must not be {@literal null}.
+     * @param minCompressionSize minimum encoded value size in bytes to apply compression.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return Value-compressing codec.
+     * @since 6.0
+     */
+    public static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType,
+            int minCompressionSize) {
+
+        LettuceAssert.isTrue(minCompressionSize >= 0, "Minimum compression size must be greater or equal to 0");
+
+        return valueCompressor(delegate, compressionType, false, minCompressionSize);
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private static <K, V> RedisCodec<K, V> valueCompressor(RedisCodec<K, V> delegate, CompressionType compressionType,
+            boolean plain, int minCompressionSize) {
+
         LettuceAssert.notNull(delegate, "RedisCodec must not be null");
         LettuceAssert.notNull(compressionType, "CompressionType must not be null");
-        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType);
+        LettuceAssert.isTrue(compressionType.isAvailable(),
+                () -> String.format("Compression type %s is not available. Make sure to add %s to the class path.",
+                        compressionType, compressionType.dependency));
+
+        return (RedisCodec) new CompressingValueCodecWrapper((RedisCodec) delegate, compressionType.compressor(), plain,
+                minCompressionSize);
     }
 
-    private static class CompressingValueCodecWrapper implements RedisCodec<Object, Object> {
+    private static class CompressingValueCodecWrapper implements RedisCodec<Object, Object>, ToByteBufEncoder<Object, Object> {
+
+        private final RedisCodec<Object, Object> delegate;
+
+        private final ToByteBufEncoder<Object, Object> delegateEncoder;
+
+        private final Compressor compressor;
+
+        private final boolean plain;
+
+        private final int minCompressionSize;
 
-        private RedisCodec<Object, Object> delegate;
-        private CompressionType compressionType;
+        private final BlockingQueue<Workspace> workspaces = new ArrayBlockingQueue<>(MAX_POOLED_WORKSPACES);
+
+        @SuppressWarnings("unchecked")
+        CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, Compressor compressor, boolean plain,
+                int minCompressionSize) {
+
+            LettuceAssert.isTrue(!plain || compressor instanceof StreamCompressor,
+                    "Plain compressed values require a stream compressor");
 
-        public CompressingValueCodecWrapper(RedisCodec<Object, Object> delegate, CompressionType compressionType) {
             this.delegate = delegate;
-            this.compressionType = compressionType;
+            this.delegateEncoder = delegate instanceof ToByteBufEncoder ? (ToByteBufEncoder<Object, Object>) delegate : null;
+            this.compressor = compressor;
+            this.plain = plain;
+            this.minCompressionSize = minCompressionSize;
         }
 
         @Override
@@ -71,10 +160,15 @@ public abstract class CompressionCodec {
 
         @Override
         public Object decodeValue(ByteBuffer bytes) {
+
+            Workspace workspace = acquire();
+
             try {
-                return delegate.decodeValue(decompress(bytes));
-            } catch (IOException e) {
+                return delegate.decodeValue(decompress(bytes, workspace));
+            } catch (IOException | RuntimeException e) {
                 throw new IllegalStateException(e);
+            } finally {
+                release(workspace);
             }
         }
 
@@ -85,103 +179,782 @@ public abstract class CompressionCodec {
 
         @Override
         public ByteBuffer encodeValue(Object value) {
+
+            Workspace workspace = acquire();
+            ByteBuf target = workspace.encodeBuffer();
+
             try {
-                return compress(delegate.encodeValue(value));
-            } catch (IOException e) {
-                throw new IllegalStateException(e);
+                encodeValue(value, target, workspace);
+                return ByteBuffer.wrap(ByteBufUtil.getBytes(target));
+            } finally {
+                workspace.release(target);
+                release(workspace);
             }
         }
 
-        private ByteBuffer compress(ByteBuffer source) throws IOException {
-            if (source.remaining() == 0) {
-                return source;
+        @Override
+        public void encodeKey(Object key, ByteBuf target) {
+
+            if (delegateEncoder != null) {
+                delegateEncoder.encodeKey(key, target);
+                return;
             }
 
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() / 2);
-            OutputStream compressor = null;
+            ByteBuffer encoded = delegate.encodeKey(key);
+            if (encoded != null) {
+                target.writeBytes(encoded);
+            }
+        }
+
+        @Override
+        public void encodeValue(Object value, ByteBuf target) {
+
+            Workspace workspace = acquire();
 
             try {
-                try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source)) {
-                    if (compressionType == CompressionType.GZIP) {
-                        compressor = new GZIPOutputStream(outputStream);
-                    }
+                encodeValue(value, target, workspace);
+            } finally {
+                release(workspace);
+            }
+        }
 
-                    if (compressionType == CompressionType.DEFLATE) {
-                        compressor = new DeflaterOutputStream(outputStream);
-                    }
-                    copy(sourceStream, compressor);
-                } finally {
+        private void encodeValue(Object value, ByteBuf target, Workspace workspace) {
+
+            try {
+                if (delegateEncoder != null) {
 
-                    if (compressor != null) {
-                        compressor.close();
+                    ByteBuf source = target.alloc().heapBuffer(Math.max(delegateEncoder.estimateSize(value), 16));
+
+                    try {
+                        delegateEncoder.encodeValue(value, source);
+                        compress(source.array(), source.arrayOffset() + source.readerIndex(), source.readableBytes(), target,
+                                workspace);
+                    } finally {
+                        source.release();
                     }
+
+                    return;
                 }
 
-                return ByteBuffer.wrap(outputStream.toByteArray());
-            } finally {
-                outputStream.close();
+                ByteBuffer source = delegate.encodeValue(value);
+
+                if (source == null) {
+                    return;
+                }
+
+                int length = source.remaining();
+
+                if (source.hasArray()) {
+                    compress(source.array(), source.arrayOffset() + source.position(), length, target, workspace);
+                } else {
+                    byte[] bytes = workspace.input(length);
+                    source.duplicate().get(bytes, 0, length);
+                    compress(bytes, 0, length, target, workspace);
+                }
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public int estimateSize(Object keyOrValue) {
+            return delegateEncoder != null ? delegateEncoder.estimateSize(keyOrValue) : 0;
+        }
+
+        private Workspace acquire() {
+
+            Workspace workspace = workspaces.poll();
+            return workspace != null ? workspace : new Workspace();
+        }
+
+        private void release(Workspace workspace) {
+
+            if (!workspaces.offer(workspace)) {
+                workspace.end();
+            }
+        }
+
+        private void compress(byte[] source, int offset, int length, ByteBuf target, Workspace workspace)
+                throws IOException {
+
+            if (length == 0 && plain) {
+                return;
+            }
+
+            if (!plain && length < minCompressionSize) {
+                writeUncompressed(source, offset, length, target);
+                return;
+            }
+
+            int header = plain ? 0 : FRAME_HEADER_LENGTH;
+            int bound = compressor.maxCompressedLength(length);
+
+            target.ensureWritable(header + bound);
+
+            int compressed;
+            byte[] scratch = null;
+
+            if (target.hasArray()) {
+                compressed = compressor.compress(workspace, source, offset, length, target.array(),
+                        target.arrayOffset() + target.writerIndex() + header, bound);
+            } else {
+                scratch = workspace.output(bound);
+                compressed = compressor.compress(workspace, source, offset, length, scratch, 0, bound);
+            }
+
+            if (!plain) {
+
+                if (compressed >= length) {
+                    writeUncompressed(source, offset, length, target);
+                    return;
+                }
+
+                target.writeByte(COMPRESSED);
+                target.writeInt(length);
             }
+
+            if (scratch != null) {
+                target.writeBytes(scratch, 0, compressed);
+            } else {
+                target.writerIndex(target.writerIndex() + compressed);
+            }
+        }
+
+        private static void writeUncompressed(byte[] source, int offset, int length, ByteBuf target) {
+
+            target.ensureWritable(length + 1);
+            target.writeByte(UNCOMPRESSED);
+            target.writeBytes(source, offset, length);
         }
 
-        private ByteBuffer decompress(ByteBuffer source) throws IOException {
+        private ByteBuffer decompress(ByteBuffer source, Workspace workspace) throws IOException {
+
             if (source.remaining() == 0) {
                 return source;
             }
 
-            InputStream decompressor = null;
-            ByteArrayOutputStream outputStream = new ByteArrayOutputStream(source.remaining() * 2);
+            int position = source.position();
+            int length = source.remaining();
 
-            try {
-                try (ByteBufferInputStream sourceStream = new ByteBufferInputStream(source);) {
+            if (!plain) {
 
-                    if (compressionType == CompressionType.GZIP) {
-                        decompressor = new GZIPInputStream(sourceStream);
-                    }
+                byte marker = source.get(position);
+
+                if (marker == UNCOMPRESSED) {
+                    ByteBuffer slice = source.duplicate();
+                    slice.position(position + 1);
+                    return slice.slice();
+                }
+
+                if (marker != COMPRESSED || length < FRAME_HEADER_LENGTH) {
+                    throw new ZipException("Unknown compression marker: " + marker);
+                }
+
+                int uncompressedLength = source.getInt(position + 1);
+
+                if (uncompressedLength < 0) {
+                    throw new ZipException("Invalid uncompressed length: " + uncompressedLength);
+                }
+
+                byte[] target = new byte[uncompressedLength];
+
+                if (source.hasArray()) {
+                    compressor.decompress(workspace, source.array(), source.arrayOffset() + position + FRAME_HEADER_LENGTH,
+                            length - FRAME_HEADER_LENGTH, target);
+                } else {
+                    byte[] bytes = workspace.input(length);
+                    source.duplicate().get(bytes, 0, length);
+                    compressor.decompress(workspace, bytes, FRAME_HEADER_LENGTH, length - FRAME_HEADER_LENGTH, target);
+                }
+
+                return ByteBuffer.wrap(target);
+            }
+
+            StreamCompressor streamCompressor = (StreamCompressor) compressor;
+
+            if (source.hasArray()) {
+                return ByteBuffer
+                        .wrap(streamCompressor.decompress(workspace, source.array(), source.arrayOffset() + position, length));
+            }
+
+            byte[] bytes = workspace.input(length);
+            source.duplicate().get(bytes, 0, length);
+            return ByteBuffer.wrap(streamCompressor.decompress(workspace, bytes, 0, length));
+        }
+    }
+
+    public enum CompressionType {
+
+        GZIP(null, null), DEFLATE(null, null),
+
+        /**
+         * LZ4 block compression. Requires {@code org.lz4:lz4-java}.
+         *
+         * @since 6.0
+         */
+        LZ4("net.jpountz.lz4.LZ4Factory", "org.lz4:lz4-java"),
+
+        /**
+         * Zstandard compression. Requires {@code com.github.luben:zstd-jni}.
+         *
+         * @since 6.0
+         */
+        ZSTD("com.github.luben.zstd.Zstd", "com.github.luben:zstd-jni");
+
+        private final boolean available;
+
+        private final String dependency;
+
+        CompressionType(String className, String dependency) {
+            this.available = className == null || LettuceClassUtils.isPresent(className);
+            this.dependency = dependency;
+        }
+
+        /**
+         * @return {@literal true} if the compression type can be used (i.e. its library is on the class path).
+         * @since 6.0
+         */
+        public boolean isAvailable() {
+            return available;
+        }
+
+        boolean isFramed() {
+            return this == LZ4 || this == ZSTD;
+        }
+
+        Compressor compressor() {
+
+            switch (this) {
+                case GZIP:
+                    return GzipCompressor.INSTANCE;
+                case DEFLATE:
+                    return DeflateCompressor.INSTANCE;
+                case LZ4:
+                    return Lz4Compressor.create();
+                case ZSTD:
+                    return ZstdCompressor.INSTANCE;
+                default:
+                    throw new IllegalArgumentException("Unsupported compression type " + this);
+            }
+        }
+    }
+
+    /**
+     * Strategy interface for block compression operating on byte arrays.
+     */
+    abstract static class Compressor {
+
+        /**
+         * @param length uncompressed length.
+         * @return the maximum length of the compressed representation.
+         */
+        abstract int maxCompressedLength(int length);
+
+        /**
+         * Compress {@code source} into {@code target}.
+         *
+         * @return the number of bytes written to {@code target}.
+         */
+        abstract int compress(Workspace workspace, byte[] source, int offset, int length, byte[] target, int targetOffset,
+                int maxLength) throws IOException;
+
+        /**
+         * Decompress {@code source} into {@code target} whose length is the exact uncompressed length.
+         */
+        abstract void decompress(Workspace workspace, byte[] source, int offset, int length, byte[] target)
+                throws IOException;
+    }
+
+    /**
+     * {@link Compressor} for self-delimiting streams that can be decompressed without knowing the uncompressed length
+     * upfront. Required for plain (unframed) values.
+     */
+    abstract static class StreamCompressor extends Compressor {
+
+        /**
+         * Decompress {@code source} without knowing the uncompressed length upfront.
+         *
+         * @return the decompressed bytes.
+         */
+        abstract byte[] decompress(Workspace workspace, byte[] source, int offset, int length) throws IOException;
+    }
+
+    /**
+     * Deflate (zlib) compression compatible with {@link java.util.zip.DeflaterOutputStream}.
+     */
+    static class DeflateCompressor extends StreamCompressor {
+
+        static final DeflateCompressor INSTANCE = new DeflateCompressor();
+
+        @Override
+        int maxCompressedLength(int length) {
+            // zlib compressBound plus wrapper overhead
+            return length + (length >>> 12) + (length >>> 14) + (length >>> 25) + 13 + 18;
+        }
+
+        @Override
+        int compress(Workspace workspace, byte[] source, int offset, int length, byte[] target, int targetOffset,
+                int maxLength) throws IOException {
+            return deflate(workspace.deflater(false), source, offset, length, target, targetOffset, maxLength);
+        }
+
+        @Override
+        void decompress(Workspace workspace, byte[] source, int offset, int length, byte[] target) throws IOException {
+
+            Inflater inflater = workspace.inflater(false);
+            inflater.setInput(source, offset, length);
+
+            if (inflate(inflater, target, 0) != target.length || !inflater.finished()) {
+                throw new ZipException("Uncompressed length does not match");
+            }
+        }
+
+        @Override
+        byte[] decompress(Workspace workspace, byte[] source, int offset, int length) throws IOException {
+
+            Inflater inflater = workspace.inflater(false);
+            inflater.setInput(source, offset, length);
+
+            return inflateFully(inflater, length * 2);
+        }
+    }
+
+    /**
+     * GZIP compression compatible with {@link java.util.zip.GZIPOutputStream} and {@link java.util.zip.GZIPInputStream}.
+     */
+    static class GzipCompressor extends StreamCompressor {
+
+        static final GzipCompressor INSTANCE = new GzipCompressor();
+
+        private static final int GZIP_MAGIC = 0x8b1f;
+
+        private static final int HEADER_LENGTH = 10;
+
+        private static final int TRAILER_LENGTH = 8;
+
+        private static final int FHCRC = 2, FEXTRA = 4, FNAME = 8, FCOMMENT = 16;
+
+        private static final byte[] HEADER = { (byte) GZIP_MAGIC, (byte) (GZIP_MAGIC >> 8), Deflater.DEFLATED, 0, 0, 0, 0, 0,
+                0, 0 };
+
+        @Override
+        int maxCompressedLength(int length) {
+            return DeflateCompressor.INSTANCE.maxCompressedLength(length) + HEADER_LENGTH + TRAILER_LENGTH;
+        }
+
+        @Override
+        int compress(Workspace workspace, byte[] source, int offset, int length, byte[] target, int targetOffset,
+                int maxLength) throws IOException {
+
+            System.arraycopy(HEADER, 0, target, targetOffset, HEADER_LENGTH);
 
-                    if (compressionType == CompressionType.DEFLATE) {
-                        decompressor = new InflaterInputStream(sourceStream);
+            int compressed = deflate(workspace.deflater(true), source, offset, length, target, targetOffset + HEADER_LENGTH,
+                    maxLength - HEADER_LENGTH - TRAILER_LENGTH);
+
+            CRC32 crc = workspace.crc();
+            crc.update(source, offset, length);
+
+            int trailer = targetOffset + HEADER_LENGTH + compressed;
+            writeIntLE(target, trailer, (int) crc.getValue());
+            writeIntLE(target, trailer + 4, length);
+
+            return HEADER_LENGTH + compressed + TRAILER_LENGTH;
+        }
+
+        @Override
+        void decompress(Workspace workspace, byte[] source, int offset, int length, byte[] target) throws IOException {
+
+            byte[] result = decompress(workspace, source, offset, length);
+
+            if (result.length != target.length) {
+                throw new ZipException("Uncompressed length does not match");
+            }
+
+            System.arraycopy(result, 0, target, 0, result.length);
+        }
+
+        @Override
+        byte[] decompress(Workspace workspace, byte[] source, int offset, int length) throws IOException {
+
+            int end = offset + length;
+            int position = readHeader(source, offset, end);
+
+            if (end - position < TRAILER_LENGTH) {
+                throw new EOFException("Unexpected end of ZLIB input stream");
+            }
+
+            int expectedLength = readIntLE(source, end - 4);
+
+            Inflater inflater = workspace.inflater(true);
+            inflater.setInput(source, position, end - position - TRAILER_LENGTH);
+
+            byte[] result = inflateFully(inflater, Math.max(expectedLength, 16));
+
+            CRC32 crc = workspace.crc();
+            crc.update(result, 0, result.length);
+
+            if (readIntLE(source, end - 8) != (int) crc.getValue()) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+
+            if (expectedLength != result.length) {
+                throw new ZipException("Corrupt GZIP trailer");
+            }
+
+            return result;
+        }
+
+        private static int readHeader(byte[] source, int offset, int end) throws IOException {
+
+            if (end - offset < HEADER_LENGTH) {
+                throw new EOFException();
+            }
+
+            if ((source[offset] & 0xFF | (source[offset + 1] & 0xFF) << 8) != GZIP_MAGIC) {
+                throw new ZipException("Not in GZIP format");
+            }
+
+            if (source[offset + 2] != Deflater.DEFLATED) {
+                throw new ZipException("Unsupported compression method");
+            }
+
+            int flags = source[offset + 3] & 0xFF;
+            int position = offset + HEADER_LENGTH;
+
+            if ((flags & FEXTRA) == FEXTRA) {
+                position += 2 + (source[position] & 0xFF | (source[position + 1] & 0xFF) << 8);
+            }
+
+            if ((flags & FNAME) == FNAME) {
+                position = skipZeroTerminated(source, position, end);
+            }
+
+            if ((flags & FCOMMENT) == FCOMMENT) {
+                position = skipZeroTerminated(source, position, end);
+            }
+
+            if ((flags & FHCRC) == FHCRC) {
+                position += 2;
+            }
+
+            if (position > end) {
+                throw new EOFException();
+            }
+
+            return position;
+        }
+
+        private static int skipZeroTerminated(byte[] source, int position, int end) throws EOFException {
+
+            while (position < end) {
+                if (source[position++] == 0) {
+                    return position;
+                }
+            }
+
+            throw new EOFException();
+        }
+
+        private static void writeIntLE(byte[] target, int offset, int value) {
+
+            target[offset] = (byte) value;
+            target[offset + 1] = (byte) (value >> 8);
+            target[offset + 2] = (byte) (value >> 16);
+            target[offset + 3] = (byte) (value >> 24);
+        }
+
+        private static int readIntLE(byte[] source, int offset) {
+            return (source[offset] & 0xFF) | (source[offset + 1] & 0xFF) << 8 | (source[offset + 2] & 0xFF) << 16
+                    | (source[offset + 3] & 0xFF) << 24;
+        }
+    }
+
+    /**
+     * LZ4 block compression. Isolated in its own class to load LZ4 classes only if LZ4 is used.
+     */
+    static class Lz4Compressor extends Compressor {
+
+        private final LZ4Factory factory;
+
+        private Lz4Compressor(LZ4Factory factory) {
+            this.factory = factory;
+        }
+
+        static Lz4Compressor create() {
+            return new Lz4Compressor(LZ4Factory.fastestInstance());
+        }
+
+        @Override
+        int maxCompressedLength(int length) {
+            return factory.fastCompressor().maxCompressedLength(length);
+        }
+
+        @Override
+        int compress(Workspace workspace, byte[] source, int offset, int length, byte[] target, int targetOffset,
+                int maxLength) {
+            return factory.fastCompressor().compress(source, offset, length, target, targetOffset, maxLength);
+        }
+
+        @Override
+        void decompress(Workspace workspace, byte[] source, int offset, int length, byte[] target) throws IOException {
+
+            int decompressed = factory.safeDecompressor().decompress(source, offset, length, target, 0, target.length);
+
+            if (decompressed != target.length) {
+                throw new ZipException("Uncompressed length does not match");
+            }
+        }
+    }
+
+    /**
+     * Zstandard compression. Isolated in its own class to load Zstandard classes only if Zstandard is used.
+     */
+    static class ZstdCompressor extends Compressor {
+
+        static final ZstdCompressor INSTANCE = new ZstdCompressor();
+
+        private static final int DEFAULT_LEVEL = 3;
+
+        @Override
+        int maxCompressedLength(int length) {
+            return (int) Zstd.compressBound(length);
+        }
+
+        @Override
+        int compress(Workspace workspace, byte[] source, int offset, int length, byte[] target, int targetOffset,
+                int maxLength) throws IOException {
+
+            long result = Zstd.compressByteArray(target, targetOffset, maxLength, source, offset, length, DEFAULT_LEVEL);
+
+            if (Zstd.isError(result)) {
+                throw new ZipException(Zstd.getErrorName(result));
+            }
+
+            return (int) result;
+        }
+
+        @Override
+        void decompress(Workspace workspace, byte[] source, int offset, int length, byte[] target) throws IOException {
+
+            long result = Zstd.decompressByteArray(target, 0, target.length, source, offset, length);
+
+            if (Zstd.isError(result)) {
+                throw new ZipException(Zstd.getErrorName(result));
+            }
+
+            if (result != target.length) {
+                throw new ZipException("Uncompressed length does not match");
+            }
+        }
+    }
+
+    private static int deflate(Deflater deflater, byte[] source, int offset, int length, byte[] target, int targetOffset,
+            int maxLength) throws IOException {
+
+        deflater.setInput(source, offset, length);
+        deflater.finish();
+
+        int written = 0;
+
+        while (!deflater.finished()) {
+
+            int count = deflater.deflate(target, targetOffset + written, maxLength - written);
+
+            if (count == 0 && written == maxLength) {
+                throw new ZipException("Compressed data exceeds buffer size");
+            }
+
+            written += count;
+        }
+
+        return written;
+    }
+
+    private static int inflate(Inflater inflater, byte[] target, int offset) throws IOException {
+
+        int written = offset;
+
+        try {
+            while (written < target.length && !inflater.finished()) {
+
+                int count = inflater.inflate(target, written, target.length - written);
+
+                if (count == 0) {
+
+                    if (inflater.needsDictionary()) {
+                        throw new ZipException("Inflater needs dictionary");
                     }
 
-                    copy(decompressor, outputStream);
-                } finally {
-                    if (decompressor != null) {
-                        decompressor.close();
+                    if (inflater.needsInput()) {
+                        throw new EOFException("Unexpected end of ZLIB input stream");
                     }
                 }
 
-                return ByteBuffer.wrap(outputStream.toByteArray());
-            } finally {
-                outputStream.close();
+                written += count;
+            }
+        } catch (DataFormatException e) {
+            throw new ZipException(e.getMessage());
+        }
+
+        return written;
+    }
+
+    private static byte[] inflateFully(Inflater inflater, int initialCapacity) throws IOException {
+
+        byte[] target = new byte[Math.max(initialCapacity, 16)];
+        int written = 0;
+
+        for (;;) {
+
+            written = inflate(inflater, target, written);
+
+            if (inflater.finished()) {
+                return written == target.length ? target : Arrays.copyOf(target, written);
             }
+
+            target = Arrays.copyOf(target, target.length * 2);
         }
     }
 
     /**
-     * Copies all bytes from the input stream to the output stream. Does not close or flush either stream.
-     *
-     * @param from the input stream to read from
-     * @param to the output stream to write to
-     * @return the number of bytes copied
-     * @throws IOException if an I/O error occurs
+     * Compressor state and scratch buffers. A workspace is used by a single thread at a time.
      */
-    private static long copy(InputStream from, OutputStream to) throws IOException {
-        LettuceAssert.notNull(from, "From must not be null");
-        LettuceAssert.notNull(to, "From must not be null");
-        byte[] buf = new byte[4096];
-        long total = 0;
-        while (true) {
-            int r = from.read(buf);
-            if (r == -1) {
-                break;
+    static class Workspace {
+
+        private Deflater deflater;
+
+        private Deflater gzipDeflater;
+
+        private Inflater inflater;
+
+        private Inflater gzipInflater;
+
+        private CRC32 crc;
+
+        private byte[] input;
+
+        private byte[] output;
+
+        private ByteBuf encodeBuffer;
+
+        Deflater deflater(boolean nowrap) {
+
+            Deflater deflater = nowrap ? gzipDeflater : this.deflater;
+
+            if (deflater == null) {
+                deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap);
+                if (nowrap) {
+                    gzipDeflater = deflater;
+                } else {
+                    this.deflater = deflater;
+                }
             }
-            to.write(buf, 0, r);
-            total += r;
+
+            deflater.reset();
+            return deflater;
         }
-        return total;
-    }
 
-    public enum CompressionType {
-        GZIP, DEFLATE;
+        Inflater inflater(boolean nowrap) {
+
+            Inflater inflater = nowrap ? gzipInflater : this.inflater;
+
+            if (inflater == null) {
+                inflater = new Inflater(nowrap);
+                if (nowrap) {
+                    gzipInflater = inflater;
+                } else {
+                    this.inflater = inflater;
+                }
+            }
+
+            inflater.reset();
+            return inflater;
+        }
+
+        CRC32 crc() {
+
+            if (crc == null) {
+                crc = new CRC32();
+            }
+
+            crc.reset();
+            return crc;
+        }
+
+        byte[] input(int size) {
+
+            if (input != null && input.length >= size) {
+                return input;
+            }
+
+            byte[] bytes = new byte[size];
+            if (size <= MAX_RETAINED_BUFFER_SIZE) {
+                input = bytes;
+            }
+            return bytes;
+        }
+
+        byte[] output(int size) {
+
+            if (output != null && output.length >= size) {
+                return output;
+            }
+
+            byte[] bytes = new byte[size];
+            if (size <= MAX_RETAINED_BUFFER_SIZE) {
+                output = bytes;
+            }
+            return bytes;
+        }
+
+        ByteBuf encodeBuffer() {
+
+            ByteBuf buffer = encodeBuffer;
+
+            if (buffer == null) {
+                return Unpooled.buffer();
+            }
+
+            encodeBuffer = null;
+            return buffer.clear();
+        }
+
+        void release(ByteBuf buffer) {
+
+            if (buffer.capacity() <= MAX_RETAINED_BUFFER_SIZE) {
+                encodeBuffer = buffer;
+            }
+        }
+
+        /**
+         * Release native compressor resources and drop retained buffers.
+         */
+        void end() {
+
+            if (deflater != null) {
+                deflater.end();
+                deflater = null;
+            }
+
+            if (gzipDeflater != null) {
+                gzipDeflater.end();
+                gzipDeflater = null;
+            }
+
+            if (inflater != null) {
+                inflater.end();
+                inflater = null;
+            }
+
+            if (gzipInflater != null) {
+                gzipInflater.end();
+                gzipInflater = null;
+            }
+
+            input = null;
+            output = null;
+            encodeBuffer = null;
+        }
     }
 
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.codec;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Optimized decoder that decodes keys and values directly from a {@link ByteBuf}. The decoder is called with a slice of the
+ * inbound buffer when {@link io.lettuce.core.ClientOptions#isZeroCopyDecoding() zero-copy decoding} is enabled so response
+ * data does not need to be copied into an intermediate buffer.
+ * <p>
+ * The given {@link ByteBuf} is only valid for the duration of the method call. Implementations that want to hold on to the
+ * buffer must {@link ByteBuf#retain() retain} it (or a {@link ByteBuf#retainedSlice() retained slice}) and release it once
+ * they are done. Decoders must not change the reader or writer index of the buffer.
+ * </p>
+ * <p>
+ * Classes implementing {@link FromByteBufDecoder} are required to implement {@link RedisCodec} as well.
+ * </p>
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see ToByteBufEncoder
+ */
+public interface FromByteBufDecoder<K, V> {
+
+    /**
+     * Decode the key output by redis.
+     *
+     * @param bytes Raw bytes of the key, must not be {@literal null}.
+     * @return The decoded key, may be {@literal null}.
+     */
+    K decodeKey(ByteBuf bytes);
+
+    /**
+     * Decode the value output by redis.
+     *
+     * @param bytes Raw bytes of the value, must not be {@literal null}.
+     * @return The decoded value, may be {@literal null}.
+     */
+    V decodeValue(ByteBuf bytes);
+}
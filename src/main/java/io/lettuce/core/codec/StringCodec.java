@@ -24,24 +24,44 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import io.netty.util.CharsetUtil;
+import io.netty.util.concurrent.FastThreadLocal;
 
 /**
  * Optimized String codec. This {@link RedisCodec} encodes and decodes {@link String} keys and values using a specified
- * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding.
+ * {@link Charset}. It accepts provided {@link ByteBuf buffers} so it does not need to allocate buffers during encoding and it
+ * decodes directly from the inbound {@link ByteBuf} if zero-copy decoding is enabled.
+ * <p>
+ * Decoding with an ASCII-compatible {@link Charset} ({@literal UTF-8}, {@literal US-ASCII}, {@literal ISO-8859-1}) constructs
+ * the {@link String} straight from the bytes without wrapping them into a {@link ByteBuf}. Decoded keys can be additionally
+ * interned through a bounded cache, see {@link #StringCodec(Charset, int)}, to avoid re-allocating repeatedly decoded keys
+ * (e.g. from {@literal KEYS}, {@literal SCAN}, {@literal HKEYS} or stream field names).
  *
  * @author Mark Paluch
  * @since 4.3
  */
-public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder<String, String> {
+public class StringCodec
+        implements RedisCodec<String, String>, ToByteBufEncoder<String, String>, FromByteBufDecoder<String, String> {
 
     public static final StringCodec UTF8 = new StringCodec(StandardCharsets.UTF_8);
     public static final StringCodec ASCII = new StringCodec(StandardCharsets.US_ASCII);
 
     private static final byte[] EMPTY = new byte[0];
 
+    private static final int SCRATCH_SIZE = 1024;
+
+    private static final FastThreadLocal<byte[]> SCRATCH = new FastThreadLocal<byte[]>() {
+
+        @Override
+        protected byte[] initialValue() {
+            return new byte[SCRATCH_SIZE];
+        }
+    };
+
     private final Charset charset;
     private final boolean ascii;
     private final boolean utf8;
+    private final boolean asciiCompatible;
+    private final KeyCache keyCache;
 
     /**
      * Creates a new {@link StringCodec} with the default {@link Charset#defaultCharset() charset}. The default is determined
@@ -57,10 +77,25 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
      * @param charset must not be {@literal null}.
      */
     public StringCodec(Charset charset) {
+        this(charset, 0);
+    }
+
+    /**
+     * Creates a new {@link StringCodec} for the given {@link Charset} that encodes and decodes keys and values and interns
+     * decoded keys in a bounded cache. The cache retains up to {@code keyCacheSize} keys (rounded up to the next power of
+     * two) of up to {@literal 64} bytes. Colliding keys replace each other so the cache never grows beyond its capacity.
+     *
+     * @param charset must not be {@literal null}.
+     * @param keyCacheSize number of cached keys, {@literal 0} to disable key interning.
+     * @since 6.0
+     */
+    public StringCodec(Charset charset, int keyCacheSize) {
 
         LettuceAssert.notNull(charset, "Charset must not be null");
+        LettuceAssert.isTrue(keyCacheSize >= 0, "Key cache size must be greater or equal to 0");
 
         this.charset = charset;
+        this.keyCache = keyCacheSize > 0 ? new KeyCache(keyCacheSize) : null;
 
         if (charset.name().equals("UTF-8")) {
             utf8 = true;
@@ -72,6 +107,8 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
             ascii = false;
             utf8 = false;
         }
+
+        this.asciiCompatible = utf8 || ascii || charset.equals(StandardCharsets.ISO_8859_1);
     }
 
     @Override
@@ -99,7 +136,7 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
         int length = (int) ((double) str.length() * encoder.maxBytesPerChar());
         target.ensureWritable(length);
         try {
-            final ByteBuffer dstBuf = target.nioBuffer(0, length);
+            final ByteBuffer dstBuf = target.nioBuffer(target.writerIndex(), length);
             final int pos = dstBuf.position();
             CoderResult cr = encoder.encode(CharBuffer.wrap(str), dstBuf, true);
             if (!cr.isUnderflow()) {
@@ -119,6 +156,15 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
     public int estimateSize(Object keyOrValue) {
 
         if (keyOrValue instanceof String) {
+
+            if (ascii) {
+                return ((String) keyOrValue).length();
+            }
+
+            if (utf8) {
+                return ByteBufUtil.utf8Bytes((String) keyOrValue);
+            }
+
             CharsetEncoder encoder = CharsetUtil.encoder(charset);
             return (int) (encoder.averageBytesPerChar() * ((String) keyOrValue).length());
         }
@@ -132,12 +178,88 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
 
     @Override
     public String decodeKey(ByteBuffer bytes) {
-        return Unpooled.wrappedBuffer(bytes).toString(charset);
+        return decode(bytes, keyCache);
     }
 
     @Override
     public String decodeValue(ByteBuffer bytes) {
-        return Unpooled.wrappedBuffer(bytes).toString(charset);
+        return decode(bytes, null);
+    }
+
+    @Override
+    public String decodeKey(ByteBuf bytes) {
+        return decode(bytes, keyCache);
+    }
+
+    @Override
+    public String decodeValue(ByteBuf bytes) {
+        return decode(bytes, null);
+    }
+
+    private String decode(ByteBuffer bytes, KeyCache cache) {
+
+        if (!asciiCompatible) {
+            return Unpooled.wrappedBuffer(bytes).toString(charset);
+        }
+
+        int length = bytes.remaining();
+
+        if (length == 0) {
+            return "";
+        }
+
+        if (bytes.hasArray()) {
+            return decode(bytes.array(), bytes.arrayOffset() + bytes.position(), length, cache);
+        }
+
+        byte[] array = getScratch(length);
+        bytes.duplicate().get(array, 0, length);
+
+        return decode(array, 0, length, cache);
+    }
+
+    private String decode(ByteBuf bytes, KeyCache cache) {
+
+        if (!asciiCompatible) {
+            return bytes.toString(charset);
+        }
+
+        int length = bytes.readableBytes();
+
+        if (length == 0) {
+            return "";
+        }
+
+        if (bytes.hasArray()) {
+            return decode(bytes.array(), bytes.arrayOffset() + bytes.readerIndex(), length, cache);
+        }
+
+        byte[] array = getScratch(length);
+        bytes.getBytes(bytes.readerIndex(), array, 0, length);
+
+        return decode(array, 0, length, cache);
+    }
+
+    /**
+     * Decode {@code length} bytes starting at {@code offset}. {@literal US-ASCII} is decoded as {@literal ISO-8859-1} which maps
+     * bytes to chars one by one without charset decoding. {@link String} construction detects pure ASCII input and creates a
+     * compact {@link String} for {@literal UTF-8} and {@literal ISO-8859-1}.
+     */
+    private String decode(byte[] array, int offset, int length, KeyCache cache) {
+
+        if (cache != null) {
+            return cache.get(array, offset, length, this);
+        }
+
+        return newString(array, offset, length);
+    }
+
+    private String newString(byte[] array, int offset, int length) {
+        return new String(array, offset, length, ascii ? StandardCharsets.ISO_8859_1 : charset);
+    }
+
+    private static byte[] getScratch(int length) {
+        return length <= SCRATCH_SIZE ? SCRATCH.get() : new byte[length];
     }
 
     @Override
@@ -171,4 +293,96 @@ public class StringCodec implements RedisCodec<String, String>, ToByteBufEncoder
 
         return buffer;
     }
+
+    /**
+     * Bounded, direct-mapped cache of decoded keys. Each entry retains the encoded key bytes along with the decoded
+     * {@link String}. Lookups and updates are not synchronized: a racy update replaces an entry with another equal or
+     * colliding entry which is safe because entries are immutable.
+     */
+    static class KeyCache {
+
+        static final int MAX_KEY_LENGTH = 64;
+
+        private final Entry[] entries;
+
+        private final int mask;
+
+        KeyCache(int size) {
+
+            int capacity = 1;
+            while (capacity < size && capacity < (1 << 30)) {
+                capacity <<= 1;
+            }
+
+            this.entries = new Entry[capacity];
+            this.mask = capacity - 1;
+        }
+
+        String get(byte[] array, int offset, int length, StringCodec codec) {
+
+            if (length > MAX_KEY_LENGTH) {
+                return codec.newString(array, offset, length);
+            }
+
+            int index = hash(array, offset, length) & mask;
+            Entry entry = entries[index];
+
+            if (entry != null && entry.matches(array, offset, length)) {
+                return entry.value;
+            }
+
+            byte[] bytes = new byte[length];
+            System.arraycopy(array, offset, bytes, 0, length);
+
+            String value = codec.newString(bytes, 0, length);
+            entries[index] = new Entry(bytes, value);
+            return value;
+        }
+
+        /**
+         * Hash the length and the leading and trailing bytes. Keys typically share a prefix and differ in their suffix.
+         */
+        private static int hash(byte[] array, int offset, int length) {
+
+            int hash = length;
+            int end = offset + length;
+
+            for (int i = offset; i < Math.min(end, offset + 4); i++) {
+                hash = 31 * hash + array[i];
+            }
+
+            for (int i = Math.max(offset + 4, end - 8); i < end; i++) {
+                hash = 31 * hash + array[i];
+            }
+
+            return hash ^ (hash >>> 16);
+        }
+
+        static class Entry {
+
+            final byte[] bytes;
+
+            final String value;
+
+            Entry(byte[] bytes, String value) {
+                this.bytes = bytes;
+                this.value = value;
+            }
+
+            boolean matches(byte[] array, int offset, int length) {
+
+                if (bytes.length != length) {
+                    return false;
+                }
+
+                for (int i = 0; i < length; i++) {
+                    if (bytes[i] != array[offset + i]) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+        }
+    }
 }
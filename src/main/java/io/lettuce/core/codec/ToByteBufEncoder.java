@@ -25,6 +25,12 @@ import io.netty.buffer.ByteBuf;
  * the {@link RedisCodec#encodeKey(Object)} and {@link RedisCodec#encodeValue(Object)} methods to ensure compatibility for users
  * that access the {@link RedisCodec} API only.
  * </p>
+ * <p>
+ * Keys and values are encoded directly into the command buffer. The target buffer may therefore already contain data before
+ * its {@link ByteBuf#writerIndex() writer index}. Implementations must append the encoded data starting at the current writer
+ * index, advance the writer index by the number of written bytes and must not modify data before the writer index nor rely on
+ * absolute buffer positions.
+ * </p>
  *
  * @author Mark Paluch
  * @since 4.3
@@ -35,7 +41,8 @@ public interface ToByteBufEncoder<K, V> {
      * Encode the key for output to redis.
      *
      * @param key the key, may be {@literal null}.
-     * @param target the target buffer, must not be {@literal null}.
+     * @param target the target buffer, must not be {@literal null}. The buffer may contain data of previously encoded
+     *        arguments. Encoded data must be written starting at the current {@link ByteBuf#writerIndex() writer index}.
      */
     void encodeKey(K key, ByteBuf target);
 
@@ -43,7 +50,8 @@ public interface ToByteBufEncoder<K, V> {
      * Encode the value for output to redis.
      *
      * @param value the value, may be {@literal null}.
-     * @param target the target buffer, must not be {@literal null}.
+     * @param target the target buffer, must not be {@literal null}. The buffer may contain data of previously encoded
+     *        arguments. Encoded data must be written starting at the current {@link ByteBuf#writerIndex() writer index}.
      */
     void encodeValue(V value, ByteBuf target);
 
@@ -199,6 +199,21 @@ public class AsyncConnectionProvider<K, T extends AsyncCloseable, F extends Comp
         connections.forEach((key, sync) -> sync.doWithConnection(action));
     }
 
+    /**
+     * Execute an action for all established {@link AsyncCloseable}s. Pending connections are skipped.
+     *
+     * @param action the action.
+     * @since 6.0
+     */
+    public void forEachEstablished(BiConsumer<? super K, ? super T> action) {
+
+        connections.forEach((key, sync) -> {
+            if (sync.isComplete()) {
+                action.accept(key, sync.connection);
+            }
+        });
+    }
+
     static class Sync<K, T extends AsyncCloseable, F extends CompletionStage<T>> {
 
         private static final int PHASE_IN_PROGRESS = 0;
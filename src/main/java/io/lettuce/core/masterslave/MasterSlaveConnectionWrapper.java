@@ -21,7 +21,9 @@ import java.util.concurrent.CompletableFuture;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ReadFrom;
+import io.lettuce.core.TransactionBuilder;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.masterreplica.StatefulRedisMasterReplicaConnection;
@@ -57,6 +59,21 @@ class MasterSlaveConnectionWrapper<K, V> implements StatefulRedisMasterSlaveConn
         return delegate.isMulti();
     }
 
+    @Override
+    public TransactionBuilder<K, V> transaction() {
+        return delegate.transaction();
+    }
+
+    @Override
+    public void addListener(PushListener listener) {
+        delegate.addListener(listener);
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+        delegate.removeListener(listener);
+    }
+
     @Override
     public RedisCommands<K, V> sync() {
         return delegate.sync();
@@ -26,8 +26,11 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.HdrHistogram.Histogram;
 import org.LatencyUtils.LatencyStats;
@@ -43,6 +46,10 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
  * Default implementation of a {@link CommandLatencyCollector} for command latencies.
+ * <p>
+ * Latencies are recorded into {@link LatencyStats} per endpoint and command type. Recording resolves the endpoint with two map
+ * lookups keyed by the given {@link SocketAddress addresses} and the command through an array slot for {@link CommandType}s so
+ * that recording does not allocate. {@link CommandLatencyId}s are created only when retrieving metrics.
  *
  * @author Mark Paluch
  */
@@ -63,16 +70,15 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
     // Updated via PAUSE_DETECTOR_UPDATER
     private volatile PauseDetectorWrapper pauseDetectorWrapper;
 
-    private final AtomicReference<Map<CommandLatencyId, Latencies>> latencyMetricsRef = new AtomicReference<>(
-            createNewLatencyMap());
+    private final AtomicReference<LatencyTable> latencyMetricsRef;
 
     private volatile boolean stopped;
-    private final Function<CommandLatencyId, Latencies> createLatencies;
+    private final Supplier<Latencies> createLatencies;
 
     public DefaultCommandLatencyCollector(CommandLatencyCollectorOptions options) {
 
         this.options = options;
-        this.createLatencies = id -> {
+        this.createLatencies = () -> {
 
             if (PAUSE_DETECTOR_UPDATER.get(this) == null) {
                 if (PAUSE_DETECTOR_UPDATER.compareAndSet(this, null, GLOBAL_PAUSE_DETECTOR)) {
@@ -87,6 +93,7 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
 
             return new CummulativeLatencies(pauseDetector);
         };
+        this.latencyMetricsRef = new AtomicReference<>(createNewLatencyTable());
     }
 
     /**
@@ -105,16 +112,13 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             return;
         }
 
-        Latencies latencies = latencyMetricsRef.get().computeIfAbsent(createId(local, remote, commandType), createLatencies);
+        Latencies latencies = latencyMetricsRef.get().getLatencies(options.localDistinction() ? local : LocalAddress.ANY,
+                remote, commandType);
 
         latencies.firstResponse.recordLatency(rangify(firstResponseLatency));
         latencies.completion.recordLatency(rangify(completionLatency));
     }
 
-    private CommandLatencyId createId(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
-        return CommandLatencyId.create(options.localDistinction() ? local : LocalAddress.ANY, remote, commandType);
-    }
-
     private long rangify(long latency) {
         return Math.max(MIN_LATENCY, Math.min(MAX_LATENCY, latency));
     }
@@ -134,26 +138,24 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
             pauseDetectorWrapper.release();
         }
 
-        Map<CommandLatencyId, Latencies> latenciesMap = latencyMetricsRef.get();
-        if (latencyMetricsRef.compareAndSet(latenciesMap, Collections.emptyMap())) {
-            latenciesMap.values().forEach(Latencies::stop);
+        LatencyTable latencyTable = latencyMetricsRef.get();
+        if (latencyMetricsRef.compareAndSet(latencyTable, createNewLatencyTable())) {
+            latencyTable.forEach((id, latencies) -> latencies.stop());
         }
     }
 
     @Override
     public Map<CommandLatencyId, CommandMetrics> retrieveMetrics() {
 
-        Map<CommandLatencyId, Latencies> latenciesMap = latencyMetricsRef.get();
-        Map<CommandLatencyId, Latencies> metricsToUse;
+        Map<CommandLatencyId, Latencies> metricsToUse = new HashMap<>();
 
         if (options.resetLatenciesAfterEvent()) {
 
-            metricsToUse = latenciesMap;
-            latencyMetricsRef.set(createNewLatencyMap());
+            latencyMetricsRef.getAndSet(createNewLatencyTable()).forEach(metricsToUse::put);
 
             metricsToUse.values().forEach(Latencies::stop);
         } else {
-            metricsToUse = new HashMap<>(latenciesMap);
+            latencyMetricsRef.get().forEach(metricsToUse::put);
         }
 
         return getMetrics(metricsToUse);
@@ -215,8 +217,8 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         return LATENCY_UTILS_AVAILABLE && HDR_UTILS_AVAILABLE;
     }
 
-    private static ConcurrentHashMap<CommandLatencyId, Latencies> createNewLatencyMap() {
-        return new ConcurrentHashMap<>(CommandType.values().length);
+    private LatencyTable createNewLatencyTable() {
+        return new LatencyTable(createLatencies);
     }
 
     /**
@@ -294,11 +296,133 @@ public class DefaultCommandLatencyCollector implements CommandLatencyCollector {
         @Override
         public Histogram getCompletionHistogram() {
 
-            completion.add(super.getFirstResponseHistogram());
+            completion.add(super.getCompletionHistogram());
             return completion;
         }
     }
 
+    /**
+     * Table of {@link Latencies} per endpoint (local and remote address) and command. Endpoints are looked up by remote and
+     * then by local address.
+     */
+    static class LatencyTable {
+
+        private final Map<SocketAddress, Map<SocketAddress, EndpointLatencies>> endpoints = new ConcurrentHashMap<>();
+
+        private final Function<SocketAddress, Map<SocketAddress, EndpointLatencies>> createLocals = remote -> {
+            return new ConcurrentHashMap<>();
+        };
+
+        private final Supplier<Latencies> createLatencies;
+
+        LatencyTable(Supplier<Latencies> createLatencies) {
+            this.createLatencies = createLatencies;
+        }
+
+        Latencies getLatencies(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType) {
+
+            Map<SocketAddress, EndpointLatencies> locals = endpoints.get(remote);
+
+            if (locals == null) {
+                locals = endpoints.computeIfAbsent(remote, createLocals);
+            }
+
+            EndpointLatencies endpoint = locals.get(local);
+
+            if (endpoint == null) {
+                endpoint = locals.computeIfAbsent(local, it -> new EndpointLatencies(it, remote, createLatencies));
+            }
+
+            return endpoint.getLatencies(commandType);
+        }
+
+        void forEach(BiConsumer<CommandLatencyId, Latencies> action) {
+            endpoints.values().forEach(locals -> locals.values().forEach(endpoint -> endpoint.forEach(action)));
+        }
+    }
+
+    /**
+     * {@link Latencies} of a single endpoint. {@link CommandType} latencies are held in an array indexed by the ordinal,
+     * other {@link ProtocolKeyword}s in a map keyed by {@link ProtocolKeyword#name()} so that distinct keyword instances
+     * of the same command share their {@link Latencies}, matching the identity of {@link CommandLatencyId}.
+     */
+    static class EndpointLatencies {
+
+        private static final int COMMAND_TYPES = CommandType.values().length;
+
+        private final SocketAddress local;
+
+        private final SocketAddress remote;
+
+        private final Supplier<Latencies> createLatencies;
+
+        private final AtomicReferenceArray<Latencies> commandTypes = new AtomicReferenceArray<>(COMMAND_TYPES);
+
+        private final Map<String, KeywordLatencies> otherCommands = new ConcurrentHashMap<>();
+
+        EndpointLatencies(SocketAddress local, SocketAddress remote, Supplier<Latencies> createLatencies) {
+            this.local = local;
+            this.remote = remote;
+            this.createLatencies = createLatencies;
+        }
+
+        Latencies getLatencies(ProtocolKeyword commandType) {
+
+            if (!(commandType instanceof CommandType)) {
+                return otherCommands.computeIfAbsent(commandType.name(),
+                        it -> new KeywordLatencies(commandType, createLatencies.get())).latencies;
+            }
+
+            int slot = ((CommandType) commandType).ordinal();
+            Latencies latencies = commandTypes.get(slot);
+
+            if (latencies != null) {
+                return latencies;
+            }
+
+            Latencies created = createLatencies.get();
+
+            if (commandTypes.compareAndSet(slot, null, created)) {
+                return created;
+            }
+
+            created.stop();
+            return commandTypes.get(slot);
+        }
+
+        void forEach(BiConsumer<CommandLatencyId, Latencies> action) {
+
+            CommandType[] types = CommandType.values();
+
+            for (int i = 0; i < COMMAND_TYPES; i++) {
+
+                Latencies latencies = commandTypes.get(i);
+
+                if (latencies != null) {
+                    action.accept(CommandLatencyId.create(local, remote, types[i]), latencies);
+                }
+            }
+
+            otherCommands.values().forEach(
+                    it -> action.accept(CommandLatencyId.create(local, remote, it.commandType), it.latencies));
+        }
+    }
+
+    /**
+     * {@link Latencies} of a {@link ProtocolKeyword} that is not a {@link CommandType}.
+     */
+    static class KeywordLatencies {
+
+        final ProtocolKeyword commandType;
+
+        final Latencies latencies;
+
+        KeywordLatencies(ProtocolKeyword commandType, Latencies latencies) {
+            this.commandType = commandType;
+            this.latencies = latencies;
+        }
+    }
+
     /**
      * Wrapper for initialization of {@link PauseDetector}. Encapsulates absence of LatencyUtils.
      */
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.util.BitSet;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@link BitSet} output for lists of boolean replies. The bit at index {@code i} is set if the {@code i}-th element is
+ * {@literal 1} or {@literal true}.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class BitSetOutput<K, V> extends CommandOutput<K, V, BitSet> {
+
+    private int index;
+
+    public BitSetOutput(RedisCodec<K, V> codec) {
+        super(codec, new BitSet());
+    }
+
+    @Override
+    public void set(long integer) {
+        set(integer == 1);
+    }
+
+    @Override
+    public void set(boolean value) {
+
+        if (value) {
+            output.set(index);
+        }
+
+        index++;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (index == 0 && count > 0) {
+            output = new BitSet(count);
+        }
+    }
+}
@@ -17,8 +17,10 @@ package io.lettuce.core.output;
 
 import java.nio.ByteBuffer;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Abstract representation of the output of a redis command.
@@ -65,6 +67,23 @@ public abstract class CommandOutput<K, V, T> {
         throw new IllegalStateException();
     }
 
+    /**
+     * Set the command output to a sequence of bytes backed by a {@link ByteBuf}. This method is called for bulk strings
+     * instead of {@link #set(ByteBuffer)} if {@link io.lettuce.core.ClientOptions#isZeroCopyDecoding() zero-copy decoding}
+     * is enabled. {@code bytes} is a slice of the inbound buffer that is only valid for the duration of this call.
+     * Implementations that want to hold on to the buffer must {@link ByteBuf#retain() retain} it.
+     * <p>
+     * Concrete {@link CommandOutput} implementations can override this method to decode the buffer through
+     * {@link FromByteBufDecoder}. The default implementation calls {@link #set(ByteBuffer)} with a {@link ByteBuf#nioBuffer()
+     * view} of {@code bytes}.
+     *
+     * @param bytes The command output, or null.
+     * @since 6.0
+     */
+    public void setByteBuf(ByteBuf bytes) {
+        set(bytes == null ? null : bytes.nioBuffer());
+    }
+
     /**
      * Set the command output to a sequence of bytes, or null representing a simple string. Concrete {@link CommandOutput}
      * implementations can override this method unless they only receive an integer value which cannot be null.
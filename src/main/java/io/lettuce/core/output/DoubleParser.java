@@ -0,0 +1,100 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import io.lettuce.core.LettuceStrings;
+
+/**
+ * Parser for floating point numbers encoded as ASCII bytes. Numbers with up to 15 significant digits (such as integer scores or
+ * coordinates) are parsed directly from the bytes, other numbers fall back to {@link LettuceStrings#toDouble(String)}.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class DoubleParser {
+
+    private static final int MAX_DIGITS = 15;
+
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13,
+            1e14, 1e15 };
+
+    private DoubleParser() {
+    }
+
+    /**
+     * Parse a {@code double} from {@code bytes} without consuming the buffer.
+     *
+     * @param bytes the ASCII-encoded number, must not be {@literal null}.
+     * @return the parsed number.
+     */
+    static double parse(ByteBuffer bytes) {
+
+        int position = bytes.position();
+        int limit = bytes.limit();
+        int index = position;
+        boolean negative = false;
+
+        if (index < limit && (bytes.get(index) == '-' || bytes.get(index) == '+')) {
+            negative = bytes.get(index) == '-';
+            index++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+
+        for (; index < limit; index++) {
+
+            byte b = bytes.get(index);
+
+            if (b == '.' && fractionDigits == -1) {
+                fractionDigits = 0;
+                continue;
+            }
+
+            if (b < '0' || b > '9' || digits == MAX_DIGITS) {
+                return parseSlow(bytes);
+            }
+
+            mantissa = mantissa * 10 + (b - '0');
+            digits++;
+
+            if (fractionDigits != -1) {
+                fractionDigits++;
+            }
+        }
+
+        if (digits == 0) {
+            return parseSlow(bytes);
+        }
+
+        // mantissa and power of ten are exact so the division is correctly rounded
+        double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+
+        return negative ? -value : value;
+    }
+
+    private static double parseSlow(ByteBuffer bytes) {
+
+        byte[] array = new byte[bytes.remaining()];
+        bytes.duplicate().get(array);
+
+        return LettuceStrings.toDouble(new String(array, StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.lettuce.core.GeoCoordinatesArray;
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@link GeoCoordinatesArray} output collecting coordinates into primitive {@code double[]} arrays without boxing. Missing
+ * members are represented with {@link Double#NaN} coordinates.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class GeoCoordinatesArrayOutput<K, V> extends CommandOutput<K, V, GeoCoordinatesArray> {
+
+    private boolean initialized;
+
+    private double[] x;
+
+    private double[] y;
+
+    private int index;
+
+    private boolean hasX;
+
+    public GeoCoordinatesArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, new GeoCoordinatesArray(new double[0], new double[0]));
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes == null) {
+            index++;
+            return;
+        }
+
+        set(DoubleParser.parse(bytes));
+    }
+
+    @Override
+    public void set(double number) {
+
+        if (!hasX) {
+            x[index] = number;
+            hasX = true;
+            return;
+        }
+
+        y[index++] = number;
+        hasX = false;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+
+            x = new double[Math.max(count, 0)];
+            y = new double[x.length];
+            Arrays.fill(x, Double.NaN);
+            Arrays.fill(y, Double.NaN);
+            initialized = true;
+            return;
+        }
+
+        if (count == -1) {
+            index++;
+        }
+    }
+
+    @Override
+    public GeoCoordinatesArray get() {
+
+        if (x != null) {
+            output = new GeoCoordinatesArray(x, y);
+        }
+
+        return output;
+    }
+}
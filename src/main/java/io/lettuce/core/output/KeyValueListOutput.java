@@ -21,8 +21,10 @@ import java.util.Iterator;
 import java.util.List;
 
 import io.lettuce.core.KeyValue;
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of values output.
@@ -56,6 +58,24 @@ public class KeyValueListOutput<K, V> extends CommandOutput<K, V, List<KeyValue<
         subscriber.onNext(output, KeyValue.fromNullable(keyIterator.next(), bytes == null ? null : codec.decodeValue(bytes)));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (bytes != null && codec instanceof FromByteBufDecoder) {
+
+            if (keyIterator == null) {
+                keyIterator = keys.iterator();
+            }
+
+            subscriber.onNext(output,
+                    KeyValue.fromNullable(keyIterator.next(), ((FromByteBufDecoder<K, V>) codec).decodeValue(bytes)));
+            return;
+        }
+
+        super.setByteBuf(bytes);
+    }
+
     @Override
     public void multi(int count) {
 
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@code long[]} output collecting integer replies without boxing. {@literal null} elements are skipped.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class LongArrayOutput<K, V> extends CommandOutput<K, V, long[]> {
+
+    private static final long[] EMPTY = new long[0];
+
+    private long[] values;
+
+    private int size;
+
+    public LongArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, EMPTY);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (bytes != null) {
+            set(Long.parseLong(decodeAscii(bytes)));
+        }
+    }
+
+    @Override
+    public void set(long integer) {
+
+        if (values == null) {
+            multi(1);
+        }
+
+        if (size == values.length) {
+            values = Arrays.copyOf(values, Math.max(8, values.length * 2));
+        }
+
+        values[size++] = integer;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (values == null) {
+            values = new long[Math.max(count, 0)];
+        }
+    }
+
+    @Override
+    public long[] get() {
+
+        if (values != null) {
+            output = size == values.length ? values : Arrays.copyOf(values, size);
+        }
+
+        return output;
+    }
+}
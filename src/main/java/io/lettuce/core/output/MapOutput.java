@@ -20,7 +20,9 @@ import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link Map} of keys and values output.
@@ -53,6 +55,26 @@ public class MapOutput<K, V> extends CommandOutput<K, V, Map<K, V>> {
         key = null;
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (bytes == null || !(codec instanceof FromByteBufDecoder)) {
+            super.setByteBuf(bytes);
+            return;
+        }
+
+        FromByteBufDecoder<K, V> decoder = (FromByteBufDecoder<K, V>) codec;
+
+        if (key == null) {
+            key = decoder.decodeKey(bytes);
+            return;
+        }
+
+        output.put(key, decoder.decodeValue(bytes));
+        key = null;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void set(long integer) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Output for push messages. Retains the raw content of the push message: bulk strings are copied into read-only
+ * {@link ByteBuffer heap buffers} so the message remains valid after the network buffer has been released.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class PushOutput<K, V> extends CommandOutput<K, V, List<Object>> implements PushMessage {
+
+    private final Deque<List<Object>> stack = new ArrayDeque<>();
+
+    private int depth;
+
+    private String type;
+
+    public PushOutput(RedisCodec<K, V> codec) {
+        super(codec, null);
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (type == null && depth == 1 && output.isEmpty() && bytes != null) {
+            type = StandardCharsets.US_ASCII.decode(bytes.duplicate()).toString();
+        }
+
+        add(bytes == null ? null : copy(bytes));
+    }
+
+    @Override
+    public void setSingle(ByteBuffer bytes) {
+
+        if (type == null && depth == 1 && output.isEmpty() && bytes != null) {
+            type = StandardCharsets.US_ASCII.decode(bytes.duplicate()).toString();
+        }
+
+        add(bytes == null ? null : StringCodec.UTF8.decodeValue(bytes));
+    }
+
+    @Override
+    public void set(long integer) {
+        add(integer);
+    }
+
+    @Override
+    public void set(double number) {
+        add(number);
+    }
+
+    @Override
+    public void set(boolean value) {
+        add(value);
+    }
+
+    @Override
+    public void multi(int count) {
+
+        List<Object> list = OutputFactory.newList(Math.max(0, count));
+
+        if (output != null) {
+            output.add(list);
+            stack.push(output);
+        }
+
+        output = list;
+        depth++;
+    }
+
+    @Override
+    public void complete(int depth) {
+
+        if (depth < this.depth) {
+
+            this.depth--;
+
+            if (!stack.isEmpty()) {
+                output = stack.pop();
+            }
+        }
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public List<Object> getContent() {
+        return output;
+    }
+
+    private void add(Object value) {
+
+        if (output == null) {
+            multi(1);
+        }
+
+        output.add(value);
+    }
+
+    private static ByteBuffer copy(ByteBuffer bytes) {
+
+        ByteBuffer copy = ByteBuffer.allocate(bytes.remaining());
+        copy.put(bytes.duplicate()).flip();
+        return copy.asReadOnlyBuffer();
+    }
+
+}
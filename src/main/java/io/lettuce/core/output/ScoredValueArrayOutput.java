@@ -0,0 +1,104 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.lettuce.core.ScoredValueArray;
+import io.lettuce.core.codec.RedisCodec;
+
+/**
+ * {@link ScoredValueArray} output collecting values along with their scores into a primitive {@code double[]} without boxing
+ * scores or allocating {@link io.lettuce.core.ScoredValue} objects.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ScoredValueArrayOutput<K, V> extends CommandOutput<K, V, ScoredValueArray<V>> {
+
+    private boolean initialized;
+
+    private List<V> values;
+
+    private double[] scores;
+
+    private int size;
+
+    private boolean hasValue;
+
+    private V value;
+
+    public ScoredValueArrayOutput(RedisCodec<K, V> codec) {
+        super(codec, ScoredValueArray.empty());
+    }
+
+    @Override
+    public void set(ByteBuffer bytes) {
+
+        if (!hasValue) {
+            value = bytes == null ? null : codec.decodeValue(bytes);
+            hasValue = true;
+            return;
+        }
+
+        set(DoubleParser.parse(bytes));
+    }
+
+    @Override
+    public void set(double number) {
+
+        if (!initialized) {
+            multi(2);
+        }
+
+        if (size == scores.length) {
+            scores = Arrays.copyOf(scores, Math.max(8, scores.length * 2));
+        }
+
+        values.add(value);
+        scores[size++] = number;
+        value = null;
+        hasValue = false;
+    }
+
+    @Override
+    public void multi(int count) {
+
+        if (!initialized) {
+
+            // RESP2 replies are flat value/score sequences, RESP3 replies nest value/score pairs.
+            int capacity = Math.max(count, 0);
+            values = new ArrayList<>(capacity);
+            scores = new double[capacity];
+            initialized = true;
+        }
+    }
+
+    @Override
+    public ScoredValueArray<V> get() {
+
+        if (values != null) {
+            output = new ScoredValueArray<>(values, size == scores.length ? scores : Arrays.copyOf(scores, size));
+        }
+
+        return output;
+    }
+}
@@ -19,8 +19,10 @@ import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.buffer.ByteBuf;
 
 /**
  * {@link List} of values output.
@@ -51,6 +53,18 @@ public class ValueListOutput<K, V> extends CommandOutput<K, V, List<V>> implemen
         subscriber.onNext(output, bytes == null ? null : codec.decodeValue(bytes));
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (bytes != null && codec instanceof FromByteBufDecoder) {
+            subscriber.onNext(output, ((FromByteBufDecoder<K, V>) codec).decodeValue(bytes));
+            return;
+        }
+
+        super.setByteBuf(bytes);
+    }
+
     @Override
     public void multi(int count) {
 
@@ -17,7 +17,9 @@ package io.lettuce.core.output;
 
 import java.nio.ByteBuffer;
 
+import io.lettuce.core.codec.FromByteBufDecoder;
 import io.lettuce.core.codec.RedisCodec;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Value output.
@@ -38,4 +40,16 @@ public class ValueOutput<K, V> extends CommandOutput<K, V, V> {
     public void set(ByteBuffer bytes) {
         output = (bytes == null) ? null : codec.decodeValue(bytes);
     }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void setByteBuf(ByteBuf bytes) {
+
+        if (bytes != null && codec instanceof FromByteBufDecoder) {
+            output = ((FromByteBufDecoder<K, V>) codec).decodeValue(bytes);
+            return;
+        }
+
+        super.setByteBuf(bytes);
+    }
 }
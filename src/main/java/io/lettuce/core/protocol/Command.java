@@ -114,7 +114,7 @@ public class Command<K, V, T> implements RedisCommand<K, V, T> {
 
         buf.writeBytes(CommandArgs.CRLF);
 
-        CommandArgs.BytesArgument.writeBytes(buf, type.getBytes());
+        CommandArgs.ProtocolKeywordArgument.writeKeyword(buf, type);
 
         if (args != null) {
             args.encode(buf);
@@ -28,6 +28,8 @@ import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.ToByteBufEncoder;
 import io.lettuce.core.internal.LettuceAssert;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.buffer.UnpooledByteBufAllocator;
 
 /**
@@ -381,10 +383,7 @@ public class CommandArgs<K, V> {
 
         static void writeBytes(ByteBuf buffer, byte[] value) {
 
-            buffer.writeByte('$');
-
-            IntegerArgument.writeInteger(buffer, value.length);
-            buffer.writeBytes(CRLF);
+            BulkHeader.write(buffer, value.length);
 
             buffer.writeBytes(value);
             buffer.writeBytes(CRLF);
@@ -400,9 +399,19 @@ public class CommandArgs<K, V> {
 
         private final ProtocolKeyword protocolKeyword;
 
+        /**
+         * Pre-rendered bulk string ({@code $<length>\r\n<keyword>\r\n}).
+         */
+        private final byte[] encoded;
+
         private ProtocolKeywordArgument(ProtocolKeyword protocolKeyword) {
             super(protocolKeyword.getBytes());
             this.protocolKeyword = protocolKeyword;
+
+            ByteBuf buffer = Unpooled.buffer(val.length + 8);
+            writeBytes(buffer, val);
+            this.encoded = ByteBufUtil.getBytes(buffer);
+            buffer.release();
         }
 
         static BytesArgument of(ProtocolKeyword protocolKeyword) {
@@ -418,6 +427,33 @@ public class CommandArgs<K, V> {
             return ProtocolKeywordArgument.of(protocolKeyword.getBytes());
         }
 
+        /**
+         * Write a {@link ProtocolKeyword} as bulk string using the pre-rendered representation for {@link CommandType} and
+         * {@link CommandKeyword}.
+         *
+         * @param target the target buffer.
+         * @param protocolKeyword the keyword.
+         */
+        static void writeKeyword(ByteBuf target, ProtocolKeyword protocolKeyword) {
+
+            if (protocolKeyword instanceof CommandType) {
+                CommandTypeCache.cache[((Enum) protocolKeyword).ordinal()].encode(target);
+                return;
+            }
+
+            if (protocolKeyword instanceof CommandKeyword) {
+                CommandKeywordCache.cache[((Enum) protocolKeyword).ordinal()].encode(target);
+                return;
+            }
+
+            writeBytes(target, protocolKeyword.getBytes());
+        }
+
+        @Override
+        void encode(ByteBuf buffer) {
+            buffer.writeBytes(encoded);
+        }
+
         @Override
         public String toString() {
             return protocolKeyword.name();
@@ -452,14 +488,47 @@ public class CommandArgs<K, V> {
         }
     }
 
-    static class ByteBufferArgument {
+    /**
+     * Bulk string header ({@code $<length>\r\n}) encoding. Headers for small lengths are pre-encoded.
+     */
+    static class BulkHeader {
 
-        static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
+        static final byte[][] cache;
 
-            target.writeByte('$');
+        static {
+            int high = Integer.getInteger("io.lettuce.core.CommandArgs.BulkHeaderCache", 1024);
+            cache = new byte[high][];
+            for (int i = 0; i < high; i++) {
+                cache[i] = ("$" + i + "\r\n").getBytes(StandardCharsets.US_ASCII);
+            }
+        }
+
+        static void write(ByteBuf target, int length) {
 
-            IntegerArgument.writeInteger(target, value.remaining());
+            if (length < cache.length) {
+                target.writeBytes(cache[length]);
+                return;
+            }
+
+            target.writeByte('$');
+            IntegerArgument.writeInteger(target, length);
             target.writeBytes(CRLF);
+        }
+
+        /**
+         * @param length the bulk string length.
+         * @return the number of bytes required to encode the header for {@code length}.
+         */
+        static int length(int length) {
+            return 1 + IntegerArgument.digits(length) + CRLF.length;
+        }
+    }
+
+    static class ByteBufferArgument {
+
+        static void writeByteBuffer(ByteBuf target, ByteBuffer value) {
+
+            BulkHeader.write(target, value.remaining());
 
             target.writeBytes(value);
             target.writeBytes(CRLF);
@@ -467,12 +536,60 @@ public class CommandArgs<K, V> {
 
         static void writeByteBuf(ByteBuf target, ByteBuf value) {
 
-            target.writeByte('$');
+            BulkHeader.write(target, value.readableBytes());
 
-            IntegerArgument.writeInteger(target, value.readableBytes());
+            target.writeBytes(value);
             target.writeBytes(CRLF);
+        }
+
+        /**
+         * Encode a key or value using {@link ToByteBufEncoder} directly into {@code target}. The bulk string header is
+         * reserved upfront based on {@link ToByteBufEncoder#estimateSize(Object)} so the encoded data does not require a
+         * temporary buffer. The encoded data is moved only if the estimate and the actual size differ in their number of
+         * digits.
+         *
+         * @param target the target buffer.
+         * @param encoder the encoder.
+         * @param keyOrValue the key or value to encode.
+         * @param key {@literal true} to encode {@code keyOrValue} as key, {@literal false} to encode it as value.
+         */
+        @SuppressWarnings("unchecked")
+        static <K, V> void writeEncoded(ByteBuf target, ToByteBufEncoder<K, V> encoder, Object keyOrValue, boolean key) {
+
+            int estimatedSize = encoder.estimateSize(keyOrValue);
+            int headerLength = BulkHeader.length(estimatedSize);
+            int start = target.writerIndex();
+            int payloadStart = start + headerLength;
+
+            target.ensureWritable(headerLength + estimatedSize + CRLF.length);
+            target.writerIndex(payloadStart);
+
+            if (key) {
+                encoder.encodeKey((K) keyOrValue, target);
+            } else {
+                encoder.encodeValue((V) keyOrValue, target);
+            }
+
+            int length = target.writerIndex() - payloadStart;
+
+            if (BulkHeader.length(length) == headerLength) {
+
+                target.writerIndex(start);
+                BulkHeader.write(target, length);
+                target.writerIndex(payloadStart + length);
+            } else {
+
+                ByteBuf payload = target.copy(payloadStart, length);
+
+                try {
+                    target.writerIndex(start);
+                    BulkHeader.write(target, length);
+                    target.writeBytes(payload);
+                } finally {
+                    payload.release();
+                }
+            }
 
-            target.writeBytes(value);
             target.writeBytes(CRLF);
         }
     }
@@ -491,7 +608,7 @@ public class CommandArgs<K, V> {
                 return IntegerCache.cache[(int) val];
             }
 
-            if (val < 0 && -val < IntegerCache.cache.length) {
+            if (val < 0 && val > -IntegerCache.negativeCache.length) {
                 return IntegerCache.negativeCache[(int) -val];
             }
 
@@ -500,7 +617,10 @@ public class CommandArgs<K, V> {
 
         @Override
         void encode(ByteBuf target) {
-            StringArgument.writeString(target, Long.toString(val));
+
+            BulkHeader.write(target, val < 0 ? digits(val) + 1 : digits(val));
+            writeInteger(target, val);
+            target.writeBytes(CRLF);
         }
 
         @Override
@@ -508,18 +628,54 @@ public class CommandArgs<K, V> {
             return "" + val;
         }
 
+        /**
+         * Write the decimal representation of {@code value} without allocating an intermediate {@link String}.
+         *
+         * @param target the target buffer.
+         * @param value the value.
+         */
         static void writeInteger(ByteBuf target, long value) {
 
-            if (value < 10) {
+            if (value >= 0 && value < 10) {
                 target.writeByte((byte) ('0' + value));
                 return;
             }
 
-            String asString = Long.toString(value);
+            if (value < 0) {
+                target.writeByte('-');
+            }
+
+            int digits = digits(value);
+            int index = target.writerIndex();
+            target.ensureWritable(digits);
+
+            // accumulate negative to cover Long.MIN_VALUE
+            long remainder = value < 0 ? value : -value;
 
-            for (int i = 0; i < asString.length(); i++) {
-                target.writeByte((byte) asString.charAt(i));
+            for (int i = index + digits - 1; i >= index; i--) {
+                target.setByte(i, (byte) ('0' - (remainder % 10)));
+                remainder /= 10;
             }
+
+            target.writerIndex(index + digits);
+        }
+
+        /**
+         * @param value the value.
+         * @return the number of decimal digits of {@code value} excluding the sign.
+         */
+        static int digits(long value) {
+
+            // accumulate negative to cover Long.MIN_VALUE
+            long remainder = value < 0 ? value : -value;
+            int digits = 1;
+
+            while (remainder <= -10) {
+                remainder /= 10;
+                digits++;
+            }
+
+            return digits;
         }
     }
 
@@ -638,6 +794,7 @@ public class CommandArgs<K, V> {
 
         final K key;
         final RedisCodec<K, V> codec;
+        private ByteBuffer encoded;
 
         private KeyArgument(K key, RedisCodec<K, V> codec) {
             this.key = key;
@@ -648,23 +805,33 @@ public class CommandArgs<K, V> {
             return new KeyArgument<>(key, codec);
         }
 
+        /**
+         * Encode the key. The encoded key is retained so slot calculation and argument encoding encode the key only once.
+         *
+         * @return the encoded key.
+         */
+        ByteBuffer getEncodedKey() {
+
+            if (encoded == null) {
+                encoded = codec.encodeKey(key);
+            }
+
+            return encoded.duplicate();
+        }
+
         @SuppressWarnings("unchecked")
         @Override
         void encode(ByteBuf target) {
 
-            if (codec instanceof ToByteBufEncoder) {
-
-                ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(key) + 6);
+            if (encoded != null) {
 
-                try {
+                ByteBufferArgument.writeByteBuffer(target, encoded.duplicate());
+                return;
+            }
 
-                    toByteBufEncoder.encodeKey(key, temporaryBuffer);
-                    ByteBufferArgument.writeByteBuf(target, temporaryBuffer);
-                } finally {
-                    temporaryBuffer.release();
-                }
+            if (codec instanceof ToByteBufEncoder) {
 
+                ByteBufferArgument.writeEncoded(target, (ToByteBufEncoder<K, V>) codec, key, true);
                 return;
             }
 
@@ -697,16 +864,7 @@ public class CommandArgs<K, V> {
 
             if (codec instanceof ToByteBufEncoder) {
 
-                ToByteBufEncoder<K, V> toByteBufEncoder = (ToByteBufEncoder<K, V>) codec;
-                ByteBuf temporaryBuffer = target.alloc().buffer(toByteBufEncoder.estimateSize(val) + 6);
-
-                try {
-                    toByteBufEncoder.encodeValue(val, temporaryBuffer);
-                    ByteBufferArgument.writeByteBuf(target, temporaryBuffer);
-                } finally {
-                    temporaryBuffer.release();
-                }
-
+                ByteBufferArgument.writeEncoded(target, (ToByteBufEncoder<K, V>) codec, val, false);
                 return;
             }
 
@@ -42,7 +42,7 @@ public class CommandArgsAccessor {
         for (SingularArgument singularArgument : commandArgs.singularArguments) {
 
             if (singularArgument instanceof CommandArgs.KeyArgument) {
-                return commandArgs.codec.encodeKey(((CommandArgs.KeyArgument<K, V>) singularArgument).key);
+                return ((CommandArgs.KeyArgument<K, V>) singularArgument).getEncodedKey();
             }
         }
 
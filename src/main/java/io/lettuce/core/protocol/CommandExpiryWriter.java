@@ -19,10 +19,18 @@ import static io.lettuce.core.TimeoutOptions.TimeoutSource;
 
 import java.time.Duration;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.ExceptionFactory;
@@ -34,6 +42,12 @@ import io.lettuce.core.resource.ClientResources;
 /**
  * Extension to {@link RedisChannelWriter} that expires commands. Command timeout starts at the time the command is written
  * regardless to {@link #setAutoFlushCommands(boolean) flushing mode} (user-controlled batching).
+ * <p>
+ * Commands are tracked in one FIFO deadline queue per distinct timeout value. Commands sharing the same timeout expire in the
+ * order they were written so only the oldest outstanding command of each queue requires a scheduled task. Completed commands
+ * are dropped lazily from the head of the queue instead of cancelling a scheduled task per command. Commands may complete
+ * out of write order (e.g. when the underlying writer distributes commands across multiple channels), so queues are purged
+ * from completed commands whenever their size doubles.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -41,11 +55,23 @@ import io.lettuce.core.resource.ClientResources;
  */
 public class CommandExpiryWriter implements RedisChannelWriter {
 
+    /**
+     * Maximum number of distinct timeout values tracked through deadline queues. Commands with further timeout values fall back
+     * to a scheduled task per command.
+     */
+    static final int MAX_TIMEOUT_QUEUES = 16;
+
+    /**
+     * Minimum number of commands retained in a deadline queue before it is purged from completed commands.
+     */
+    static final int MIN_PURGE_THRESHOLD = 64;
+
     private final RedisChannelWriter writer;
     private final TimeoutSource source;
     private final TimeUnit timeUnit;
     private final ScheduledExecutorService executorService;
     private final boolean applyConnectionTimeout;
+    private final Map<Long, TimeoutQueue> timeoutQueues = new ConcurrentHashMap<>();
 
     private volatile long timeout = -1;
 
@@ -100,6 +126,14 @@ public class CommandExpiryWriter implements RedisChannelWriter {
         return writer.getClientResources();
     }
 
+    /**
+     * @return the underlying {@link RedisChannelWriter}.
+     * @since 6.0
+     */
+    public RedisChannelWriter getDelegate() {
+        return writer;
+    }
+
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
         writer.setAutoFlushCommands(autoFlush);
@@ -152,7 +186,6 @@ public class CommandExpiryWriter implements RedisChannelWriter {
         return this.executorService;
     }
 
-    @SuppressWarnings("unchecked")
     private void potentiallyExpire(RedisCommand<?, ?, ?> command, ScheduledExecutorService executors) {
 
         long timeout = applyConnectionTimeout ? this.timeout : source.getTimeout(command);
@@ -161,6 +194,48 @@ public class CommandExpiryWriter implements RedisChannelWriter {
             return;
         }
 
+        TimeoutQueue queue = getTimeoutQueue(timeout, executors);
+
+        if (queue != null) {
+            queue.add(command);
+        } else {
+            scheduleExpiry(command, timeout, executors);
+        }
+    }
+
+    private TimeoutQueue getTimeoutQueue(long timeout, ScheduledExecutorService executors) {
+
+        TimeoutQueue queue = timeoutQueues.get(timeout);
+
+        if (queue != null || timeoutQueues.size() >= MAX_TIMEOUT_QUEUES) {
+            return queue;
+        }
+
+        return timeoutQueues.computeIfAbsent(timeout, it -> new TimeoutQueue(it, executors));
+    }
+
+    /**
+     * @return the number of distinct timeout values tracked through deadline queues.
+     */
+    int getTimeoutQueueCount() {
+        return timeoutQueues.size();
+    }
+
+    /**
+     * @return the number of commands retained in deadline queues, including completed commands not yet dropped.
+     */
+    int getTrackedCommandCount() {
+
+        int count = 0;
+        for (TimeoutQueue queue : timeoutQueues.values()) {
+            count += queue.commands.size();
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void scheduleExpiry(RedisCommand<?, ?, ?> command, long timeout, ScheduledExecutorService executors) {
+
         ScheduledFuture<?> schedule = executors.schedule(() -> {
 
             if (!command.isDone()) {
@@ -179,4 +254,154 @@ public class CommandExpiryWriter implements RedisChannelWriter {
             });
         }
     }
+
+    /**
+     * FIFO queue of commands sharing the same timeout. Deadlines are monotonic in insertion order so a single scheduled task
+     * for the head of the queue is sufficient. The task expires all overdue commands and re-arms itself for the next
+     * outstanding deadline.
+     */
+    class TimeoutQueue implements Runnable {
+
+        private final Queue<Deadline> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicInteger size = new AtomicInteger();
+        private final long timeout;
+        private final long timeoutNanos;
+        private final ScheduledExecutorService executors;
+
+        private volatile int purgeThreshold = MIN_PURGE_THRESHOLD;
+
+        TimeoutQueue(long timeout, ScheduledExecutorService executors) {
+            this.timeout = timeout;
+            this.timeoutNanos = timeUnit.toNanos(timeout);
+            this.executors = executors;
+        }
+
+        void add(RedisCommand<?, ?, ?> command) {
+
+            dropCompleted();
+
+            Deadline deadline = new Deadline(command, System.nanoTime() + timeoutNanos);
+            commands.add(deadline);
+
+            if (size.incrementAndGet() > purgeThreshold) {
+                purgeCompleted();
+            }
+
+            if (scheduled.compareAndSet(false, true)) {
+                schedule(deadline.deadline);
+            }
+        }
+
+        @Override
+        public void run() {
+
+            long now = System.nanoTime();
+            Deadline head;
+
+            while ((head = commands.peek()) != null) {
+
+                if (!head.command.isDone()) {
+
+                    if (head.deadline - now > 0) {
+                        schedule(head.deadline);
+                        return;
+                    }
+
+                    head.command.completeExceptionally(ExceptionFactory.createTimeoutException(Duration.ofNanos(timeoutNanos)));
+                }
+
+                remove(head);
+            }
+
+            scheduled.set(false);
+
+            // re-check commands added concurrently after the queue was drained
+            if ((head = commands.peek()) != null && scheduled.compareAndSet(false, true)) {
+                schedule(head.deadline);
+            }
+        }
+
+        /**
+         * Drop completed commands from the head of the queue. Responses of a single channel arrive in write order so completed
+         * commands typically accumulate at the head.
+         */
+        private void dropCompleted() {
+
+            Deadline head;
+            while ((head = commands.peek()) != null && head.command.isDone()) {
+                remove(head);
+            }
+        }
+
+        /**
+         * Purge completed commands from the entire queue. Called once the queue size doubled since the last purge so the cost
+         * is amortized across added commands. Keeps the queue bounded by the number of outstanding commands if commands
+         * complete out of write order.
+         */
+        private void purgeCompleted() {
+
+            Iterator<Deadline> iterator = commands.iterator();
+            while (iterator.hasNext()) {
+
+                Deadline deadline = iterator.next();
+
+                if (deadline.command.isDone()) {
+                    iterator.remove();
+                    markRemoved(deadline);
+                }
+            }
+
+            purgeThreshold = Math.max(MIN_PURGE_THRESHOLD, size.get() * 2);
+        }
+
+        private void remove(Deadline deadline) {
+
+            commands.remove(deadline);
+            markRemoved(deadline);
+        }
+
+        private void markRemoved(Deadline deadline) {
+
+            if (deadline.markRemoved()) {
+                size.decrementAndGet();
+            }
+        }
+
+        private void schedule(long deadline) {
+            executors.schedule(this, Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return getClass().getSimpleName() + " [timeout=" + timeout + " " + timeUnit + ", commands=" + commands.size() + "]";
+        }
+    }
+
+    static class Deadline {
+
+        private static final AtomicIntegerFieldUpdater<Deadline> REMOVED = AtomicIntegerFieldUpdater
+                .newUpdater(Deadline.class, "removed");
+
+        final RedisCommand<?, ?, ?> command;
+        final long deadline;
+
+        // accessed via AtomicIntegerFieldUpdater.
+        @SuppressWarnings("unused")
+        private volatile int removed;
+
+        Deadline(RedisCommand<?, ?, ?> command, long deadline) {
+            this.command = command;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Mark this deadline as removed from its queue.
+         *
+         * @return {@literal true} if this call marked the deadline as removed; {@literal false} if it was already removed.
+         */
+        boolean markRemoved() {
+            return REMOVED.compareAndSet(this, 0, 1);
+        }
+    }
 }
@@ -27,8 +27,11 @@ import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisConnectionException;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.internal.LettuceSets;
 import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.PushOutput;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.tracing.TraceContext;
 import io.lettuce.core.tracing.TraceContextProvider;
@@ -70,6 +73,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private final ClientOptions clientOptions;
     private final ClientResources clientResources;
     private final Endpoint endpoint;
+    private final DefaultEndpoint trackableEndpoint;
+    private final PushHandler pushHandler;
 
     private final ArrayDeque<RedisCommand<?, ?, ?>> stack = new ArrayDeque<>();
     private final long commandHandlerId = COMMAND_HANDLER_COUNTER.incrementAndGet();
@@ -91,6 +96,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
     private PristineFallbackCommand fallbackCommand;
     private boolean pristine;
     private Tracing.Endpoint tracedEndpoint;
+    private PushOutput<byte[], byte[]> pushOutput;
 
     /**
      * Initialize a new instance that handles commands from the supplied queue.
@@ -108,6 +114,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         this.clientOptions = clientOptions;
         this.clientResources = clientResources;
         this.endpoint = endpoint;
+        this.pushHandler = endpoint instanceof PushHandler ? (PushHandler) endpoint : null;
+        this.trackableEndpoint = endpoint instanceof DefaultEndpoint ? (DefaultEndpoint) endpoint : null;
         this.latencyMetricsEnabled = clientResources.commandLatencyCollector().isEnabled();
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
 
@@ -169,7 +177,7 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         setState(LifecycleState.REGISTERED);
 
         buffer = ctx.alloc().buffer(8192 * 8);
-        rsm = new RedisStateMachine(ctx.alloc());
+        rsm = new RedisStateMachine(ctx.alloc(), clientOptions.isZeroCopyDecoding());
         ctx.fireChannelRegistered();
     }
 
@@ -209,6 +217,9 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
         if (evt == EnableAutoRead.INSTANCE) {
             channel.config().setAutoRead(true);
+
+            // decoding may have paused with a response remaining in the buffer that no further read will trigger
+            ctx.executor().execute(() -> decodeBufferedResponses(ctx));
         } else if (evt instanceof Reset) {
             reset();
         }
@@ -458,13 +469,18 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
                 complete(command);
             }
 
-            RedisCommand<?, ?, ?> redisCommand = potentiallyWrapLatencyCommand(command);
+            LatencyTracker latencyTracker = getLatencyTracker();
+            RedisCommand<?, ?, ?> redisCommand = potentiallyWrapLatencyCommand(command, latencyTracker);
 
             if (promise.isVoid()) {
                 stack.add(redisCommand);
             } else {
                 promise.addListener(AddToStack.newInstance(stack, redisCommand));
             }
+
+            if (latencyTracker != null) {
+                latencyTracker.setQueueDepth(stack.size());
+            }
         } catch (Exception e) {
             command.completeExceptionally(e);
             throw e;
@@ -494,9 +510,9 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return !command.isDone();
     }
 
-    private RedisCommand<?, ?, ?> potentiallyWrapLatencyCommand(RedisCommand<?, ?, ?> command) {
+    private RedisCommand<?, ?, ?> potentiallyWrapLatencyCommand(RedisCommand<?, ?, ?> command, LatencyTracker latencyTracker) {
 
-        if (!latencyMetricsEnabled) {
+        if (!latencyMetricsEnabled && latencyTracker == null) {
             return command;
         }
 
@@ -561,6 +577,11 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     protected void decode(ChannelHandlerContext ctx, ByteBuf buffer) throws InterruptedException {
 
+        if (!decodePushMessages(buffer)) {
+            discardReadBytesIfNecessary(buffer);
+            return;
+        }
+
         if (pristine && stack.isEmpty() && buffer.isReadable()) {
 
             if (debugEnabled) {
@@ -610,11 +631,75 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             }
 
             afterDecode(ctx, command);
+
+            if (!decodePushMessages(buffer)) {
+                break;
+            }
         }
 
         discardReadBytesIfNecessary(buffer);
     }
 
+    /**
+     * Decode push messages that are located between command responses and dispatch these to {@link PushListener}s.
+     *
+     * @param buffer
+     * @return {@literal true} if all push messages were decoded. {@literal false} if a push message was not yet fully received.
+     */
+    private boolean decodePushMessages(ByteBuf buffer) {
+
+        if (pushHandler == null || !canDecodePushMessages()) {
+            return true;
+        }
+
+        while (pushOutput != null || isPushMessage(buffer)) {
+
+            if (pushOutput == null) {
+                pushOutput = new PushOutput<>(ByteArrayCodec.INSTANCE);
+            }
+
+            if (!rsm.decode(buffer, pushOutput)) {
+                return false;
+            }
+
+            PushOutput<byte[], byte[]> output = pushOutput;
+            pushOutput = null;
+
+            notifyPushListeners(output);
+        }
+
+        return true;
+    }
+
+    private boolean isPushMessage(ByteBuf buffer) {
+        return rsm.isEmpty() && buffer.isReadable() && buffer.getByte(buffer.readerIndex()) == '>';
+    }
+
+    private void notifyPushListeners(PushOutput<byte[], byte[]> output) {
+
+        if (debugEnabled) {
+            logger.debug("{} Received push message {}", logPrefix(), output.getType());
+        }
+
+        for (PushListener listener : pushHandler.getPushListeners()) {
+            try {
+                listener.onPushMessage(output);
+            } catch (Exception e) {
+                logger.warn("{} Unexpected exception in PushListener: {}", logPrefix(), e.toString(), e);
+            }
+        }
+    }
+
+    /**
+     * Decoding hook: Can push messages be decoded by this handler. Subclasses that handle push messages themselves (such as
+     * Pub/Sub) return {@literal false}.
+     *
+     * @return {@literal true} to decode push messages and dispatch them to {@link PushListener}s.
+     */
+    protected boolean canDecodePushMessages() {
+        return true;
+    }
+
     /**
      * Decoding hook: Can the buffer be decoded to a command.
      *
@@ -647,7 +732,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private boolean decode(ChannelHandlerContext ctx, ByteBuf buffer, RedisCommand<?, ?, ?> command) {
 
-        if (latencyMetricsEnabled && command instanceof WithLatency) {
+        // commands are wrapped only if latency metrics are enabled or a LatencyTracker is registered
+        if (command instanceof WithLatency) {
 
             WithLatency withLatency = (WithLatency) command;
             if (withLatency.getFirstResponse() == -1) {
@@ -668,17 +754,33 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private boolean decode0(ChannelHandlerContext ctx, ByteBuf buffer, RedisCommand<?, ?, ?> command) {
 
-        if (!decode(buffer, command, getCommandOutput(command))) {
+        CommandOutput<?, ?, ?> output = getCommandOutput(command);
 
-            if (command instanceof DemandAware.Sink) {
+        while (!decode(buffer, command, output)) {
 
-                DemandAware.Sink sink = (DemandAware.Sink) command;
-                sink.setSource(backpressureSource);
+            DemandAware.Sink sink = CommandWrapper.unwrap(command, DemandAware.Sink.class);
 
-                ctx.channel().config().setAutoRead(sink.hasDemand());
+            if (sink == null) {
+                return false;
             }
 
-            return false;
+            sink.setSource(backpressureSource);
+
+            if (!sink.hasDemand()) {
+
+                ctx.channel().config().setAutoRead(false);
+
+                // demand signalled before auto-read was disabled does not trigger a read
+                if (!sink.hasDemand()) {
+                    return false;
+                }
+            }
+
+            // paused decoding resumes directly with the buffered bytes
+            if (!rsm.isPaused()) {
+                ctx.channel().config().setAutoRead(true);
+                return false;
+            }
         }
 
         if (!ctx.channel().config().isAutoRead()) {
@@ -688,6 +790,19 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
         return true;
     }
 
+    private void decodeBufferedResponses(ChannelHandlerContext ctx) {
+
+        if (buffer == null || buffer.refCnt() == 0 || !buffer.isReadable() || stack.isEmpty()) {
+            return;
+        }
+
+        try {
+            decode(ctx, buffer);
+        } catch (Exception e) {
+            ctx.fireExceptionCaught(e);
+        }
+    }
+
     /**
      * Decoding hook: Retrieve {@link CommandOutput} for {@link RedisCommand} decoding.
      *
@@ -770,15 +885,34 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
 
     private void recordLatency(WithLatency withLatency, ProtocolKeyword commandType) {
 
-        if (withLatency != null && clientResources.commandLatencyCollector().isEnabled() && channel != null
+        if (withLatency == null) {
+            return;
+        }
+
+        long completion = nanoTime();
+
+        if (latencyMetricsEnabled && clientResources.commandLatencyCollector().isEnabled() && channel != null
                 && remote() != null) {
 
             long firstResponseLatency = withLatency.getFirstResponse() - withLatency.getSent();
-            long completionLatency = nanoTime() - withLatency.getSent();
+            long completionLatency = completion - withLatency.getSent();
 
             clientResources.commandLatencyCollector().recordCommandLatency(local(), remote(), commandType, firstResponseLatency,
                     completionLatency);
         }
+
+        LatencyTracker latencyTracker = getLatencyTracker();
+
+        if (latencyTracker != null) {
+
+            // the completed command is removed from the stack after decoding
+            latencyTracker.record(completion - withLatency.getSent(), completion);
+            latencyTracker.setQueueDepth(Math.max(stack.size() - 1, 0));
+        }
+    }
+
+    private LatencyTracker getLatencyTracker() {
+        return trackableEndpoint != null ? trackableEndpoint.getLatencyTracker() : null;
     }
 
     private SocketAddress remote() {
@@ -809,6 +943,8 @@ public class CommandHandler extends ChannelDuplexHandler implements HasQueuedCom
             rsm.reset();
         }
 
+        pushOutput = null;
+
         if (buffer.refCnt() > 0) {
             buffer.clear();
         }
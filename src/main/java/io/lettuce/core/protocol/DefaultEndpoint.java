@@ -21,12 +21,16 @@ import java.io.IOException;
 import java.nio.channels.ClosedChannelException;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import io.lettuce.core.*;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
 import io.lettuce.core.internal.LettuceFactories;
@@ -47,13 +51,16 @@ import io.netty.util.internal.logging.InternalLoggerFactory;
  *
  * @author Mark Paluch
  */
-public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
+public class DefaultEndpoint implements RedisChannelWriter, Endpoint, PushHandler {
 
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(DefaultEndpoint.class);
     private static final AtomicLong ENDPOINT_COUNTER = new AtomicLong();
     private static final AtomicIntegerFieldUpdater<DefaultEndpoint> QUEUE_SIZE = AtomicIntegerFieldUpdater
             .newUpdater(DefaultEndpoint.class, "queueSize");
 
+    private static final AtomicIntegerFieldUpdater<DefaultEndpoint> FLUSH_SCHEDULED = AtomicIntegerFieldUpdater
+            .newUpdater(DefaultEndpoint.class, "flushScheduled");
+
     private static final AtomicIntegerFieldUpdater<DefaultEndpoint> STATUS = AtomicIntegerFieldUpdater
             .newUpdater(DefaultEndpoint.class, "status");
 
@@ -69,11 +76,17 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
     private final Queue<RedisCommand<?, ?, ?>> commandBuffer;
     private final boolean boundedQueues;
     private final boolean rejectCommandsWhileDisconnected;
+    private final boolean flushConsolidation;
+    private final int flushConsolidationBatchSize;
+    private final long flushConsolidationDelayNanos;
+    private final Queue<RedisCommand<?, ?, ?>> consolidationBuffer;
+    private final Runnable consolidatedFlush = this::writeConsolidated;
 
     private final long endpointId = ENDPOINT_COUNTER.incrementAndGet();
     private final SharedLock sharedLock = new SharedLock();
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
+    private final List<PushListener> pushListeners = new CopyOnWriteArrayList<>();
 
     private String logPrefix;
     private boolean autoFlushCommands = true;
@@ -83,6 +96,8 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
     private volatile Throwable connectionError;
 
+    private volatile LatencyTracker latencyTracker;
+
     // access via QUEUE_SIZE
     @SuppressWarnings("unused")
     private volatile int queueSize = 0;
@@ -91,6 +106,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
     @SuppressWarnings("unused")
     private volatile int status = ST_OPEN;
 
+    // access via FLUSH_SCHEDULED
+    @SuppressWarnings("unused")
+    private volatile int flushScheduled = 0;
+
     /**
      * Create a new {@link DefaultEndpoint}.
      *
@@ -109,6 +128,14 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         this.commandBuffer = LettuceFactories.newConcurrentQueue(clientOptions.getRequestQueueSize());
         this.boundedQueues = clientOptions.getRequestQueueSize() != Integer.MAX_VALUE;
         this.rejectCommandsWhileDisconnected = isRejectCommand(clientOptions);
+
+        FlushConsolidationOptions flushConsolidationOptions = clientOptions.getFlushConsolidationOptions() != null
+                ? clientOptions.getFlushConsolidationOptions()
+                : FlushConsolidationOptions.create();
+        this.flushConsolidation = flushConsolidationOptions.isEnabled();
+        this.flushConsolidationBatchSize = flushConsolidationOptions.getMaxBatchSize();
+        this.flushConsolidationDelayNanos = flushConsolidationOptions.getMaxDelay().toNanos();
+        this.consolidationBuffer = flushConsolidation ? LettuceFactories.newConcurrentQueue(Integer.MAX_VALUE) : null;
     }
 
     @Override
@@ -121,6 +148,44 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         return clientResources;
     }
 
+    /**
+     * Register a {@link LatencyTracker} that receives command completion latencies of this endpoint. Registering a tracker
+     * enables latency measurement for each command.
+     *
+     * @param latencyTracker the tracker, can be {@literal null} to disable tracking.
+     * @since 6.0
+     */
+    public void setLatencyTracker(LatencyTracker latencyTracker) {
+        this.latencyTracker = latencyTracker;
+    }
+
+    /**
+     * @return the registered {@link LatencyTracker} or {@literal null} if latencies are not tracked.
+     * @since 6.0
+     */
+    public LatencyTracker getLatencyTracker() {
+        return latencyTracker;
+    }
+
+    @Override
+    public void addListener(PushListener listener) {
+
+        LettuceAssert.notNull(listener, "PushListener must not be null");
+        pushListeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+
+        LettuceAssert.notNull(listener, "PushListener must not be null");
+        pushListeners.remove(listener);
+    }
+
+    @Override
+    public List<PushListener> getPushListeners() {
+        return pushListeners;
+    }
+
     @Override
     public void setAutoFlushCommands(boolean autoFlush) {
         this.autoFlushCommands = autoFlush;
@@ -290,6 +355,12 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
         QUEUE_SIZE.incrementAndGet(this);
 
+        if (flushConsolidation) {
+            consolidationBuffer.add(command);
+            scheduleConsolidatedFlush();
+            return;
+        }
+
         ChannelFuture channelFuture = channelWriteAndFlush(command);
 
         if (reliability == Reliability.AT_MOST_ONCE) {
@@ -307,6 +378,12 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
         QUEUE_SIZE.addAndGet(this, commands.size());
 
+        if (flushConsolidation) {
+            consolidationBuffer.addAll(commands);
+            scheduleConsolidatedFlush();
+            return;
+        }
+
         if (reliability == Reliability.AT_MOST_ONCE) {
 
             // cancel on exceptions and remove from queue, because there is no housekeeping
@@ -326,6 +403,102 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         channelFlush();
     }
 
+    /**
+     * Schedule a write of consolidated commands on the event loop unless a write is already scheduled. Commands added to the
+     * consolidation buffer before the scheduled task resets the flag are written by that task, commands added afterwards
+     * schedule a new task.
+     */
+    private void scheduleConsolidatedFlush() {
+
+        if (FLUSH_SCHEDULED.get(this) != 0 || !FLUSH_SCHEDULED.compareAndSet(this, 0, 1)) {
+            return;
+        }
+
+        Channel channel = this.channel;
+
+        if (channel == null) {
+            writeConsolidated();
+            return;
+        }
+
+        try {
+            if (flushConsolidationDelayNanos > 0) {
+                channel.eventLoop().schedule(consolidatedFlush, flushConsolidationDelayNanos, TimeUnit.NANOSECONDS);
+            } else {
+                channel.eventLoop().execute(consolidatedFlush);
+            }
+        } catch (RejectedExecutionException e) {
+            writeConsolidated();
+        }
+    }
+
+    /**
+     * Write consolidated commands to the channel and flush once per {@link FlushConsolidationOptions#getMaxBatchSize()}
+     * commands. Commands are moved to the disconnected buffer if the channel was disconnected in the meantime.
+     */
+    private void writeConsolidated() {
+
+        FLUSH_SCHEDULED.set(this, 0);
+
+        Channel channel = null;
+        int written = 0;
+
+        try {
+            sharedLock.incrementWriters();
+
+            RedisCommand<?, ?, ?> command;
+            while ((command = consolidationBuffer.poll()) != null) {
+
+                Channel current = this.channel;
+
+                if (current == null || !current.isActive()) {
+                    QUEUE_SIZE.decrementAndGet(this);
+                    writeToDisconnectedBuffer(command);
+                    continue;
+                }
+
+                if (channel != null && channel != current && written > 0) {
+                    channel.flush();
+                    written = 0;
+                }
+
+                channel = current;
+
+                if (debugEnabled) {
+                    logger.debug("{} write() consolidated channelWrite command {}", logPrefix(), command);
+                }
+
+                ChannelFuture channelFuture = channel.write(command);
+
+                if (reliability == Reliability.AT_MOST_ONCE) {
+                    // cancel on exceptions and remove from queue, because there is no housekeeping
+                    channelFuture.addListener(AtMostOnceWriteListener.newInstance(this, command));
+                }
+
+                if (reliability == Reliability.AT_LEAST_ONCE) {
+                    // commands are ok to stay within the queue, reconnect will retrigger them
+                    channelFuture.addListener(RetryListener.newInstance(this, command));
+                }
+
+                if (++written == flushConsolidationBatchSize) {
+                    channel.flush();
+                    written = 0;
+                }
+            }
+        } finally {
+            sharedLock.decrementWriters();
+        }
+
+        if (written > 0) {
+
+            if (debugEnabled) {
+                logger.debug("{} write() consolidated channelFlush", logPrefix());
+            }
+
+            channel.flush();
+        }
+    }
+
     private void channelFlush() {
 
         if (debugEnabled) {
@@ -605,8 +778,10 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
 
             for (RedisCommand<?, ?, ?> command : commands) {
 
-                if (command instanceof DemandAware.Sink) {
-                    ((DemandAware.Sink) command).removeSource();
+                DemandAware.Sink sink = CommandWrapper.unwrap(command, DemandAware.Sink.class);
+
+                if (sink != null) {
+                    sink.removeSource();
                 }
             }
 
@@ -653,6 +828,19 @@ public class DefaultEndpoint implements RedisChannelWriter, Endpoint {
         target.addAll(drainCommands(disconnectedBuffer));
         target.addAll(drainCommands(commandBuffer));
 
+        if (flushConsolidation) {
+
+            RedisCommand<?, ?, ?> cmd;
+            while ((cmd = consolidationBuffer.poll()) != null) {
+
+                QUEUE_SIZE.decrementAndGet(this);
+
+                if (!cmd.isDone()) {
+                    target.add(cmd);
+                }
+            }
+        }
+
         return target;
     }
 
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live latency statistics of a single {@link DefaultEndpoint}. {@link CommandHandler} feeds command completion latencies and
+ * its queue depth into the tracker once it is {@link DefaultEndpoint#setLatencyTracker(LatencyTracker) registered} with the
+ * endpoint. The tracker maintains an exponentially weighted moving average and a streaming estimate of the 99th percentile
+ * of completion latencies without retaining individual samples.
+ * <p>
+ * Statistics are updated by the I/O thread and can be read from any thread. Values are approximations and reads are not
+ * atomic across properties.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class LatencyTracker {
+
+    /**
+     * Weight of a new sample in the moving average (see RFC 6298 smoothed round-trip time).
+     */
+    private static final double EWMA_WEIGHT = 0.125;
+
+    /**
+     * Relative step of the percentile estimate. Upward steps are weighted with {@code 0.99} and downward steps with
+     * {@code 0.01} so the estimate settles where one percent of the samples exceed it.
+     */
+    private static final double PERCENTILE_STEP = 0.1;
+
+    /**
+     * Marker for {@link #ejectedUntil} if the endpoint is not ejected.
+     */
+    private static final long NOT_EJECTED = Long.MIN_VALUE;
+
+    private final AtomicLong samples = new AtomicLong();
+
+    private final AtomicLong ejectedUntil = new AtomicLong(NOT_EJECTED);
+
+    private volatile double average;
+
+    private volatile double p99;
+
+    private volatile long lastUpdate;
+
+    private volatile int queueDepth;
+
+    /**
+     * Record a command completion.
+     *
+     * @param latency completion latency in {@link java.util.concurrent.TimeUnit#NANOSECONDS}.
+     * @param timestamp {@link System#nanoTime()} of the completion.
+     */
+    public void record(long latency, long timestamp) {
+
+        double sample = Math.max(latency, 0);
+
+        if (samples.getAndIncrement() == 0) {
+            average = sample;
+            p99 = sample;
+        } else {
+
+            average += (sample - average) * EWMA_WEIGHT;
+
+            double estimate = p99;
+            if (sample > estimate) {
+                p99 = Math.min(sample, estimate + Math.max(estimate, 1) * PERCENTILE_STEP * 0.99);
+            } else {
+                p99 = Math.max(sample, estimate - estimate * PERCENTILE_STEP * 0.01);
+            }
+        }
+
+        lastUpdate = timestamp;
+    }
+
+    /**
+     * Update the number of commands awaiting a response.
+     *
+     * @param queueDepth number of commands awaiting a response.
+     */
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    /**
+     * Exclude the endpoint from load balancing until {@code until} and reset its statistics so the endpoint is re-evaluated
+     * once it becomes available again.
+     *
+     * @param until {@link System#nanoTime()} until which the endpoint is excluded.
+     */
+    public void eject(long until) {
+
+        this.ejectedUntil.set(until == NOT_EJECTED ? until + 1 : until);
+        this.samples.set(0);
+    }
+
+    /**
+     * @param now the current {@link System#nanoTime()}.
+     * @return {@literal true} if the endpoint is excluded from load balancing at {@code now}.
+     */
+    public boolean isEjected(long now) {
+
+        long until = ejectedUntil.get();
+
+        if (until == NOT_EJECTED) {
+            return false;
+        }
+
+        if (now - until < 0) {
+            return true;
+        }
+
+        // do not clear an ejection that was renewed concurrently
+        ejectedUntil.compareAndSet(until, NOT_EJECTED);
+        return false;
+    }
+
+    /**
+     * @return the moving average of command completion latencies in {@link java.util.concurrent.TimeUnit#NANOSECONDS}.
+     *         Zero if no latency was recorded yet.
+     */
+    public double getAverage() {
+        return samples.get() == 0 ? 0 : average;
+    }
+
+    /**
+     * @return the estimated 99th percentile of command completion latencies in
+     *         {@link java.util.concurrent.TimeUnit#NANOSECONDS}. Zero if no latency was recorded yet.
+     */
+    public double getP99() {
+        return samples.get() == 0 ? 0 : p99;
+    }
+
+    /**
+     * @return number of recorded samples since creation or the last {@link #eject(long) ejection}.
+     */
+    public long getSamples() {
+        return samples.get();
+    }
+
+    /**
+     * @return {@link System#nanoTime()} of the last recorded sample.
+     */
+    public long getLastUpdate() {
+        return lastUpdate;
+    }
+
+    /**
+     * @return number of commands awaiting a response.
+     */
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [average=").append((long) getAverage());
+        sb.append(", p99=").append((long) getP99());
+        sb.append(", samples=").append(samples.get());
+        sb.append(", queueDepth=").append(queueDepth);
+        sb.append(", ejected=").append(ejectedUntil.get() != NOT_EJECTED);
+        sb.append(']');
+        return sb.toString();
+    }
+}
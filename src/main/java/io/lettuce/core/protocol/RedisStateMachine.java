@@ -26,7 +26,6 @@ import io.lettuce.core.LettuceStrings;
 import io.lettuce.core.output.CommandOutput;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
-import io.netty.util.ByteProcessor;
 import io.netty.util.internal.logging.InternalLogger;
 import io.netty.util.internal.logging.InternalLoggerFactory;
 
@@ -45,6 +44,12 @@ public class RedisStateMachine {
     private static final int TERMINATOR_LENGTH = 2;
     private static final int NOT_FOUND = -1;
 
+    /**
+     * {@code \n} replicated to all 8 bytes of a {@code long} to scan 8 bytes at a time.
+     */
+    private static final long LF_PATTERN = 0x0A0A0A0A0A0A0A0AL;
+    private static final long LOW_7_BITS = 0x7F7F7F7F7F7F7F7FL;
+
     static class State {
         enum Type {
 
@@ -176,16 +181,31 @@ public class RedisStateMachine {
     private final boolean debugEnabled = logger.isDebugEnabled();
     private final ByteBuf responseElementBuffer;
     private final AtomicBoolean closed = new AtomicBoolean();
-    private final Resp2LongProcessor longProcessor = new Resp2LongProcessor();
+    private final Resp2LongParser longParser = new Resp2LongParser();
+    private final boolean zeroCopyDecoding;
 
     private ProtocolVersion protocolVersion = null;
     private int stackElements;
+    private boolean paused;
 
     /**
      * Initialize a new instance.
      */
     public RedisStateMachine(ByteBufAllocator alloc) {
+        this(alloc, false);
+    }
+
+    /**
+     * Initialize a new instance.
+     *
+     * @param alloc the allocator for the response element buffer.
+     * @param zeroCopyDecoding {@literal true} to pass bulk strings as slice of the inbound buffer to
+     *        {@link CommandOutput#setByteBuf(ByteBuf)} instead of copying them.
+     * @since 6.0
+     */
+    public RedisStateMachine(ByteBufAllocator alloc, boolean zeroCopyDecoding) {
         this.responseElementBuffer = alloc.buffer(1024);
+        this.zeroCopyDecoding = zeroCopyDecoding;
     }
 
     public boolean isDiscoverProtocol() {
@@ -212,7 +232,8 @@ public class RedisStateMachine {
     }
 
     /**
-     * Attempt to decode a redis response and return a flag indicating whether a complete response was read.
+     * Attempt to decode a redis response and return a flag indicating whether a complete response was read. Decoding of
+     * aggregate responses pauses between elements if {@code command} is a {@link DemandAware.Sink} without demand.
      *
      * @param buffer Buffer containing data from the server.
      * @param command the command itself TODO: Change to Consumer<Throwable>
@@ -229,6 +250,8 @@ public class RedisStateMachine {
             logger.debug("Decode {}", command);
         }
 
+        paused = false;
+
         if (isEmpty(stack)) {
             add(stack, new State());
         }
@@ -238,6 +261,7 @@ public class RedisStateMachine {
         }
 
         boolean resp3Indicator = false;
+        DemandAware.Sink sink = command != null ? CommandWrapper.unwrap(command, DemandAware.Sink.class) : null;
 
         loop:
 
@@ -288,11 +312,10 @@ public class RedisStateMachine {
                     safeSet(output, null, command);
                     break;
                 case INTEGER:
-                    if ((end = findLineEnd(buffer)) == NOT_FOUND) {
+                    if (!longParser.parse(buffer)) {
                         break loop;
                     }
-                    long integer = readLong(buffer, buffer.readerIndex(), end);
-                    safeSet(output, integer, command);
+                    safeSet(output, longParser.result, command);
                     break;
                 case BOOLEAN:
                     if ((end = findLineEnd(buffer)) == NOT_FOUND) {
@@ -310,10 +333,10 @@ public class RedisStateMachine {
                     break;
                 case BULK:
                 case VERBATIM:
-                    if ((end = findLineEnd(buffer)) == NOT_FOUND) {
+                    if (!longParser.parse(buffer)) {
                         break loop;
                     }
-                    length = (int) readLong(buffer, buffer.readerIndex(), end);
+                    length = (int) longParser.result;
                     if (length == NOT_FOUND) {
                         safeSet(output, null, command);
                     } else {
@@ -324,10 +347,10 @@ public class RedisStateMachine {
                     }
                     break;
                 case BULK_ERROR:
-                    if ((end = findLineEnd(buffer)) == NOT_FOUND) {
+                    if (!longParser.parse(buffer)) {
                         break loop;
                     }
-                    length = (int) readLong(buffer, buffer.readerIndex(), end);
+                    length = (int) longParser.result;
                     if (length == NOT_FOUND) {
                         safeSetError(output, null, command);
                     } else {
@@ -344,18 +367,20 @@ public class RedisStateMachine {
                 case MAP:
 
                     if (state.count == NOT_FOUND) {
-                        if ((end = findLineEnd(buffer)) == NOT_FOUND) {
+                        if (!longParser.parse(buffer)) {
                             break loop;
                         }
-                        length = (int) readLong(buffer, buffer.readerIndex(), end);
+                        length = (int) longParser.result;
                         state.count = length;
                         buffer.markReaderIndex();
 
                         switch (state.type) {
                             case MULTI:
-                            case PUSH:
                                 safeMultiArray(output, state.count, command);
                                 break;
+                            case PUSH:
+                                safeMultiPush(output, state.count, command);
+                                break;
                             case MAP:
                                 safeMultiMap(output, state.count, command);
                                 state.count = length * 2;
@@ -384,6 +409,12 @@ public class RedisStateMachine {
                     safeSet(output, bytes, command);
                     break;
                 case BYTES:
+                    if (zeroCopyDecoding) {
+                        if (!readSlice(buffer, state.count, output, command)) {
+                            break loop;
+                        }
+                        break;
+                    }
                     if ((bytes = readBytes(buffer, state.count)) == null) {
                         break loop;
                     }
@@ -399,6 +430,12 @@ public class RedisStateMachine {
             remove(stack);
 
             output.complete(size(stack));
+
+            // pause between elements of an aggregate until the sink catches up, remaining bytes stay in the buffer
+            if (sink != null && !isEmpty(stack) && buffer.isReadable() && !sink.hasDemand()) {
+                paused = true;
+                break;
+            }
         }
 
         if (debugEnabled) {
@@ -416,6 +453,21 @@ public class RedisStateMachine {
         return isEmpty(stack);
     }
 
+    /**
+     * @return {@code true} if the last {@link #decode(ByteBuf, RedisCommand, CommandOutput)} call paused because the
+     *         {@link DemandAware.Sink} had no demand although the buffer may contain further elements.
+     */
+    boolean isPaused() {
+        return paused;
+    }
+
+    /**
+     * @return {@code true} if the state machine is not in the middle of decoding a response.
+     */
+    boolean isEmpty() {
+        return isEmpty(stack);
+    }
+
     /**
      * Reset the state machine.
      */
@@ -435,10 +487,45 @@ public class RedisStateMachine {
 
     private int findLineEnd(ByteBuf buffer) {
 
-        int index = buffer.forEachByte(ByteProcessor.FIND_LF);
+        int index = indexOfLf(buffer, buffer.readerIndex(), buffer.writerIndex());
         return (index > 0 && buffer.getByte(index - 1) == '\r') ? index - 1 : NOT_FOUND;
     }
 
+    /**
+     * Find the index of the first {@code \n} between {@code fromIndex} (inclusive) and {@code toIndex} (exclusive). Scans
+     * eight bytes at a time (SWAR) and falls back to a byte-wise scan for the remaining tail.
+     *
+     * @param buffer the buffer to scan.
+     * @param fromIndex the start index (inclusive).
+     * @param toIndex the end index (exclusive).
+     * @return the absolute index of {@code \n} or {@code -1} if not found.
+     */
+    static int indexOfLf(ByteBuf buffer, int fromIndex, int toIndex) {
+
+        int index = fromIndex;
+        int longEnd = toIndex - Long.BYTES;
+
+        for (; index <= longEnd; index += Long.BYTES) {
+
+            long word = buffer.getLongLE(index) ^ LF_PATTERN;
+
+            // sets the high bit of each byte that is zero, i.e. of each byte that was '\n'
+            long match = ~(((word & LOW_7_BITS) + LOW_7_BITS) | word | LOW_7_BITS);
+
+            if (match != 0) {
+                return index + (Long.numberOfTrailingZeros(match) >>> 3);
+            }
+        }
+
+        for (; index < toIndex; index++) {
+            if (buffer.getByte(index) == '\n') {
+                return index;
+            }
+        }
+
+        return NOT_FOUND;
+    }
+
     private State.Type readReplyType(ByteBuf buffer) {
         return getType(buffer.readerIndex(), buffer.readByte());
     }
@@ -482,10 +569,6 @@ public class RedisStateMachine {
         }
     }
 
-    private long readLong(ByteBuf buffer, int start, int end) {
-        return longProcessor.getValue(buffer, start, end);
-    }
-
     private double readFloat(ByteBuf buffer, int start, int end) {
 
         int valueLength = end - start;
@@ -541,6 +624,22 @@ public class RedisStateMachine {
         return null;
     }
 
+    private boolean readSlice(ByteBuf buffer, int count, CommandOutput<?, ?, ?> output, RedisCommand<?, ?, ?> command) {
+
+        if (buffer.readableBytes() >= count) {
+
+            ByteBuf slice = buffer.readSlice(count - TERMINATOR_LENGTH);
+            safeSetByteBuf(output, slice, command);
+
+            buffer.skipBytes(TERMINATOR_LENGTH);
+            buffer.markReaderIndex();
+
+            return true;
+        }
+
+        return false;
+    }
+
     private ByteBuffer readBytes0(ByteBuf buffer, int count) {
 
         ByteBuffer bytes;
@@ -682,6 +781,23 @@ public class RedisStateMachine {
         }
     }
 
+    /**
+     * Safely sets {@link CommandOutput#setByteBuf(ByteBuf)}. Completes a command exceptionally in case an exception occurs.
+     *
+     * @param output
+     * @param bytes
+     * @param command
+     * @since 6.0
+     */
+    protected void safeSetByteBuf(CommandOutput<?, ?, ?> output, ByteBuf bytes, RedisCommand<?, ?, ?> command) {
+
+        try {
+            output.setByteBuf(bytes);
+        } catch (Exception e) {
+            command.completeExceptionally(e);
+        }
+    }
+
     /**
      * Safely sets {@link CommandOutput#set(ByteBuffer)}. Completes a command exceptionally in case an exception occurs.
      *
@@ -794,50 +910,61 @@ public class RedisStateMachine {
         }
     }
 
-    @SuppressWarnings("unused")
-    static class Resp2LongProcessor implements ByteProcessor {
+    /**
+     * Single-pass parser for RESP integer lines ({@code [-]digits CRLF}) as used for integer replies, bulk string lengths and
+     * aggregate counts. Digits are accumulated while scanning for the terminator so the line is read only once.
+     */
+    static class Resp2LongParser {
 
         long result;
-        boolean negative;
-        boolean first;
 
-        public long getValue(ByteBuf buffer, int start, int end) {
+        /**
+         * Parse a signed decimal number followed by {@code CRLF} starting at the reader index. Advances the reader index
+         * beyond the terminator if the line is complete and leaves the reader index unchanged otherwise.
+         *
+         * @param buffer the buffer to read from.
+         * @return {@literal true} if a complete line was parsed and {@link #result} holds the value.
+         */
+        boolean parse(ByteBuf buffer) {
 
-            this.result = 0;
-            this.first = true;
+            int index = buffer.readerIndex();
+            int end = buffer.writerIndex();
 
-            int length = end - start;
-            buffer.forEachByte(start, length, this);
+            if (index >= end) {
+                return false;
+            }
 
-            if (!this.negative) {
-                this.result = -this.result;
+            boolean negative = buffer.getByte(index) == '-';
+            if (negative) {
+                index++;
             }
 
-            buffer.skipBytes(length + TERMINATOR_LENGTH);
+            // accumulate negative to cover Long.MIN_VALUE
+            long value = 0;
 
-            return this.result;
-        }
+            for (; index < end; index++) {
 
-        @Override
-        public boolean process(byte value) {
+                byte b = buffer.getByte(index);
 
-            if (first) {
-                first = false;
+                if (b == '\r') {
 
-                if (value == '-') {
-                    negative = true;
-                } else {
-                    negative = false;
-                    int digit = value - '0';
-                    result = result * 10 - digit;
+                    if (index + 1 >= end) {
+                        return false;
+                    }
+
+                    if (buffer.getByte(index + 1) != '\n') {
+                        throw new RedisProtocolException("Expected LF after CR at buffer index " + (index + 1));
+                    }
+
+                    this.result = negative ? value : -value;
+                    buffer.readerIndex(index + TERMINATOR_LENGTH);
+                    return true;
                 }
-                return true;
-            }
 
-            int digit = value - '0';
-            result = result * 10 - digit;
+                value = value * 10 - (b - '0');
+            }
 
-            return true;
+            return false;
         }
     }
 }
@@ -130,6 +130,11 @@ public class PubSubCommandHandler<K, V> extends CommandHandler {
         return super.canDecode(buffer) && output.type() == null;
     }
 
+    @Override
+    protected boolean canDecodePushMessages() {
+        return false;
+    }
+
     @Override
     protected boolean canComplete(RedisCommand<?, ?, ?> command) {
 
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+/**
+ * Metrics of the {@link io.lettuce.core.PubSubDispatchOptions#isAsyncDispatch() asynchronous} dispatch of Pub/Sub messages.
+ * Connections using synchronous dispatch report neither pending nor dropped messages.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ * @see io.lettuce.core.PubSubDispatchOptions
+ */
+public interface PubSubDispatchMetrics {
+
+    /**
+     * @return the number of messages received but not yet dispatched to listeners across all channels and patterns.
+     */
+    int getQueueDepth();
+
+    /**
+     * @return the number of messages discarded because a channel queue was full.
+     */
+    long getDroppedMessages();
+}
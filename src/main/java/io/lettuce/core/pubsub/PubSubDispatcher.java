@@ -0,0 +1,281 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.pubsub.PubSubEndpoint.Wrapper;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Dispatcher handing Pub/Sub messages off the I/O thread. Messages are queued per channel (or per pattern for pattern
+ * messages) and each queue is drained by at most one thread at a time. Messages of a single channel are therefore
+ * dispatched in the order they were received while different channels are dispatched concurrently.
+ * <p>
+ * Queues are bounded by {@link PubSubDispatchOptions#getQueueCapacity()}. The {@link OverflowPolicy} determines what happens
+ * once a queue is full.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class PubSubDispatcher<K, V> implements PubSubDispatchMetrics {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubDispatcher.class);
+
+    /**
+     * Maximum number of messages dispatched per run before the queue yields its thread to other channels.
+     */
+    private static final int MAX_BATCH_SIZE = 64;
+
+    private final PubSubEndpoint<K, V> endpoint;
+
+    private final Executor executor;
+
+    private final int queueCapacity;
+
+    private final OverflowPolicy overflowPolicy;
+
+    private final Map<Wrapper<K>, ChannelQueue> queues = new ConcurrentHashMap<>();
+
+    private final LongAdder droppedMessages = new LongAdder();
+
+    /**
+     * Create a new {@link PubSubDispatcher}.
+     *
+     * @param endpoint the endpoint to notify listeners, must not be {@literal null}.
+     * @param executor the executor to dispatch messages, must not be {@literal null}.
+     * @param options the dispatch options, must not be {@literal null}.
+     */
+    PubSubDispatcher(PubSubEndpoint<K, V> endpoint, Executor executor, PubSubDispatchOptions options) {
+
+        LettuceAssert.notNull(endpoint, "PubSubEndpoint must not be null");
+        LettuceAssert.notNull(executor, "Executor must not be null");
+        LettuceAssert.notNull(options, "PubSubDispatchOptions must not be null");
+
+        this.endpoint = endpoint;
+        this.executor = executor;
+        this.queueCapacity = options.getQueueCapacity();
+        this.overflowPolicy = options.getOverflowPolicy();
+    }
+
+    /**
+     * Enqueue {@code output} for dispatch. Must be called from a single thread per connection (the I/O thread).
+     *
+     * @param output the message.
+     * @throws RedisException if the channel queue is full and the {@link OverflowPolicy} is {@link OverflowPolicy#FAIL}.
+     */
+    void dispatch(PubSubOutput<K, V, V> output) {
+
+        Wrapper<K> key = getKey(output);
+        ChannelQueue queue = queues.compute(key, (k, existing) -> {
+
+            ChannelQueue target = existing != null ? existing : new ChannelQueue(k);
+            target.pending.incrementAndGet();
+            return target;
+        });
+
+        try {
+            switch (output.type()) {
+                case subscribe:
+                case psubscribe:
+                    queue.retired = false;
+                    break;
+                case unsubscribe:
+                case punsubscribe:
+                    queue.retired = true;
+                    break;
+                default:
+                    break;
+            }
+
+            queue.offer(output);
+        } finally {
+            queue.pending.decrementAndGet();
+        }
+
+        // the drainer may have finished before we released the queue
+        if (queue.retired) {
+            queue.removeIfIdle();
+        }
+    }
+
+    private static <K> Wrapper<K> getKey(PubSubOutput<K, ?, ?> output) {
+
+        switch (output.type()) {
+            case pmessage:
+            case psubscribe:
+            case punsubscribe:
+                return new Wrapper<>(output.pattern());
+            default:
+                return new Wrapper<>(output.channel());
+        }
+    }
+
+    @Override
+    public int getQueueDepth() {
+
+        int depth = 0;
+
+        for (ChannelQueue queue : queues.values()) {
+            depth += queue.messages.size();
+        }
+
+        return depth;
+    }
+
+    @Override
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    /**
+     * @return number of channels and patterns with an active queue.
+     */
+    int getQueueCount() {
+        return queues.size();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getClass().getSimpleName());
+        sb.append(" [queues=").append(queues.size());
+        sb.append(", queueDepth=").append(getQueueDepth());
+        sb.append(", droppedMessages=").append(getDroppedMessages());
+        sb.append(", overflowPolicy=").append(overflowPolicy);
+        sb.append(']');
+        return sb.toString();
+    }
+
+    /**
+     * Serial queue for a single channel or pattern. The {@code scheduled} flag guarantees that at most one thread drains the
+     * queue at a time. A queue is only removed from {@code queues} while it is idle, atomically with respect to
+     * {@link #dispatch(PubSubOutput)} so that a channel is never served by two queues at once.
+     */
+    class ChannelQueue implements Runnable {
+
+        private final Wrapper<K> key;
+
+        private final BlockingQueue<PubSubOutput<K, V, V>> messages = new ArrayBlockingQueue<>(queueCapacity);
+
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        /**
+         * Number of {@link #dispatch(PubSubOutput)} calls that obtained this queue and did not finish enqueuing yet.
+         */
+        final AtomicInteger pending = new AtomicInteger();
+
+        /**
+         * Set once the channel was unsubscribed. A retired queue removes itself after dispatching its remaining messages.
+         */
+        volatile boolean retired;
+
+        ChannelQueue(Wrapper<K> key) {
+            this.key = key;
+        }
+
+        void offer(PubSubOutput<K, V, V> output) {
+
+            if (!messages.offer(output)) {
+
+                switch (overflowPolicy) {
+                    case DROP_OLDEST:
+                        do {
+                            if (messages.poll() != null) {
+                                droppedMessages.increment();
+                            }
+                        } while (!messages.offer(output));
+                        break;
+                    case BLOCK:
+                        schedule();
+                        try {
+                            messages.put(output);
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            droppedMessages.increment();
+                            throw new RedisException("Interrupted while awaiting Pub/Sub dispatch queue capacity", e);
+                        }
+                        break;
+                    case FAIL:
+                        droppedMessages.increment();
+                        schedule();
+                        throw new RedisException(String.format("Pub/Sub dispatch queue for %s is full (capacity %d)", key.name,
+                                queueCapacity));
+                }
+            }
+
+            schedule();
+        }
+
+        private void schedule() {
+
+            if (scheduled.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+
+            for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+
+                PubSubOutput<K, V, V> output = messages.poll();
+                if (output == null) {
+                    break;
+                }
+
+                try {
+                    endpoint.notifyListeners(output);
+                } catch (Exception e) {
+                    logger.error("Unexpected error occurred in RedisPubSubListener callback", e);
+                }
+            }
+
+            scheduled.set(false);
+
+            // messages enqueued after the last poll but before releasing the flag
+            if (!messages.isEmpty()) {
+                schedule();
+            } else if (retired) {
+                removeIfIdle();
+            }
+        }
+
+        /**
+         * Remove this queue if it is retired, empty, not draining and not held by {@link #dispatch(PubSubOutput)}. The check
+         * runs inside {@link Map#computeIfPresent} and is therefore atomic with respect to obtaining the queue.
+         */
+        void removeIfIdle() {
+            queues.computeIfPresent(key, (k, queue) -> queue == this && isIdle() ? null : queue);
+        }
+
+        private boolean isIdle() {
+            return retired && pending.get() == 0 && messages.isEmpty() && !scheduled.get();
+        }
+    }
+}
@@ -20,6 +20,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.PubSubDispatchOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.DefaultEndpoint;
@@ -37,9 +38,22 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
     private static final InternalLogger logger = InternalLoggerFactory.getInstance(PubSubEndpoint.class);
     private static final Set<String> ALLOWED_COMMANDS_SUBSCRIBED;
     private static final Set<String> SUBSCRIBE_COMMANDS;
+    private static final PubSubDispatchMetrics SYNCHRONOUS_DISPATCH = new PubSubDispatchMetrics() {
+
+        @Override
+        public int getQueueDepth() {
+            return 0;
+        }
+
+        @Override
+        public long getDroppedMessages() {
+            return 0;
+        }
+    };
     private final List<RedisPubSubListener<K, V>> listeners = new CopyOnWriteArrayList<>();
     private final Set<Wrapper<K>> channels;
     private final Set<Wrapper<K>> patterns;
+    private final PubSubDispatcher<K, V> dispatcher;
     private volatile boolean subscribeWritten = false;
 
     static {
@@ -70,6 +84,11 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
 
         this.channels = ConcurrentHashMap.newKeySet();
         this.patterns = ConcurrentHashMap.newKeySet();
+
+        PubSubDispatchOptions dispatchOptions = clientOptions.getPubSubDispatchOptions();
+        this.dispatcher = dispatchOptions.isAsyncDispatch()
+                ? new PubSubDispatcher<>(this, clientResources.eventExecutorGroup(), dispatchOptions)
+                : null;
     }
 
     /**
@@ -110,6 +129,14 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
         return unwrap(this.patterns);
     }
 
+    /**
+     * @return the {@link PubSubDispatchMetrics} of this endpoint.
+     * @since 6.0
+     */
+    public PubSubDispatchMetrics getDispatchMetrics() {
+        return dispatcher != null ? dispatcher : SYNCHRONOUS_DISPATCH;
+    }
+
     @Override
     public void notifyChannelActive(Channel channel) {
         subscribeWritten = false;
@@ -196,6 +223,16 @@ public class PubSubEndpoint<K, V> extends DefaultEndpoint {
         }
 
         updateInternalState(output);
+
+        if (dispatcher != null) {
+            try {
+                dispatcher.dispatch(output);
+            } catch (RedisException e) {
+                logger.error("Cannot dispatch Pub/Sub message", e);
+            }
+            return;
+        }
+
         try {
             notifyListeners(output);
         } catch (Exception e) {
@@ -71,4 +71,14 @@ public interface StatefulRedisPubSubConnection<K, V> extends StatefulRedisConnec
      * @param listener the listener, must not be {@literal null}.
      */
     void removeListener(RedisPubSubListener<K, V> listener);
+
+    /**
+     * Returns the {@link PubSubDispatchMetrics} reporting pending and dropped messages when messages are dispatched
+     * asynchronously.
+     *
+     * @return the dispatch metrics.
+     * @since 6.0
+     * @see io.lettuce.core.ClientOptions#getPubSubDispatchOptions()
+     */
+    PubSubDispatchMetrics getDispatchMetrics();
 }
@@ -83,6 +83,11 @@ public class StatefulRedisPubSubConnectionImpl<K, V> extends StatefulRedisConnec
         endpoint.removeListener(listener);
     }
 
+    @Override
+    public PubSubDispatchMetrics getDispatchMetrics() {
+        return endpoint.getDispatchMetrics();
+    }
+
     @Override
     public RedisPubSubAsyncCommands<K, V> async() {
         return (RedisPubSubAsyncCommands<K, V>) async;
@@ -127,6 +127,8 @@ public class DefaultEventLoopGroupProvider implements EventLoopGroupProvider {
      * <li>DefaultEventExecutorGroup</li>
      * <li>NioEventLoopGroup</li>
      * <li>EpollEventLoopGroup</li>
+     * <li>KQueueEventLoopGroup</li>
+     * <li>IOUringEventLoopGroup</li>
      * </ul>
      *
      * @param type the type
@@ -147,6 +149,15 @@ public class DefaultEventLoopGroupProvider implements EventLoopGroupProvider {
             return new NioEventLoopGroup(numberOfThreads, new DefaultThreadFactory("lettuce-nioEventLoop", true));
         }
 
+        if (IOUringProvider.isAvailable()) {
+
+            EventLoopResources resources = IOUringProvider.getResources();
+
+            if (resources.matches(type)) {
+                return resources.newEventLoopGroup(numberOfThreads, new DefaultThreadFactory("lettuce-io_uringEventLoop", true));
+            }
+        }
+
         if (EpollProvider.isAvailable()) {
 
             EventLoopResources resources = EpollProvider.getResources();
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.resource;
+
+import java.net.SocketAddress;
+import java.util.concurrent.ThreadFactory;
+
+import io.lettuce.core.internal.LettuceAssert;
+import io.netty.channel.Channel;
+import io.netty.channel.EventLoopGroup;
+import io.netty.incubator.channel.uring.IOUring;
+import io.netty.incubator.channel.uring.IOUringEventLoopGroup;
+import io.netty.incubator.channel.uring.IOUringSocketChannel;
+import io.netty.util.concurrent.EventExecutorGroup;
+import io.netty.util.internal.SystemPropertyUtil;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Wraps and provides io_uring classes. This is to protect the user from {@link ClassNotFoundException}'s caused by the absence
+ * of the {@literal netty-incubator-transport-native-io_uring} library during runtime. io_uring is preferred over epoll for
+ * TCP connections if the library is on the class path and supported by the running kernel. io_uring does not support unix
+ * domain sockets so domain socket connections continue to use epoll. Internal API.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class IOUringProvider {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(IOUringProvider.class);
+
+    private static final String IOURING_ENABLED_KEY = "io.lettuce.core.iouring";
+    private static final boolean IOURING_ENABLED = Boolean.parseBoolean(SystemPropertyUtil.get(IOURING_ENABLED_KEY, "true"));
+
+    private static final boolean IOURING_AVAILABLE;
+    private static final EventLoopResources IOURING_RESOURCES;
+
+    static {
+
+        boolean availability;
+        try {
+            Class.forName("io.netty.incubator.channel.uring.IOUring");
+            availability = IOUring.isAvailable();
+        } catch (ClassNotFoundException | LinkageError e) {
+            availability = false;
+        }
+
+        IOURING_AVAILABLE = availability;
+
+        if (IOURING_AVAILABLE) {
+            logger.debug("Starting with io_uring library");
+            IOURING_RESOURCES = AvailableIOUringResources.INSTANCE;
+
+        } else {
+            logger.debug("Starting without optional io_uring library");
+            IOURING_RESOURCES = UnavailableIOUringResources.INSTANCE;
+        }
+    }
+
+    /**
+     * @return {@literal true} if io_uring is available.
+     */
+    public static boolean isAvailable() {
+        return IOURING_AVAILABLE && IOURING_ENABLED;
+    }
+
+    /**
+     * Check whether the io_uring library is available on the class path.
+     *
+     * @throws IllegalStateException if the {@literal netty-incubator-transport-native-io_uring} library is not available
+     */
+    static void checkForIOUringLibrary() {
+
+        LettuceAssert.assertState(IOURING_ENABLED,
+                String.format("io_uring use is disabled via System properties (%s)", IOURING_ENABLED_KEY));
+        LettuceAssert.assertState(isAvailable(),
+                "netty-incubator-transport-native-io_uring is not available. Make sure netty-incubator-transport-native-io_uring library on the class path and supported by your operating system.");
+    }
+
+    /**
+     * Returns the {@link EventLoopResources} for io_uring-backed transport. Check availability with {@link #isAvailable()}
+     * prior to obtaining the resources.
+     *
+     * @return the {@link EventLoopResources}. May be unavailable.
+     */
+    public static EventLoopResources getResources() {
+        return IOURING_RESOURCES;
+    }
+
+    /**
+     * {@link EventLoopResources} for unavailable io_uring.
+     */
+    enum UnavailableIOUringResources implements EventLoopResources {
+
+        INSTANCE;
+
+        @Override
+        public Class<? extends Channel> domainSocketChannelClass() {
+
+            checkForIOUringLibrary();
+            return null;
+        }
+
+        @Override
+        public Class<? extends EventLoopGroup> eventLoopGroupClass() {
+
+            checkForIOUringLibrary();
+            return null;
+        }
+
+        @Override
+        public boolean matches(Class<? extends EventExecutorGroup> type) {
+
+            checkForIOUringLibrary();
+            return false;
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+
+            checkForIOUringLibrary();
+            return null;
+        }
+
+        @Override
+        public SocketAddress newSocketAddress(String socketPath) {
+
+            checkForIOUringLibrary();
+            return null;
+        }
+
+        @Override
+        public Class<? extends Channel> socketChannelClass() {
+
+            checkForIOUringLibrary();
+            return null;
+        }
+    }
+
+    /**
+     * {@link EventLoopResources} for available io_uring.
+     */
+    enum AvailableIOUringResources implements EventLoopResources {
+
+        INSTANCE;
+
+        @Override
+        public boolean matches(Class<? extends EventExecutorGroup> type) {
+
+            LettuceAssert.notNull(type, "EventLoopGroup type must not be null");
+
+            return type.equals(eventLoopGroupClass());
+        }
+
+        @Override
+        public EventLoopGroup newEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+
+            checkForIOUringLibrary();
+
+            return new IOUringEventLoopGroup(nThreads, threadFactory);
+        }
+
+        @Override
+        public Class<? extends Channel> domainSocketChannelClass() {
+            throw new UnsupportedOperationException("Domain sockets are not supported with io_uring");
+        }
+
+        @Override
+        public Class<? extends Channel> socketChannelClass() {
+
+            checkForIOUringLibrary();
+
+            return IOUringSocketChannel.class;
+        }
+
+        @Override
+        public Class<? extends EventLoopGroup> eventLoopGroupClass() {
+
+            checkForIOUringLibrary();
+
+            return IOUringEventLoopGroup.class;
+        }
+
+        @Override
+        public SocketAddress newSocketAddress(String socketPath) {
+            throw new UnsupportedOperationException("Domain sockets are not supported with io_uring");
+        }
+    }
+}
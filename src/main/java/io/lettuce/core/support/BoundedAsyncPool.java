@@ -16,15 +16,23 @@
 package io.lettuce.core.support;
 
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import io.lettuce.core.internal.Futures;
 import io.lettuce.core.internal.LettuceAssert;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
 
 /**
  * Bounded asynchronous object pool. This object pool allows pre-warming with {@link BoundedPoolConfig#getMinIdle() idle}
@@ -33,6 +41,13 @@ import io.lettuce.core.internal.LettuceAssert;
  * Object pool bounds are maintained on a best-effort basis as bounds are maintained upon object request whereas the actual
  * object creation might finish at a later time. You might see temporarily slight differences in object usage vs. pool count due
  * to asynchronous processing vs. protecting the pool from exceed its bounds.
+ * <p>
+ * Callers can {@link BoundedPoolConfig#getMaxWaiters() wait} for an object once the pool is exhausted. Waiters are served in
+ * FIFO order and fail after {@link BoundedPoolConfig#getMaxWait()}. Idle objects are kept in multiple stripes that are
+ * selected by the calling thread so threads (such as event loops) acquiring and releasing objects concurrently do not
+ * contend on a single queue. A background task evicts objects that exceed
+ * {@link BoundedPoolConfig#getMinEvictableIdleTime()} and restores {@link BoundedPoolConfig#getMinIdle() min idle} if
+ * {@link BoundedPoolConfig#getTimeBetweenEvictionRuns() eviction} is enabled.
  *
  * @author Mark Paluch
  * @since 5.1
@@ -41,30 +56,48 @@ import io.lettuce.core.internal.LettuceAssert;
  */
 public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(BoundedAsyncPool.class);
+
     private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
 
+    private static final int MAX_STRIPES = 64;
+
     private static final IllegalStateException POOL_SHUTDOWN = unknownStackTrace(new IllegalStateException(
             "AsyncPool is closed"), BoundedAsyncPool.class, "acquire()");
 
     private static final NoSuchElementException POOL_EXHAUSTED = unknownStackTrace(
             new NoSuchElementException("Pool exhausted"), BoundedAsyncPool.class, "acquire()");
 
+    private static final NoSuchElementException POOL_WAIT_TIMEOUT = unknownStackTrace(
+            new NoSuchElementException("Timeout waiting for pool object"), BoundedAsyncPool.class, "acquire()");
+
     private static final IllegalStateException NOT_PART_OF_POOL = unknownStackTrace(new IllegalStateException(
             "Returned object not currently part of this pool"), BoundedAsyncPool.class, "release()");
 
     private final int maxTotal;
     private final int maxIdle;
     private final int minIdle;
+    private final int maxWaiters;
+    private final long maxWaitNanos;
+    private final long minEvictableIdleNanos;
+    private final long validationIdleNanos;
 
     private final AsyncObjectFactory<T> factory;
 
-    private final Queue<T> cache;
-    private final Queue<T> all;
+    private final Deque<Idle<T>>[] stripes;
+    private final int stripeMask;
+    private final Map<T, Integer> all = new ConcurrentHashMap<>();
+
+    private final Deque<Waiter<T>> waiters = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger waiterCount = new AtomicInteger();
 
     private final AtomicInteger objectCount = new AtomicInteger();
     private final AtomicInteger objectsInCreationCount = new AtomicInteger();
     private final AtomicInteger idleCount = new AtomicInteger();
 
+    private final ScheduledExecutorService scheduler;
+    private final ScheduledFuture<?> evictionTask;
+
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
 
     private volatile State state = State.ACTIVE;
@@ -77,6 +110,21 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
      * @param poolConfig must not be {@literal null}.
      */
     public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig) {
+        this(factory, poolConfig, null);
+    }
+
+    /**
+     * Create a new {@link BoundedAsyncPool} given {@link BasePoolConfig}, {@link AsyncObjectFactory} and a
+     * {@link ScheduledExecutorService} to run idle eviction and acquire timeouts. The factory creates idle objects upon
+     * construction and requires {@link #closeAsync() termination} once it's no longer in use.
+     *
+     * @param factory must not be {@literal null}.
+     * @param poolConfig must not be {@literal null}.
+     * @param scheduler the scheduler for idle eviction and acquire timeouts. Uses a shared scheduler if {@literal null}.
+     * @since 6.0
+     */
+    @SuppressWarnings("unchecked")
+    public BoundedAsyncPool(AsyncObjectFactory<T> factory, BoundedPoolConfig poolConfig, ScheduledExecutorService scheduler) {
 
         super(poolConfig);
 
@@ -85,13 +133,42 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         this.maxTotal = poolConfig.getMaxTotal();
         this.maxIdle = poolConfig.getMaxIdle();
         this.minIdle = poolConfig.getMinIdle();
+        this.maxWaiters = poolConfig.getMaxWaiters();
+        this.maxWaitNanos = poolConfig.getMaxWait().toNanos();
+        this.minEvictableIdleNanos = poolConfig.getMinEvictableIdleTime().toNanos();
+        this.validationIdleNanos = poolConfig.getValidationIdleTime().toNanos();
 
         this.factory = factory;
 
-        this.cache = new ConcurrentLinkedQueue<>();
-        this.all = new ConcurrentLinkedQueue<>();
+        int stripeCount = stripeCount(Runtime.getRuntime().availableProcessors());
+        this.stripes = (Deque<Idle<T>>[]) new Deque<?>[stripeCount];
+        this.stripeMask = stripeCount - 1;
+
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ConcurrentLinkedDeque<>();
+        }
+
+        boolean eviction = !poolConfig.getTimeBetweenEvictionRuns().isZero();
+
+        if (scheduler == null && (eviction || (maxWaiters > 0 && maxWaitNanos > 0))) {
+            scheduler = PoolScheduler.get();
+        }
+
+        this.scheduler = scheduler;
 
         createIdle();
+
+        if (eviction) {
+
+            long interval = poolConfig.getTimeBetweenEvictionRuns().toNanos();
+            this.evictionTask = scheduler.scheduleWithFixedDelay(this::evict, interval, interval, TimeUnit.NANOSECONDS);
+        } else {
+            this.evictionTask = null;
+        }
+    }
+
+    private static int stripeCount(int processors) {
+        return Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, processors - 1)) << 1);
     }
 
     private void createIdle() {
@@ -117,7 +194,8 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
                 if (isPoolActive()) {
                     idleCount.incrementAndGet();
-                    cache.add(it);
+                    offerIdle(it);
+                    serveWaiters();
                 } else {
                     factory.destroy(it);
                 }
@@ -132,21 +210,21 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     @Override
     public CompletableFuture<T> acquire() {
 
-        T object = cache.poll();
+        Idle<T> idle = pollIdle();
 
         CompletableFuture<T> res = new CompletableFuture<>();
-        acquire0(object, res);
+        acquire0(idle, res);
 
         return res;
     }
 
-    private void acquire0(T object, CompletableFuture<T> res) {
+    private void acquire0(Idle<T> idle, CompletableFuture<T> res) {
 
-        if (object != null) {
+        if (idle != null) {
 
-            idleCount.decrementAndGet();
+            T object = idle.object;
 
-            if (isTestOnAcquire()) {
+            if (isTestOnAcquire() && System.nanoTime() - idle.since >= validationIdleNanos) {
 
                 factory.validate(object).whenComplete((state, throwable) -> {
 
@@ -185,7 +263,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
             return;
         }
 
-        res.completeExceptionally(POOL_EXHAUSTED);
+        rejectExhausted(res);
     }
 
     private void makeObject0(CompletableFuture<T> res) {
@@ -195,8 +273,8 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         if (((long) getMaxTotal()) < total + creations) {
 
-            res.completeExceptionally(POOL_EXHAUSTED);
             objectsInCreationCount.decrementAndGet();
+            rejectExhausted(res);
             return;
         }
 
@@ -206,6 +284,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                     if (t != null) {
                         objectsInCreationCount.decrementAndGet();
                         res.completeExceptionally(new IllegalStateException("Cannot allocate object", t));
+                        serveWaiters();
                         return;
                     }
 
@@ -219,7 +298,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                                         if (isPoolActive() && state != null && state) {
 
                                             objectCount.incrementAndGet();
-                                            all.add(o);
+                                            addToPool(o);
 
                                             completeAcquire(res, o);
                                             return;
@@ -249,7 +328,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
                         if (isPoolActive()) {
                             objectCount.incrementAndGet();
-                            all.add(o);
+                            addToPool(o);
 
                             completeAcquire(res, o);
                         } else {
@@ -259,7 +338,7 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
                     } catch (Exception e) {
 
                         objectCount.decrementAndGet();
-                        all.remove(o);
+                        removeFromPool(o);
 
                         factory.destroy(o).whenComplete((v, th) -> res.completeExceptionally(e));
                     } finally {
@@ -270,10 +349,9 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
     private void completeAcquire(CompletableFuture<T> res, T o) {
 
-        if (res.isCancelled()) {
+        // cancelled or timed out waiters cannot take the object
+        if (!res.complete(o)) {
             return0(o);
-        } else {
-            res.complete(o);
         }
     }
 
@@ -283,14 +361,114 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         res.completeExceptionally(POOL_SHUTDOWN);
     }
 
+    private void rejectExhausted(CompletableFuture<T> res) {
+
+        if (!enqueueWaiter(res)) {
+            res.completeExceptionally(POOL_EXHAUSTED);
+        }
+    }
+
+    /**
+     * Register {@code res} as waiter if the waiter queue has capacity.
+     *
+     * @param res the acquire future.
+     * @return {@literal true} if {@code res} was registered as waiter.
+     */
+    private boolean enqueueWaiter(CompletableFuture<T> res) {
+
+        if (maxWaiters <= 0 || !isPoolActive()) {
+            return false;
+        }
+
+        if (waiterCount.incrementAndGet() > maxWaiters) {
+            waiterCount.decrementAndGet();
+            return false;
+        }
+
+        Waiter<T> waiter = new Waiter<>(res);
+        waiters.offer(waiter);
+
+        if (maxWaitNanos > 0) {
+            waiter.timeout = scheduler.schedule(() -> {
+
+                if (waiters.remove(waiter)) {
+                    waiterCount.decrementAndGet();
+                    res.completeExceptionally(POOL_WAIT_TIMEOUT);
+                }
+            }, maxWaitNanos, TimeUnit.NANOSECONDS);
+        }
+
+        // an object might have been released before the waiter was registered
+        serveWaiters();
+
+        return true;
+    }
+
+    private Waiter<T> pollWaiter() {
+
+        Waiter<T> waiter = waiters.poll();
+
+        if (waiter != null) {
+
+            waiterCount.decrementAndGet();
+
+            ScheduledFuture<?> timeout = waiter.timeout;
+            if (timeout != null) {
+                timeout.cancel(false);
+            }
+        }
+
+        return waiter;
+    }
+
+    /**
+     * Hand out idle objects and available capacity to waiters.
+     */
+    private void serveWaiters() {
+
+        while (!waiters.isEmpty()) {
+
+            Idle<T> idle = pollIdle();
+
+            if (idle == null) {
+
+                if (getAvailableCapacity() <= 0) {
+                    return;
+                }
+
+                Waiter<T> waiter = pollWaiter();
+
+                if (waiter == null) {
+                    return;
+                }
+
+                if (!waiter.future.isDone()) {
+                    makeObject0(waiter.future);
+                }
+
+                continue;
+            }
+
+            Waiter<T> waiter = pollWaiter();
+
+            if (waiter == null || waiter.future.isDone()) {
+                idleCount.incrementAndGet();
+                stripes[stripeIndex()].offerFirst(idle);
+                continue;
+            }
+
+            acquire0(idle, waiter.future);
+        }
+    }
+
     @Override
     public CompletableFuture<Void> release(T object) {
 
-        if (!all.contains(object)) {
+        if (!all.containsKey(object)) {
             return Futures.failed(NOT_PART_OF_POOL);
         }
 
-        if (idleCount.get() >= getMaxIdle()) {
+        if (idleCount.get() >= getMaxIdle() && waiterCount.get() == 0) {
             return destroy0(object);
         }
 
@@ -318,13 +496,14 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         int idleCount = this.idleCount.incrementAndGet();
 
-        if (idleCount > getMaxIdle()) {
+        if (idleCount > getMaxIdle() && waiterCount.get() == 0) {
 
             this.idleCount.decrementAndGet();
             return destroy0(object);
         }
 
-        cache.add(object);
+        offerIdle(object);
+        serveWaiters();
 
         return COMPLETED;
     }
@@ -332,8 +511,87 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     private CompletableFuture<Void> destroy0(T object) {
 
         objectCount.decrementAndGet();
-        all.remove(object);
-        return factory.destroy(object);
+        removeFromPool(object);
+        CompletableFuture<Void> destroy = factory.destroy(object);
+
+        // capacity became available
+        serveWaiters();
+
+        return destroy;
+    }
+
+    private void addToPool(T object) {
+        all.merge(object, 1, Integer::sum);
+    }
+
+    private void removeFromPool(T object) {
+        all.computeIfPresent(object, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    private int stripeIndex() {
+        return (int) Thread.currentThread().getId() & stripeMask;
+    }
+
+    private void offerIdle(T object) {
+        stripes[stripeIndex()].offerFirst(new Idle<>(object, System.nanoTime()));
+    }
+
+    private Idle<T> pollIdle() {
+
+        if (idleCount.get() <= 0) {
+            return null;
+        }
+
+        int start = stripeIndex();
+
+        for (int i = 0; i < stripes.length; i++) {
+
+            Idle<T> idle = stripes[(start + i) & stripeMask].pollFirst();
+
+            if (idle != null) {
+                idleCount.decrementAndGet();
+                return idle;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Destroy objects that exceed the minimum evictable idle time and restore {@link #getMinIdle() min idle} objects.
+     */
+    void evict() {
+
+        if (!isPoolActive()) {
+            return;
+        }
+
+        try {
+
+            long now = System.nanoTime();
+
+            for (Deque<Idle<T>> stripe : stripes) {
+
+                // oldest objects are located at the tail
+                for (Iterator<Idle<T>> iterator = stripe.descendingIterator(); iterator.hasNext();) {
+
+                    Idle<T> idle = iterator.next();
+
+                    if (getIdle() <= getMinIdle()) {
+                        return;
+                    }
+
+                    if (now - idle.since >= minEvictableIdleNanos && stripe.removeFirstOccurrence(idle)) {
+                        idleCount.decrementAndGet();
+                        destroy0(idle.object);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Idle eviction failed", e);
+        } finally {
+            createIdle();
+        }
     }
 
     @Override
@@ -346,12 +604,15 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         List<CompletableFuture<Void>> futures = new ArrayList<>(all.size());
 
-        T cached;
-        while ((cached = cache.poll()) != null) {
-            idleCount.decrementAndGet();
-            objectCount.decrementAndGet();
-            all.remove(cached);
-            futures.add(factory.destroy(cached));
+        for (Deque<Idle<T>> stripe : stripes) {
+
+            Idle<T> cached;
+            while ((cached = stripe.poll()) != null) {
+                idleCount.decrementAndGet();
+                objectCount.decrementAndGet();
+                removeFromPool(cached.object);
+                futures.add(factory.destroy(cached.object));
+            }
         }
 
         return Futures.allOf(futures);
@@ -371,6 +632,15 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
 
         state = State.TERMINATING;
 
+        if (evictionTask != null) {
+            evictionTask.cancel(false);
+        }
+
+        Waiter<T> waiter;
+        while ((waiter = pollWaiter()) != null) {
+            waiter.future.completeExceptionally(POOL_SHUTDOWN);
+        }
+
         CompletableFuture<Void> clear = clearAsync();
 
         state = State.TERMINATED;
@@ -442,6 +712,14 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
         return objectsInCreationCount.get();
     }
 
+    /**
+     * @return the number of callers waiting for an object.
+     * @since 6.0
+     */
+    public int getWaiters() {
+        return waiterCount.get();
+    }
+
     private boolean isPoolActive() {
         return this.state == State.ACTIVE;
     }
@@ -449,4 +727,31 @@ public class BoundedAsyncPool<T> extends BasePool implements AsyncPool<T> {
     enum State {
         ACTIVE, TERMINATING, TERMINATED;
     }
+
+    /**
+     * Idle object along with the time it was returned to the pool.
+     */
+    static class Idle<T> {
+
+        final T object;
+        final long since;
+
+        Idle(T object, long since) {
+            this.object = object;
+            this.since = since;
+        }
+    }
+
+    /**
+     * Caller waiting for an object.
+     */
+    static class Waiter<T> {
+
+        final CompletableFuture<T> future;
+        volatile ScheduledFuture<?> timeout;
+
+        Waiter(CompletableFuture<T> future) {
+            this.future = future;
+        }
+    }
 }
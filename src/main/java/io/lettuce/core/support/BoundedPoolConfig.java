@@ -15,6 +15,10 @@
  */
 package io.lettuce.core.support;
 
+import java.time.Duration;
+
+import io.lettuce.core.internal.LettuceAssert;
+
 /**
  * Configuration for asynchronous pooling using {@link BoundedAsyncPool}. Instances can be created through a {@link #builder()}.
  *
@@ -39,18 +43,75 @@ public class BoundedPoolConfig extends BasePoolConfig {
      */
     public static final int DEFAULT_MIN_IDLE = 0;
 
+    /**
+     * The default value for the {@code maxWaiters} configuration attribute. Acquisition fails immediately if the pool is
+     * exhausted.
+     *
+     * @since 6.0
+     */
+    public static final int DEFAULT_MAX_WAITERS = 0;
+
+    /**
+     * The default value for the {@code maxWait} configuration attribute. Waiters wait without a timeout.
+     *
+     * @since 6.0
+     */
+    public static final Duration DEFAULT_MAX_WAIT = Duration.ZERO;
+
+    /**
+     * The default value for the {@code timeBetweenEvictionRuns} configuration attribute. Idle eviction is disabled.
+     *
+     * @since 6.0
+     */
+    public static final Duration DEFAULT_TIME_BETWEEN_EVICTION_RUNS = Duration.ZERO;
+
+    /**
+     * The default value for the {@code minEvictableIdleTime} configuration attribute.
+     *
+     * @since 6.0
+     */
+    public static final Duration DEFAULT_MIN_EVICTABLE_IDLE_TIME = Duration.ofMinutes(30);
+
+    /**
+     * The default value for the {@code validationIdleTime} configuration attribute. Objects are validated on each acquire if
+     * {@link #isTestOnAcquire() testOnAcquire} is enabled.
+     *
+     * @since 6.0
+     */
+    public static final Duration DEFAULT_VALIDATION_IDLE_TIME = Duration.ZERO;
+
     private final int maxTotal;
     private final int maxIdle;
     private final int minIdle;
+    private final int maxWaiters;
+    private final Duration maxWait;
+    private final Duration timeBetweenEvictionRuns;
+    private final Duration minEvictableIdleTime;
+    private final Duration validationIdleTime;
 
     protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
             int minIdle) {
+        this(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, DEFAULT_MAX_WAITERS, DEFAULT_MAX_WAIT,
+                DEFAULT_TIME_BETWEEN_EVICTION_RUNS, DEFAULT_MIN_EVICTABLE_IDLE_TIME, DEFAULT_VALIDATION_IDLE_TIME);
+    }
+
+    /**
+     * @since 6.0
+     */
+    protected BoundedPoolConfig(boolean testOnCreate, boolean testOnAcquire, boolean testOnRelease, int maxTotal, int maxIdle,
+            int minIdle, int maxWaiters, Duration maxWait, Duration timeBetweenEvictionRuns, Duration minEvictableIdleTime,
+            Duration validationIdleTime) {
 
         super(testOnCreate, testOnAcquire, testOnRelease);
 
         this.maxTotal = maxTotal;
         this.maxIdle = maxIdle;
         this.minIdle = minIdle;
+        this.maxWaiters = maxWaiters;
+        this.maxWait = maxWait;
+        this.timeBetweenEvictionRuns = timeBetweenEvictionRuns;
+        this.minEvictableIdleTime = minEvictableIdleTime;
+        this.validationIdleTime = validationIdleTime;
     }
 
     /**
@@ -93,6 +154,59 @@ public class BoundedPoolConfig extends BasePoolConfig {
         return minIdle;
     }
 
+    /**
+     * Get the value for the {@code maxWaiters} configuration attribute for pools created with this configuration instance.
+     *
+     * @return the current setting of {@code maxWaiters} for this configuration instance.
+     * @since 6.0
+     */
+    public int getMaxWaiters() {
+        return maxWaiters;
+    }
+
+    /**
+     * Get the value for the {@code maxWait} configuration attribute for pools created with this configuration instance.
+     *
+     * @return the current setting of {@code maxWait} for this configuration instance.
+     * @since 6.0
+     */
+    public Duration getMaxWait() {
+        return maxWait;
+    }
+
+    /**
+     * Get the value for the {@code timeBetweenEvictionRuns} configuration attribute for pools created with this configuration
+     * instance.
+     *
+     * @return the current setting of {@code timeBetweenEvictionRuns} for this configuration instance.
+     * @since 6.0
+     */
+    public Duration getTimeBetweenEvictionRuns() {
+        return timeBetweenEvictionRuns;
+    }
+
+    /**
+     * Get the value for the {@code minEvictableIdleTime} configuration attribute for pools created with this configuration
+     * instance.
+     *
+     * @return the current setting of {@code minEvictableIdleTime} for this configuration instance.
+     * @since 6.0
+     */
+    public Duration getMinEvictableIdleTime() {
+        return minEvictableIdleTime;
+    }
+
+    /**
+     * Get the value for the {@code validationIdleTime} configuration attribute for pools created with this configuration
+     * instance.
+     *
+     * @return the current setting of {@code validationIdleTime} for this configuration instance.
+     * @since 6.0
+     */
+    public Duration getValidationIdleTime() {
+        return validationIdleTime;
+    }
+
     /**
      * Builder for {@link BoundedPoolConfig}.
      */
@@ -101,6 +215,11 @@ public class BoundedPoolConfig extends BasePoolConfig {
         private int maxTotal = DEFAULT_MAX_TOTAL;
         private int maxIdle = DEFAULT_MAX_IDLE;
         private int minIdle = DEFAULT_MIN_IDLE;
+        private int maxWaiters = DEFAULT_MAX_WAITERS;
+        private Duration maxWait = DEFAULT_MAX_WAIT;
+        private Duration timeBetweenEvictionRuns = DEFAULT_TIME_BETWEEN_EVICTION_RUNS;
+        private Duration minEvictableIdleTime = DEFAULT_MIN_EVICTABLE_IDLE_TIME;
+        private Duration validationIdleTime = DEFAULT_VALIDATION_IDLE_TIME;
 
         protected Builder() {
         }
@@ -189,13 +308,100 @@ public class BoundedPoolConfig extends BasePoolConfig {
             return this;
         }
 
+        /**
+         * Configures the maximum number of callers that wait for an object once the pool is exhausted. Waiters are served in
+         * FIFO order as soon as an object is released or pool capacity becomes available. Acquisition fails immediately if
+         * the pool is exhausted and the number of waiters has reached {@code maxWaiters}. Defaults to {@literal 0}.
+         *
+         * @param maxWaiters maximum number of waiters, must not be negative.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder maxWaiters(int maxWaiters) {
+
+            LettuceAssert.isTrue(maxWaiters >= 0, "Max waiters must not be negative");
+
+            this.maxWaiters = maxWaiters;
+            return this;
+        }
+
+        /**
+         * Configures the maximum duration a waiter waits for an object. Waiters that exceed the duration fail with
+         * {@link java.util.NoSuchElementException}. {@link Duration#ZERO} waits without a timeout.
+         *
+         * @param maxWait the maximum wait duration, must not be {@literal null} or negative.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder maxWait(Duration maxWait) {
+
+            LettuceAssert.notNull(maxWait, "Max wait must not be null");
+            LettuceAssert.isTrue(!maxWait.isNegative(), "Max wait must not be negative");
+
+            this.maxWait = maxWait;
+            return this;
+        }
+
+        /**
+         * Configures the interval of the background eviction run. Each run destroys objects that were idle for at least
+         * {@link #minEvictableIdleTime(Duration)} while retaining {@code minIdle} objects and creates objects to restore
+         * {@code minIdle}. {@link Duration#ZERO} disables eviction.
+         *
+         * @param timeBetweenEvictionRuns the eviction interval, must not be {@literal null} or negative.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder timeBetweenEvictionRuns(Duration timeBetweenEvictionRuns) {
+
+            LettuceAssert.notNull(timeBetweenEvictionRuns, "Time between eviction runs must not be null");
+            LettuceAssert.isTrue(!timeBetweenEvictionRuns.isNegative(), "Time between eviction runs must not be negative");
+
+            this.timeBetweenEvictionRuns = timeBetweenEvictionRuns;
+            return this;
+        }
+
+        /**
+         * Configures the minimum duration an object may sit idle in the pool before it is eligible for eviction.
+         *
+         * @param minEvictableIdleTime the minimum idle time, must not be {@literal null} or negative.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder minEvictableIdleTime(Duration minEvictableIdleTime) {
+
+            LettuceAssert.notNull(minEvictableIdleTime, "Min evictable idle time must not be null");
+            LettuceAssert.isTrue(!minEvictableIdleTime.isNegative(), "Min evictable idle time must not be negative");
+
+            this.minEvictableIdleTime = minEvictableIdleTime;
+            return this;
+        }
+
+        /**
+         * Configures the minimum duration an object must have been idle to be validated on acquire. Objects that were
+         * released more recently are handed out without validation. Applies only if {@link #testOnAcquire() testOnAcquire}
+         * is enabled. {@link Duration#ZERO} validates objects on each acquire.
+         *
+         * @param validationIdleTime the minimum idle time for validation, must not be {@literal null} or negative.
+         * @return {@code this} {@link Builder}.
+         * @since 6.0
+         */
+        public Builder validationIdleTime(Duration validationIdleTime) {
+
+            LettuceAssert.notNull(validationIdleTime, "Validation idle time must not be null");
+            LettuceAssert.isTrue(!validationIdleTime.isNegative(), "Validation idle time must not be negative");
+
+            this.validationIdleTime = validationIdleTime;
+            return this;
+        }
+
         /**
          * Build a new {@link BasePoolConfig} object.
          *
          * @return a new {@link BasePoolConfig} object.
          */
         public BoundedPoolConfig build() {
-            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle);
+            return new BoundedPoolConfig(testOnCreate, testOnAcquire, testOnRelease, maxTotal, maxIdle, minIdle, maxWaiters,
+                    maxWait, timeBetweenEvictionRuns, minEvictableIdleTime, validationIdleTime);
         }
     }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * Holder for the shared {@link ScheduledExecutorService} that runs idle eviction and acquire timeouts of
+ * {@link BoundedAsyncPool pools} that are not configured with a dedicated scheduler. The scheduler uses a single daemon
+ * thread that is started on first use.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class PoolScheduler {
+
+    private PoolScheduler() {
+    }
+
+    /**
+     * @return the shared {@link ScheduledExecutorService}.
+     */
+    static ScheduledExecutorService get() {
+        return Holder.INSTANCE;
+    }
+
+    private static class Holder {
+
+        static final ScheduledExecutorService INSTANCE;
+
+        static {
+
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1,
+                    new DefaultThreadFactory("lettuce-pool-scheduler", true));
+            executor.setRemoveOnCancelPolicy(true);
+
+            INSTANCE = executor;
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.io.Closeable;
+import java.util.List;
+
+import io.lettuce.core.KeyValue;
+
+/**
+ * Interface defining a cache frontend for common cache retrieval operations. Cache hits are served from a local cache, cache
+ * misses are retrieved from Redis and cached for subsequent access. Cached entries are invalidated by Redis through
+ * {@literal CLIENT TRACKING} invalidation messages.
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ * @see ClientSideCaching
+ */
+public interface CacheFrontend<K, V> extends Closeable {
+
+    /**
+     * Return the value to which this cache maps the specified key. Retrieves the value using {@literal GET} on a cache miss.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which this cache maps the specified key, can be {@literal null} if the key does not exist.
+     */
+    V get(K key);
+
+    /**
+     * Return the value of a hash field. Retrieves the value using {@literal HGET} on a cache miss.
+     *
+     * @param key the key of the hash.
+     * @param field the field type: key.
+     * @return the value associated with {@code field}, can be {@literal null} if the key or field does not exist.
+     */
+    V hget(K key, K field);
+
+    /**
+     * Return the values of all specified keys. Retrieves cache misses using a single {@literal MGET}.
+     *
+     * @param keys the keys.
+     * @return the {@link KeyValue} list in the order of the requested {@code keys}.
+     */
+    List<KeyValue<K, V>> mget(K... keys);
+
+    /**
+     * Closes this cache frontend and disables {@literal CLIENT TRACKING} on the connection. The connection itself remains
+     * open.
+     */
+    @Override
+    void close();
+
+}
@@ -0,0 +1,390 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.netty.util.internal.logging.InternalLogger;
+import io.netty.util.internal.logging.InternalLoggerFactory;
+
+/**
+ * Client-side caching (near cache) on top of a {@link StatefulRedisConnection} using server-assisted invalidation through
+ * {@literal CLIENT TRACKING}. Cache misses are loaded through the connection and Redis tracks the loaded keys (or the
+ * configured prefixes in broadcasting mode) and sends {@literal invalidate} push messages once a key is modified.
+ * <p>
+ * Client-side caching requires RESP3 as invalidation messages are received as push messages on the connection that loads
+ * values. Loaded values are only cached if no invalidation was received while loading to avoid caching values that were
+ * concurrently modified. The cache is flushed when the connection gets disconnected or re-established because invalidation
+ * messages may have been lost in between. Tracking is re-enabled on the new connection before loading the next value.
+ * <p>
+ * Usage:
+ *
+ * <pre class="code">
+ * CacheFrontend&lt;String, String&gt; frontend = ClientSideCaching.enable(connection, StringCodec.UTF8,
+ *         ClientSideCachingOptions.create());
+ *
+ * String value = frontend.get(key);
+ * </pre>
+ *
+ * @param <K> Key type.
+ * @param <V> Value type.
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ClientSideCaching<K, V> implements CacheFrontend<K, V> {
+
+    private static final InternalLogger logger = InternalLoggerFactory.getInstance(ClientSideCaching.class);
+
+    private static final String INVALIDATE = "invalidate";
+
+    private static final Object NULL = new Object();
+
+    private final StatefulRedisConnection<K, V> connection;
+
+    private final RedisCodec<K, V> codec;
+
+    private final TrackingArgs trackingArgs;
+
+    private final LruCache cache;
+
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final PushListener invalidationListener = this::onPushMessage;
+
+    private volatile Long connectionId;
+
+    private volatile boolean closed;
+
+    ClientSideCaching(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec,
+            ClientSideCachingOptions options) {
+
+        this.connection = connection;
+        this.codec = codec;
+        this.trackingArgs = options.getTrackingArgs();
+        this.cache = new LruCache(options.getMaxEntries(), options.getTimeToLive().toNanos(), System::nanoTime);
+    }
+
+    /**
+     * Enable client-side caching for the given {@link StatefulRedisConnection}. Registers a {@link PushListener} for
+     * invalidation messages and enables {@literal CLIENT TRACKING} on the connection.
+     *
+     * @param connection the connection, must not be {@literal null}. The connection must use RESP3.
+     * @param codec the codec used by {@code connection} to encode keys, must not be {@literal null}.
+     * @param options the caching options, must not be {@literal null}.
+     * @param <K> Key type.
+     * @param <V> Value type.
+     * @return the {@link CacheFrontend}.
+     * @throws UnsupportedOperationException if the connection does not dispatch push messages (e.g. Master/Replica
+     *         connections).
+     */
+    public static <K, V> CacheFrontend<K, V> enable(StatefulRedisConnection<K, V> connection, RedisCodec<K, V> codec,
+            ClientSideCachingOptions options) {
+
+        LettuceAssert.notNull(connection, "Connection must not be null");
+        LettuceAssert.notNull(codec, "RedisCodec must not be null");
+        LettuceAssert.notNull(options, "ClientSideCachingOptions must not be null");
+
+        if (connection instanceof StatefulRedisConnectionImpl) {
+
+            ProtocolVersion protocolVersion = ((StatefulRedisConnectionImpl<K, V>) connection).getConnectionState()
+                    .getNegotiatedProtocolVersion();
+
+            LettuceAssert.isTrue(protocolVersion == null || protocolVersion == ProtocolVersion.RESP3,
+                    "Client-side caching requires RESP3");
+        }
+
+        ClientSideCaching<K, V> caching = new ClientSideCaching<>(connection, codec, options);
+        caching.enableTracking();
+
+        return caching;
+    }
+
+    @Override
+    public V get(K key) {
+
+        ByteBuffer cacheKey = encode(key);
+
+        if (isCacheable()) {
+
+            Object value = cache.get(cacheKey);
+            if (value != null) {
+                return unwrap(value);
+            }
+        }
+
+        long stamp = invalidations.get();
+        V value = connection.sync().get(key);
+
+        synchronized (cache) {
+            if (canStore(stamp)) {
+                cache.put(cacheKey, wrap(value));
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    public V hget(K key, K field) {
+
+        ByteBuffer cacheKey = encode(key);
+        ByteBuffer cacheField = encode(field);
+
+        if (isCacheable()) {
+
+            Object value = cache.get(cacheKey, cacheField);
+            if (value != null) {
+                return unwrap(value);
+            }
+        }
+
+        long stamp = invalidations.get();
+        V value = connection.sync().hget(key, field);
+
+        synchronized (cache) {
+            if (canStore(stamp)) {
+                cache.put(cacheKey, cacheField, wrap(value));
+            }
+        }
+
+        return value;
+    }
+
+    @Override
+    @SafeVarargs
+    public final List<KeyValue<K, V>> mget(K... keys) {
+
+        List<KeyValue<K, V>> result = new ArrayList<>(keys.length);
+        ByteBuffer[] cacheKeys = new ByteBuffer[keys.length];
+        List<K> misses = new ArrayList<>();
+        boolean cacheable = isCacheable();
+
+        for (int i = 0; i < keys.length; i++) {
+
+            cacheKeys[i] = encode(keys[i]);
+            Object value = cacheable ? cache.get(cacheKeys[i]) : null;
+
+            if (value != null) {
+                result.add(KeyValue.fromNullable(keys[i], unwrap(value)));
+            } else {
+                result.add(null);
+                misses.add(keys[i]);
+            }
+        }
+
+        if (misses.isEmpty()) {
+            return result;
+        }
+
+        long stamp = invalidations.get();
+        @SuppressWarnings("unchecked")
+        List<KeyValue<K, V>> loaded = connection.sync().mget((K[]) misses.toArray());
+
+        synchronized (cache) {
+
+            boolean store = canStore(stamp);
+
+            for (int i = 0, j = 0; i < keys.length; i++) {
+
+                if (result.get(i) != null) {
+                    continue;
+                }
+
+                KeyValue<K, V> keyValue = loaded.get(j++);
+                result.set(i, keyValue);
+
+                if (store) {
+                    cache.put(cacheKeys[i], wrap(keyValue.getValueOrElse(null)));
+                }
+            }
+        }
+
+        return result;
+    }
+
+    @Override
+    public void close() {
+
+        closed = true;
+        connection.removeListener(invalidationListener);
+        flush();
+
+        if (connection.isOpen()) {
+            connection.sync().clientTracking(TrackingArgs.Builder.enabled(false));
+        }
+    }
+
+    /**
+     * @return the number of cached values.
+     */
+    int size() {
+        return cache.size();
+    }
+
+    void onPushMessage(PushMessage message) {
+
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+
+        List<Object> content = message.getContent();
+        Object keys = content.size() > 1 ? content.get(1) : null;
+
+        synchronized (cache) {
+
+            invalidations.incrementAndGet();
+
+            if (keys == null) {
+                cache.clear();
+                return;
+            }
+
+            if (keys instanceof List) {
+                for (Object key : (List<?>) keys) {
+                    if (key instanceof ByteBuffer) {
+                        cache.remove((ByteBuffer) key);
+                    }
+                }
+            }
+        }
+    }
+
+    private void enableTracking() {
+
+        connection.addListener(invalidationListener);
+
+        try {
+            connection.sync().clientTracking(trackingArgs);
+        } catch (RuntimeException e) {
+            connection.removeListener(invalidationListener);
+            throw e;
+        }
+
+        connectionId = getConnectionId();
+    }
+
+    /**
+     * Verify the cache can serve values from the current connection. A disconnected connection or a connection that was
+     * re-established since the last access flushes the cache. Tracking is re-enabled on a new connection using the same
+     * connection before loading values so that subsequent loads are tracked again.
+     *
+     * @return {@literal true} if cached values can be used.
+     */
+    private boolean isCacheable() {
+
+        if (closed) {
+            return false;
+        }
+
+        if (!connection.isOpen()) {
+            flush();
+            return false;
+        }
+
+        Long currentId = getConnectionId();
+
+        if (!Objects.equals(currentId, connectionId)) {
+
+            synchronized (this) {
+
+                if (!Objects.equals(currentId, connectionId)) {
+
+                    if (logger.isDebugEnabled()) {
+                        logger.debug("Connection {} re-established as {}, flushing client-side cache", connectionId,
+                                currentId);
+                    }
+
+                    connectionId = currentId;
+                    flush();
+                    connection.async().clientTracking(trackingArgs).whenComplete((s, e) -> {
+
+                        if (e != null) {
+                            logger.warn("Cannot re-enable CLIENT TRACKING: {}", e.toString());
+                            connectionId = null;
+                            flush();
+                        }
+                    });
+                }
+            }
+
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Check whether a value loaded after observing {@code stamp} can be stored. Must be called while holding the
+     * {@link #cache} monitor together with the subsequent {@code put} so that invalidations cannot interleave between the
+     * check and storing the value.
+     *
+     * @param stamp the invalidation stamp obtained before loading the value.
+     * @return {@literal true} if no invalidation happened since obtaining {@code stamp}.
+     */
+    private boolean canStore(long stamp) {
+        return !closed && invalidations.get() == stamp && connection.isOpen();
+    }
+
+    private void flush() {
+
+        synchronized (cache) {
+            invalidations.incrementAndGet();
+            cache.clear();
+        }
+    }
+
+    private Long getConnectionId() {
+
+        if (connection instanceof StatefulRedisConnectionImpl) {
+            return ((StatefulRedisConnectionImpl<K, V>) connection).getConnectionState().getConnectionId();
+        }
+
+        return null;
+    }
+
+    private ByteBuffer encode(K key) {
+
+        ByteBuffer encoded = codec.encodeKey(key);
+        ByteBuffer copy = ByteBuffer.allocate(encoded.remaining());
+        copy.put(encoded);
+        copy.flip();
+
+        return copy;
+    }
+
+    private static Object wrap(Object value) {
+        return value == null ? NULL : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V unwrap(Object value) {
+        return value == NULL ? null : (V) value;
+    }
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.time.Duration;
+
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.internal.LettuceAssert;
+
+/**
+ * Options to configure {@link ClientSideCaching}. Instances can be created through a {@link #builder()}.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+public class ClientSideCachingOptions {
+
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ZERO;
+
+    private final int maxEntries;
+
+    private final Duration timeToLive;
+
+    private final TrackingArgs trackingArgs;
+
+    protected ClientSideCachingOptions(Builder builder) {
+
+        this.maxEntries = builder.maxEntries;
+        this.timeToLive = builder.timeToLive;
+        this.trackingArgs = builder.trackingArgs != null ? builder.trackingArgs : TrackingArgs.Builder.enabled();
+    }
+
+    /**
+     * Returns a new {@link ClientSideCachingOptions.Builder} to construct {@link ClientSideCachingOptions}.
+     *
+     * @return a new {@link ClientSideCachingOptions.Builder} to construct {@link ClientSideCachingOptions}.
+     */
+    public static ClientSideCachingOptions.Builder builder() {
+        return new ClientSideCachingOptions.Builder();
+    }
+
+    /**
+     * Create a new {@link ClientSideCachingOptions} using default settings.
+     *
+     * @return a new instance of default client-side caching options.
+     */
+    public static ClientSideCachingOptions create() {
+        return builder().build();
+    }
+
+    /**
+     * Builder for {@link ClientSideCachingOptions}.
+     */
+    public static class Builder {
+
+        private int maxEntries = DEFAULT_MAX_ENTRIES;
+
+        private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+        private TrackingArgs trackingArgs;
+
+        private Builder() {
+        }
+
+        /**
+         * Set the maximum number of cached values. A cached hash accounts for one entry per cached field. Least recently used
+         * keys are evicted once the limit is exceeded. Defaults to {@literal 10000}. See {@link #DEFAULT_MAX_ENTRIES}.
+         *
+         * @param maxEntries the maximum number of cached values, must be greater {@literal 0}.
+         * @return {@code this}
+         */
+        public Builder maxEntries(int maxEntries) {
+
+            LettuceAssert.isTrue(maxEntries > 0, "Max entries must be greater 0");
+
+            this.maxEntries = maxEntries;
+            return this;
+        }
+
+        /**
+         * Set the time to live for cached values. Values expire after the given duration even when no invalidation message was
+         * received. {@link Duration#ZERO} disables expiry. Defaults to {@link Duration#ZERO}. See
+         * {@link #DEFAULT_TIME_TO_LIVE}.
+         *
+         * @param timeToLive the time to live, must not be {@literal null} or negative.
+         * @return {@code this}
+         */
+        public Builder timeToLive(Duration timeToLive) {
+
+            LettuceAssert.notNull(timeToLive, "Time to live must not be null");
+            LettuceAssert.isTrue(!timeToLive.isNegative(), "Time to live must not be negative");
+
+            this.timeToLive = timeToLive;
+            return this;
+        }
+
+        /**
+         * Set the {@link TrackingArgs} used to enable {@literal CLIENT TRACKING}, e.g. to use broadcasting mode with key
+         * prefixes. Tracking must be enabled and must not use redirection as invalidation messages are consumed as RESP3 push
+         * messages. Defaults to {@literal CLIENT TRACKING ON}.
+         *
+         * @param trackingArgs the tracking arguments, must not be {@literal null}.
+         * @return {@code this}
+         */
+        public Builder trackingArgs(TrackingArgs trackingArgs) {
+
+            LettuceAssert.notNull(trackingArgs, "TrackingArgs must not be null");
+
+            this.trackingArgs = trackingArgs;
+            return this;
+        }
+
+        /**
+         * Create a new instance of {@link ClientSideCachingOptions}.
+         *
+         * @return new instance of {@link ClientSideCachingOptions}
+         */
+        public ClientSideCachingOptions build() {
+            return new ClientSideCachingOptions(this);
+        }
+
+    }
+
+    /**
+     * @return the maximum number of cached values.
+     */
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    /**
+     * @return the time to live for cached values. {@link Duration#ZERO} if values do not expire.
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * @return the {@link TrackingArgs} to enable {@literal CLIENT TRACKING}.
+     */
+    public TrackingArgs getTrackingArgs() {
+        return trackingArgs;
+    }
+
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded least-recently-used cache keyed by the encoded Redis key. Values are either plain values (cached {@literal GET}
+ * results) or hash fields (cached {@literal HGET} results) grouped by their key so that a key invalidation evicts all of its
+ * fields. Each value carries its own expiry.
+ * <p>
+ * All methods are synchronized as the cache is accessed by application threads and the event loop that dispatches
+ * invalidation messages.
+ *
+ * @author Mark Paluch
+ * @since 6.0
+ */
+class LruCache {
+
+    private final LinkedHashMap<ByteBuffer, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final int maxEntries;
+
+    private final long timeToLiveNanos;
+
+    private final LongSupplier nanoTime;
+
+    private int size;
+
+    LruCache(int maxEntries, long timeToLiveNanos, LongSupplier nanoTime) {
+
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * @param key the encoded key.
+     * @return the cached value or {@literal null} if absent or expired.
+     */
+    synchronized Object get(ByteBuffer key) {
+
+        Entry entry = entries.get(key);
+
+        if (entry == null || entry.value == null) {
+            return null;
+        }
+
+        if (isExpired(entry.value)) {
+            remove(key);
+            return null;
+        }
+
+        return entry.value.value;
+    }
+
+    /**
+     * @param key the encoded key.
+     * @param field the encoded hash field.
+     * @return the cached value or {@literal null} if absent or expired.
+     */
+    synchronized Object get(ByteBuffer key, ByteBuffer field) {
+
+        Entry entry = entries.get(key);
+
+        if (entry == null || entry.fields == null) {
+            return null;
+        }
+
+        Expiring value = entry.fields.get(field);
+
+        if (value == null) {
+            return null;
+        }
+
+        if (isExpired(value)) {
+            entry.fields.remove(field);
+            size--;
+            return null;
+        }
+
+        return value.value;
+    }
+
+    synchronized void put(ByteBuffer key, Object value) {
+
+        Entry entry = new Entry();
+        entry.value = new Expiring(value, expiresAt());
+
+        Entry previous = entries.put(key, entry);
+
+        if (previous != null) {
+            size -= previous.size();
+        }
+
+        size++;
+        evict();
+    }
+
+    synchronized void put(ByteBuffer key, ByteBuffer field, Object value) {
+
+        Entry entry = entries.get(key);
+
+        if (entry == null || entry.fields == null) {
+
+            if (entry != null) {
+                size -= entry.size();
+            }
+
+            entry = new Entry();
+            entry.fields = new HashMap<>();
+            entries.put(key, entry);
+        }
+
+        if (entry.fields.put(field, new Expiring(value, expiresAt())) == null) {
+            size++;
+        }
+
+        evict();
+    }
+
+    synchronized void remove(ByteBuffer key) {
+
+        Entry entry = entries.remove(key);
+
+        if (entry != null) {
+            size -= entry.size();
+        }
+    }
+
+    synchronized void clear() {
+
+        entries.clear();
+        size = 0;
+    }
+
+    /**
+     * @return the number of cached values.
+     */
+    synchronized int size() {
+        return size;
+    }
+
+    private void evict() {
+
+        Iterator<Map.Entry<ByteBuffer, Entry>> iterator = entries.entrySet().iterator();
+
+        while (size > maxEntries && iterator.hasNext()) {
+
+            size -= iterator.next().getValue().size();
+            iterator.remove();
+        }
+    }
+
+    private long expiresAt() {
+        return timeToLiveNanos > 0 ? nanoTime.getAsLong() + timeToLiveNanos : 0;
+    }
+
+    private boolean isExpired(Expiring value) {
+        return value.expiresAt != 0 && nanoTime.getAsLong() - value.expiresAt >= 0;
+    }
+
+    static class Entry {
+
+        Expiring value;
+
+        Map<ByteBuffer, Expiring> fields;
+
+        int size() {
+            return fields != null ? fields.size() : 1;
+        }
+
+    }
+
+    static class Expiring {
+
+        final Object value;
+
+        final long expiresAt;
+
+        Expiring(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Client-side caching support using RESP3 {@literal CLIENT TRACKING} for server-assisted invalidation.
+ */
+package io.lettuce.core.support.caching;
@@ -15,6 +15,7 @@
  */
 package io.lettuce.core.api;
 
+import java.util.BitSet;
 import java.util.List;
 
 import io.lettuce.core.ScriptOutputType;
@@ -111,6 +112,16 @@ public interface RedisScriptingCommands<K, V> {
      */
     List<Boolean> scriptExists(String... digests);
 
+    /**
+     * Check existence of scripts in the script cache.
+     *
+     * @param digests script digests
+     * @return BitSet array-reply a {@link BitSet} that corresponds to the specified SHA1 digest arguments. For every
+     *         corresponding SHA1 digest of a script that actually exists in the script cache, the bit is set.
+     * @since 6.0
+     */
+    BitSet scriptExistsBitSet(String... digests);
+
     /**
      * Remove all the scripts from the script cache.
      *
@@ -62,5 +62,7 @@ class ClientOptionsUnitTests {
         assertThat(sut.isSuspendReconnectOnProtocolFailure()).isEqualTo(false);
         assertThat(sut.getDisconnectedBehavior()).isEqualTo(ClientOptions.DisconnectedBehavior.DEFAULT);
         assertThat(sut.getBufferUsageRatio()).isEqualTo(ClientOptions.DEFAULT_BUFFER_USAGE_RATIO);
+        assertThat(sut.isZeroCopyDecoding()).isEqualTo(ClientOptions.DEFAULT_ZERO_COPY_DECODING);
+        assertThat(sut.getFlushConsolidationOptions()).isEqualTo(ClientOptions.DEFAULT_FLUSH_CONSOLIDATION_OPTIONS);
     }
 }
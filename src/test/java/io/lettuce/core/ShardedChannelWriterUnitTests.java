@@ -0,0 +1,261 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.*;
+
+/**
+ * Unit tests for {@link ShardedChannelWriter}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ShardedChannelWriterUnitTests {
+
+    @Mock
+    DefaultEndpoint endpoint1;
+
+    @Mock
+    DefaultEndpoint endpoint2;
+
+    @Mock
+    DefaultEndpoint endpoint3;
+
+    @Mock
+    ConnectionFacade connectionFacade;
+
+    private ShardedChannelWriter sut;
+
+    @BeforeEach
+    void before() {
+        sut = new ShardedChannelWriter(endpoint1, endpoint2, endpoint3);
+    }
+
+    @Test
+    void shouldRouteCommandsForSameKeyToSameEndpoint() {
+
+        Set<Integer> indexes = new HashSet<>();
+
+        for (int i = 0; i < 10; i++) {
+            indexes.add(sut.getEndpointIndex(command(CommandType.GET, "key")));
+            indexes.add(sut.getEndpointIndex(command(CommandType.SET, "{key}.other")));
+        }
+
+        assertThat(indexes).hasSize(1);
+    }
+
+    @Test
+    void shouldDistributeKeylessCommandsRoundRobin() {
+
+        Set<Integer> indexes = new HashSet<>();
+
+        for (int i = 0; i < 3; i++) {
+            indexes.add(sut.getEndpointIndex(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8))));
+        }
+
+        assertThat(indexes).containsOnly(0, 1, 2);
+    }
+
+    @Test
+    void shouldRouteTransactionsToFirstEndpoint() {
+
+        assertThat(sut.getEndpointIndex(new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8)))).isZero();
+        assertThat(sut.getEndpointIndex(new TransactionalCommand<>(command(CommandType.SET, "foo")))).isZero();
+        assertThat(sut.getEndpointIndex(new TransactionalCommand<>(command(CommandType.SET, "bar")))).isZero();
+        assertThat(sut.getEndpointIndex(new Command<>(CommandType.EXEC, new StatusOutput<>(StringCodec.UTF8)))).isZero();
+    }
+
+    @Test
+    void shouldReplicateConnectionStateCommands() {
+
+        Command<String, String, String> select = new Command<>(CommandType.SELECT, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).add(1));
+
+        sut.write(select);
+
+        verify(endpoint1).write(argThat((RedisCommand<String, String, ?> command) -> CommandWrapper.unwrap(command) == select));
+        verify(endpoint2).write(argThat((RedisCommand<String, String, ?> command) -> command != select
+                && command.getType() == CommandType.SELECT));
+        verify(endpoint3).write(argThat((RedisCommand<String, String, ?> command) -> command != select
+                && command.getType() == CommandType.SELECT));
+
+        Command<String, String, String> setName = new Command<>(CommandType.CLIENT, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.SETNAME).addValue("name"));
+
+        assertThat(sut.getEndpointIndex(setName)).isNegative();
+
+        Command<String, String, String> tracking = new Command<>(CommandType.CLIENT, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.TRACKING).add("ON"));
+
+        assertThat(sut.getEndpointIndex(tracking)).isNegative();
+        assertThat(sut.getEndpointIndex(new Command<>(CommandType.HELLO, new StatusOutput<>(StringCodec.UTF8),
+                new CommandArgs<>(StringCodec.UTF8).add(3)))).isNegative();
+    }
+
+    @Test
+    void shouldCompleteReplicatedCommandOnceAllReplicasCompleted() {
+
+        AsyncCommand<String, String, String> select = new AsyncCommand<>(new Command<>(CommandType.SELECT,
+                new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).add(1)));
+
+        sut.write(select);
+
+        RedisCommand<String, String, ?> first = captureWrite(endpoint1);
+        RedisCommand<String, String, ?> second = captureWrite(endpoint2);
+        RedisCommand<String, String, ?> third = captureWrite(endpoint3);
+
+        select.getOutput().set(ByteBuffer.wrap("OK".getBytes()));
+        first.complete();
+        second.complete();
+
+        assertThat(select.isDone()).isFalse();
+
+        third.complete();
+
+        assertThat(select.isDone()).isTrue();
+        assertThat(select.join()).isEqualTo("OK");
+    }
+
+    @Test
+    void shouldFailReplicatedCommandIfReplicaFails() {
+
+        AsyncCommand<String, String, String> select = new AsyncCommand<>(new Command<>(CommandType.SELECT,
+                new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).add(1)));
+
+        sut.write(select);
+
+        RedisCommand<String, String, ?> first = captureWrite(endpoint1);
+        RedisCommand<String, String, ?> second = captureWrite(endpoint2);
+        RedisCommand<String, String, ?> third = captureWrite(endpoint3);
+
+        second.getOutput().setError("ERR DB index is out of range");
+        second.complete();
+        third.complete();
+
+        select.getOutput().set(ByteBuffer.wrap("OK".getBytes()));
+        first.complete();
+
+        assertThat(select.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(select::join).hasRootCauseInstanceOf(RedisCommandExecutionException.class)
+                .hasMessageContaining("DB index is out of range");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldPartitionBatches() {
+
+        RedisCommand<String, String, ?> get = command(CommandType.GET, "key");
+        int index = sut.getEndpointIndex(get);
+
+        sut.write(Arrays.asList(get, command(CommandType.GET, "key")));
+
+        DefaultEndpoint[] endpoints = { endpoint1, endpoint2, endpoint3 };
+        ArgumentCaptor<Collection<RedisCommand<String, String, ?>>> captor = ArgumentCaptor.forClass(Collection.class);
+
+        verify(endpoints[index]).write(captor.capture());
+        assertThat(captor.getValue()).hasSize(2).startsWith(get);
+
+        for (int i = 0; i < endpoints.length; i++) {
+            if (i != index) {
+                verify(endpoints[i], never()).write(any(Collection.class));
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldWriteTransactionBatchToFirstEndpoint() {
+
+        Collection<RedisCommand<String, String, ?>> batch = Arrays.asList(
+                new Command<>(CommandType.MULTI, new StatusOutput<>(StringCodec.UTF8)), command(CommandType.GET, "a"),
+                command(CommandType.GET, "b"), command(CommandType.GET, "c"),
+                new Command<>(CommandType.EXEC, new StatusOutput<>(StringCodec.UTF8)));
+
+        sut.write(batch);
+
+        verify(endpoint1).write(batch);
+        verify(endpoint2, never()).write(any(Collection.class));
+        verify(endpoint3, never()).write(any(Collection.class));
+    }
+
+    @Test
+    void shouldActivateConnectionOnceAllEndpointsAreActive() {
+
+        ArgumentCaptor<ConnectionFacade> captor = ArgumentCaptor.forClass(ConnectionFacade.class);
+
+        sut.setConnectionFacade(connectionFacade);
+
+        verify(endpoint1).setConnectionFacade(captor.capture());
+        verify(endpoint2).setConnectionFacade(captor.capture());
+        verify(endpoint3).setConnectionFacade(captor.capture());
+
+        captor.getAllValues().get(0).activated();
+        captor.getAllValues().get(1).activated();
+        captor.getAllValues().get(1).activated();
+
+        verify(connectionFacade, never()).activated();
+
+        captor.getAllValues().get(2).activated();
+
+        verify(connectionFacade).activated();
+
+        captor.getAllValues().get(1).deactivated();
+        captor.getAllValues().get(2).deactivated();
+
+        verify(connectionFacade).deactivated();
+
+        captor.getAllValues().get(1).activated();
+        captor.getAllValues().get(2).activated();
+
+        verify(connectionFacade, times(2)).activated();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisCommand<String, String, ?> captureWrite(DefaultEndpoint endpoint) {
+
+        ArgumentCaptor<RedisCommand<String, String, ?>> captor = ArgumentCaptor.forClass(RedisCommand.class);
+        verify(endpoint).write(captor.capture());
+
+        return captor.getValue();
+    }
+
+    private static Command<String, String, String> command(CommandType type, String key) {
+        return new Command<>(type, new StatusOutput<>(StringCodec.UTF8), new CommandArgs<>(StringCodec.UTF8).addKey(key));
+    }
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.Tracing;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Unit tests for {@link TransactionBuilder}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionBuilderUnitTests {
+
+    @Mock
+    RedisChannelWriter writer;
+
+    @Mock
+    ClientResources clientResources;
+
+    private final RedisStateMachine stateMachine = new RedisStateMachine(ByteBufAllocator.DEFAULT);
+
+    private StatefulRedisConnectionImpl<String, String> connection;
+
+    @BeforeEach
+    void before() {
+
+        when(writer.getClientResources()).thenReturn(clientResources);
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+
+        connection = new StatefulRedisConnectionImpl<>(writer, StringCodec.UTF8, Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stateMachine.close();
+    }
+
+    @Test
+    void shouldWriteTransactionWithSingleWrite() {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+        RedisAsyncCommands<String, String> commands = transaction.commands();
+
+        RedisFuture<String> set = commands.set("key", "value");
+        RedisFuture<String> get = commands.get("key");
+
+        assertThat(transaction.size()).isEqualTo(2);
+        verifyNoWrites();
+
+        transaction.execute();
+
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        assertThat(batch).extracting(RedisCommand::getType).containsExactly(CommandType.MULTI, CommandType.SET,
+                CommandType.GET, CommandType.EXEC);
+        verify(writer, never()).write(any(RedisCommand.class));
+        assertThat(connection.isMulti()).isFalse();
+        assertThat(set.isDone()).isFalse();
+        assertThat(get.isDone()).isFalse();
+    }
+
+    @Test
+    void shouldCompleteCommandsWithExecResponse() throws Exception {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+        RedisAsyncCommands<String, String> commands = transaction.commands();
+
+        RedisFuture<String> set = commands.set("key", "value");
+        RedisFuture<String> get = commands.get("key");
+        RedisFuture<Long> incr = commands.incr("counter");
+
+        RedisFuture<TransactionResult> exec = transaction.execute();
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        decode(batch.get(0), "+OK\r\n");
+        for (int i = 1; i < 4; i++) {
+            decode(batch.get(i), "+QUEUED\r\n");
+        }
+
+        assertThat(set.isDone()).isFalse();
+        assertThat(get.isDone()).isFalse();
+        assertThat(incr.isDone()).isFalse();
+
+        decode(batch.get(4), "*3\r\n+OK\r\n$5\r\nvalue\r\n:1\r\n");
+
+        assertThat(set.get()).isEqualTo("OK");
+        assertThat(get.get()).isEqualTo("value");
+        assertThat(incr.get()).isEqualTo(1L);
+
+        TransactionResult result = exec.get();
+        assertThat(result.wasDiscarded()).isFalse();
+        assertThat(result).containsExactly("OK", "value", 1L);
+    }
+
+    @Test
+    void shouldCompleteCommandsExceptionallyOnExecAbort() {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+        RedisAsyncCommands<String, String> commands = transaction.commands();
+
+        RedisFuture<String> set = commands.set("key", "value");
+        RedisFuture<Long> incr = commands.incr("counter");
+
+        RedisFuture<TransactionResult> exec = transaction.execute();
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        decode(batch.get(0), "+OK\r\n");
+        decode(batch.get(1), "+QUEUED\r\n");
+        decode(batch.get(2), "-ERR unknown command\r\n");
+        decode(batch.get(3), "-EXECABORT Transaction discarded because of previous errors.\r\n");
+
+        assertThatThrownBy(exec::get).isInstanceOf(ExecutionException.class).hasMessageContaining("EXECABORT");
+        assertThatThrownBy(set::get).isInstanceOf(ExecutionException.class).hasMessageContaining("EXECABORT");
+        assertThatThrownBy(incr::get).isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RedisCommandExecutionException.class).hasMessageContaining("ERR unknown command");
+    }
+
+    @Test
+    void shouldRecordQueueingErrorsAgainstFailedCommand() {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+        RedisAsyncCommands<String, String> commands = transaction.commands();
+
+        RedisFuture<String> set = commands.set("key", "value");
+        RedisFuture<String> get = commands.get("key");
+        RedisFuture<Long> incr = commands.incr("counter");
+
+        RedisFuture<TransactionResult> exec = transaction.execute();
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        decode(batch.get(0), "+OK\r\n");
+        decode(batch.get(1), "-ERR wrong number of arguments\r\n");
+        decode(batch.get(2), "+QUEUED\r\n");
+        decode(batch.get(3), "-ERR unknown command\r\n");
+        decode(batch.get(4), "-EXECABORT Transaction discarded because of previous errors.\r\n");
+
+        assertThatThrownBy(exec::get).hasMessageContaining("EXECABORT");
+        assertThatThrownBy(set::get).hasCauseInstanceOf(RedisCommandExecutionException.class)
+                .hasMessageContaining("wrong number of arguments");
+        assertThatThrownBy(get::get).hasMessageContaining("EXECABORT");
+        assertThatThrownBy(incr::get).hasCauseInstanceOf(RedisCommandExecutionException.class)
+                .hasMessageContaining("unknown command");
+    }
+
+    @Test
+    void shouldCompleteCommandsOfDiscardedTransaction() throws Exception {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+
+        RedisFuture<String> set = transaction.commands().set("key", "value");
+
+        RedisFuture<TransactionResult> exec = transaction.execute();
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        decode(batch.get(0), "+OK\r\n");
+        decode(batch.get(1), "+QUEUED\r\n");
+        decode(batch.get(2), "*-1\r\n");
+
+        assertThat(exec.get().wasDiscarded()).isTrue();
+        assertThat(set.isDone()).isTrue();
+        assertThat(set.get()).isNull();
+    }
+
+    @Test
+    void shouldRejectTransactionControlCommands() {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> transaction.commands().multi());
+        assertThatIllegalArgumentException().isThrownBy(() -> transaction.commands().watch("key"));
+        assertThat(transaction.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectConnectionStateCommands() {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+
+        assertThatIllegalArgumentException().isThrownBy(() -> transaction.commands().select(1));
+        assertThatIllegalArgumentException().isThrownBy(() -> transaction.commands().auth("secret"));
+        assertThatIllegalArgumentException().isThrownBy(() -> transaction.commands().readOnly());
+        assertThatIllegalArgumentException().isThrownBy(() -> transaction.commands().readWrite());
+        assertThatIllegalArgumentException().isThrownBy(() -> transaction.commands().clientSetname("name"));
+        assertThat(transaction.size()).isZero();
+    }
+
+    @Test
+    void shouldExecuteOnlyOnce() {
+
+        TransactionBuilder<String, String> transaction = connection.transaction();
+        transaction.commands().set("key", "value");
+        transaction.execute();
+
+        assertThatIllegalStateException().isThrownBy(transaction::execute);
+        assertThatIllegalStateException().isThrownBy(() -> transaction.commands().get("key"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RedisCommand<String, String, ?>> captureBatch() {
+
+        ArgumentCaptor<Collection<RedisCommand<String, String, ?>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(writer).write(captor.capture());
+
+        return new ArrayList<>(captor.getValue());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyNoWrites() {
+        verify(writer, never()).write(any(Collection.class));
+        verify(writer, never()).write(any(RedisCommand.class));
+    }
+
+    private void decode(RedisCommand<String, String, ?> command, String response) {
+
+        ByteBuf buffer = Unpooled.copiedBuffer(response, StandardCharsets.US_ASCII);
+
+        try {
+            assertThat(stateMachine.decode(buffer, command, command.getOutput())).isTrue();
+            command.complete();
+        } finally {
+            buffer.release();
+        }
+    }
+}
@@ -187,7 +187,7 @@ class UnixDomainSocketIntegrationTests {
 
     private void assumeTestSupported() {
         String osName = SystemPropertyUtil.get("os.name").toLowerCase(Locale.UK).trim();
-        assumeTrue(Transports.NativeTransports.isSocketSupported(), "Only supported on Linux/OSX, your os is " + osName
+        assumeTrue(Transports.NativeTransports.isDomainSocketSupported(), "Only supported on Linux/OSX, your os is " + osName
                 + " with epoll/kqueue support.");
     }
 
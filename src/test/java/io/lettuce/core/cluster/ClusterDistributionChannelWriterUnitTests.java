@@ -16,15 +16,29 @@
 package io.lettuce.core.cluster;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.StatefulRedisConnectionImpl;
 import io.lettuce.core.cluster.ClusterConnectionProvider.Intent;
+import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.output.ValueListOutput;
 import io.lettuce.core.protocol.Command;
+import io.lettuce.core.protocol.CommandArgs;
 import io.lettuce.core.protocol.CommandType;
 import io.lettuce.core.protocol.RedisCommand;
 
@@ -107,4 +121,36 @@ class ClusterDistributionChannelWriterUnitTests {
 
         assertThat(ClusterDistributionChannelWriter.getIntent(Collections.singletonList(set))).isEqualTo(Intent.WRITE);
     }
+
+    @Test
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    void shouldWriteCommandsForSameNodeInSingleBatch() {
+
+        RedisChannelWriter defaultWriter = mock(RedisChannelWriter.class);
+        RedisChannelWriter nodeWriter = mock(RedisChannelWriter.class);
+        StatefulRedisConnectionImpl<String, String> connection = mock(StatefulRedisConnectionImpl.class);
+        PooledClusterConnectionProvider<String, String> provider = mock(PooledClusterConnectionProvider.class);
+
+        when(connection.getChannelWriter()).thenReturn(nodeWriter);
+        when(provider.getConnectionAsync(any(Intent.class), anyInt()))
+                .thenReturn((CompletableFuture) CompletableFuture.completedFuture(connection));
+
+        ClusterDistributionChannelWriter sut = new ClusterDistributionChannelWriter(ClientOptions.create(), defaultWriter,
+                ClusterEventListener.NO_OP);
+        sut.setClusterConnectionProvider(provider);
+
+        List<RedisCommand<String, String, ?>> commands = new ArrayList<>();
+        for (String key : Arrays.asList("a", "b", "c", "d")) {
+            commands.add(new Command<>(CommandType.MGET, new ValueListOutput<>(StringCodec.UTF8),
+                    new CommandArgs<>(StringCodec.UTF8).addKey(key)));
+        }
+
+        sut.write(commands);
+
+        ArgumentCaptor<Collection> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(nodeWriter).write(captor.capture());
+        verifyNoInteractions(defaultWriter);
+
+        assertThat(captor.getValue()).hasSize(4);
+    }
 }
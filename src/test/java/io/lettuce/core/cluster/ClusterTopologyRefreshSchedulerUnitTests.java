@@ -23,6 +23,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -90,6 +91,7 @@ class ClusterTopologyRefreshSchedulerUnitTests {
     void runnableShouldCallPartitionRefresh() {
 
         when(clusterClient.getClusterClientOptions()).thenReturn(clusterClientOptions);
+        when(clusterClient.refreshPartitionsAsync()).thenReturn(CompletableFuture.completedFuture(null));
 
         when(eventExecutors.submit(any(Runnable.class))).then(invocation -> {
             ((Runnable) invocation.getArguments()[0]).run();
@@ -98,7 +100,7 @@ class ClusterTopologyRefreshSchedulerUnitTests {
 
         sut.run();
 
-        verify(clusterClient).reloadPartitions();
+        verify(clusterClient).refreshPartitionsAsync();
     }
 
     @Test
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import io.lettuce.core.KeyScanCursor;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScanArgs;
+import io.lettuce.core.ScanCursor;
+import io.lettuce.core.StreamScanCursor;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.reactive.RedisReactiveCommands;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.output.KeyStreamingChannel;
+
+/**
+ * Unit tests for {@link ParallelScan}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ParallelScanUnitTests {
+
+    private static final int KEYS_PER_NODE = 5;
+
+    private static final int PAGE_SIZE = 2;
+
+    @Mock
+    private StatefulRedisClusterConnection<String, String> connection;
+
+    @BeforeEach
+    void before() {
+
+        Partitions partitions = new Partitions();
+
+        for (int i = 1; i <= 3; i++) {
+
+            String nodeId = "node-" + i;
+            partitions.add(new RedisClusterNode(RedisURI.create("localhost", i), nodeId, true, null, 0, 0, 0,
+                    Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+
+            StatefulRedisConnection<String, String> nodeConnection = mockNodeConnection(nodeId);
+            when(connection.getConnectionAsync(nodeId)).thenReturn(CompletableFuture.completedFuture(nodeConnection));
+        }
+
+        when(connection.getPartitions()).thenReturn(partitions);
+    }
+
+    @Test
+    void shouldScanAllNodes() {
+
+        List<String> keys = ParallelScan
+                .scan(connection, ParallelScanOptions.builder().parallelism(2).disableCountTuning().build()).collectList()
+                .block();
+
+        assertThat(keys).hasSize(3 * KEYS_PER_NODE).contains("node-1:0", "node-2:4", "node-3:2");
+    }
+
+    @Test
+    void shouldScanOnDemand() {
+
+        StepVerifier.create(ParallelScan.scan(connection, ParallelScanOptions.builder().parallelism(1).build()), 1)
+                .expectNext("node-1:0").thenCancel().verify();
+    }
+
+    @Test
+    void shouldScanAllNodesAsync() {
+
+        KeyQueue keys = new KeyQueue();
+
+        CompletableFuture<Long> result = ParallelScan.scanAsync(connection, keys,
+                ParallelScanOptions.builder().parallelism(2).build());
+
+        assertThat(result.join()).isEqualTo(3 * KEYS_PER_NODE);
+        assertThat(keys).hasSize(3 * KEYS_PER_NODE).contains("node-1:0", "node-2:4", "node-3:2");
+    }
+
+    @Test
+    void shouldReportAsyncFailure() {
+
+        CompletableFuture<StatefulRedisConnection<String, String>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException("node down"));
+        when(connection.getConnectionAsync("node-2")).thenReturn(failed);
+
+        CompletableFuture<Long> result = ParallelScan.scanAsync(connection, new KeyQueue());
+
+        assertThat(result).isCompletedExceptionally();
+    }
+
+    @Test
+    void shouldCompleteWithoutNodes() {
+
+        when(connection.getPartitions()).thenReturn(new Partitions());
+
+        KeyQueue keys = new KeyQueue();
+
+        assertThat(ParallelScan.scanAsync(connection, keys).join()).isZero();
+        assertThat(keys).isEmpty();
+
+        StepVerifier.create(ParallelScan.scan(connection)).verifyComplete();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static StatefulRedisConnection<String, String> mockNodeConnection(String nodeId) {
+
+        StatefulRedisConnection<String, String> nodeConnection = mock(StatefulRedisConnection.class);
+        RedisReactiveCommands<String, String> reactive = mock(RedisReactiveCommands.class);
+        RedisAsyncCommands<String, String> async = mock(RedisAsyncCommands.class);
+
+        when(nodeConnection.reactive()).thenReturn(reactive);
+        when(nodeConnection.async()).thenReturn(async);
+
+        when(reactive.scan(any(ScanCursor.class), any(ScanArgs.class))).then(invocation -> {
+
+            ScanCursor cursor = invocation.getArgument(0);
+            KeyScanCursor<String> result = new KeyScanCursor<>();
+            result.getKeys().addAll(page(nodeId, cursor, result));
+
+            return Mono.just(result);
+        });
+
+        when(async.scan(any(KeyStreamingChannel.class), any(ScanCursor.class), any(ScanArgs.class))).then(invocation -> {
+
+            KeyStreamingChannel<String> channel = invocation.getArgument(0);
+            ScanCursor cursor = invocation.getArgument(1);
+            StreamScanCursor result = new StreamScanCursor();
+
+            List<String> page = page(nodeId, cursor, result);
+            page.forEach(channel::onKey);
+            result.setCount(page.size());
+
+            return new PipelinedRedisFuture<>(CompletableFuture.completedFuture(result));
+        });
+
+        return nodeConnection;
+    }
+
+    private static List<String> page(String nodeId, ScanCursor cursor, ScanCursor result) {
+
+        int offset = Integer.parseInt(cursor.getCursor());
+        int end = Math.min(offset + PAGE_SIZE, KEYS_PER_NODE);
+
+        List<String> keys = new ArrayList<>();
+        for (int i = offset; i < end; i++) {
+            keys.add(nodeId + ":" + i);
+        }
+
+        result.setCursor(end == KEYS_PER_NODE ? "0" : Integer.toString(end));
+        result.setFinished(end == KEYS_PER_NODE);
+
+        return keys;
+    }
+
+    static class KeyQueue extends ConcurrentLinkedQueue<String> implements KeyStreamingChannel<String> {
+
+        @Override
+        public void onKey(String key) {
+            add(key);
+        }
+
+    }
+
+}
@@ -50,6 +50,8 @@ import io.lettuce.core.models.role.RedisNodeDescription;
 import io.lettuce.core.protocol.AsyncCommand;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.LatencyTracker;
 import io.lettuce.core.resource.ClientResources;
 
 /**
@@ -398,6 +400,27 @@ class PooledClusterConnectionProviderUnitTests {
         verify(channelHandlerMock).closeAsync();
     }
 
+    @Test
+    void shouldRouteEstablishedConnectionsAfterTopologyChange() {
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(nodeConnectionMock)));
+        when(nodeConnectionMock.isOpen()).thenReturn(true);
+
+        assertThat(sut.getConnection(Intent.WRITE, 1)).isSameAs(nodeConnectionMock);
+
+        List<Integer> slots = IntStream.range(0, SlotHash.SLOT_COUNT).boxed().collect(Collectors.toList());
+        Partitions changed = new Partitions();
+        changed.add(new RedisClusterNode(RedisURI.create("localhost", 1), "1", true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER)));
+        sut.setPartitions(changed);
+
+        CompletableFuture<StatefulRedisConnection<String, String>> future = sut.getConnectionAsync(Intent.WRITE, 10000);
+
+        assertThat(future).isCompletedWithValue(nodeConnectionMock);
+        verify(clientMock).connectToNodeAsync(eq(StringCodec.UTF8), eq("localhost:1"), any(), any());
+    }
+
     @Test
     void shouldRejectConnectionsToUnknownNodeId() {
 
@@ -414,4 +437,92 @@ class PooledClusterConnectionProviderUnitTests {
 
         verify(clusterEventListener).onUnknownNode();
     }
+
+    @Test
+    void shouldPreferReadNodeWithLowerLatency() {
+
+        StatefulRedisConnection<String, String> fast = mockLatencyTrackedConnection("localhost:2");
+        StatefulRedisConnection<String, String> slow = mockLatencyTrackedConnection("localhost:3");
+
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 3), "3", true, "1", 0, 0, 0,
+                Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.SLAVE)));
+        sut.setPartitions(partitions);
+        sut.setReadFrom(ReadFrom.LOWEST_LATENCY);
+
+        // establish and cache read candidates
+        assertThat(sut.getConnection(Intent.READ, 1)).isIn(fast, slow);
+
+        LatencyTracker fastTracker = getLatencyTracker(fast);
+        LatencyTracker slowTracker = getLatencyTracker(slow);
+
+        long now = System.nanoTime();
+        for (int i = 0; i < 10; i++) {
+            fastTracker.record(100_000, now);
+            slowTracker.record(200_000, now);
+        }
+        slowTracker.setQueueDepth(2);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(sut.getConnection(Intent.READ, 1)).isSameAs(fast);
+        }
+
+        assertThat(slowTracker.isEjected(System.nanoTime())).isFalse();
+    }
+
+    @Test
+    void shouldEjectReadNodeWithLatencySpike() {
+
+        StatefulRedisConnection<String, String> fast = mockLatencyTrackedConnection("localhost:2");
+        StatefulRedisConnection<String, String> slow = mockLatencyTrackedConnection("localhost:3");
+
+        partitions.add(new RedisClusterNode(RedisURI.create("localhost", 3), "3", true, "1", 0, 0, 0,
+                Collections.emptyList(), Collections.singleton(RedisClusterNode.NodeFlag.SLAVE)));
+        sut.setPartitions(partitions);
+        sut.setReadFrom(ReadFrom.LOWEST_LATENCY);
+
+        sut.getConnection(Intent.READ, 1);
+
+        LatencyTracker fastTracker = getLatencyTracker(fast);
+        LatencyTracker slowTracker = getLatencyTracker(slow);
+
+        long now = System.nanoTime();
+        for (int i = 0; i < 200; i++) {
+            fastTracker.record(100_000, now);
+            slowTracker.record(10_000_000, now);
+        }
+
+        assertThat(sut.getConnection(Intent.READ, 1)).isSameAs(fast);
+        assertThat(slowTracker.isEjected(System.nanoTime())).isTrue();
+        assertThat(fastTracker.isEjected(System.nanoTime())).isFalse();
+
+        sut.setReadFrom(ReadFrom.REPLICA);
+
+        assertThat(getLatencyTracker(fast)).isNull();
+    }
+
+    private StatefulRedisConnection<String, String> mockLatencyTrackedConnection(String hostAndPort) {
+
+        RedisChannelHandler<String, String> handler = mock(RedisChannelHandler.class,
+                withSettings().extraInterfaces(StatefulRedisConnection.class));
+        StatefulRedisConnection<String, String> connection = (StatefulRedisConnection) handler;
+
+        DefaultEndpoint endpoint = new DefaultEndpoint(ClientOptions.create(), clientResourcesMock);
+
+        when(handler.getChannelWriter()).thenReturn(endpoint);
+        when(connection.isOpen()).thenReturn(true);
+        when(connection.async()).thenReturn(asyncCommandsMock);
+
+        AsyncCommand<String, String, String> async = new AsyncCommand<>(new Command<>(CommandType.READONLY, null, null));
+        async.complete();
+        when(asyncCommandsMock.readOnly()).thenReturn(async);
+
+        when(clientMock.connectToNodeAsync(eq(StringCodec.UTF8), eq(hostAndPort), any(), any()))
+                .thenReturn(ConnectionFuture.from(socketAddressMock, CompletableFuture.completedFuture(connection)));
+
+        return connection;
+    }
+
+    private static LatencyTracker getLatencyTracker(StatefulRedisConnection<String, String> connection) {
+        return ((DefaultEndpoint) ((RedisChannelHandler<String, String>) connection).getChannelWriter()).getLatencyTracker();
+    }
 }
@@ -83,6 +83,22 @@ class ReadFromUnitTests {
         assertThat(result).hasSize(3).containsExactly(nearest, master, replica);
     }
 
+    @Test
+    void lowestLatency() {
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes());
+        assertThat(result).hasSize(2).containsExactly(nearest, replica);
+    }
+
+    @Test
+    void lowestLatencyShouldFallBackToMaster() {
+
+        sut.remove(nearest);
+        sut.remove(replica);
+
+        List<RedisNodeDescription> result = ReadFrom.LOWEST_LATENCY.select(getNodes());
+        assertThat(result).hasSize(1).containsExactly(master);
+    }
+
     @Test
     void valueOfNull() {
         assertThatThrownBy(() -> ReadFrom.valueOf(null)).isInstanceOf(IllegalArgumentException.class);
@@ -98,6 +114,11 @@ class ReadFromUnitTests {
         assertThat(ReadFrom.valueOf("nearest")).isEqualTo(ReadFrom.NEAREST);
     }
 
+    @Test
+    void valueOfLowestLatency() {
+        assertThat(ReadFrom.valueOf("lowestLatency")).isEqualTo(ReadFrom.LOWEST_LATENCY);
+    }
+
     @Test
     void valueOfMaster() {
         assertThat(ReadFrom.valueOf("master")).isEqualTo(ReadFrom.MASTER);
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.RedisCommand;
+
+/**
+ * Unit tests for {@link RedisAdvancedClusterAsyncCommandsImpl}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisAdvancedClusterAsyncCommandsImplUnitTests {
+
+    @Mock
+    StatefulRedisClusterConnection<String, String> connection;
+
+    private RedisAdvancedClusterAsyncCommandsImpl<String, String> sut;
+
+    @BeforeEach
+    void before() {
+        sut = new RedisAdvancedClusterAsyncCommandsImpl<>(connection, StringCodec.UTF8);
+    }
+
+    @Test
+    void shouldDispatchCrossSlotDelAsSingleBatch() {
+
+        sut.del("a", "b", "c");
+
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        assertThat(batch).hasSize(3).extracting(RedisCommand::getType).containsOnly(CommandType.DEL);
+        assertThat(batch).extracting(it -> it.getArgs().toCommandString()).containsOnly("key<a>", "key<b>", "key<c>");
+        verify(connection, never()).dispatch(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldDispatchCrossSlotMsetAsSingleBatch() {
+
+        Map<String, String> map = new LinkedHashMap<>();
+        map.put("a", "1");
+        map.put("b", "2");
+
+        sut.mset(map);
+
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        assertThat(batch).extracting(RedisCommand::getType).containsOnly(CommandType.MSET);
+        assertThat(batch).extracting(it -> it.getArgs().toCommandString()).containsOnly("key<a> value<1>",
+                "key<b> value<2>");
+    }
+
+    @Test
+    void shouldDispatchCrossSlotMgetAsSingleBatch() {
+
+        sut.mget("a", "b");
+
+        List<RedisCommand<String, String, ?>> batch = captureBatch();
+
+        assertThat(batch).extracting(RedisCommand::getType).containsOnly(CommandType.MGET);
+        assertThat(batch).hasSize(2);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RedisCommand<String, String, ?>> captureBatch() {
+
+        ArgumentCaptor<Collection<RedisCommand<String, String, ?>>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(connection).dispatch(captor.capture());
+
+        return new ArrayList<>(captor.getValue());
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ScanCountTuner}.
+ *
+ * @author Mark Paluch
+ */
+class ScanCountTunerUnitTests {
+
+    private final ParallelScanOptions options = ParallelScanOptions.builder().count(100).maxCount(300)
+            .targetLatency(Duration.ofMillis(10)).build();
+
+    @Test
+    void shouldIncreaseCountForFastReplies() {
+
+        ScanCountTuner sut = new ScanCountTuner(options);
+
+        sut.record(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(sut.getCount()).isEqualTo(200);
+
+        sut.record(TimeUnit.MILLISECONDS.toNanos(1));
+        assertThat(sut.getCount()).isEqualTo(300);
+    }
+
+    @Test
+    void shouldDecreaseCountForSlowReplies() {
+
+        ScanCountTuner sut = new ScanCountTuner(options);
+
+        sut.record(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(sut.getCount()).isEqualTo(50);
+
+        for (int i = 0; i < 10; i++) {
+            sut.record(TimeUnit.MILLISECONDS.toNanos(20));
+        }
+
+        assertThat(sut.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRetainCountWithinTargetLatency() {
+
+        ScanCountTuner sut = new ScanCountTuner(options);
+
+        sut.record(TimeUnit.MILLISECONDS.toNanos(7));
+
+        assertThat(sut.getCount()).isEqualTo(100);
+    }
+
+    @Test
+    void shouldRetainCountIfTuningIsDisabled() {
+
+        ScanCountTuner sut = new ScanCountTuner(ParallelScanOptions.builder().count(100).disableCountTuning().build());
+
+        sut.record(TimeUnit.MILLISECONDS.toNanos(1));
+        sut.record(TimeUnit.SECONDS.toNanos(1));
+
+        assertThat(sut.getCount()).isEqualTo(100);
+    }
+
+}
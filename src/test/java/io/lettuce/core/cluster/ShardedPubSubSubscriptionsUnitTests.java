@@ -0,0 +1,193 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.models.partitions.Partitions;
+import io.lettuce.core.cluster.models.partitions.RedisClusterNode;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.pubsub.StatefulRedisPubSubConnection;
+import io.lettuce.core.pubsub.api.async.RedisPubSubAsyncCommands;
+
+/**
+ * Unit tests for {@link ShardedPubSubSubscriptions}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ShardedPubSubSubscriptionsUnitTests {
+
+    // "a" hashes to slot 15495, "b" to slot 3300
+    private static final String CHANNEL_NODE_1 = "b";
+
+    private static final String CHANNEL_NODE_2 = "a";
+
+    @Mock
+    private StatefulRedisPubSubConnection<String, String> connection1;
+
+    @Mock
+    private StatefulRedisPubSubConnection<String, String> connection2;
+
+    @Mock
+    private RedisPubSubAsyncCommands<String, String> async1;
+
+    @Mock
+    private RedisPubSubAsyncCommands<String, String> async2;
+
+    private RedisClusterNode node1;
+
+    private RedisClusterNode node2;
+
+    private ShardedPubSubSubscriptions<String, String> sut;
+
+    @BeforeEach
+    void before() {
+
+        node1 = createNode("1", 1, 0, 8192);
+        node2 = createNode("2", 2, 8192, SlotHash.SLOT_COUNT);
+
+        when(connection1.async()).thenReturn(async1);
+        when(connection2.async()).thenReturn(async2);
+
+        for (RedisPubSubAsyncCommands<String, String> async : new RedisPubSubAsyncCommands[] { async1, async2 }) {
+            when(async.subscribe(any())).thenReturn(completed());
+            when(async.unsubscribe(any())).thenReturn(completed());
+            when(async.psubscribe(any())).thenReturn(completed());
+        }
+
+        sut = new ShardedPubSubSubscriptions<>(StringCodec.UTF8, nodeId -> CompletableFuture
+                .completedFuture(nodeId.equals("1") ? connection1 : connection2));
+
+        sut.setPartitions(partitions(node1, node2));
+    }
+
+    @Test
+    void shouldDistributeSubscriptionsBySlot() {
+
+        assertThat(sut.subscribe(new String[] { CHANNEL_NODE_1, CHANNEL_NODE_2 }).toCompletableFuture()).isDone();
+
+        verify(async1).subscribe(CHANNEL_NODE_1);
+        verify(async2).subscribe(CHANNEL_NODE_2);
+
+        assertThat(sut.isSubscribed(node1, CHANNEL_NODE_1)).isTrue();
+        assertThat(sut.isSubscribed(node2, CHANNEL_NODE_1)).isFalse();
+        assertThat(sut.isSubscribed(node2, CHANNEL_NODE_2)).isTrue();
+    }
+
+    @Test
+    void shouldDistributePatternSubscriptionsBySlot() {
+
+        sut.psubscribe(new String[] { CHANNEL_NODE_2 });
+
+        verify(async2).psubscribe(CHANNEL_NODE_2);
+        verifyNoInteractions(async1);
+
+        assertThat(sut.isPatternSubscribed(node2, CHANNEL_NODE_2)).isTrue();
+        assertThat(sut.isSubscribed(node2, CHANNEL_NODE_2)).isFalse();
+    }
+
+    @Test
+    void shouldUnsubscribeFromAssignedNode() {
+
+        sut.subscribe(new String[] { CHANNEL_NODE_1, CHANNEL_NODE_2 });
+        sut.unsubscribe(new String[] { CHANNEL_NODE_2 });
+
+        verify(async2).unsubscribe(CHANNEL_NODE_2);
+        verify(async1, never()).unsubscribe(any());
+
+        assertThat(sut.isSubscribed(node2, CHANNEL_NODE_2)).isFalse();
+        assertThat(sut.isSubscribed(node1, CHANNEL_NODE_1)).isTrue();
+    }
+
+    @Test
+    void shouldUnsubscribeAll() {
+
+        sut.subscribe(new String[] { CHANNEL_NODE_1, CHANNEL_NODE_2 });
+        sut.unsubscribe(new String[0]);
+
+        verify(async1).unsubscribe(CHANNEL_NODE_1);
+        verify(async2).unsubscribe(CHANNEL_NODE_2);
+
+        assertThat(sut.isSubscribed(node1, CHANNEL_NODE_1)).isFalse();
+    }
+
+    @Test
+    void shouldMoveSubscriptionsOnTopologyChange() {
+
+        sut.subscribe(new String[] { CHANNEL_NODE_2 });
+
+        RedisClusterNode all = createNode("1", 1, 0, SlotHash.SLOT_COUNT);
+        RedisClusterNode empty = createNode("2", 2, 0, 0);
+        sut.setPartitions(partitions(all, empty));
+
+        verify(async1).subscribe(CHANNEL_NODE_2);
+        verify(async2).unsubscribe(CHANNEL_NODE_2);
+
+        assertThat(sut.isSubscribed(all, CHANNEL_NODE_2)).isTrue();
+        assertThat(sut.isSubscribed(empty, CHANNEL_NODE_2)).isFalse();
+    }
+
+    @Test
+    void shouldNotUnsubscribeFromRemovedNode() {
+
+        sut.subscribe(new String[] { CHANNEL_NODE_2 });
+
+        sut.setPartitions(partitions(createNode("1", 1, 0, SlotHash.SLOT_COUNT)));
+
+        verify(async1).subscribe(CHANNEL_NODE_2);
+        verify(async2, never()).unsubscribe(any());
+    }
+
+    private static PipelinedRedisFuture<Void> completed() {
+        return new PipelinedRedisFuture<>(CompletableFuture.completedFuture(null));
+    }
+
+    private static Partitions partitions(RedisClusterNode... nodes) {
+
+        Partitions partitions = new Partitions();
+        for (RedisClusterNode node : nodes) {
+            partitions.add(node);
+        }
+        partitions.updateCache();
+        return partitions;
+    }
+
+    private static RedisClusterNode createNode(String nodeId, int port, int from, int to) {
+
+        List<Integer> slots = IntStream.range(from, to).boxed().collect(Collectors.toList());
+        return new RedisClusterNode(RedisURI.create("localhost", port), nodeId, true, null, 0, 0, 0, slots,
+                Collections.singleton(RedisClusterNode.NodeFlag.MASTER));
+    }
+}
@@ -18,9 +18,17 @@ package io.lettuce.core.cluster;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.codec.CRC16;
+import io.lettuce.core.codec.StringCodec;
+
 /**
  * @author Mark Paluch
  * @since 3.0
@@ -57,4 +65,83 @@ class SlotHashUnitTests {
         int result = SlotHash.getSlot((ByteBuffer) ByteBuffer.allocateDirect(TAGGED.length).put(TAGGED).flip());
         assertThat(result).isEqualTo(0x31C3);
     }
+
+    @Test
+    void shouldCalculateCrc16ForLongKeys() {
+
+        for (int length = 0; length < 64; length++) {
+
+            byte[] bytes = new byte[length];
+            ThreadLocalRandom.current().nextBytes(bytes);
+
+            int expected = crc16Bitwise(bytes);
+
+            assertThat(CRC16.crc16(bytes)).isEqualTo(expected);
+            assertThat(CRC16.crc16((ByteBuffer) ByteBuffer.allocateDirect(length).put(bytes).flip())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void shouldGetSlotFromBufferWithOffset() {
+
+        ByteBuffer buffer = ByteBuffer.wrap("xxkey{123456789}a".getBytes());
+        buffer.position(2);
+
+        assertThat(SlotHash.getSlot(buffer)).isEqualTo(0x31C3);
+        assertThat(SlotHash.getSlot(buffer.slice())).isEqualTo(0x31C3);
+        assertThat(buffer.position()).isEqualTo(2);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(buffer.remaining() + 2);
+        direct.put("xx".getBytes()).put(buffer.duplicate()).flip().position(2);
+
+        assertThat(SlotHash.getSlot(direct)).isEqualTo(0x31C3);
+        assertThat(direct.position()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldHashWholeKeyWithEmptyTag() {
+
+        assertThat(SlotHash.getSlot("foo{}{bar}")).isEqualTo(CRC16.crc16("foo{}{bar}".getBytes()) % SlotHash.SLOT_COUNT);
+        assertThat(SlotHash.getSlot("foo{bar")).isEqualTo(CRC16.crc16("foo{bar".getBytes()) % SlotHash.SLOT_COUNT);
+    }
+
+    @Test
+    void shouldGetSlots() {
+
+        ByteBuffer[] keys = { ByteBuffer.wrap(BYTES), ByteBuffer.wrap(TAGGED), ByteBuffer.wrap("foo".getBytes()) };
+
+        int[] slots = SlotHash.getSlots(keys);
+
+        assertThat(slots).containsExactly(0x31C3, 0x31C3, SlotHash.getSlot("foo"));
+    }
+
+    @Test
+    void shouldPartitionKeys() {
+
+        List<String> keys = Arrays.asList("a", "b", "{a}b", "c{b}");
+
+        Map<Integer, List<String>> partitioned = SlotHash.partition(StringCodec.UTF8, keys);
+        Map<Integer, List<byte[]>> partitionedBytes = SlotHash.partition(ByteArrayCodec.INSTANCE,
+                Arrays.asList("a".getBytes(), "b".getBytes()));
+
+        assertThat(partitioned).hasSize(2).containsEntry(SlotHash.getSlot("a"), Arrays.asList("a", "{a}b"))
+                .containsEntry(SlotHash.getSlot("b"), Arrays.asList("b", "c{b}"));
+        assertThat(partitionedBytes).containsOnlyKeys(SlotHash.getSlot("a"), SlotHash.getSlot("b"));
+    }
+
+    private static int crc16Bitwise(byte[] bytes) {
+
+        int crc = 0;
+
+        for (byte b : bytes) {
+
+            crc ^= (b & 0xFF) << 8;
+
+            for (int i = 0; i < 8; i++) {
+                crc = (crc & 0x8000) != 0 ? (crc << 1) ^ 0x1021 : crc << 1;
+            }
+        }
+
+        return crc & 0xFFFF;
+    }
 }
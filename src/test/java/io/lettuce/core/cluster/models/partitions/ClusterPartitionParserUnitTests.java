@@ -16,15 +16,18 @@
 package io.lettuce.core.cluster.models.partitions;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.junit.Assert.assertThat;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.Collections;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
+import io.lettuce.core.RedisException;
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.internal.LettuceLists;
 
@@ -109,6 +112,43 @@ class ClusterPartitionParserUnitTests {
         assertThat(p2.getUri().getPort()).isEqualTo(7380);
     }
 
+    @Test
+    void shouldParseNodesFromByteBuffer() {
+
+        byte[] bytes = nodesWithBusPort.replace("\n", "\r\n").getBytes();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        Partitions result = ClusterPartitionParser.parse(buffer);
+        Partitions expected = ClusterPartitionParser.parse(nodesWithBusPort);
+
+        assertThat(buffer.position()).isZero();
+        assertThat(result.getPartitions()).hasSize(4);
+
+        for (int i = 0; i < expected.size(); i++) {
+
+            RedisClusterNode actual = result.getPartition(i);
+            RedisClusterNode node = expected.getPartition(i);
+
+            assertThat(actual.getNodeId()).isEqualTo(node.getNodeId());
+            assertThat(actual.getUri()).isEqualTo(node.getUri());
+            assertThat(actual.getFlags()).isEqualTo(node.getFlags());
+            assertThat(actual.getSlaveOf()).isEqualTo(node.getSlaveOf());
+            assertThat(actual.isConnected()).isEqualTo(node.isConnected());
+            assertThat(actual.hasSameSlotsAs(node)).isTrue();
+        }
+
+        assertThat(result.getPartitionBySlot(11999).getNodeId()).isEqualTo("4213a8dabb94f92eb6a860f4d0729e6a25d43e0c");
+        assertThat(result.getPartition(3).getFlags()).contains(RedisClusterNode.NodeFlag.SLAVE,
+                RedisClusterNode.NodeFlag.REPLICA);
+    }
+
+    @Test
+    void shouldRejectMalformedNodes() {
+        assertThatThrownBy(() -> ClusterPartitionParser.parse("c37ab8396be428403d4e55c0d317348be27ed973 127.0.0.1:7381"))
+                .isInstanceOf(RedisException.class);
+    }
+
     @Test
     void getNodeByHashShouldReturnCorrectNode() {
 
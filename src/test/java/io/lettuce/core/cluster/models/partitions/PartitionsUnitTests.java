@@ -242,6 +242,30 @@ class PartitionsUnitTests {
         assertThat(partitions.getPartitionBySlot(1)).isEqualTo(node1);
     }
 
+    @Test
+    void updateShouldRetainUnchangedNodes() {
+
+        Partitions partitions = new Partitions();
+        partitions.add(node1);
+        partitions.add(node2);
+
+        RedisClusterNode sameAsNode1 = node1.clone();
+        RedisClusterNode changedNode2 = node2.clone();
+        changedNode2.setSlots(Arrays.asList(4, 5));
+
+        assertThat(partitions.update(Arrays.asList(sameAsNode1, node2.clone()), true)).isFalse();
+        assertThat(partitions.getPartitionByNodeId("a")).isSameAs(node1);
+
+        assertThat(partitions.update(Arrays.asList(changedNode2, sameAsNode1), true)).isTrue();
+        assertThat(partitions.getPartition(0)).isSameAs(node1);
+        assertThat(partitions.getPartition(1)).isSameAs(changedNode2);
+        assertThat(partitions.getPartitionBySlot(6)).isNull();
+
+        assertThat(partitions.update(Arrays.asList(changedNode2, sameAsNode1), false)).isTrue();
+        assertThat(partitions.getPartition(0)).isSameAs(changedNode2);
+        assertThat(partitions.getPartition(1)).isSameAs(node1);
+    }
+
     @Test
     void reloadEmpty() {
 
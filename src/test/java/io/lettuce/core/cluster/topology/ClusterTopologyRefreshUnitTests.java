@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -52,6 +53,8 @@ import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.resource.DnsResolvers;
 import io.lettuce.core.resource.SocketAddressResolver;
 import io.lettuce.test.settings.TestSettings;
+import io.netty.util.Timeout;
+import io.netty.util.Timer;
 import io.netty.util.concurrent.EventExecutorGroup;
 
 /**
@@ -99,6 +102,12 @@ class ClusterTopologyRefreshUnitTests {
     @Mock
     private EventExecutorGroup eventExecutors;
 
+    @Mock
+    private Timer timer;
+
+    @Mock
+    private Timeout timeout;
+
     @BeforeEach
     void before() {
 
@@ -166,8 +175,8 @@ class ClusterTopologyRefreshUnitTests {
 
     @Test
     void getNodeTopologyView() throws Exception {
-        Requests requestedTopology = createClusterNodesRequests(1, NODE_1_VIEW);
-        Requests requestedClients = createClientListRequests(1,
+        Requests<byte[]> requestedTopology = createClusterNodesRequests(1, NODE_1_VIEW);
+        Requests<String> requestedClients = createClientListRequests(1,
                 "# Clients\r\nconnected_clients:2438\r\nclient_longest_output_list:0\r\nclient_biggest_input_buf:0\r\nblocked_clients:0");
         RedisURI redisURI = RedisURI.create("redis://localhost:1");
         NodeTopologyView nodeTopologyView = NodeTopologyView.from(redisURI, requestedTopology, requestedClients);
@@ -177,10 +186,11 @@ class ClusterTopologyRefreshUnitTests {
     @Test
     void getNodeSpecificViewsNode1IsFasterThanNode2() throws Exception {
 
-        Requests requests = createClusterNodesRequests(1, NODE_1_VIEW);
+        Requests<byte[]> requests = createClusterNodesRequests(1, NODE_1_VIEW);
         requests = createClusterNodesRequests(2, NODE_2_VIEW).mergeWith(requests);
 
-        Requests clientRequests = createClientListRequests(1, "c1\nc2\n").mergeWith(createClientListRequests(2, "c1\nc2\n"));
+        Requests<String> clientRequests = createClientListRequests(1, "c1\nc2\n")
+                .mergeWith(createClientListRequests(2, "c1\nc2\n"));
 
         NodeTopologyViews nodeSpecificViews = sut.getNodeSpecificViews(requests, clientRequests, COMMAND_TIMEOUT_NS);
 
@@ -215,10 +225,11 @@ class ClusterTopologyRefreshUnitTests {
         String NODE_2_VIEW = "2 127.0.0.1:7381 master,myself - 111 1401258245007 222 connected 7000 12000 12002-16383\n"
                 + "1 127.0.0.1:7380 master - 0 1401258245007 2 disconnected 8000-11999\n";
 
-        Requests requests = createClusterNodesRequests(1, NODE_1_VIEW);
+        Requests<byte[]> requests = createClusterNodesRequests(1, NODE_1_VIEW);
         requests = createClusterNodesRequests(2, NODE_2_VIEW).mergeWith(requests);
 
-        Requests clientRequests = createClientListRequests(1, "c1\nc2\n").mergeWith(createClientListRequests(2, "c1\nc2\n"));
+        Requests<String> clientRequests = createClientListRequests(1, "c1\nc2\n")
+                .mergeWith(createClientListRequests(2, "c1\nc2\n"));
 
         NodeTopologyViews nodeSpecificViews = sut.getNodeSpecificViews(requests, clientRequests, COMMAND_TIMEOUT_NS);
 
@@ -244,8 +255,8 @@ class ClusterTopologyRefreshUnitTests {
                 + "n5 10.37.110.70:7000 myself,master - 0 0 46 connected 10039-14999\n"
                 + "n6 10.37.110.65:7000 master - 0 1452553663844 45 connected 0-3828 6788-7996 10000-10038 15000-16383";
 
-        Requests clusterNodesRequests = createClusterNodesRequests(1, nodes1);
-        Requests clientRequests = createClientListRequests(1,
+        Requests<byte[]> clusterNodesRequests = createClusterNodesRequests(1, nodes1);
+        Requests<String> clientRequests = createClientListRequests(1,
                 "# Clients\r\nconnected_clients:2\r\nclient_longest_output_list:0\r\nclient_biggest_input_buf:0\r\nblocked_clients:0");
 
         NodeTopologyViews nodeSpecificViews = sut.getNodeSpecificViews(clusterNodesRequests, clientRequests,
@@ -269,10 +280,11 @@ class ClusterTopologyRefreshUnitTests {
     @Test
     void getNodeSpecificViewsNode2IsFasterThanNode1() throws Exception {
 
-        Requests clusterNodesRequests = createClusterNodesRequests(5, NODE_1_VIEW);
+        Requests<byte[]> clusterNodesRequests = createClusterNodesRequests(5, NODE_1_VIEW);
         clusterNodesRequests = createClusterNodesRequests(1, NODE_2_VIEW).mergeWith(clusterNodesRequests);
 
-        Requests clientRequests = createClientListRequests(5, "c1\nc2\n").mergeWith(createClientListRequests(1, "c1\nc2\n"));
+        Requests<String> clientRequests = createClientListRequests(5, "c1\nc2\n")
+                .mergeWith(createClientListRequests(1, "c1\nc2\n"));
 
         NodeTopologyViews nodeSpecificViews = sut.getNodeSpecificViews(clusterNodesRequests, clientRequests,
                 COMMAND_TIMEOUT_NS);
@@ -500,14 +512,42 @@ class ClusterTopologyRefreshUnitTests {
                 .hasRootCauseInstanceOf(RedisException.class).hasSuppressedException(nestedException);
     }
 
-    Requests createClusterNodesRequests(int duration, String nodes) {
+    @Test
+    void shouldReuseSharedConnectionsAsync() {
+
+        List<RedisURI> seed = Arrays.asList(RedisURI.create("127.0.0.1", 7380), RedisURI.create("127.0.0.1", 7381));
+
+        when(clientResources.timer()).thenReturn(timer);
+        when(timer.newTimeout(any(), anyLong(), any())).thenReturn(timeout);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(eventExecutors).execute(any(Runnable.class));
+
+        when(connection2.isOpen()).thenReturn(true);
+        when(nodeConnectionFactory.connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380))))
+                .thenReturn(completedFuture((StatefulRedisConnection) connection1));
+
+        Map<RedisURI, Partitions> partitionsMap = sut
+                .loadViewsAsync(seed, Duration.ofSeconds(1), true, uri -> uri.getPort() == 7381 ? connection2 : null)
+                .toCompletableFuture().join();
+
+        assertThat(partitionsMap).hasSize(2);
+
+        verify(nodeConnectionFactory).connectToNodeAsync(any(RedisCodec.class), eq(new InetSocketAddress("127.0.0.1", 7380)));
+        verifyNoMoreInteractions(nodeConnectionFactory);
+        verify(connection1).closeAsync();
+        verify(connection2, never()).closeAsync();
+    }
+
+    Requests<byte[]> createClusterNodesRequests(int duration, String nodes) {
 
         RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
         Connections connections = new Connections();
         connections.addConnection(redisURI, connection);
 
-        Requests requests = connections.requestTopology();
-        TimedAsyncCommand<String, String, String> command = requests.getRequest(redisURI);
+        Requests<byte[]> requests = connections.requestTopology();
+        TimedAsyncCommand<String, String, byte[]> command = requests.getRequest(redisURI);
 
         command.getOutput().set(ByteBuffer.wrap(nodes.getBytes()));
         command.complete();
@@ -517,13 +557,13 @@ class ClusterTopologyRefreshUnitTests {
         return requests;
     }
 
-    Requests createClientListRequests(int duration, String response) {
+    Requests<String> createClientListRequests(int duration, String response) {
 
         RedisURI redisURI = RedisURI.create("redis://localhost:" + duration);
         Connections connections = new Connections();
         connections.addConnection(redisURI, connection);
 
-        Requests requests = connections.requestTopology();
+        Requests<String> requests = connections.requestClients();
         TimedAsyncCommand<String, String, String> command = requests.getRequest(redisURI);
 
         command.getOutput().set(ByteBuffer.wrap(response.getBytes()));
@@ -24,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import io.lettuce.core.RedisURI;
 import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.ByteArrayOutput;
 import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.protocol.Command;
 import io.lettuce.core.protocol.CommandType;
@@ -39,11 +40,11 @@ class RequestsUnitTests {
 
         RedisURI redisURI = RedisURI.create("localhost", 6379);
 
-        Requests clusterNodesRequests = new Requests();
+        Requests<byte[]> clusterNodesRequests = new Requests<>();
         String clusterNodesOutput = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 disconnected 8000-11999\n";
-        clusterNodesRequests.addRequest(redisURI, getCommand(clusterNodesOutput));
+        clusterNodesRequests.addRequest(redisURI, getClusterNodesCommand(clusterNodesOutput));
 
-        Requests infoClientRequests = new Requests();
+        Requests<String> infoClientRequests = new Requests<>();
         String infoClientOutput = "# Clients\r\nconnected_clients:100\r\nclient_longest_output_list:0\r\nclient_biggest_input_buf:0\r\nblocked_clients:0";
         infoClientRequests.addRequest(redisURI, getCommand(infoClientOutput));
 
@@ -61,11 +62,11 @@ class RequestsUnitTests {
 
         RedisURI redisURI = RedisURI.create("localhost", 6379);
 
-        Requests clusterNodesRequests = new Requests();
+        Requests<byte[]> clusterNodesRequests = new Requests<>();
         String clusterNodesOutput = "1 127.0.0.1:7380 master,myself - 0 1401258245007 2 disconnected 8000-11999\n";
-        clusterNodesRequests.addRequest(redisURI, getCommand(clusterNodesOutput));
+        clusterNodesRequests.addRequest(redisURI, getClusterNodesCommand(clusterNodesOutput));
 
-        Requests clientListRequests = new Requests();
+        Requests<String> clientListRequests = new Requests<>();
 
         NodeTopologyView nodeTopologyView = NodeTopologyView.from(redisURI, clusterNodesRequests, clientListRequests);
 
@@ -102,6 +103,16 @@ class RequestsUnitTests {
 
     }
 
+    private TimedAsyncCommand<String, String, byte[]> getClusterNodesCommand(String response) {
+
+        Command<String, String, byte[]> command = new Command<>(CommandType.CLUSTER, new ByteArrayOutput<>(StringCodec.UTF8));
+        TimedAsyncCommand<String, String, byte[]> timedAsyncCommand = new TimedAsyncCommand<>(command);
+
+        command.getOutput().set(ByteBuffer.wrap(response.getBytes()));
+        timedAsyncCommand.complete();
+        return timedAsyncCommand;
+    }
+
     private TimedAsyncCommand getCommand(String response) {
         Command<String, String, String> command = new Command<>(CommandType.TYPE, new StatusOutput<>(StringCodec.UTF8));
         TimedAsyncCommand timedAsyncCommand = new TimedAsyncCommand(command);
@@ -20,9 +20,19 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
 /**
  * @author Mark Paluch
  */
@@ -76,6 +86,109 @@ class CompressionCodecUnitTests {
                 .isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void shouldStoreSmallValuesUncompressed() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.DEFLATE, 64);
+
+        ByteBuffer byteBuffer = sut.encodeValue(value);
+        assertThat(toBytes(byteBuffer.duplicate())).isEqualTo(new byte[] { 0, 'v', 'a', 'l', 'u', 'e' });
+
+        assertThat(sut.decodeValue(byteBuffer)).isEqualTo(value);
+    }
+
+    @Test
+    void shouldCompressValuesExceedingThreshold() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP, 64);
+
+        String large = repeat(value, 100);
+        ByteBuffer byteBuffer = sut.encodeValue(large);
+
+        assertThat(byteBuffer.get(0)).isEqualTo((byte) 1);
+        assertThat(byteBuffer.getInt(1)).isEqualTo(large.length());
+        assertThat(byteBuffer.remaining()).isLessThan(large.length());
+
+        assertThat(sut.decodeValue(byteBuffer)).isEqualTo(large);
+    }
+
+    @Test
+    void shouldEncodeValueToByteBuf() {
+
+        String large = repeat(value, 100);
+
+        for (CompressionCodec.CompressionType type : CompressionCodec.CompressionType.values()) {
+
+            if (!type.isAvailable()) {
+                continue;
+            }
+
+            RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8, type);
+            ByteBuf target = Unpooled.buffer();
+
+            try {
+                ((ToByteBufEncoder<String, String>) sut).encodeValue(large, target);
+
+                assertThat(ByteBufUtil.getBytes(target)).isEqualTo(toBytes(sut.encodeValue(large)));
+                assertThat(sut.decodeValue(target.nioBuffer())).isEqualTo(large);
+            } finally {
+                target.release();
+            }
+        }
+    }
+
+    @Test
+    void shouldDecodeValuesUsingDirectBuffers() {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.GZIP);
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(keyGzipBytes.length);
+        direct.put(keyGzipBytes).flip();
+
+        assertThat(sut.decodeValue(direct)).isEqualTo(key);
+    }
+
+    @Test
+    void shouldShareCodecAcrossThreads() throws Exception {
+
+        RedisCodec<String, String> sut = CompressionCodec.valueCompressor(StringCodec.UTF8,
+                CompressionCodec.CompressionType.DEFLATE);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 16; i++) {
+
+                String payload = repeat(value + i, 1000 + i);
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 50; j++) {
+                        assertThat(sut.decodeValue(sut.encodeValue(payload))).isEqualTo(payload);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static String repeat(String value, int times) {
+
+        StringBuilder builder = new StringBuilder(value.length() * times);
+        for (int i = 0; i < times; i++) {
+            builder.append(value);
+        }
+        return builder.toString();
+    }
+
     private String toString(ByteBuffer buffer) {
         byte[] bytes = toBytes(buffer);
         return new String(bytes, StandardCharsets.UTF_8);
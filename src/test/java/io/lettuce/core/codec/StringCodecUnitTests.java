@@ -66,6 +66,18 @@ class StringCodecUnitTests {
         assertThat(buffer.toString(StandardCharsets.ISO_8859_1)).isEqualTo(teststringPlain);
     }
 
+    @Test
+    void encodeIso88591ShouldAppendToBuf() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.ISO_8859_1);
+
+        ByteBuf buffer = Unpooled.buffer(1234);
+        buffer.writeBytes("prefix-".getBytes());
+        codec.encodeValue(teststringPlain, buffer);
+
+        assertThat(buffer.toString(StandardCharsets.ISO_8859_1)).isEqualTo("prefix-" + teststringPlain);
+    }
+
     @Test
     void encodeAndDecodeUtf8Buf() {
 
@@ -112,8 +124,74 @@ class StringCodecUnitTests {
     void estimateSize() {
 
         assertThat(new StringCodec(StandardCharsets.UTF_8).estimateSize(teststring))
-                .isEqualTo((int) (teststring.length() * 1.1));
+                .isEqualTo(teststring.getBytes(StandardCharsets.UTF_8).length);
         assertThat(new StringCodec(StandardCharsets.US_ASCII).estimateSize(teststring)).isEqualTo(teststring.length());
         assertThat(new StringCodec(StandardCharsets.ISO_8859_1).estimateSize(teststring)).isEqualTo(teststring.length());
     }
+
+    @Test
+    void decodeAsciiFromDirectBuffers() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8);
+
+        ByteBuf buffer = Unpooled.directBuffer(1234);
+        buffer.writeBytes("prefix".getBytes());
+        codec.encode(teststringPlain, buffer);
+        buffer.skipBytes(6);
+
+        assertThat(codec.decodeKey(buffer.nioBuffer())).isEqualTo(teststringPlain);
+        assertThat(codec.decodeValue(buffer)).isEqualTo(teststringPlain);
+        assertThat(buffer.readableBytes()).isEqualTo(teststringPlain.length());
+    }
+
+    @Test
+    void decodeUtf8FromDirectBuffers() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8);
+
+        ByteBuf buffer = Unpooled.directBuffer(1234);
+        codec.encode(teststring, buffer);
+
+        assertThat(codec.decodeKey(buffer.nioBuffer())).isEqualTo(teststring);
+        assertThat(codec.decodeValue(buffer)).isEqualTo(teststring);
+    }
+
+    @Test
+    void decodeShouldNotConsumeByteBuffer() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8);
+
+        ByteBuffer byteBuffer = ByteBuffer.wrap(("xx" + teststringPlain).getBytes());
+        byteBuffer.position(2);
+
+        assertThat(codec.decodeValue(byteBuffer)).isEqualTo(teststringPlain);
+        assertThat(byteBuffer.position()).isEqualTo(2);
+        assertThat(codec.decodeValue(ByteBuffer.allocate(0))).isEmpty();
+    }
+
+    @Test
+    void decodeKeyShouldInternAsciiKeys() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8, 16);
+
+        String first = codec.decodeKey(ByteBuffer.wrap("key:1".getBytes()));
+        String second = codec.decodeKey(ByteBuffer.wrap("key:1".getBytes()));
+        String other = codec.decodeKey(ByteBuffer.wrap("key:2".getBytes()));
+
+        assertThat(first).isEqualTo("key:1").isSameAs(second);
+        assertThat(other).isEqualTo("key:2");
+        assertThat(codec.decodeValue(ByteBuffer.wrap("key:1".getBytes()))).isNotSameAs(first);
+        assertThat(codec.decodeKey(ByteBuffer.wrap(teststring.getBytes(StandardCharsets.UTF_8)))).isEqualTo(teststring);
+    }
+
+    @Test
+    void decodeKeyShouldNotInternWithoutKeyCache() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8);
+
+        String first = codec.decodeKey(ByteBuffer.wrap("key:1".getBytes()));
+        String second = codec.decodeKey(ByteBuffer.wrap("key:1".getBytes()));
+
+        assertThat(first).isEqualTo(second).isNotSameAs(second);
+    }
 }
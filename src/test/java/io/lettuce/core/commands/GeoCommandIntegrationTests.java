@@ -195,6 +195,19 @@ public class GeoCommandIntegrationTests extends TestSupport {
         assertThat(geopos.get(2)).isNotNull();
     }
 
+    @Test
+    void geoposArray() {
+
+        prepareGeo();
+
+        GeoCoordinatesArray geopos = redis.geoposArray(key, "Weinheim", "foobar", "Bahn");
+
+        assertThat(geopos.size()).isEqualTo(3);
+        assertThat(geopos.getX(0)).isEqualTo(8.6638, offset(0.001));
+        assertThat(geopos.isPresent(1)).isFalse();
+        assertThat(geopos.isPresent(2)).isTrue();
+    }
+
     @Test
     public void geoposInTransaction() {
 
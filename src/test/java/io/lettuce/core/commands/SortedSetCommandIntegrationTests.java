@@ -95,6 +95,14 @@ public class SortedSetCommandIntegrationTests extends TestSupport {
         assertThat(redis.zrangeWithScores(key, 0, -1)).isEqualTo(svlist(sv(1.0, "a"), sv(2.0, "b"), sv(3.0, "c")));
     }
 
+    @Test
+    void zrangeWithScoresArray() {
+        setup();
+        ScoredValueArray<String> result = redis.zrangeWithScoresArray(key, 0, -1);
+        assertThat(result.getValues()).containsExactly("a", "b", "c");
+        assertThat(result.getScores()).containsExactly(1.0, 2.0, 3.0);
+    }
+
     @Test
     void zaddWrongArguments() {
         assertThatThrownBy(() -> redis.zadd(key, 2.0, "b", 3.0)).isInstanceOf(IllegalArgumentException.class);
@@ -444,6 +452,13 @@ public class SortedSetCommandIntegrationTests extends TestSupport {
         assertThat(redis.zrevrangeWithScores(key, 0, -1)).isEqualTo(svlist(sv(3.0, "c"), sv(2.0, "b"), sv(1.0, "a")));
     }
 
+    @Test
+    void zrevrangeWithScoresArray() {
+        setup();
+        assertThat(redis.zrevrangeWithScoresArray(key, 0, -1).toList())
+                .isEqualTo(svlist(sv(3.0, "c"), sv(2.0, "b"), sv(1.0, "a")));
+    }
+
     @Test
     void zrevrangeStreaming() {
         setup();
@@ -27,6 +27,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import io.lettuce.core.*;
 import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.protocol.CommandType;
 import io.lettuce.test.LettuceExtension;
 
 /**
@@ -103,6 +106,39 @@ public class TransactionCommandIntegrationTests extends TestSupport {
         assertThat(redis.get(key)).isEqualTo(value);
     }
 
+    @Test
+    void transactionBuilder() throws Exception {
+
+        TransactionBuilder<String, String> transaction = redis.getStatefulConnection().transaction();
+
+        RedisFuture<String> set = transaction.commands().set(key, value);
+        RedisFuture<String> get = transaction.commands().get(key);
+        RedisFuture<Long> incr = transaction.commands().incr("counter");
+
+        TransactionResult result = transaction.execute().get();
+
+        assertThat(result.wasDiscarded()).isFalse();
+        assertThat(result).containsExactly("OK", value, 1L);
+        assertThat(set.get()).isEqualTo("OK");
+        assertThat(get.get()).isEqualTo(value);
+        assertThat(incr.get()).isEqualTo(1L);
+        assertThat(redis.get(key)).isEqualTo(value);
+    }
+
+    @Test
+    void transactionBuilderWithQueueingError() {
+
+        TransactionBuilder<String, String> transaction = redis.getStatefulConnection().transaction();
+
+        RedisFuture<String> set = transaction.commands().set(key, value);
+        RedisFuture<String> invalid = transaction.commands().dispatch(CommandType.GET, new StatusOutput<>(StringCodec.UTF8));
+
+        assertThatThrownBy(() -> transaction.execute().get()).hasMessageContaining("EXECABORT");
+        assertThatThrownBy(set::get).hasMessageContaining("EXECABORT");
+        assertThatThrownBy(invalid::get).hasMessageContaining("wrong number of arguments");
+        assertThat(redis.get(key)).isNull();
+    }
+
     @Test
     void execmulti() {
         redis.multi();
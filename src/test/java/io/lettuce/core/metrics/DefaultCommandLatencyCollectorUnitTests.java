@@ -19,6 +19,7 @@ import static java.util.concurrent.TimeUnit.MICROSECONDS;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.InetSocketAddress;
 import java.util.Map;
 
 import org.junit.jupiter.api.Test;
@@ -27,7 +28,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import io.lettuce.core.metrics.DefaultCommandLatencyCollector.PauseDetectorWrapper;
+import io.lettuce.core.protocol.CommandKeyword;
 import io.lettuce.core.protocol.CommandType;
+import io.lettuce.core.protocol.ProtocolKeyword;
 import io.netty.channel.local.LocalAddress;
 
 /**
@@ -138,6 +141,63 @@ class DefaultCommandLatencyCollectorUnitTests {
         sut.shutdown();
     }
 
+    @Test
+    void shouldRecordLatenciesPerEndpointAndCommand() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        InetSocketAddress node1 = InetSocketAddress.createUnresolved("node1", 6379);
+        InetSocketAddress node2 = InetSocketAddress.createUnresolved("node2", 6379);
+
+        sut.recordCommandLatency(LocalAddress.ANY, node1, CommandType.GET, 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, node1, CommandType.GET, 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, node2, CommandType.GET, 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, node1, CommandKeyword.ADDR, 1000, 2000);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+
+        assertThat(latencies).hasSize(3);
+        assertThat(latencies.get(CommandLatencyId.create(LocalAddress.ANY, node1, CommandType.GET)).getCount()).isEqualTo(2);
+        assertThat(latencies.get(CommandLatencyId.create(LocalAddress.ANY, node2, CommandType.GET)).getCount()).isEqualTo(1);
+        assertThat(latencies.get(CommandLatencyId.create(LocalAddress.ANY, node1, CommandKeyword.ADDR)).getCount())
+                .isEqualTo(1);
+
+        sut.shutdown();
+    }
+
+    @Test
+    void shouldAggregateKeywordsByName() {
+
+        sut = new DefaultCommandLatencyCollector(DefaultCommandLatencyCollectorOptions.create());
+
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, keyword("CUSTOM"), 1000, 2000);
+        sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, keyword("CUSTOM"), 1000, 2000);
+
+        Map<CommandLatencyId, CommandMetrics> latencies = sut.retrieveMetrics();
+
+        assertThat(latencies).hasSize(1);
+        assertThat(latencies.get(CommandLatencyId.create(LocalAddress.ANY, LocalAddress.ANY, keyword("CUSTOM"))).getCount())
+                .isEqualTo(2);
+
+        sut.shutdown();
+    }
+
+    private static ProtocolKeyword keyword(String name) {
+
+        return new ProtocolKeyword() {
+
+            @Override
+            public byte[] getBytes() {
+                return name.getBytes();
+            }
+
+            @Override
+            public String name() {
+                return name;
+            }
+        };
+    }
+
     private void setupData() {
         sut.recordCommandLatency(LocalAddress.ANY, LocalAddress.ANY, CommandType.BGSAVE, MILLISECONDS.toNanos(100),
                 MILLISECONDS.toNanos(1000));
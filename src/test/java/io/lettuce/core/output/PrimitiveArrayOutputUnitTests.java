@@ -0,0 +1,160 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.GeoCoordinates;
+import io.lettuce.core.codec.StringCodec;
+
+/**
+ * Unit tests for primitive-specialized outputs.
+ *
+ * @author Mark Paluch
+ */
+class PrimitiveArrayOutputUnitTests {
+
+    @Test
+    void longArrayOutputShouldCollectIntegers() {
+
+        LongArrayOutput<String, String> sut = new LongArrayOutput<>(StringCodec.UTF8);
+
+        sut.multi(3);
+        sut.set(1L);
+        sut.set(null);
+        sut.set(-42L);
+
+        assertThat(sut.get()).containsExactly(1L, -42L);
+    }
+
+    @Test
+    void bitSetOutputShouldCollectBooleans() {
+
+        BitSetOutput<String, String> sut = new BitSetOutput<>(StringCodec.UTF8);
+
+        sut.multi(4);
+        sut.set(1L);
+        sut.set(0L);
+        sut.set(true);
+        sut.set(false);
+
+        assertThat(sut.get().get(0)).isTrue();
+        assertThat(sut.get().get(1)).isFalse();
+        assertThat(sut.get().get(2)).isTrue();
+        assertThat(sut.get().cardinality()).isEqualTo(2);
+    }
+
+    @Test
+    void geoCoordinatesArrayOutputShouldCollectCoordinates() {
+
+        GeoCoordinatesArrayOutput<String, String> sut = new GeoCoordinatesArrayOutput<>(StringCodec.UTF8);
+
+        sut.multi(3);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("13.361389338970184".getBytes()));
+        sut.set(ByteBuffer.wrap("38.115556395496299".getBytes()));
+        sut.multi(-1);
+        sut.multi(2);
+        sut.set(1.5);
+        sut.set(2.5);
+
+        assertThat(sut.get().size()).isEqualTo(3);
+        assertThat(sut.get().getX(0)).isEqualTo(13.361389338970184);
+        assertThat(sut.get().getY(0)).isEqualTo(38.115556395496299);
+        assertThat(sut.get().isPresent(1)).isFalse();
+        assertThat(sut.get().getCoordinates(1)).isNull();
+        assertThat(sut.get().getCoordinates(2)).isEqualTo(new GeoCoordinates(1.5, 2.5));
+    }
+
+    @Test
+    void geoCoordinatesArrayOutputShouldConsiderNullBulkAsMissingMember() {
+
+        GeoCoordinatesArrayOutput<String, String> sut = new GeoCoordinatesArrayOutput<>(StringCodec.UTF8);
+
+        sut.multi(2);
+        sut.set(null);
+        sut.multi(2);
+        sut.set(1.5);
+        sut.set(2.5);
+
+        assertThat(sut.get().isPresent(0)).isFalse();
+        assertThat(sut.get().isPresent(1)).isTrue();
+    }
+
+    @Test
+    void doubleParserShouldParseNumbers() {
+
+        assertThat(DoubleParser.parse(ByteBuffer.wrap("123".getBytes()))).isEqualTo(123d);
+        assertThat(DoubleParser.parse(ByteBuffer.wrap("-0.25".getBytes()))).isEqualTo(-0.25d);
+        assertThat(DoubleParser.parse(ByteBuffer.wrap("+inf".getBytes()))).isEqualTo(Double.POSITIVE_INFINITY);
+        assertThat(DoubleParser.parse(ByteBuffer.wrap("3.0000000000000004".getBytes()))).isEqualTo(3.0000000000000004d);
+        assertThat(DoubleParser.parse(ByteBuffer.wrap("1e3".getBytes()))).isEqualTo(1000d);
+        assertThat(DoubleParser.parse(ByteBuffer.wrap("0.30000000000000004".getBytes()))).isEqualTo(0.30000000000000004d);
+    }
+
+    @Test
+    void doubleParserShouldParseFifteenDigitsExactly() {
+
+        assertThat(parse("123456789012345")).isEqualTo(123456789012345d);
+        assertThat(parse("999999999999999")).isEqualTo(999999999999999d);
+        assertThat(parse("0.12345678901234")).isEqualTo(0.12345678901234d);
+        assertThat(parse("12345678.9012345")).isEqualTo(12345678.9012345d);
+        assertThat(parse("-1234567.89012345")).isEqualTo(-1234567.89012345d);
+
+        // 16 digits fall back to string-based parsing
+        assertThat(parse("1234567890123456")).isEqualTo(1234567890123456d);
+        assertThat(parse("0.123456789012345")).isEqualTo(0.123456789012345d);
+    }
+
+    @Test
+    void doubleParserShouldParseLeadingZeros() {
+
+        assertThat(parse("007")).isEqualTo(7d);
+        assertThat(parse("-0.001")).isEqualTo(-0.001d);
+        assertThat(parse("000000000000000.5")).isEqualTo(0.5d);
+        assertThat(parse("0")).isEqualTo(0d);
+        assertThat(parse("-0")).isEqualTo(-0d);
+    }
+
+    @Test
+    void doubleParserShouldParseIncompleteFractions() {
+
+        assertThat(parse(".5")).isEqualTo(0.5d);
+        assertThat(parse("5.")).isEqualTo(5d);
+        assertThatThrownBy(() -> parse(".")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> parse("-")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> parse("1.2.3")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void doubleParserShouldNotConsumeBuffer() {
+
+        ByteBuffer buffer = ByteBuffer.wrap("xx42.5".getBytes());
+        buffer.position(2);
+
+        assertThat(DoubleParser.parse(buffer)).isEqualTo(42.5d);
+        assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    private static double parse(String value) {
+        return DoubleParser.parse(ByteBuffer.wrap(value.getBytes()));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.output;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ScoredValue;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.protocol.RedisStateMachine;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+/**
+ * @author Mark Paluch
+ */
+class ScoredValueArrayOutputUnitTests {
+
+    private ScoredValueArrayOutput<String, String> sut = new ScoredValueArrayOutput<>(StringCodec.UTF8);
+
+    @Test
+    void shouldDecodeResp2Reply() {
+
+        sut.multi(4);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set(ByteBuffer.wrap("1".getBytes()));
+        sut.set(ByteBuffer.wrap("two".getBytes()));
+        sut.set(ByteBuffer.wrap("-2.5".getBytes()));
+        sut.complete(0);
+
+        assertThat(sut.get().size()).isEqualTo(2);
+        assertThat(sut.get().getValue(0)).isEqualTo("one");
+        assertThat(sut.get().getScore(0)).isEqualTo(1);
+        assertThat(sut.get().getValue(1)).isEqualTo("two");
+        assertThat(sut.get().getScore(1)).isEqualTo(-2.5);
+        assertThat(sut.get().getScores()).hasSize(2);
+        assertThat(sut.get().toList()).containsExactly(ScoredValue.fromNullable(1, "one"),
+                ScoredValue.fromNullable(-2.5, "two"));
+    }
+
+    @Test
+    void shouldDecodeResp3Reply() {
+
+        sut.multi(2);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("one".getBytes()));
+        sut.set(1.5);
+        sut.multi(2);
+        sut.set(ByteBuffer.wrap("two".getBytes()));
+        sut.set(Double.POSITIVE_INFINITY);
+
+        assertThat(sut.get().getValues()).containsExactly("one", "two");
+        assertThat(sut.get().getScores()).containsExactly(1.5, Double.POSITIVE_INFINITY);
+    }
+
+    @Test
+    void shouldDecodeResp3DoubleReplies() {
+
+        RedisStateMachine rsm = new RedisStateMachine(ByteBufAllocator.DEFAULT);
+        rsm.setProtocolVersion(ProtocolVersion.RESP3);
+
+        ByteBuf buffer = Unpooled.copiedBuffer("*4\r\n" + "*2\r\n$1\r\na\r\n,123456789012345\r\n"
+                + "*2\r\n$1\r\nb\r\n,-0.001\r\n" + "*2\r\n$1\r\nc\r\n,-inf\r\n"
+                + "*2\r\n$1\r\nd\r\n,1.5e300\r\n", StandardCharsets.US_ASCII);
+
+        try {
+            assertThat(rsm.decode(buffer, sut)).isTrue();
+        } finally {
+            buffer.release();
+            rsm.close();
+        }
+
+        assertThat(sut.get().getValues()).containsExactly("a", "b", "c", "d");
+        assertThat(sut.get().getScores()).containsExactly(123456789012345d, -0.001, Double.NEGATIVE_INFINITY, 1.5e300);
+    }
+
+    @Test
+    void shouldParseSpecialScores() {
+
+        sut.multi(6);
+        sut.set(ByteBuffer.wrap("a".getBytes()));
+        sut.set(ByteBuffer.wrap("-inf".getBytes()));
+        sut.set(ByteBuffer.wrap("b".getBytes()));
+        sut.set(ByteBuffer.wrap("1.2345678901234567e+20".getBytes()));
+        sut.set(ByteBuffer.wrap("c".getBytes()));
+        sut.set(ByteBuffer.wrap("0.1".getBytes()));
+
+        assertThat(sut.get().getScores()).containsExactly(Double.NEGATIVE_INFINITY, 1.2345678901234567e+20, 0.1);
+    }
+
+    @Test
+    void shouldReturnEmptyArray() {
+
+        assertThat(sut.get().isEmpty()).isTrue();
+
+        sut.multi(0);
+
+        assertThat(sut.get().isEmpty()).isTrue();
+    }
+}
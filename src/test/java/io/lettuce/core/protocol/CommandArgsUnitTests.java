@@ -175,4 +175,82 @@ class CommandArgsUnitTests {
 
         assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo(expected.toString(StandardCharsets.US_ASCII));
     }
+
+    @Test
+    void addIntegers() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(7).add(-7).add(1234).add(-1234)
+                .add(Long.MIN_VALUE);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$1\r\n7\r\n" + "$2\r\n-7\r\n" + "$4\r\n1234\r\n"
+                + "$5\r\n-1234\r\n" + "$20\r\n-9223372036854775808\r\n");
+    }
+
+    @Test
+    void addKeyword() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).add(CommandKeyword.LIMIT)
+                .add(CommandType.GET);
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$5\r\nLIMIT\r\n" + "$3\r\nGET\r\n");
+    }
+
+    @Test
+    void addLargeValue() {
+
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            value.append('x');
+        }
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addValue(value.toString());
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$2000\r\n" + value + "\r\n");
+    }
+
+    @Test
+    void addKeyWithInaccurateSizeEstimate() {
+
+        StringCodec codec = new StringCodec(StandardCharsets.UTF_8) {
+
+            @Override
+            public int estimateSize(Object keyOrValue) {
+                return 1;
+            }
+        };
+
+        CommandArgs<String, String> args = new CommandArgs<>(codec).addKey("0123456789abc").addValue("v");
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII)).isEqualTo("$13\r\n0123456789abc\r\n" + "$1\r\nv\r\n");
+    }
+
+    @Test
+    void shouldReuseEncodedFirstKey() {
+
+        CommandArgs<String, String> args = new CommandArgs<>(StringCodec.UTF8).addKey("key").addValue("value");
+
+        ByteBuffer firstKey = args.getFirstEncodedKey();
+        firstKey.get();
+
+        assertThat(args.getFirstEncodedKey()).isEqualTo(ByteBuffer.wrap("key".getBytes()));
+
+        ByteBuf buffer = Unpooled.buffer();
+        args.encode(buffer);
+        args.encode(buffer);
+
+        assertThat(buffer.toString(StandardCharsets.US_ASCII))
+                .isEqualTo("$3\r\nkey\r\n$5\r\nvalue\r\n$3\r\nkey\r\n$5\r\nvalue\r\n");
+    }
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.RedisCommandTimeoutException;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.resource.ClientResources;
+import io.netty.util.concurrent.EventExecutorGroup;
+
+/**
+ * Unit tests for {@link CommandExpiryWriter}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class CommandExpiryWriterUnitTests {
+
+    @Mock
+    private RedisChannelWriter writer;
+
+    @Mock
+    private ClientResources clientResources;
+
+    @Mock
+    private EventExecutorGroup eventExecutors;
+
+    @BeforeEach
+    void before() {
+        when(clientResources.eventExecutorGroup()).thenReturn(eventExecutors);
+    }
+
+    @Test
+    void shouldScheduleSingleTaskForCommandsWithSameTimeout() {
+
+        CommandExpiryWriter sut = create(TimeoutOptions.enabled(Duration.ofMinutes(1)));
+
+        sut.write(command());
+        sut.write(command());
+        sut.write(Arrays.asList(command(), command()));
+
+        verify(eventExecutors, times(1)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+        assertThat(sut.getTimeoutQueueCount()).isEqualTo(1);
+        assertThat(sut.getTrackedCommandCount()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldExpireOverdueCommands() {
+
+        CommandExpiryWriter sut = create(TimeoutOptions.enabled(Duration.ofNanos(1)));
+
+        AsyncCommand<String, String, String> first = command();
+        AsyncCommand<String, String, String> second = command();
+        sut.write(first);
+        sut.write(second);
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventExecutors).schedule(captor.capture(), anyLong(), any(TimeUnit.class));
+
+        captor.getValue().run();
+
+        assertThat(first.isCompletedExceptionally()).isTrue();
+        assertThat(second.isCompletedExceptionally()).isTrue();
+        assertThatThrownBy(first::get).hasCauseInstanceOf(RedisCommandTimeoutException.class);
+        assertThat(sut.getTrackedCommandCount()).isZero();
+    }
+
+    @Test
+    void shouldRescheduleForOutstandingCommands() {
+
+        CommandExpiryWriter sut = create(TimeoutOptions.enabled(Duration.ofMinutes(1)));
+
+        AsyncCommand<String, String, String> first = command();
+        AsyncCommand<String, String, String> second = command();
+        sut.write(first);
+        sut.write(second);
+
+        first.complete();
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventExecutors).schedule(captor.capture(), anyLong(), any(TimeUnit.class));
+
+        captor.getValue().run();
+
+        assertThat(second.isDone()).isFalse();
+        assertThat(sut.getTrackedCommandCount()).isEqualTo(1);
+        verify(eventExecutors, times(2)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    void shouldDropCompletedCommandsOnWrite() {
+
+        CommandExpiryWriter sut = create(TimeoutOptions.enabled(Duration.ofMinutes(1)));
+
+        AsyncCommand<String, String, String> first = command();
+        AsyncCommand<String, String, String> second = command();
+        sut.write(first);
+        sut.write(second);
+
+        first.complete();
+        second.complete();
+
+        sut.write(command());
+
+        assertThat(sut.getTrackedCommandCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldPurgeCommandsCompletedOutOfOrder() {
+
+        CommandExpiryWriter sut = create(TimeoutOptions.enabled(Duration.ofMinutes(1)));
+
+        sut.write(command());
+
+        for (int i = 0; i < 10 * CommandExpiryWriter.MIN_PURGE_THRESHOLD; i++) {
+
+            AsyncCommand<String, String, String> command = command();
+            sut.write(command);
+            command.complete();
+        }
+
+        assertThat(sut.getTrackedCommandCount()).isLessThanOrEqualTo(CommandExpiryWriter.MIN_PURGE_THRESHOLD);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldNotRegisterCompletionCallbacks() {
+
+        CommandExpiryWriter sut = create(TimeoutOptions.enabled(Duration.ofMinutes(1)));
+
+        AsyncCommand<String, String, String> command = spy(command());
+        sut.write(command);
+
+        verify(command, never()).onComplete(any(BiConsumer.class));
+        verify(command, never()).onComplete(any(Consumer.class));
+    }
+
+    @Test
+    void shouldFallBackToScheduledTaskPerCommandForManyTimeouts() {
+
+        CommandExpiryWriter sut = create(TimeoutOptions.builder().timeoutCommands().timeoutSource(new TimeoutOptions.TimeoutSource() {
+
+            private long timeout = 1000;
+
+            @Override
+            public long getTimeout(RedisCommand<?, ?, ?> command) {
+                return timeout++;
+            }
+        }).build());
+
+        int commands = CommandExpiryWriter.MAX_TIMEOUT_QUEUES + 4;
+
+        for (int i = 0; i < commands; i++) {
+            sut.write(command());
+        }
+
+        assertThat(sut.getTimeoutQueueCount()).isEqualTo(CommandExpiryWriter.MAX_TIMEOUT_QUEUES);
+        assertThat(sut.getTrackedCommandCount()).isEqualTo(CommandExpiryWriter.MAX_TIMEOUT_QUEUES);
+        verify(eventExecutors, times(commands)).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+
+    private CommandExpiryWriter create(TimeoutOptions timeoutOptions) {
+        return new CommandExpiryWriter(writer, ClientOptions.builder().timeoutOptions(timeoutOptions).build(), clientResources);
+    }
+
+    private static AsyncCommand<String, String, String> command() {
+        return new AsyncCommand<>(new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8)));
+    }
+}
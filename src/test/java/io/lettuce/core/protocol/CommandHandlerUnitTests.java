@@ -24,8 +24,10 @@ import static org.mockito.Mockito.*;
 import java.io.IOException;
 import java.net.Inet4Address;
 import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -46,9 +48,13 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import io.lettuce.core.ClientOptions;
 import io.lettuce.core.RedisException;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.metrics.CommandLatencyCollector;
 import io.lettuce.core.output.StatusOutput;
+import io.lettuce.core.output.ValueListOutput;
+import io.lettuce.core.protocol.RedisStateMachineResp2UnitTests.DemandAwareCommand;
 import io.lettuce.core.resource.ClientResources;
 import io.lettuce.core.tracing.Tracing;
 import io.lettuce.test.Delay;
@@ -411,6 +417,37 @@ class CommandHandlerUnitTests {
         sut.channelUnregistered(context);
     }
 
+    @Test
+    void shouldFeedLatencyTracker() throws Exception {
+
+        when(latencyCollector.isEnabled()).thenReturn(false);
+
+        DefaultEndpoint endpoint = mock(DefaultEndpoint.class);
+        LatencyTracker tracker = new LatencyTracker();
+        when(endpoint.getLatencyTracker()).thenReturn(tracker);
+
+        sut = new CommandHandler(ClientOptions.create(), clientResources, endpoint);
+
+        ChannelPromise channelPromise = new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE);
+        channelPromise.setSuccess();
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        sut.write(context, command, channelPromise);
+        Delay.delay(Duration.ofMillis(10));
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("*1\r\n+OK\r\n".getBytes()));
+
+        assertThat(command.isDone()).isTrue();
+        assertThat(tracker.getSamples()).isEqualTo(1);
+        assertThat(tracker.getAverage()).isGreaterThanOrEqualTo(Duration.ofMillis(10).toNanos());
+        assertThat(tracker.getQueueDepth()).isZero();
+        verify(latencyCollector, never()).recordCommandLatency(any(), any(), any(), anyLong(), anyLong());
+
+        sut.channelUnregistered(context);
+    }
+
     @Test
     void shouldIgnoreNonReadableBuffers() throws Exception {
 
@@ -479,4 +516,97 @@ class CommandHandlerUnitTests {
         assertThat(internalBuffer.writerIndex()).isEqualTo(0);
         sut.channelUnregistered(context);
     }
+
+    @Test
+    void shouldDispatchPushMessages() throws Exception {
+
+        List<PushMessage> messages = new ArrayList<>();
+        Endpoint pushEndpoint = mock(Endpoint.class, withSettings().extraInterfaces(PushHandler.class));
+        when(((PushHandler) pushEndpoint).getPushListeners())
+                .thenReturn(Collections.<PushListener> singletonList(messages::add));
+
+        sut = new CommandHandler(ClientOptions.create(), clientResources, pushEndpoint);
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        Command<String, String, String> ping = new Command<>(CommandType.PING, new StatusOutput<>(StringCodec.UTF8));
+        sut.getStack().add(ping);
+
+        sut.channelRead(context, Unpooled.wrappedBuffer(
+                ">2\r\n$10\r\ninvalidate\r\n*1\r\n$3\r\nkey\r\n+PONG\r\n>2\r\n$10\r\ninval".getBytes()));
+
+        assertThat(ping.isDone()).isTrue();
+        assertThat(ping.get()).isEqualTo("PONG");
+        assertThat(messages).hasSize(1);
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("idate\r\n_\r\n".getBytes()));
+
+        assertThat(messages).hasSize(2);
+        assertThat(messages.get(0).getType()).isEqualTo("invalidate");
+        assertThat((List<Object>) messages.get(0).getContent().get(1))
+                .containsExactly(ByteBuffer.wrap("key".getBytes()));
+        assertThat(messages.get(1).getType()).isEqualTo("invalidate");
+        assertThat(messages.get(1).getContent()).hasSize(2).endsWith((Object) null);
+
+        sut.channelUnregistered(context);
+    }
+
+    @Test
+    void shouldResumeBufferedResponsesOnDemand() throws Exception {
+
+        AtomicBoolean autoRead = new AtomicBoolean(true);
+        doAnswer(invocation -> {
+            autoRead.set(invocation.getArgument(0));
+            return config;
+        }).when(config).setAutoRead(anyBoolean());
+        when(config.isAutoRead()).thenAnswer(invocation -> autoRead.get());
+        when(context.executor()).thenReturn(ImmediateEventExecutor.INSTANCE);
+
+        sut.channelRegistered(context);
+        sut.channelActive(context);
+
+        List<String> completed = new ArrayList<>();
+        ValueListOutput<String, String> output = new ValueListOutput<>(StringCodec.UTF8);
+        DemandAwareCommand lrange = new DemandAwareCommand(output) {
+
+            @Override
+            public void complete() {
+                super.complete();
+                completed.add("LRANGE");
+            }
+        };
+        Command<String, String, String> ping = new Command<String, String, String>(CommandType.PING,
+                new StatusOutput<>(StringCodec.UTF8)) {
+
+            @Override
+            public void complete() {
+                super.complete();
+                completed.add("PING");
+            }
+        };
+
+        sut.getStack().add(lrange);
+        sut.getStack().add(ping);
+
+        lrange.demand = false;
+
+        sut.channelRead(context, Unpooled.wrappedBuffer("*3\r\n$1\r\na\r\n$1\r\nb\r\n$1\r\nc\r\n+PONG\r\n".getBytes()));
+
+        assertThat(output.get()).containsExactly("a");
+        assertThat(completed).isEmpty();
+        assertThat(autoRead).isFalse();
+
+        lrange.demand = true;
+        sut.userEventTriggered(context, CommandHandler.EnableAutoRead.INSTANCE);
+
+        assertThat(output.get()).containsExactly("a", "b", "c");
+        assertThat(completed).containsExactly("LRANGE", "PING");
+        assertThat(ping.get()).isEqualTo("PONG");
+        assertThat(sut.getStack()).isEmpty();
+        assertThat(autoRead).isTrue();
+        verify(channel, never()).read();
+        verify(context, never()).read();
+
+        sut.channelUnregistered(context);
+    }
 }
@@ -17,14 +17,18 @@ package io.lettuce.core.protocol;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.channels.ClosedChannelException;
+import java.time.Duration;
 import java.util.Collection;
 import java.util.Queue;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.logging.log4j.Level;
@@ -47,6 +51,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import edu.umd.cs.mtc.MultithreadedTestCase;
 import edu.umd.cs.mtc.TestFramework;
 import io.lettuce.core.ClientOptions;
+import io.lettuce.core.FlushConsolidationOptions;
 import io.lettuce.core.RedisException;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.internal.LettuceFactories;
@@ -143,6 +148,135 @@ class DefaultEndpointUnitTests {
         verify(channel).writeAndFlush(command);
     }
 
+    @Test
+    void writeWithFlushConsolidationShouldFlushOnce() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+
+        ClientOptions clientOptions = ClientOptions.builder().flushConsolidationOptions(FlushConsolidationOptions.enabled())
+                .build();
+        sut = new DefaultEndpoint(clientOptions, clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+        sut.write(command);
+        sut.write(command);
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(captor.capture());
+        verify(channel, never()).write(any());
+
+        captor.getValue().run();
+
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isEqualTo(3);
+        verify(channel, times(3)).write(command);
+        verify(channel).flush();
+        verify(channel, never()).writeAndFlush(any());
+    }
+
+    @Test
+    void flushCommandsWithFlushConsolidationShouldFlushOnce() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+
+        ClientOptions clientOptions = ClientOptions.builder().flushConsolidationOptions(FlushConsolidationOptions.enabled())
+                .build();
+        sut = new DefaultEndpoint(clientOptions, clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+        sut.setAutoFlushCommands(false);
+
+        sut.write(command);
+        sut.write(command);
+
+        verify(eventLoop, never()).execute(any());
+
+        sut.flushCommands();
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(captor.capture());
+        verify(channel, never()).write(any());
+
+        captor.getValue().run();
+
+        assertThat(ConnectionTestUtil.getQueueSize(sut)).isEqualTo(2);
+        verify(channel, times(2)).write(command);
+        verify(channel).flush();
+    }
+
+    @Test
+    void writeWithFlushConsolidationShouldFlushPerBatch() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+
+        FlushConsolidationOptions options = FlushConsolidationOptions.builder().enabled().maxBatchSize(2).build();
+        sut = new DefaultEndpoint(ClientOptions.builder().flushConsolidationOptions(options).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        for (int i = 0; i < 5; i++) {
+            sut.write(command);
+        }
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).execute(captor.capture());
+
+        captor.getValue().run();
+
+        verify(channel, times(5)).write(command);
+        verify(channel, times(3)).flush();
+    }
+
+    @Test
+    void writeWithFlushConsolidationShouldScheduleDelayedFlush() {
+
+        EventLoop eventLoop = mock(EventLoop.class);
+        when(channel.isActive()).thenReturn(true);
+        when(channel.eventLoop()).thenReturn(eventLoop);
+
+        FlushConsolidationOptions options = FlushConsolidationOptions.builder().enabled().maxDelay(Duration.ofMillis(5))
+                .build();
+        sut = new DefaultEndpoint(ClientOptions.builder().flushConsolidationOptions(options).build(), clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+
+        sut.write(command);
+        sut.write(command);
+
+        ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(eventLoop).schedule(captor.capture(), eq(TimeUnit.MILLISECONDS.toNanos(5)), eq(TimeUnit.NANOSECONDS));
+        verify(eventLoop, never()).execute(any());
+        verify(channel, never()).write(any());
+
+        captor.getValue().run();
+
+        verify(channel, times(2)).write(command);
+        verify(channel).flush();
+    }
+
+    @Test
+    void shouldDefaultFlushConsolidationOptions() {
+
+        ClientOptions clientOptions = mock(ClientOptions.class);
+        when(clientOptions.getRequestQueueSize()).thenReturn(1000);
+        when(clientOptions.getDisconnectedBehavior()).thenReturn(ClientOptions.DisconnectedBehavior.DEFAULT);
+        when(channel.isActive()).thenReturn(true);
+
+        sut = new DefaultEndpoint(clientOptions, clientResources);
+        sut.setConnectionFacade(connectionFacade);
+        sut.notifyChannelActive(channel);
+        sut.write(command);
+
+        verify(channel).writeAndFlush(command);
+    }
+
     @Test
     void writeDisconnectedShouldBufferCommands() {
 
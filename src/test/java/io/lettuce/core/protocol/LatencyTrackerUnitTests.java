@@ -0,0 +1,151 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.protocol;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.assertj.core.data.Offset;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LatencyTracker}.
+ *
+ * @author Mark Paluch
+ */
+class LatencyTrackerUnitTests {
+
+    @Test
+    void shouldInitializeWithFirstSample() {
+
+        LatencyTracker sut = new LatencyTracker();
+
+        assertThat(sut.getAverage()).isZero();
+        assertThat(sut.getP99()).isZero();
+
+        sut.record(1000, 42);
+
+        assertThat(sut.getAverage()).isEqualTo(1000);
+        assertThat(sut.getP99()).isEqualTo(1000);
+        assertThat(sut.getSamples()).isEqualTo(1);
+        assertThat(sut.getLastUpdate()).isEqualTo(42);
+    }
+
+    @Test
+    void shouldConvergeAverage() {
+
+        LatencyTracker sut = new LatencyTracker();
+
+        sut.record(1000, 0);
+
+        for (int i = 0; i < 100; i++) {
+            sut.record(2000, i);
+        }
+
+        assertThat(sut.getAverage()).isCloseTo(2000, Offset.offset(1d));
+    }
+
+    @Test
+    void shouldEstimatePercentile() {
+
+        LatencyTracker sut = new LatencyTracker();
+        Random random = new Random(1);
+
+        // 98% of the samples at 100, 2% at 1000
+        for (int i = 0; i < 100_000; i++) {
+            sut.record(random.nextInt(100) < 2 ? 1000 : 100, i);
+        }
+
+        assertThat(sut.getAverage()).isBetween(100d, 1000d);
+        assertThat(sut.getP99()).isGreaterThan(500);
+
+        // 100% at 100
+        for (int i = 0; i < 100_000; i++) {
+            sut.record(100, i);
+        }
+
+        assertThat(sut.getP99()).isCloseTo(100, Offset.offset(1d));
+    }
+
+    @Test
+    void shouldEjectAndReset() {
+
+        LatencyTracker sut = new LatencyTracker();
+        sut.record(5000, 0);
+
+        sut.eject(100);
+
+        assertThat(sut.isEjected(50)).isTrue();
+        assertThat(sut.getSamples()).isZero();
+        assertThat(sut.getP99()).isZero();
+        assertThat(sut.isEjected(100)).isFalse();
+
+        sut.record(200, 101);
+
+        assertThat(sut.getAverage()).isEqualTo(200);
+        assertThat(sut.getP99()).isEqualTo(200);
+    }
+
+    @Test
+    void shouldNotClearRenewedEjection() {
+
+        LatencyTracker sut = new LatencyTracker();
+
+        sut.eject(100);
+        assertThat(sut.isEjected(150)).isFalse();
+
+        sut.eject(300);
+
+        assertThat(sut.isEjected(150)).isTrue();
+        assertThat(sut.isEjected(250)).isTrue();
+        assertThat(sut.isEjected(300)).isFalse();
+        assertThat(sut.isEjected(250)).isFalse();
+    }
+
+    @Test
+    void shouldCountConcurrentSamples() throws Exception {
+
+        LatencyTracker sut = new LatencyTracker();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+
+            for (int i = 0; i < 4; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < 10_000; j++) {
+                        sut.record(100, j);
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(sut.getSamples()).isEqualTo(40_000);
+    }
+}
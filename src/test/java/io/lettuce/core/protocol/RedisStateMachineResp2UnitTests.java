@@ -119,6 +119,41 @@ class RedisStateMachineResp2UnitTests {
         assertThat(buffer.readerIndex()).isEqualTo(4);
     }
 
+    @Test
+    void negativeInteger() {
+        CommandOutput<String, String, Long> output = new IntegerOutput<>(codec);
+        assertThat(rsm.decode(buffer(":-9223372036854775808\r\n"), output)).isTrue();
+        assertThat((long) output.get()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    void partialInteger() {
+        CommandOutput<String, String, Long> output = new IntegerOutput<>(codec);
+        ByteBuf buffer = buffer(":1234\r");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(buffer.readerIndex()).isEqualTo(1);
+
+        buffer.writeBytes("\n".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat((long) output.get()).isEqualTo(1234);
+    }
+
+    @Test
+    void indexOfLf() {
+
+        for (int position = 0; position < 20; position++) {
+
+            ByteBuf buffer = Unpooled.buffer(24);
+            for (int i = 0; i < 24; i++) {
+                buffer.writeByte(i == position || i == position + 3 ? '\n' : 'x');
+            }
+
+            assertThat(RedisStateMachine.indexOfLf(buffer, 0, buffer.writerIndex())).isEqualTo(position);
+            assertThat(RedisStateMachine.indexOfLf(buffer, position + 1, buffer.writerIndex())).isEqualTo(position + 3);
+            assertThat(RedisStateMachine.indexOfLf(buffer, 0, position)).isEqualTo(-1);
+        }
+    }
+
     @Test
     void bulk() {
         CommandOutput<String, String, String> output = new ValueOutput<>(codec);
@@ -170,6 +205,83 @@ class RedisStateMachineResp2UnitTests {
         assertThat(output.get().size()).isEqualTo(2);
     }
 
+    @Test
+    void zeroCopyBulk() {
+
+        RedisStateMachine rsm = new RedisStateMachine(ByteBufAllocator.DEFAULT, true);
+        CommandOutput<String, String, String> output = new ValueOutput<>(codec);
+
+        ByteBuf buffer = buffer("$3\r\nfoo\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foo");
+        assertThat(buffer.readerIndex()).isEqualTo(9);
+
+        rsm.close();
+    }
+
+    @Test
+    void zeroCopyPartialBulk() {
+
+        RedisStateMachine rsm = new RedisStateMachine(ByteBufAllocator.DEFAULT, true);
+        CommandOutput<String, String, String> output = new ValueOutput<>(codec);
+
+        ByteBuf buffer = buffer("$6\r\nfoo");
+        assertThat(rsm.decode(buffer, output)).isFalse();
+        assertThat(output.get()).isNull();
+
+        buffer.writeBytes("bar\r\n".getBytes(charset));
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo("foobar");
+
+        rsm.close();
+    }
+
+    @Test
+    void zeroCopyMulti() {
+
+        RedisStateMachine rsm = new RedisStateMachine(ByteBufAllocator.DEFAULT, true);
+        CommandOutput<String, String, List<String>> output = new ValueListOutput<>(codec);
+
+        ByteBuf buffer = buffer("*2\r\n$-1\r\n$2\r\nok\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get()).isEqualTo(Arrays.asList(null, "ok"));
+
+        rsm.close();
+    }
+
+    @Test
+    void zeroCopyFallsBackToByteBuffer() {
+
+        RedisStateMachine rsm = new RedisStateMachine(ByteBufAllocator.DEFAULT, true);
+        CommandOutput<String, String, List<Object>> output = new NestedMultiOutput<>(codec);
+
+        ByteBuf buffer = buffer("*2\r\n$2\r\nAB\r\n*1\r\n$2\r\nXY\r\n");
+        assertThat(rsm.decode(buffer, output)).isTrue();
+        assertThat(output.get().get(0)).isEqualTo("AB");
+        assertThat(output.get().get(1)).isEqualTo(Collections.singletonList("XY"));
+
+        rsm.close();
+    }
+
+    @Test
+    void shouldPauseMultiBulkDecodingWithoutDemand() {
+
+        ValueListOutput<String, String> output = new ValueListOutput<>(codec);
+        DemandAwareCommand command = new DemandAwareCommand(output);
+        ByteBuf buffer = buffer("*3\r\n$1\r\na\r\n$1\r\nb\r\n$1\r\nc\r\n");
+
+        command.demand = false;
+
+        assertThat(rsm.decode(buffer, new LatencyMeteredCommand<>(command), output)).isFalse();
+        assertThat(output.get()).containsExactly("a");
+        assertThat(buffer.isReadable()).isTrue();
+
+        command.demand = true;
+
+        assertThat(rsm.decode(buffer, new LatencyMeteredCommand<>(command), output)).isTrue();
+        assertThat(output.get()).containsExactly("a", "b", "c");
+    }
+
     @Test
     void partialFirstLine() {
         assertThat(rsm.decode(buffer("+"), output)).isFalse();
@@ -192,4 +304,26 @@ class RedisStateMachineResp2UnitTests {
     ByteBuf buffer(String content) {
         return Unpooled.copiedBuffer(content, charset);
     }
+
+    static class DemandAwareCommand extends Command<String, String, List<String>> implements DemandAware.Sink {
+
+        volatile boolean demand = true;
+
+        DemandAwareCommand(CommandOutput<String, String, List<String>> output) {
+            super(CommandType.LRANGE, output);
+        }
+
+        @Override
+        public boolean hasDemand() {
+            return demand;
+        }
+
+        @Override
+        public void setSource(DemandAware.Source source) {
+        }
+
+        @Override
+        public void removeSource() {
+        }
+    }
 }
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.pubsub;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.PubSubDispatchOptions;
+import io.lettuce.core.PubSubDispatchOptions.OverflowPolicy;
+import io.lettuce.core.RedisException;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.test.resource.TestClientResources;
+
+/**
+ * Unit tests for {@link PubSubDispatcher}.
+ *
+ * @author Mark Paluch
+ */
+class PubSubDispatcherUnitTests {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+
+    private final List<String> received = new ArrayList<>();
+
+    @Test
+    void shouldDispatchOnExecutorInOrder() {
+
+        PubSubDispatcher<String, String> sut = createDispatcher(OverflowPolicy.BLOCK, 16);
+
+        sut.dispatch(createMessage("channel1", "1"));
+        sut.dispatch(createMessage("channel1", "2"));
+        sut.dispatch(createMessage("channel2", "3"));
+
+        assertThat(received).isEmpty();
+        assertThat(tasks).hasSize(2);
+        assertThat(sut.getQueueDepth()).isEqualTo(3);
+
+        runTasks();
+
+        assertThat(received).containsExactly("channel1:1", "channel1:2", "channel2:3");
+        assertThat(sut.getQueueDepth()).isZero();
+        assertThat(sut.getDroppedMessages()).isZero();
+    }
+
+    @Test
+    void shouldDropOldestMessages() {
+
+        PubSubDispatcher<String, String> sut = createDispatcher(OverflowPolicy.DROP_OLDEST, 2);
+
+        sut.dispatch(createMessage("channel1", "1"));
+        sut.dispatch(createMessage("channel1", "2"));
+        sut.dispatch(createMessage("channel1", "3"));
+
+        runTasks();
+
+        assertThat(received).containsExactly("channel1:2", "channel1:3");
+        assertThat(sut.getDroppedMessages()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailOnOverflow() {
+
+        PubSubDispatcher<String, String> sut = createDispatcher(OverflowPolicy.FAIL, 1);
+
+        sut.dispatch(createMessage("channel1", "1"));
+
+        assertThatThrownBy(() -> sut.dispatch(createMessage("channel1", "2"))).isInstanceOf(RedisException.class);
+
+        runTasks();
+
+        assertThat(received).containsExactly("channel1:1");
+        assertThat(sut.getDroppedMessages()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRemoveQueueAfterUnsubscribe() {
+
+        PubSubDispatcher<String, String> sut = createDispatcher(OverflowPolicy.BLOCK, 16);
+
+        sut.dispatch(createMessage("subscribe", "channel1", "1"));
+        sut.dispatch(createMessage("channel1", "1"));
+        sut.dispatch(createMessage("unsubscribe", "channel1", "0"));
+
+        assertThat(sut.getQueueCount()).isEqualTo(1);
+
+        runTasks();
+
+        assertThat(sut.getQueueCount()).isZero();
+    }
+
+    @Test
+    void shouldRetainOrderWhileQueuesAreRemovedConcurrently() throws Exception {
+
+        int cycles = 5000;
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        PubSubDispatchOptions options = PubSubDispatchOptions.builder().asyncDispatch().overflowPolicy(OverflowPolicy.BLOCK)
+                .queueCapacity(16).build();
+
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger last = new AtomicInteger(-1);
+        List<String> violations = new CopyOnWriteArrayList<>();
+        CountDownLatch latch = new CountDownLatch(cycles * 2);
+
+        PubSubEndpoint<String, String> endpoint = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+        endpoint.addListener(new RedisPubSubAdapter<String, String>() {
+
+            @Override
+            public void message(String channel, String message) {
+
+                if (inFlight.incrementAndGet() != 1) {
+                    violations.add("concurrent dispatch of " + message);
+                }
+
+                int current = Integer.parseInt(message);
+                if (last.getAndSet(current) >= current) {
+                    violations.add("out of order " + message);
+                }
+
+                inFlight.decrementAndGet();
+                latch.countDown();
+            }
+        });
+
+        PubSubDispatcher<String, String> sut = new PubSubDispatcher<>(endpoint, executor, options);
+
+        try {
+            for (int i = 0; i < cycles; i++) {
+                sut.dispatch(createMessage("subscribe", "channel1", "1"));
+                sut.dispatch(createMessage("channel1", Integer.toString(i * 2)));
+                sut.dispatch(createMessage("unsubscribe", "channel1", "0"));
+                sut.dispatch(createMessage("channel1", Integer.toString(i * 2 + 1)));
+            }
+
+            assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            assertThat(violations).isEmpty();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void endpointShouldDispatchAsynchronously() throws InterruptedException {
+
+        ClientOptions options = ClientOptions.builder().pubSubDispatchOptions(PubSubDispatchOptions.async()).build();
+        PubSubEndpoint<String, String> endpoint = new PubSubEndpoint<>(options, TestClientResources.get());
+
+        CountDownLatch latch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+
+        endpoint.addListener(new RedisPubSubAdapter<String, String>() {
+
+            @Override
+            public void message(String channel, String message) {
+                threads.add(Thread.currentThread());
+                latch.countDown();
+            }
+        });
+
+        endpoint.notifyMessage(createMessage("channel1", "1"));
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).doesNotContain(Thread.currentThread());
+        assertThat(endpoint.getDispatchMetrics()).isInstanceOf(PubSubDispatcher.class);
+    }
+
+    private PubSubDispatcher<String, String> createDispatcher(OverflowPolicy policy, int capacity) {
+
+        PubSubDispatchOptions options = PubSubDispatchOptions.builder().asyncDispatch().overflowPolicy(policy)
+                .queueCapacity(capacity).build();
+
+        PubSubEndpoint<String, String> endpoint = new PubSubEndpoint<>(ClientOptions.create(), TestClientResources.get());
+        endpoint.addListener(new RedisPubSubAdapter<String, String>() {
+
+            @Override
+            public void message(String channel, String message) {
+                received.add(channel + ":" + message);
+            }
+        });
+
+        return new PubSubDispatcher<>(endpoint, tasks::add, options);
+    }
+
+    private void runTasks() {
+
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+    }
+
+    private static PubSubOutput<String, String, String> createMessage(String channel, String message) {
+        return createMessage("message", channel, message);
+    }
+
+    private static PubSubOutput<String, String, String> createMessage(String action, String channel, String message) {
+
+        PubSubOutput<String, String, String> output = new PubSubOutput<>(StringCodec.UTF8);
+
+        output.set(ByteBuffer.wrap(action.getBytes()));
+        output.set(ByteBuffer.wrap(channel.getBytes()));
+
+        if (action.equals("message")) {
+            output.set(ByteBuffer.wrap(message.getBytes()));
+        } else {
+            output.set(Long.parseLong(message));
+        }
+
+        return output;
+    }
+}
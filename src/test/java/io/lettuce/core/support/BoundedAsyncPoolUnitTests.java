@@ -17,8 +17,10 @@ package io.lettuce.core.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -290,4 +292,197 @@ class BoundedAsyncPoolUnitTests {
         assertThat(pool.getObjectCount()).isZero();
         assertThat(pool.getCreationInProgress()).isZero();
     }
+
+    @Test
+    void shouldServeWaitersInOrder() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWaiters(2).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+
+        CompletableFuture<String> waiter1 = pool.acquire();
+        CompletableFuture<String> waiter2 = pool.acquire();
+
+        assertThat(waiter1).isNotDone();
+        assertThat(waiter2).isNotDone();
+        assertThat(pool.getWaiters()).isEqualTo(2);
+        assertThat(pool.acquire()).isCompletedExceptionally();
+
+        pool.release(object);
+
+        assertThat(waiter1).isCompletedWithValue("1");
+        assertThat(waiter2).isNotDone();
+
+        pool.release(waiter1.join());
+
+        assertThat(waiter2).isCompletedWithValue("1");
+        assertThat(pool.getWaiters()).isZero();
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldServeWaiterWithNewObjectAfterDestroy() {
+
+        AtomicInteger validations = new AtomicInteger();
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+                return STRING_OBJECT_FACTORY.create();
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                validations.incrementAndGet();
+                return CompletableFuture.completedFuture(false);
+            }
+        }, BoundedPoolConfig.builder().maxTotal(1).maxWaiters(1).testOnRelease().build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.release(object);
+
+        assertThat(validations).hasValue(1);
+        assertThat(destroyed).containsOnly("1");
+        assertThat(waiter).isCompletedWithValue("2");
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldSkipCancelledWaiters() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWaiters(2).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+
+        CompletableFuture<String> waiter1 = pool.acquire();
+        CompletableFuture<String> waiter2 = pool.acquire();
+        waiter1.cancel(false);
+
+        pool.release(object);
+
+        assertThat(waiter2).isCompletedWithValue("1");
+        assertThat(pool.getIdle()).isZero();
+    }
+
+    @Test
+    void shouldTimeOutWaiters() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWaiters(1).maxWait(Duration.ofMillis(10)).build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        Throwable error = TestFutures.getOrTimeout(waiter.handle((s, t) -> t));
+
+        assertThat(error).isInstanceOf(NoSuchElementException.class);
+        assertThat(pool.getWaiters()).isZero();
+
+        pool.release(object);
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldFailWaitersOnClose() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().maxTotal(1)
+                .maxWaiters(1).build());
+
+        TestFutures.awaitOrTimeout(pool.acquire());
+        CompletableFuture<String> waiter = pool.acquire();
+
+        pool.close();
+
+        assertThat(waiter).isCompletedExceptionally();
+        assertThat(pool.getWaiters()).isZero();
+    }
+
+    @Test
+    void shouldEvictIdleObjectsRetainingMinIdle() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().minIdle(1)
+                .minEvictableIdleTime(Duration.ZERO).build());
+
+        List<String> objects = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            objects.add(TestFutures.getOrTimeout(pool.acquire()));
+        }
+        objects.forEach(pool::release);
+
+        assertThat(pool.getIdle()).isEqualTo(4);
+
+        pool.evict();
+
+        assertThat(pool.getIdle()).isEqualTo(1);
+        assertThat(pool.getObjectCount()).isEqualTo(1);
+        assertThat(destroyed).hasSize(3);
+    }
+
+    @Test
+    void shouldRestoreMinIdleOnEviction() {
+
+        BoundedAsyncPool<String> pool = new BoundedAsyncPool<>(STRING_OBJECT_FACTORY, BoundedPoolConfig.builder().minIdle(2)
+                .build());
+
+        String object = TestFutures.getOrTimeout(pool.acquire());
+        pool.clear();
+
+        assertThat(pool.getIdle()).isZero();
+
+        pool.evict();
+
+        assertThat(pool.getIdle()).isEqualTo(2);
+        assertThat(pool.getObjectCount()).isEqualTo(3);
+
+        pool.release(object);
+    }
+
+    @Test
+    void shouldValidateOnlyAfterIdleTime() {
+
+        AtomicInteger validations = new AtomicInteger();
+        AsyncObjectFactory<String> factory = new AsyncObjectFactory<String>() {
+
+            @Override
+            public CompletableFuture<String> create() {
+                return STRING_OBJECT_FACTORY.create();
+            }
+
+            @Override
+            public CompletableFuture<Void> destroy(String object) {
+                return STRING_OBJECT_FACTORY.destroy(object);
+            }
+
+            @Override
+            public CompletableFuture<Boolean> validate(String object) {
+                validations.incrementAndGet();
+                return CompletableFuture.completedFuture(true);
+            }
+        };
+
+        BoundedAsyncPool<String> recent = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().testOnAcquire()
+                .validationIdleTime(Duration.ofHours(1)).build());
+
+        recent.release(TestFutures.getOrTimeout(recent.acquire()));
+        TestFutures.awaitOrTimeout(recent.acquire());
+
+        assertThat(validations).hasValue(0);
+
+        BoundedAsyncPool<String> always = new BoundedAsyncPool<>(factory, BoundedPoolConfig.builder().testOnAcquire().build());
+
+        always.release(TestFutures.getOrTimeout(always.acquire()));
+        TestFutures.awaitOrTimeout(always.acquire());
+
+        assertThat(validations).hasValue(1);
+    }
 }
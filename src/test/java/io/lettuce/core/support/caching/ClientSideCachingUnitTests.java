@@ -0,0 +1,294 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisChannelWriter;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.CommandExpiryWriter;
+import io.lettuce.core.protocol.DefaultEndpoint;
+import io.lettuce.core.protocol.RedisCommand;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.Tracing;
+
+/**
+ * Unit tests for {@link ClientSideCaching}.
+ *
+ * @author Mark Paluch
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ClientSideCachingUnitTests {
+
+    @Mock
+    StatefulRedisConnection<String, String> connection;
+
+    @Mock
+    RedisCommands<String, String> commands;
+
+    private ClientSideCaching<String, String> caching;
+
+    private PushListener listener;
+
+    @BeforeEach
+    void before() {
+
+        when(connection.sync()).thenReturn(commands);
+        when(connection.isOpen()).thenReturn(true);
+
+        caching = (ClientSideCaching<String, String>) ClientSideCaching.enable(connection, StringCodec.UTF8,
+                ClientSideCachingOptions.create());
+
+        ArgumentCaptor<PushListener> captor = ArgumentCaptor.forClass(PushListener.class);
+        verify(connection).addListener(captor.capture());
+        listener = captor.getValue();
+    }
+
+    @Test
+    void shouldEnableTracking() {
+        verify(commands).clientTracking(any(TrackingArgs.class));
+    }
+
+    @Test
+    void shouldCacheLoadedValue() {
+
+        when(commands.get("key")).thenReturn("value");
+
+        assertThat(caching.get("key")).isEqualTo("value");
+        assertThat(caching.get("key")).isEqualTo("value");
+
+        verify(commands, times(1)).get("key");
+        assertThat(caching.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldCacheAbsentValue() {
+
+        assertThat(caching.get("key")).isNull();
+        assertThat(caching.get("key")).isNull();
+
+        verify(commands, times(1)).get("key");
+    }
+
+    @Test
+    void shouldCacheHashField() {
+
+        when(commands.hget("key", "field")).thenReturn("value");
+
+        assertThat(caching.hget("key", "field")).isEqualTo("value");
+        assertThat(caching.hget("key", "field")).isEqualTo("value");
+
+        verify(commands, times(1)).hget("key", "field");
+    }
+
+    @Test
+    void shouldLoadOnlyMissingKeysForMget() {
+
+        when(commands.get("a")).thenReturn("1");
+        when(commands.mget("b", "c")).thenReturn(Arrays.asList(KeyValue.just("b", "2"), KeyValue.empty("c")));
+
+        caching.get("a");
+
+        List<KeyValue<String, String>> result = caching.mget("a", "b", "c");
+
+        assertThat(result).containsExactly(KeyValue.just("a", "1"), KeyValue.just("b", "2"), KeyValue.empty("c"));
+        assertThat(caching.size()).isEqualTo(3);
+
+        caching.mget("a", "b", "c");
+        verify(commands, times(1)).mget("b", "c");
+    }
+
+    @Test
+    void shouldInvalidateKey() {
+
+        when(commands.get("key")).thenReturn("value", "updated");
+
+        caching.get("key");
+        listener.onPushMessage(invalidate("key"));
+
+        assertThat(caching.size()).isZero();
+        assertThat(caching.get("key")).isEqualTo("updated");
+        verify(commands, times(2)).get("key");
+    }
+
+    @Test
+    void shouldFlushOnNullInvalidation() {
+
+        when(commands.get(any())).thenReturn("value");
+
+        caching.get("a");
+        caching.get("b");
+        listener.onPushMessage(message("invalidate", Arrays.asList("invalidate".getBytes(), null)));
+
+        assertThat(caching.size()).isZero();
+    }
+
+    @Test
+    void shouldIgnoreOtherPushMessages() {
+
+        when(commands.get("key")).thenReturn("value");
+
+        caching.get("key");
+        listener.onPushMessage(message("message", Arrays.asList("message", "channel", "payload")));
+
+        assertThat(caching.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotStoreValueInvalidatedWhileLoading() {
+
+        when(commands.get("key")).thenAnswer(invocation -> {
+            listener.onPushMessage(invalidate("key"));
+            return "stale";
+        });
+
+        assertThat(caching.get("key")).isEqualTo("stale");
+        assertThat(caching.size()).isZero();
+    }
+
+    @Test
+    void shouldNotStoreMgetValuesInvalidatedWhileLoading() {
+
+        when(commands.mget("a", "b")).thenAnswer(invocation -> {
+            listener.onPushMessage(invalidate("a"));
+            return Arrays.asList(KeyValue.just("a", "1"), KeyValue.just("b", "2"));
+        });
+
+        caching.mget("a", "b");
+
+        assertThat(caching.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheWhenDisconnected() {
+
+        when(commands.get("key")).thenReturn("value");
+        caching.get("key");
+
+        when(connection.isOpen()).thenReturn(false);
+
+        assertThat(caching.get("key")).isEqualTo("value");
+        assertThat(caching.size()).isZero();
+        verify(commands, times(2)).get("key");
+    }
+
+    @Test
+    void closeShouldDisableTracking() {
+
+        when(commands.get("key")).thenReturn("value");
+        caching.get("key");
+
+        caching.close();
+
+        verify(connection).removeListener(listener);
+        verify(commands, times(2)).clientTracking(any(TrackingArgs.class));
+        assertThat(caching.size()).isZero();
+    }
+
+    @Test
+    void shouldRejectConnectionWithoutPushHandler() {
+
+        RedisChannelWriter writer = mock(RedisChannelWriter.class);
+        ClientResources clientResources = clientResources();
+        when(writer.getClientResources()).thenReturn(clientResources);
+
+        StatefulRedisConnectionImpl<String, String> connection = new StatefulRedisConnectionImpl<>(writer,
+                StringCodec.UTF8, Duration.ofMinutes(1));
+
+        ClientSideCachingOptions options = ClientSideCachingOptions.create();
+
+        assertThatThrownBy(() -> ClientSideCaching.enable(connection, StringCodec.UTF8, options))
+                .isInstanceOf(UnsupportedOperationException.class);
+        verify(writer, never()).write(any(RedisCommand.class));
+    }
+
+    @Test
+    void shouldRegisterListenerThroughDecoratedWriter() {
+
+        DefaultEndpoint endpoint = mock(DefaultEndpoint.class);
+        ClientResources clientResources = clientResources();
+        when(endpoint.getClientResources()).thenReturn(clientResources);
+
+        CommandExpiryWriter writer = new CommandExpiryWriter(endpoint,
+                ClientOptions.builder().timeoutOptions(TimeoutOptions.enabled()).build(), clientResources);
+        StatefulRedisConnectionImpl<String, String> connection = new StatefulRedisConnectionImpl<>(writer,
+                StringCodec.UTF8, Duration.ofMinutes(1));
+
+        PushListener pushListener = message -> {
+        };
+        connection.addListener(pushListener);
+
+        verify(endpoint).addListener(pushListener);
+    }
+
+    private static ClientResources clientResources() {
+
+        ClientResources clientResources = mock(ClientResources.class);
+        when(clientResources.tracing()).thenReturn(Tracing.disabled());
+
+        return clientResources;
+    }
+
+    private static PushMessage invalidate(String key) {
+        return message("invalidate", Arrays.asList("invalidate".getBytes(),
+                Collections.singletonList(ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8)))));
+    }
+
+    private static PushMessage message(String type, List<Object> content) {
+
+        return new PushMessage() {
+
+            @Override
+            public String getType() {
+                return type;
+            }
+
+            @Override
+            public List<Object> getContent() {
+                return content;
+            }
+        };
+    }
+}
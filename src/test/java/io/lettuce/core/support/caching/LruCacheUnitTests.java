@@ -0,0 +1,112 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.support.caching;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link LruCache}.
+ *
+ * @author Mark Paluch
+ */
+class LruCacheUnitTests {
+
+    private final AtomicLong time = new AtomicLong();
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+
+        LruCache cache = new LruCache(2, 0, time::get);
+
+        cache.put(key("a"), "1");
+        cache.put(key("b"), "2");
+
+        assertThat(cache.get(key("a"))).isEqualTo("1");
+
+        cache.put(key("c"), "3");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get(key("a"))).isEqualTo("1");
+        assertThat(cache.get(key("b"))).isNull();
+        assertThat(cache.get(key("c"))).isEqualTo("3");
+    }
+
+    @Test
+    void shouldCountHashFields() {
+
+        LruCache cache = new LruCache(3, 0, time::get);
+
+        cache.put(key("h"), key("f1"), "1");
+        cache.put(key("h"), key("f2"), "2");
+        cache.put(key("a"), "1");
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.get(key("h"), key("f1"))).isEqualTo("1");
+
+        cache.put(key("b"), "2");
+
+        assertThat(cache.get(key("a"))).isNull();
+        assertThat(cache.get(key("h"), key("f2"))).isEqualTo("2");
+
+        cache.remove(key("h"));
+
+        assertThat(cache.get(key("h"), key("f1"))).isNull();
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldExpireEntries() {
+
+        LruCache cache = new LruCache(10, 100, time::get);
+
+        cache.put(key("a"), "1");
+        cache.put(key("h"), key("f"), "1");
+        time.addAndGet(99);
+
+        assertThat(cache.get(key("a"))).isEqualTo("1");
+        assertThat(cache.get(key("h"), key("f"))).isEqualTo("1");
+
+        time.addAndGet(1);
+
+        assertThat(cache.get(key("a"))).isNull();
+        assertThat(cache.get(key("h"), key("f"))).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldClear() {
+
+        LruCache cache = new LruCache(10, 0, time::get);
+
+        cache.put(key("a"), "1");
+        cache.put(key("h"), key("f"), "1");
+        cache.clear();
+
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(key("a"))).isNull();
+    }
+
+    private static ByteBuffer key(String key) {
+        return ByteBuffer.wrap(key.getBytes(StandardCharsets.US_ASCII));
+    }
+
+}
@@ -21,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 
 import io.lettuce.core.api.StatefulRedisConnection;
 import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.push.PushListener;
 import io.lettuce.core.api.reactive.RedisReactiveCommands;
 import io.lettuce.core.api.sync.RedisCommands;
 import io.lettuce.core.protocol.ConnectionFacade;
@@ -58,6 +59,19 @@ public class EmptyStatefulRedisConnection extends RedisChannelHandler implements
         return null;
     }
 
+    @Override
+    public TransactionBuilder transaction() {
+        return null;
+    }
+
+    @Override
+    public void addListener(PushListener listener) {
+    }
+
+    @Override
+    public void removeListener(PushListener listener) {
+    }
+
     @Override
     public void close() {
     }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.io.Closeable;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+/**
+ * In-process RESP2 server stub to benchmark full request/response round-trips without a Redis deployment. The stub keeps
+ * string values in memory and understands the commands required by {@link RedisClient} and
+ * {@link io.lettuce.core.cluster.RedisClusterClient} to connect (including topology discovery, the stub reports itself as the
+ * single master serving all slots) and {@code PING}, {@code GET}, {@code SET}, {@code MGET} and {@code DEL}. Other commands
+ * are answered with {@code +OK}.
+ *
+ * @author Mark Paluch
+ */
+public class RespServerStub implements Closeable {
+
+    private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final String NODE_ID = "e7d1eecce10fd6bb5eb35b9f99a514335d9ba9ca";
+
+    private final EventLoopGroup bossGroup;
+
+    private final EventLoopGroup workerGroup;
+
+    private final Map<ByteBuffer, byte[]> data = new ConcurrentHashMap<>();
+
+    private final Channel channel;
+
+    private final int port;
+
+    private RespServerStub(int workerThreads) throws InterruptedException {
+
+        this.bossGroup = new NioEventLoopGroup(1, new DefaultThreadFactory("resp-stub-boss", true));
+        this.workerGroup = new NioEventLoopGroup(workerThreads, new DefaultThreadFactory("resp-stub-worker", true));
+
+        ServerBootstrap bootstrap = new ServerBootstrap().group(bossGroup, workerGroup).channel(NioServerSocketChannel.class)
+                .childOption(ChannelOption.TCP_NODELAY, true).childHandler(new ChannelInitializer<SocketChannel>() {
+
+                    @Override
+                    protected void initChannel(SocketChannel ch) {
+                        ch.pipeline().addLast(new RespCommandDecoder(), new RespCommandHandler());
+                    }
+                });
+
+        this.channel = bootstrap.bind("127.0.0.1", 0).sync().channel();
+        this.port = ((InetSocketAddress) channel.localAddress()).getPort();
+    }
+
+    /**
+     * Start a new stub listening on an ephemeral port on the loopback interface.
+     *
+     * @return the running stub.
+     */
+    public static RespServerStub create() {
+
+        try {
+            return new RespServerStub(2);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public RedisURI getRedisURI() {
+        return RedisURI.create("127.0.0.1", port);
+    }
+
+    @Override
+    public void close() {
+
+        channel.close().syncUninterruptibly();
+        workerGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly();
+        bossGroup.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS).syncUninterruptibly();
+    }
+
+    /**
+     * Decodes RESP arrays of bulk strings into {@code List<byte[]>}.
+     */
+    static class RespCommandDecoder extends ByteToMessageDecoder {
+
+        @Override
+        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) {
+
+            while (in.isReadable()) {
+
+                in.markReaderIndex();
+                List<byte[]> command = decodeCommand(in);
+
+                if (command == null) {
+                    in.resetReaderIndex();
+                    return;
+                }
+
+                out.add(command);
+            }
+        }
+
+        private static List<byte[]> decodeCommand(ByteBuf in) {
+
+            long count = readHeader(in, '*');
+            if (count < 0) {
+                return null;
+            }
+
+            List<byte[]> command = new ArrayList<>((int) count);
+
+            for (int i = 0; i < count; i++) {
+
+                long length = readHeader(in, '$');
+                if (length < 0 || in.readableBytes() < length + 2) {
+                    return null;
+                }
+
+                byte[] bytes = new byte[(int) length];
+                in.readBytes(bytes);
+                in.skipBytes(2);
+                command.add(bytes);
+            }
+
+            return command;
+        }
+
+        private static long readHeader(ByteBuf in, char type) {
+
+            int lf = in.indexOf(in.readerIndex(), in.writerIndex(), (byte) '\n');
+
+            if (lf < 0) {
+                return -1;
+            }
+
+            if (in.readByte() != type) {
+                throw new IllegalStateException("Expected RESP type " + type);
+            }
+
+            long value = 0;
+            while (in.readerIndex() < lf - 1) {
+                value = value * 10 + (in.readByte() - '0');
+            }
+
+            in.readerIndex(lf + 1);
+            return value;
+        }
+    }
+
+    /**
+     * Responds to decoded commands. Responses are flushed once per read batch so pipelined requests receive pipelined
+     * responses.
+     */
+    class RespCommandHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+
+            List<byte[]> command = (List<byte[]>) msg;
+            String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase();
+
+            switch (name) {
+                case "PING":
+                    simpleString(ctx, "PONG");
+                    break;
+                case "GET":
+                    bulkString(ctx, data.get(ByteBuffer.wrap(command.get(1))));
+                    break;
+                case "SET":
+                    data.put(ByteBuffer.wrap(command.get(1)), command.get(2));
+                    simpleString(ctx, "OK");
+                    break;
+                case "MGET":
+                    arrayHeader(ctx, command.size() - 1);
+                    for (int i = 1; i < command.size(); i++) {
+                        bulkString(ctx, data.get(ByteBuffer.wrap(command.get(i))));
+                    }
+                    break;
+                case "DEL":
+                    long removed = 0;
+                    for (int i = 1; i < command.size(); i++) {
+                        if (data.remove(ByteBuffer.wrap(command.get(i))) != null) {
+                            removed++;
+                        }
+                    }
+                    integer(ctx, removed);
+                    break;
+                case "HELLO":
+                    error(ctx, "ERR unknown command 'HELLO'");
+                    break;
+                case "COMMAND":
+                    arrayHeader(ctx, 0);
+                    break;
+                case "INFO":
+                    bulkString(ctx, "# Clients\r\nconnected_clients:1\r\n");
+                    break;
+                case "CLIENT":
+                    client(ctx, command);
+                    break;
+                case "CLUSTER":
+                    cluster(ctx, command);
+                    break;
+                default:
+                    simpleString(ctx, "OK");
+            }
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            ctx.flush();
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            ctx.close();
+        }
+
+        private void client(ChannelHandlerContext ctx, List<byte[]> command) {
+
+            String subcommand = new String(command.get(1), StandardCharsets.US_ASCII).toUpperCase();
+
+            if (subcommand.equals("LIST")) {
+                bulkString(ctx, "id=1 addr=127.0.0.1:1 fd=1 name= age=0 idle=0 flags=N db=0 cmd=client\n");
+            } else {
+                simpleString(ctx, "OK");
+            }
+        }
+
+        private void cluster(ChannelHandlerContext ctx, List<byte[]> command) {
+
+            String subcommand = new String(command.get(1), StandardCharsets.US_ASCII).toUpperCase();
+
+            switch (subcommand) {
+                case "NODES":
+                    bulkString(ctx, String.format("%s 127.0.0.1:%d@%d myself,master - 0 0 1 connected 0-16383%n", NODE_ID,
+                            port, port + 10000));
+                    break;
+                case "MYID":
+                    bulkString(ctx, NODE_ID);
+                    break;
+                default:
+                    simpleString(ctx, "OK");
+            }
+        }
+
+        private void simpleString(ChannelHandlerContext ctx, String value) {
+            ctx.write(ctx.alloc().buffer(value.length() + 3).writeByte('+').writeBytes(value.getBytes(StandardCharsets.US_ASCII))
+                    .writeBytes(CRLF));
+        }
+
+        private void error(ChannelHandlerContext ctx, String value) {
+            ctx.write(ctx.alloc().buffer(value.length() + 3).writeByte('-').writeBytes(value.getBytes(StandardCharsets.US_ASCII))
+                    .writeBytes(CRLF));
+        }
+
+        private void integer(ChannelHandlerContext ctx, long value) {
+            header(ctx, ':', value);
+        }
+
+        private void arrayHeader(ChannelHandlerContext ctx, long count) {
+            header(ctx, '*', count);
+        }
+
+        private void bulkString(ChannelHandlerContext ctx, String value) {
+            bulkString(ctx, value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void bulkString(ChannelHandlerContext ctx, byte[] value) {
+
+            if (value == null) {
+                header(ctx, '$', -1);
+                return;
+            }
+
+            header(ctx, '$', value.length);
+            ctx.write(Unpooled.wrappedBuffer(Unpooled.wrappedBuffer(value), Unpooled.wrappedBuffer(CRLF)));
+        }
+
+        private void header(ChannelHandlerContext ctx, char type, long value) {
+
+            byte[] digits = Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+            ctx.write(ctx.alloc().buffer(digits.length + 3).writeByte(type).writeBytes(digits).writeBytes(CRLF));
+        }
+    }
+}
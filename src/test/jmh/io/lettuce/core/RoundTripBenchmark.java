@@ -0,0 +1,183 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import reactor.core.publisher.Flux;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.internal.LettuceAssert;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.lettuce.core.resource.EpollProvider;
+import io.lettuce.core.resource.IOUringProvider;
+
+/**
+ * End-to-end round-trip benchmark for {@link RedisClient} against the in-process {@link RespServerStub}. Measures throughput
+ * and latency percentiles ({@link Mode#SampleTime}) of the full client path (encoding, channel I/O, decoding, completion) for
+ * the synchronous, asynchronous and reactive API.
+ * <p>
+ * Each invocation issues {@code pipelineDepth} commands: asynchronous and reactive benchmarks pipeline the commands and await
+ * all responses, synchronous benchmarks execute them one after another. {@code payloadSize} determines the value size.
+ * <p>
+ * {@code transport} selects the client transport ({@literal nio}, {@literal epoll} or {@literal io_uring}) through the
+ * {@literal io.lettuce.core.*} System properties. Transports are resolved once per JVM so the benchmark requires forking.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RoundTripBenchmark {
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    private static final byte[] SET_KEY = "benchmark-set".getBytes();
+
+    @Param({ "1", "16", "128", "1024" })
+    int pipelineDepth;
+
+    @Param({ "16", "1024", "65536", "1048576" })
+    int payloadSize;
+
+    @Param({ "nio", "epoll", "io_uring" })
+    String transport;
+
+    private RespServerStub server;
+
+    private RedisClient redisClient;
+
+    private StatefulRedisConnection<byte[], byte[]> connection;
+
+    private RedisFuture<?>[] futures;
+
+    private byte[] payload;
+
+    @Setup
+    public void setup() {
+
+        configureTransport();
+
+        server = RespServerStub.create();
+        redisClient = RedisClient.create(server.getRedisURI());
+        redisClient.setOptions(ClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build());
+
+        connection = redisClient.connect(ByteArrayCodec.INSTANCE);
+        futures = new RedisFuture[pipelineDepth];
+
+        payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'x');
+
+        connection.sync().set(KEY, payload);
+    }
+
+    private void configureTransport() {
+
+        System.setProperty("io.lettuce.core.epoll", Boolean.toString(transport.equals("epoll")));
+        System.setProperty("io.lettuce.core.kqueue", "false");
+        System.setProperty("io.lettuce.core.iouring", Boolean.toString(transport.equals("io_uring")));
+
+        if (transport.equals("epoll")) {
+            LettuceAssert.assertState(EpollProvider.isAvailable(), "epoll is not available");
+        }
+
+        if (transport.equals("io_uring")) {
+            LettuceAssert.assertState(IOUringProvider.isAvailable(), "io_uring is not available");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        redisClient.shutdown(0, 0, TimeUnit.SECONDS);
+        server.close();
+    }
+
+    @Benchmark
+    public void syncGet(Blackhole blackhole) {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            blackhole.consume(connection.sync().get(KEY));
+        }
+    }
+
+    @Benchmark
+    public void syncSet(Blackhole blackhole) {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            blackhole.consume(connection.sync().set(SET_KEY, payload));
+        }
+    }
+
+    @Benchmark
+    public void asyncGet(Blackhole blackhole) throws Exception {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            futures[i] = connection.async().get(KEY);
+        }
+
+        awaitAll(blackhole);
+    }
+
+    @Benchmark
+    public void asyncSet(Blackhole blackhole) throws Exception {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            futures[i] = connection.async().set(SET_KEY, payload);
+        }
+
+        awaitAll(blackhole);
+    }
+
+    @Benchmark
+    public void asyncGetBatchFlush(Blackhole blackhole) throws Exception {
+
+        connection.setAutoFlushCommands(false);
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            futures[i] = connection.async().get(KEY);
+        }
+
+        connection.flushCommands();
+        connection.setAutoFlushCommands(true);
+
+        awaitAll(blackhole);
+    }
+
+    @Benchmark
+    public void reactiveGet(Blackhole blackhole) {
+        Flux.range(0, pipelineDepth).flatMap(i -> connection.reactive().get(KEY), pipelineDepth).doOnNext(blackhole::consume)
+                .blockLast();
+    }
+
+    @Benchmark
+    public void reactiveSet(Blackhole blackhole) {
+        Flux.range(0, pipelineDepth).flatMap(i -> connection.reactive().set(SET_KEY, payload), pipelineDepth)
+                .doOnNext(blackhole::consume).blockLast();
+    }
+
+    private void awaitAll(Blackhole blackhole) throws Exception {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            blackhole.consume(futures[i].get());
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import reactor.core.publisher.Flux;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.RespServerStub;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.ByteArrayCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+
+/**
+ * End-to-end round-trip benchmark for {@link RedisClusterClient} against the in-process {@link RespServerStub} acting as
+ * single-node cluster. Covers slot routing through {@link ClusterDistributionChannelWriter} and cross-slot command splitting.
+ * <p>
+ * Each invocation issues {@code pipelineDepth} commands (or keys for {@code MGET}); asynchronous and reactive benchmarks
+ * pipeline the commands and await all responses, synchronous benchmarks execute them one after another.
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ClusterRoundTripBenchmark {
+
+    private static final byte[] KEY = "benchmark".getBytes();
+
+    @Param({ "1", "16", "128", "1024" })
+    int pipelineDepth;
+
+    @Param({ "16", "1024", "65536", "1048576" })
+    int payloadSize;
+
+    private RespServerStub server;
+
+    private RedisClusterClient redisClusterClient;
+
+    private StatefulRedisClusterConnection<byte[], byte[]> connection;
+
+    private RedisFuture<?>[] futures;
+
+    private List<byte[]> keys;
+
+    @Setup
+    public void setup() {
+
+        server = RespServerStub.create();
+        redisClusterClient = RedisClusterClient.create(server.getRedisURI());
+        redisClusterClient.setOptions(ClusterClientOptions.builder().protocolVersion(ProtocolVersion.RESP2).build());
+
+        connection = redisClusterClient.connect(ByteArrayCodec.INSTANCE);
+        futures = new RedisFuture[pipelineDepth];
+
+        byte[] payload = new byte[payloadSize];
+        Arrays.fill(payload, (byte) 'x');
+
+        keys = new ArrayList<>(pipelineDepth);
+        for (int i = 0; i < pipelineDepth; i++) {
+            byte[] key = ("benchmark-" + i).getBytes();
+            keys.add(key);
+        }
+
+        connection.sync().set(KEY, payload);
+        for (byte[] key : keys) {
+            connection.sync().set(key, payload);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        connection.close();
+        redisClusterClient.shutdown(0, 0, TimeUnit.SECONDS);
+        server.close();
+    }
+
+    @Benchmark
+    public void syncGet(Blackhole blackhole) {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            blackhole.consume(connection.sync().get(KEY));
+        }
+    }
+
+    @Benchmark
+    public void asyncGet(Blackhole blackhole) throws Exception {
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            futures[i] = connection.async().get(keys.get(i));
+        }
+
+        for (int i = 0; i < pipelineDepth; i++) {
+            blackhole.consume(futures[i].get());
+        }
+    }
+
+    @Benchmark
+    public void asyncMget(Blackhole blackhole) throws Exception {
+        blackhole.consume(connection.async().mget(keys).get());
+    }
+
+    @Benchmark
+    public void reactiveGet(Blackhole blackhole) {
+        Flux.fromIterable(keys).flatMap(key -> connection.reactive().get(key), pipelineDepth).doOnNext(blackhole::consume)
+                .blockLast();
+    }
+}
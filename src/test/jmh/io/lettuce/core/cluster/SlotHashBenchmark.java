@@ -16,12 +16,16 @@
 package io.lettuce.core.cluster;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
+import io.lettuce.core.codec.StringCodec;
+
 /**
  * @author Mark Paluch
  */
@@ -36,6 +40,21 @@ public class SlotHashBenchmark {
     private static final ByteBuffer heapTagged = (ByteBuffer) ByteBuffer.allocate(tagged.length).put(tagged).flip();
     private static final ByteBuffer directTagged = (ByteBuffer) ByteBuffer.allocateDirect(tagged.length).put(tagged).flip();
 
+    private static final byte[] large = "user:session:0123456789abcdef0123456789abcdef".getBytes();
+    private static final ByteBuffer heapLarge = ByteBuffer.wrap(large);
+    private static final ByteBuffer directLarge = (ByteBuffer) ByteBuffer.allocateDirect(large.length).put(large).flip();
+
+    private static final ByteBuffer[] batch = new ByteBuffer[1000];
+    private static final int[] slots = new int[batch.length];
+    private static final List<String> keys = new ArrayList<>();
+
+    static {
+        for (int i = 0; i < batch.length; i++) {
+            keys.add("key-" + i);
+            batch[i] = ByteBuffer.wrap(("key-" + i).getBytes());
+        }
+    }
+
     @Benchmark
     public void measureSlotHashHeap(Blackhole blackhole) {
         blackhole.consume(SlotHash.getSlot(heap));
@@ -55,4 +74,32 @@ public class SlotHashBenchmark {
     public void measureSlotHashTaggedDirect(Blackhole blackhole) {
         blackhole.consume(SlotHash.getSlot(directTagged));
     }
+
+    @Benchmark
+    public void measureSlotHashLargeHeap(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlot(heapLarge));
+    }
+
+    @Benchmark
+    public void measureSlotHashLargeDirect(Blackhole blackhole) {
+        blackhole.consume(SlotHash.getSlot(directLarge));
+    }
+
+    @Benchmark
+    public void measureSlotHashSingle(Blackhole blackhole) {
+        for (ByteBuffer key : batch) {
+            blackhole.consume(SlotHash.getSlot(key));
+        }
+    }
+
+    @Benchmark
+    public void measureSlotHashBatch(Blackhole blackhole) {
+        SlotHash.getSlots(batch, slots);
+        blackhole.consume(slots);
+    }
+
+    @Benchmark
+    public void measurePartition(Blackhole blackhole) {
+        blackhole.consume(SlotHash.partition(StringCodec.UTF8, keys));
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.lettuce.core.cluster.models.partitions;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import io.lettuce.core.cluster.SlotHash;
+
+/**
+ * Benchmark for {@link ClusterPartitionParser} using a {@code CLUSTER NODES} reply of 1000 nodes (500 masters with fragmented
+ * slot ranges and one replica each).
+ *
+ * @author Mark Paluch
+ */
+@State(Scope.Benchmark)
+public class ClusterPartitionParserBenchmark {
+
+    private static final int MASTERS = 500;
+
+    private static final int RANGES_PER_MASTER = 8;
+
+    private String nodes;
+
+    private ByteBuffer heapBuffer;
+
+    private ByteBuffer directBuffer;
+
+    @Setup
+    public void setup() {
+
+        nodes = createClusterNodes();
+
+        byte[] bytes = nodes.getBytes(StandardCharsets.US_ASCII);
+        heapBuffer = ByteBuffer.wrap(bytes);
+        directBuffer = ByteBuffer.allocateDirect(bytes.length);
+        directBuffer.put(bytes).flip();
+    }
+
+    @Benchmark
+    public Partitions parseString() {
+        return ClusterPartitionParser.parse(nodes);
+    }
+
+    @Benchmark
+    public Partitions parseHeapByteBuffer() {
+        return ClusterPartitionParser.parse(heapBuffer);
+    }
+
+    @Benchmark
+    public Partitions parseDirectByteBuffer() {
+        return ClusterPartitionParser.parse(directBuffer);
+    }
+
+    private static String createClusterNodes() {
+
+        StringBuilder builder = new StringBuilder();
+        int ranges = MASTERS * RANGES_PER_MASTER;
+        int slotsPerRange = SlotHash.SLOT_COUNT / ranges;
+
+        for (int master = 0; master < MASTERS; master++) {
+
+            String masterId = nodeId(master);
+
+            builder.append(masterId).append(" 10.0.").append(master / 250).append('.').append(master % 250)
+                    .append(":6379@16379 ").append(master == 0 ? "myself,master" : "master")
+                    .append(" - 0 1580000000000 ").append(master + 1).append(" connected");
+
+            // interleave ranges across masters to fragment the slot assignment
+            for (int range = 0; range < RANGES_PER_MASTER; range++) {
+
+                int from = (range * MASTERS + master) * slotsPerRange;
+                int to = range == RANGES_PER_MASTER - 1 && master == MASTERS - 1 ? SlotHash.SLOT_COUNT - 1
+                        : from + slotsPerRange - 1;
+
+                builder.append(' ').append(from).append('-').append(to);
+            }
+
+            builder.append('\n');
+        }
+
+        for (int replica = 0; replica < MASTERS; replica++) {
+
+            builder.append(nodeId(MASTERS + replica)).append(" 10.1.").append(replica / 250).append('.')
+                    .append(replica % 250).append(":6379@16379 slave ").append(nodeId(replica))
+                    .append(" 0 1580000000000 ").append(replica + 1).append(" connected\n");
+        }
+
+        return builder.toString();
+    }
+
+    private static String nodeId(int index) {
+        return String.format("%040x", index + 1);
+    }
+}
@@ -69,6 +69,31 @@ public class StringCodecBenchmark {
         input.blackhole.consume(input.utf8Codec.decodeKey(input.input));
     }
 
+    @Benchmark
+    public void decodeUtf8Plain(Input input) {
+        input.blackhole.consume(input.utf8Codec.decodeValue(input.inputPlain));
+    }
+
+    @Benchmark
+    public void decodeUtf8PlainDirect(Input input) {
+        input.blackhole.consume(input.utf8Codec.decodeValue(input.inputPlainDirect));
+    }
+
+    @Benchmark
+    public void decodeUtf8PlainByteBuf(Input input) {
+        input.blackhole.consume(input.utf8Codec.decodeValue(input.inputPlainByteBuf));
+    }
+
+    @Benchmark
+    public void decodeUtf8PlainCharsetBaseline(Input input) {
+        input.blackhole.consume(Unpooled.wrappedBuffer(input.inputPlain).toString(StandardCharsets.UTF_8));
+    }
+
+    @Benchmark
+    public void decodeUtf8KeyCached(Input input) {
+        input.blackhole.consume(input.cachingUtf8Codec.decodeKey(input.inputPlain));
+    }
+
     @State(Scope.Thread)
     public static class Input {
 
@@ -76,17 +101,21 @@ public class StringCodecBenchmark {
         StringCodec asciiCodec = new StringCodec(StandardCharsets.US_ASCII);
         StringCodec utf8Codec = new StringCodec(StandardCharsets.UTF_8);
         StringCodec isoCodec = new StringCodec(StandardCharsets.ISO_8859_1);
+        StringCodec cachingUtf8Codec = new StringCodec(StandardCharsets.UTF_8, 1024);
 
         String teststring = "hello üäü~∑†®†ª€∂‚¶¢ Wørld";
         String teststringPlain = "hello uufadsfasdfadssdfadfs";
         ByteBuffer input = ByteBuffer.wrap(teststring.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer inputPlain = ByteBuffer.wrap(teststringPlain.getBytes(StandardCharsets.UTF_8));
+        ByteBuffer inputPlainDirect = ByteBuffer.allocateDirect(inputPlain.remaining()).put(inputPlain.duplicate());
+        ByteBuf inputPlainByteBuf = Unpooled.directBuffer().writeBytes(teststringPlain.getBytes(StandardCharsets.UTF_8));
 
         ByteBuf byteBuf = Unpooled.buffer(512);
 
         @Setup
         public void setup(Blackhole bh) {
             blackhole = bh;
-            input.flip();
+            inputPlainDirect.flip();
         }
     }
 }
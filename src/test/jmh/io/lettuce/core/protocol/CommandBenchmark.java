@@ -20,19 +20,24 @@ import java.nio.charset.StandardCharsets;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.infra.Blackhole;
 
 import io.lettuce.core.codec.ByteArrayCodec;
 import io.lettuce.core.codec.RedisCodec;
 import io.lettuce.core.codec.StringCodec;
 import io.lettuce.core.codec.Utf8StringCodec;
+import io.lettuce.core.output.StatusOutput;
 import io.lettuce.core.output.ValueOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 
 /**
  * Benchmark for {@link Command}. Test cases:
  * <ul>
  * <li>Create commands using String and ByteArray codecs</li>
  * <li>Encode commands using String and ByteArray codecs</li>
+ * <li>Encode {@code SET key value EX seconds} using String and ByteArray codecs</li>
  * </ul>
  *
  * @author Mark Paluch
@@ -43,10 +48,18 @@ public class CommandBenchmark {
     private static final ByteArrayCodec BYTE_ARRAY_CODEC = new ByteArrayCodec();
     private static final Utf8StringCodec OLD_STRING_CODEC = new Utf8StringCodec();
     private static final StringCodec NEW_STRING_CODEC = new StringCodec(StandardCharsets.UTF_8);
-    private static final EmptyByteBuf DUMMY_BYTE_BUF = new EmptyByteBuf();
 
     private static final String KEY = "key";
     private static final byte[] BYTE_KEY = "key".getBytes();
+    private static final String VALUE = "value";
+    private static final byte[] BYTE_VALUE = "value".getBytes();
+
+    private final ByteBuf target = PooledByteBufAllocator.DEFAULT.buffer(512);
+
+    @TearDown
+    public void tearDown() {
+        target.release();
+    }
 
     @Benchmark
     public void createCommandUsingByteArrayCodec(Blackhole blackhole) {
@@ -65,17 +78,37 @@ public class CommandBenchmark {
 
     @Benchmark
     public void encodeCommandUsingByteArrayCodec() {
-        createCommand(BYTE_KEY, BYTE_ARRAY_CODEC).encode(DUMMY_BYTE_BUF);
+        target.clear();
+        createCommand(BYTE_KEY, BYTE_ARRAY_CODEC).encode(target);
     }
 
     @Benchmark
     public void encodeCommandUsingOldStringCodec() {
-        createCommand(KEY, OLD_STRING_CODEC).encode(DUMMY_BYTE_BUF);
+        target.clear();
+        createCommand(KEY, OLD_STRING_CODEC).encode(target);
     }
 
     @Benchmark
     public void encodeCommandUsingNewStringCodec() {
-        createCommand(KEY, NEW_STRING_CODEC).encode(DUMMY_BYTE_BUF);
+        target.clear();
+        createCommand(KEY, NEW_STRING_CODEC).encode(target);
+    }
+
+    @Benchmark
+    public void encodeSetCommandUsingByteArrayCodec() {
+        target.clear();
+        createSetCommand(BYTE_KEY, BYTE_VALUE, BYTE_ARRAY_CODEC).encode(target);
+    }
+
+    @Benchmark
+    public void encodeSetCommandUsingNewStringCodec() {
+        target.clear();
+        createSetCommand(KEY, VALUE, NEW_STRING_CODEC).encode(target);
+    }
+
+    private <K, V> Command<K, V, String> createSetCommand(K key, V value, RedisCodec<K, V> codec) {
+        return new Command<>(CommandType.SET, new StatusOutput<>(codec),
+                new CommandArgs<>(codec).addKey(key).addValue(value).add("EX").add(3600));
     }
 
     private <K, V, T> Command<K, V, T> createCommand(K key, RedisCodec<K, V> codec) {
@@ -25,6 +25,7 @@ import io.lettuce.core.output.ArrayOutput;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufAllocator;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.util.ByteProcessor;
 
 /**
  * Bechmark for {@link RedisStateMachine}.
@@ -59,6 +60,7 @@ public class RedisStateMachineBenchmark {
             }, new CommandArgs(BYTE_ARRAY_CODEC).addKey(new byte[] { 1, 2, 3, 4 }));
 
     private ByteBuf masterBuffer;
+    private ByteBuf multiBulkBuffer;
 
     private final RedisStateMachine stateMachine = new RedisStateMachine(ByteBufAllocator.DEFAULT);
     private final byte[] payload = ("*3\r\n" + //
@@ -73,11 +75,28 @@ public class RedisStateMachineBenchmark {
     public void setup() {
         masterBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(32);
         masterBuffer.writeBytes(payload);
+
+        multiBulkBuffer = PooledByteBufAllocator.DEFAULT.ioBuffer(16 * 1024);
+        multiBulkBuffer.writeBytes(multiBulk(1000).getBytes());
     }
 
     @TearDown
     public void tearDown() {
         masterBuffer.release();
+        multiBulkBuffer.release();
+    }
+
+    private static String multiBulk(int elements) {
+
+        StringBuilder builder = new StringBuilder();
+        builder.append('*').append(elements).append("\r\n");
+
+        for (int i = 0; i < elements; i++) {
+            String element = "value-" + i;
+            builder.append('$').append(element.length()).append("\r\n").append(element).append("\r\n");
+        }
+
+        return builder.toString();
     }
 
     @Benchmark
@@ -86,6 +105,41 @@ public class RedisStateMachineBenchmark {
         masterBuffer.readerIndex(0);
     }
 
+    @Benchmark
+    public void measureDecodeMultiBulk() {
+        stateMachine.decode(multiBulkBuffer, byteArrayCommand, byteArrayCommand.getOutput());
+        multiBulkBuffer.readerIndex(0);
+    }
+
+    @Benchmark
+    public int measureFindLfByteProcessor() {
+
+        int index = multiBulkBuffer.readerIndex();
+        int count = 0;
+
+        while ((index = multiBulkBuffer.forEachByte(index, multiBulkBuffer.writerIndex() - index,
+                ByteProcessor.FIND_LF)) != -1) {
+            index++;
+            count++;
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int measureFindLfSwar() {
+
+        int index = multiBulkBuffer.readerIndex();
+        int count = 0;
+
+        while ((index = RedisStateMachine.indexOfLf(multiBulkBuffer, index, multiBulkBuffer.writerIndex())) != -1) {
+            index++;
+            count++;
+        }
+
+        return count;
+    }
+
     public static void main(String[] args) {
 
         RedisStateMachineBenchmark b = new RedisStateMachineBenchmark();
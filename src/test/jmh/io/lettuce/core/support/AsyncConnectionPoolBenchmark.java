@@ -24,27 +24,38 @@ import io.lettuce.core.EmptyStatefulRedisConnection;
 import io.lettuce.core.api.StatefulRedisConnection;
 
 /**
+ * Benchmark for {@link BoundedAsyncPool}. The {@code contended…} benchmarks acquire and release a connection concurrently from
+ * an increasing number of threads to show how acquire/release scales with contention. The pool is sized to accommodate all
+ * threads; {@code waiting…} benchmarks use a smaller pool so threads queue as waiters.
+ *
  * @author Mark Paluch
  */
 @State(Scope.Benchmark)
 public class AsyncConnectionPoolBenchmark {
 
     private AsyncPool<StatefulRedisConnection<String, String>> pool;
+    private AsyncPool<StatefulRedisConnection<String, String>> waitingPool;
     private StatefulRedisConnection[] holder = new StatefulRedisConnection[20];
 
     @Setup
     public void setup() {
 
-        BoundedPoolConfig config = BoundedPoolConfig.builder().minIdle(0).maxIdle(20).maxTotal(20).build();
+        BoundedPoolConfig config = BoundedPoolConfig.builder().minIdle(0).maxIdle(64).maxTotal(64).build();
+        BoundedPoolConfig waitingConfig = BoundedPoolConfig.builder().minIdle(0).maxIdle(8).maxTotal(8).maxWaiters(64)
+                .build();
 
         pool = AsyncConnectionPoolSupport.createBoundedObjectPool(
                 () -> CompletableFuture.completedFuture(new EmptyStatefulRedisConnection(EmptyRedisChannelWriter.INSTANCE)),
                 config);
+        waitingPool = AsyncConnectionPoolSupport.createBoundedObjectPool(
+                () -> CompletableFuture.completedFuture(new EmptyStatefulRedisConnection(EmptyRedisChannelWriter.INSTANCE)),
+                waitingConfig);
     }
 
     @TearDown(Level.Iteration)
     public void tearDown() {
         pool.clear();
+        waitingPool.clear();
     }
 
     @Benchmark
@@ -63,4 +74,40 @@ public class AsyncConnectionPoolBenchmark {
             pool.release(holder[i]).join();
         }
     }
+
+    @Benchmark
+    @Threads(1)
+    public void contended1() {
+        pool.release(pool.acquire().join()).join();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void contended4() {
+        pool.release(pool.acquire().join()).join();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void contended16() {
+        pool.release(pool.acquire().join()).join();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void contended64() {
+        pool.release(pool.acquire().join()).join();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public void waiting16() {
+        waitingPool.release(waitingPool.acquire().join()).join();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public void waiting64() {
+        waitingPool.release(waitingPool.acquire().join()).join();
+    }
 }